@@ -0,0 +1,60 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.annotation;
+
+/**
+ * Whether the instances of an entity type are held in the shared (second level) cache
+ * of the persistence layer, along with the results of queries for that type.
+ * <p>
+ * Intended for reference data (eg. countries, currencies or tax codes),
+ * that is read frequently, but rarely changed.
+ *
+ * @see DomainObject#caching()
+ * @since 3.5 {@index}
+ */
+public enum Caching {
+
+    /**
+     * Instances and query results are cached.
+     */
+    CACHED,
+
+    /**
+     * Instances and query results are not cached (even if the persistence layer would do so by default).
+     */
+    UNCACHED,
+
+    /**
+     * Ignore the value provided by this annotation (meaning that the persistence layer's defaults apply).
+     */
+    NOT_SPECIFIED;
+
+    public boolean isCached() {
+        return this == CACHED;
+    }
+
+    public boolean isUncached() {
+        return this == UNCACHED;
+    }
+
+    public boolean isNotSpecified() {
+        return this == NOT_SPECIFIED;
+    }
+
+}
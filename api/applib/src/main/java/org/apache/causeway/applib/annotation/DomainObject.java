@@ -117,6 +117,20 @@ String autoCompleteMethod()
     Bounding bounding()
             default Bounding.NOT_SPECIFIED;
 
+    /**
+     * Whether the instances of this entity, along with the results of queries for this entity,
+     * are held in the shared (second level) cache of the persistence layer.
+     *
+     * <p>
+     *     Intended for reference data, that is read frequently, but rarely changed.
+     * </p>
+     *
+     * @apiNote does only apply to entity objects
+     * @since 3.5
+     */
+    Caching caching()
+            default Caching.NOT_SPECIFIED;
+
     /**
      * Whether the properties of this domain object can be edited, or collections of this object be added to/removed from.
      *
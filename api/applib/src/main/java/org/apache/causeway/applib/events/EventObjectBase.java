@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.applib.events;
 
+import java.lang.reflect.Constructor;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -55,9 +56,7 @@ public static <T, E extends EventObjectBase<T>> Optional<E> getInstanceWithSourc
      */
     public static <T, E extends EventObjectBase<T>> Optional<E> getInstanceWithSourceSupplier(
             final Class<E> eventType, final @Nullable Supplier<T> eventSourceSupplier) {
-        return _Reflect.getPublicConstructors(eventType)
-            .filter(paramCount(0))
-            .getFirst()
+        return NO_ARG_CONSTRUCTORS.get(eventType)
             .map(_Reflect::invokeConstructor)
             .flatMap(Try::getValue)
             .map(evnt->{
@@ -67,6 +66,18 @@ public static <T, E extends EventObjectBase<T>> Optional<E> getInstanceWithSourc
             });
     }
 
+    /**
+     * Public no-arg constructor per event type, looked up only once.
+     */
+    private static final ClassValue<Optional<Constructor<?>>> NO_ARG_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(final Class<?> eventType) {
+            return _Reflect.getPublicConstructors(eventType)
+                .filter(paramCount(0))
+                .getFirst();
+        }
+    };
+
     // --
 
     /**
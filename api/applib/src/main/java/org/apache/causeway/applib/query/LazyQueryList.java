@@ -0,0 +1,67 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.services.repository.RepositoryService;
+
+/**
+ * A {@link List} view onto the results of a query, whose elements are not fetched
+ * until actually accessed.
+ * <p>
+ * When returned from an action or a collection, viewers may use this view to fetch
+ * only the page of elements currently displayed, to push down column sorting to the
+ * persistence layer and to count the elements (eg. for the pager), rather than
+ * materializing all elements in memory.
+ * <p>
+ * Any {@link List} operation falls back to fetching all elements (once).
+ *
+ * @see RepositoryService#allMatchesLazily(Query)
+ * @since 3.5
+ */
+public interface LazyQueryList<T> extends List<T> {
+
+    /**
+     * Requested ordering of elements, by a single (persistent) property.
+     */
+    record Sort(
+            @NonNull String propertyName,
+            boolean ascending) implements Serializable {
+    }
+
+    /**
+     * Optionally the total number of elements, based on whether the backing query
+     * supports counting (without fetching the elements).
+     */
+    OptionalLong count();
+
+    /**
+     * Optionally the elements within given {@code range}, ordered by given {@code sort} (if any),
+     * based on whether the backing query supports such a (sorted) fetch.
+     */
+    Optional<List<T>> fetch(@NonNull QueryRange range, @Nullable Sort sort);
+
+}
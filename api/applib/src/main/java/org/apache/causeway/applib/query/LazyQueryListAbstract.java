@@ -0,0 +1,60 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Implements the {@link List} contract of {@link LazyQueryList}
+ * by fetching all elements on first access.
+ *
+ * @since 3.5
+ */
+public abstract class LazyQueryListAbstract<T>
+extends AbstractList<T>
+implements LazyQueryList<T> {
+
+    private transient List<T> elements;
+
+    /**
+     * Fetches all elements (unconstrained range, no particular order).
+     */
+    protected abstract List<T> fetchAll();
+
+    @Override
+    public T get(final int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    // -- HELPER
+
+    private List<T> elements() {
+        if(elements==null) {
+            elements = fetchAll();
+        }
+        return elements;
+    }
+
+}
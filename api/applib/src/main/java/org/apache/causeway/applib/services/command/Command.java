@@ -20,6 +20,7 @@
 
 import java.sql.Timestamp;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.apache.causeway.applib.events.domain.ActionDomainEvent;
 import org.apache.causeway.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
@@ -117,6 +118,7 @@ public UUID getInteractionId() {
     @Override
     public String getUsername() {
         // ...
+        var commandDto = getCommandDto();
         return commandDto != null
                 ? commandDto.getUsername()
                 : null;
@@ -131,13 +133,21 @@ public String getUsername() {
      */
     public Timestamp getTimestamp() {
         // ...
+        var commandDto = getCommandDto();
         return commandDto != null
                 ? JavaSqlXMLGregorianCalendarMarshalling.toTimestamp(commandDto.getTimestamp())
                 : null;
     }
 
+    // volatile, as the DTO might be built (or read) by a thread other than the one that executed
     @ToString.Exclude
-    private org.apache.causeway.schema.cmd.v2.CommandDto commandDto;
+    private volatile org.apache.causeway.schema.cmd.v2.CommandDto commandDto;
+
+    /**
+     * Builds the {@link #commandDto} on first access, unless already set.
+     */
+    @ToString.Exclude
+    private volatile Supplier<CommandDto> commandDtoSupplier;
 
     /**
      * Serializable representation of the action invocation/property edit.
@@ -151,10 +161,28 @@ public Timestamp getTimestamp() {
      *     {@link #getTimestamp()} and {@link #getTarget()} are all derived
      *     from the provided {@link CommandDto}.
      * </p>
+     *
+     * <p>
+     *     The framework might defer building the {@link CommandDto} until first asked for,
+     *     as it is typically only required if the command is published.
+     * </p>
      */
     @Override
     public CommandDto getCommandDto() {
-        return commandDto;
+        var commandDto = this.commandDto;
+        return commandDto!=null
+                || commandDtoSupplier==null
+            ? commandDto
+            : materializeCommandDto();
+    }
+
+    private synchronized CommandDto materializeCommandDto() {
+        var supplier = commandDtoSupplier;
+        if(supplier==null) return commandDto; // already materialized by another thread
+        // if the supplier fails, it stays in place, so a subsequent call can retry
+        var materializedDto = supplier.get();
+        updater().setCommandDtoAndIdentifier(materializedDto);
+        return materializedDto;
     }
 
     /**
@@ -163,6 +191,7 @@ public CommandDto getCommandDto() {
      */
     @ToString.Include(name = "target")
     public Bookmark getTarget() {
+        var commandDto = getCommandDto();
         return commandDto != null
                 ? Bookmark.forOidDto(commandDto.getTargets().getOid().get(0))
                 : null;
@@ -174,6 +203,7 @@ public Bookmark getTarget() {
      */
     @ToString.Include(name = "memberId")
     public String getLogicalMemberIdentifier() {
+        var commandDto = getCommandDto();
         return commandDto != null
                     ? commandDto.getMember().getLogicalMemberIdentifier()
                     : null;
@@ -292,8 +322,35 @@ public class Updater implements CommandOutcomeHandler {
          * @param commandDto
          */
         public void setCommandDtoAndIdentifier(final CommandDto commandDto) {
-            Command.this.commandDto = commandDto;
-            Command.this.interactionId = UUID.fromString(commandDto.getInteractionId());
+            synchronized(Command.this) {
+                Command.this.interactionId = UUID.fromString(commandDto.getInteractionId());
+                Command.this.commandDto = commandDto;
+                Command.this.commandDtoSupplier = null;
+            }
+        }
+        /**
+         * <b>NOT API</b>: intended to be called only by the framework.
+         *
+         * <p>
+         * Defers building the {@link CommandDto} until first {@link Command#getCommandDto() asked for}.
+         * The supplied DTO must have the command's current {@link Command#getInteractionId() interactionId}.
+         * @param commandDtoSupplier
+         */
+        public void setCommandDtoSupplier(final @NonNull Supplier<CommandDto> commandDtoSupplier) {
+            synchronized(Command.this) {
+                Command.this.commandDto = null;
+                Command.this.commandDtoSupplier = commandDtoSupplier;
+            }
+        }
+        /**
+         * <b>NOT API</b>: intended to be called only by the framework.
+         *
+         * <p>
+         * Whether the {@link CommandDto} is either set or deferred, without building the latter.
+         */
+        public boolean hasCommandDto() {
+            return Command.this.commandDto!=null
+                    || Command.this.commandDtoSupplier!=null;
         }
         /**
          * <b>NOT API</b>: intended to be called only by the framework.
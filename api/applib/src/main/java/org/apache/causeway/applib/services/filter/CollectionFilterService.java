@@ -19,6 +19,8 @@
 package org.apache.causeway.applib.services.filter;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
@@ -52,6 +54,44 @@ public static interface Tokens extends Serializable {
         boolean match(@Nullable String searchArg);
     }
 
+    /**
+     * {@link Tokens} that also expose the words they are matchable by,
+     * allowing viewers to build an inverted index (word to rows) for large tables,
+     * such that searching only needs to consider candidate rows.
+     * <p>
+     * Implementations must honor following contract: {@link #match(String)} may only return {@code true},
+     * if each (white-space separated) word of the search argument is a case-insensitive prefix
+     * of at least one of the {@link #words()}.
+     *
+     * @since 3.5
+     */
+    public static interface IndexableTokens extends Tokens {
+        /**
+         * The words this row is matchable by.
+         */
+        @NonNull Set<String> words();
+
+        /**
+         * Default {@link IndexableTokens}, that are matchable by given words:
+         * a search argument matches, if each of its (white-space separated) words
+         * is a case-insensitive prefix of at least one of given words.
+         */
+        static IndexableTokens ofWords(final @Nullable Collection<String> words) {
+            return _WordTokens.of(words!=null
+                    ? words.stream()
+                    : null);
+        }
+
+        /**
+         * Default {@link IndexableTokens} for given text (eg. a domain object's title),
+         * as split into (white-space separated) words.
+         * @see #ofWords(Collection)
+         */
+        static IndexableTokens parse(final @Nullable String text) {
+            return _WordTokens.parse(text);
+        }
+    }
+
     /**
      * Whether this service handles given type.
      * @param domainType - entity or view-model type to be rendered as row in a table
@@ -65,6 +105,9 @@ public static interface Tokens extends Serializable {
      * that are then matchable by {@link #tokenFilter(Class)}.
      * <p>
      * For example the domain object's title could be tokenized (parsed into tokens).
+     * <p>
+     * Prefer {@link IndexableTokens} (eg. as provided by {@link IndexableTokens#parse(String)}),
+     * which allow viewers to search large tables via an index instead of scanning all rows.
      *
      * @param domainType - entity or view-model type to be rendered as row in a table
      * @apiNote guarded by a call to {@link #handles(Class)}
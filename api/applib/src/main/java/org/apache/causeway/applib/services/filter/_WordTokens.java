@@ -0,0 +1,66 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.filter;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.services.filter.CollectionFilterService.IndexableTokens;
+import org.apache.causeway.commons.internal.base._Strings;
+
+/**
+ * {@link IndexableTokens} with AND semantics: matches if each search word
+ * is a case-insensitive prefix of at least one of the words.
+ */
+record _WordTokens(@NonNull Set<String> words) implements IndexableTokens {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    static _WordTokens of(final @Nullable Stream<String> words) {
+        return new _WordTokens(words==null
+                ? Set.of()
+                : words
+                    .filter(_Strings::isNotEmpty)
+                    .map(_WordTokens::normalize)
+                    .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    static _WordTokens parse(final @Nullable String text) {
+        return of(_Strings.splitThenStream(text, WHITESPACE));
+    }
+
+    @Override
+    public boolean match(final @Nullable String searchArg) {
+        return _Strings.splitThenStream(searchArg, WHITESPACE)
+                .filter(_Strings::isNotEmpty)
+                .map(_WordTokens::normalize)
+                .allMatch(searchWord->words.stream().anyMatch(word->word.startsWith(searchWord)));
+    }
+
+    private static String normalize(final String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+}
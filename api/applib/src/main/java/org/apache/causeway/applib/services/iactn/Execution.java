@@ -21,6 +21,8 @@
 import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
@@ -94,6 +96,14 @@
      * Captures metrics before the Execution Dto is present.
      */
     private int numberObjectsDirtiedBefore;
+    /**
+     * Captures metrics, in case the Execution Dto is built only later.
+     */
+    private int numberObjectsLoadedAfter;
+    /**
+     * Captures metrics, in case the Execution Dto is built only later.
+     */
+    private int numberObjectsDirtiedAfter;
 
     protected Execution(
             final Interaction interaction,
@@ -244,16 +254,75 @@ public void setThrew(final Exception threw) {
      * action invocation/property edit), though some fields ({@link Execution#getCompletedAt()},
      * {@link Execution#getReturned()}) will (obviously) still be null.
      * </p>
+     *
+     * <p>
+     * The framework might defer building the DTO until first asked for,
+     * as it is typically only required if the execution is published.
+     * </p>
      */
-    @Getter
-    private T dto;
+    public T getDto() {
+        var dto = this.dto;
+        return dto!=null
+                || dtoSupplier==null
+            ? dto
+            : materializeDto();
+    }
+
+    // volatile, as the DTO might be built (or read) by a thread other than the one that executed
+    private volatile T dto;
+    private volatile Supplier<T> dtoSupplier;
+    private List<Consumer<? super T>> pendingDtoUpdates;
 
     /**
      * <b>NOT API</b>: Set by framework (implementation of
      * {@link org.apache.causeway.core.metamodel.execution.InternalInteraction.MemberExecutor})
      */
-    public void setDto(final T executionDto) {
+    public synchronized void setDto(final T executionDto) {
         this.dto = executionDto;
+        this.dtoSupplier = null;
+        this.pendingDtoUpdates = null;
+    }
+
+    /**
+     * <b>NOT API</b>: Set by framework, to defer building the DTO until first {@link #getDto() asked for}.
+     */
+    public synchronized void setDtoSupplier(final Supplier<T> executionDtoSupplier) {
+        this.dto = null;
+        this.dtoSupplier = executionDtoSupplier;
+        this.pendingDtoUpdates = null;
+    }
+
+    /**
+     * <b>NOT API</b>: Applies given update to the DTO, if already built, else once built (if ever).
+     * Has no effect, if there is no DTO at all.
+     */
+    public synchronized void updateDto(final Consumer<? super T> dtoUpdater) {
+        if(dto!=null) {
+            dtoUpdater.accept(dto);
+        } else if(dtoSupplier!=null) {
+            if(pendingDtoUpdates==null) {
+                pendingDtoUpdates = _Lists.newArrayList();
+            }
+            pendingDtoUpdates.add(dtoUpdater);
+        }
+    }
+
+    private synchronized T materializeDto() {
+        var supplier = dtoSupplier;
+        if(supplier==null) return dto; // already materialized by another thread
+        var dtoUpdates = pendingDtoUpdates;
+        var materializedDto = supplier.get();
+        if(completedAt!=null) {
+            When.syncDtoMetrics(this, materializedDto);
+        }
+        if(dtoUpdates!=null) {
+            dtoUpdates.forEach(dtoUpdater->dtoUpdater.accept(materializedDto));
+        }
+        // only publish the DTO once complete
+        this.dto = materializedDto;
+        this.dtoSupplier = null;
+        this.pendingDtoUpdates = null;
+        return materializedDto;
     }
 
     // -- helpers (syncMetrics)
@@ -283,27 +352,33 @@ void syncMetrics(
                     final int numberObjectsDirtied) {
 
                 execution.completedAt = timestamp;
+                execution.numberObjectsLoadedAfter = numberObjectsLoaded;
+                execution.numberObjectsDirtiedAfter = numberObjectsDirtied;
 
-                if(execution.dto==null) {
-                    return;
-                }
-                final MetricsDto metricsDto = metricsFor(execution);
-
-                final PeriodDto periodDto = timingsFor(metricsDto);
-                periodDto.setStartedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(execution.startedAt));
-                periodDto.setCompletedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(execution.completedAt));
-
-                final ObjectCountsDto objectCountsDto = objectCountsFor(metricsDto);
-                numberObjectsLoadedFor(objectCountsDto).setBefore(execution.numberObjectsLoadedBefore);
-                numberObjectsDirtiedFor(objectCountsDto).setBefore(execution.numberObjectsDirtiedBefore);
-
-                numberObjectsLoadedFor(objectCountsDto).setAfter(numberObjectsLoaded);
-                numberObjectsDirtiedFor(objectCountsDto).setAfter(numberObjectsDirtied);
+                syncDtoMetrics(execution, execution.dto);
             }
 
             // ....
         };
 
+        static void syncDtoMetrics(final Execution<?, ?> execution, final @Nullable MemberExecutionDto dto) {
+            if(dto==null) {
+                return;
+            }
+            final MetricsDto metricsDto = metricsFor(dto);
+
+            final PeriodDto periodDto = timingsFor(metricsDto);
+            periodDto.setStartedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(execution.startedAt));
+            periodDto.setCompletedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(execution.completedAt));
+
+            final ObjectCountsDto objectCountsDto = objectCountsFor(metricsDto);
+            numberObjectsLoadedFor(objectCountsDto).setBefore(execution.numberObjectsLoadedBefore);
+            numberObjectsDirtiedFor(objectCountsDto).setBefore(execution.numberObjectsDirtiedBefore);
+
+            numberObjectsLoadedFor(objectCountsDto).setAfter(execution.numberObjectsLoadedAfter);
+            numberObjectsDirtiedFor(objectCountsDto).setAfter(execution.numberObjectsDirtiedAfter);
+        }
+
         // -- helpers
 
         private static DifferenceDto numberObjectsDirtiedFor(final ObjectCountsDto objectCountsDto) {
@@ -318,8 +393,8 @@ private static ObjectCountsDto objectCountsFor(final MetricsDto metricsDto) {
             return MemberExecutionDtoUtils.objectCountsFor(metricsDto);
         }
 
-        private static MetricsDto metricsFor(final Execution<?, ?> execution) {
-            return MemberExecutionDtoUtils.metricsFor(execution.dto);
+        private static MetricsDto metricsFor(final MemberExecutionDto dto) {
+            return MemberExecutionDtoUtils.metricsFor(dto);
         }
 
         private static PeriodDto timingsFor(final MetricsDto metricsDto) {
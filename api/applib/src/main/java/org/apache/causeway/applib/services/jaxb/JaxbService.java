@@ -117,6 +117,7 @@ public final <T> T fromXml(
                     opts.property(entry.getKey(), entry.getValue());
                 }
                 opts.unmarshallerConfigurer(this::configure);
+                opts.usePool(true);
                 return opts;
             })
             .ifFailureFail()
@@ -138,6 +139,7 @@ public final String toXml(
                 }
                 opts.marshallerConfigurer(this::configure);
                 opts.jaxbContextOverride(jaxbContext);
+                opts.usePool(true);
                 return opts;
             }))
             .ifFailureFail()
@@ -152,13 +154,17 @@ protected JAXBContext jaxbContextForList(final @NonNull DomainObjectList list) {
         }
 
         /**
-         * Optional hook
+         * Optional hook, called on every unmarshalling.
+         * <p>
+         * Unmarshallers are pooled, hence the same instance might have been configured before.
          */
         protected void configure(final Unmarshaller unmarshaller) {
         }
 
         /**
-         * Optional hook
+         * Optional hook, called on every marshalling.
+         * <p>
+         * Marshallers are pooled, hence the same instance might have been configured before.
          */
         protected void configure(final Marshaller marshaller) {
         }
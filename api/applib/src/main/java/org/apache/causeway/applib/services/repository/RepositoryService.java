@@ -22,9 +22,11 @@
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 
+import org.apache.causeway.applib.query.LazyQueryList;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
 
@@ -180,6 +182,12 @@ default void persistAndFlush(final Object... domainObjects) {
      * <p>
      *     Intended primarily for testing purposes.
      * </p>
+     *
+     * <p>
+     *     Where supported by the persistence layer, and unless the entity type (or any of its subtypes)
+     *     takes part in entity change publishing or reacts to its removal (via callbacks or
+     *     lifecycle events), the instances are deleted by a single bulk operation, without being loaded.
+     * </p>
      */
     <T> void removeAll(Class<T> cls);
 
@@ -301,6 +309,73 @@ <T> List<T> allMatches(
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * Returns a {@link LazyQueryList lazy} view onto the instances that match the given {@link Query},
+     * none of which are fetched until the list is actually accessed.
+     *
+     * <p>
+     *     Intended as the return value of actions and collections that potentially yield many instances:
+     *     the viewer then fetches only the page to display, pushes column sorting down to the
+     *     persistence layer and counts the instances by a separate query, where supported by the
+     *     persistence layer for the given kind of {@link Query}. Otherwise falls back to
+     *     fetching all instances, same as {@link #allMatches(Query)}.
+     * </p>
+     *
+     * @apiNote The default implementation simply delegates to {@link #allMatches(Query)}.
+     *
+     * @see #allMatches(Query)
+     */
+    default <T> List<T> allMatchesLazily(final Query<T> query) {
+        return allMatches(query);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} of all the instances that match the given {@link Query},
+     * fetched lazily in chunks (as the stream is consumed), rather than all at once.
+     *
+     * <p>
+     *     Intended for batch processing of (potentially) large result sets, where holding on to
+     *     all instances at once would be prohibitive. Chunks are fetched using ranged queries,
+     *     hence the query should yield its results in a stable order (eg. a
+     *     {@link org.apache.causeway.applib.query.NamedQuery} with an <i>ORDER BY</i> clause).
+     *     A {@link Query#getRange() range} specified by the query itself is honored.
+     * </p>
+     *
+     * <p>
+     *     Once the stream has advanced past a chunk, pending changes are flushed and the entities of
+     *     that chunk are released from the persistence context. Hence any modifications to these
+     *     entities must be made while they are being processed; modifications made later on
+     *     are not guaranteed to be persisted.
+     * </p>
+     *
+     * <p>
+     *     Chunks are fetched by offset, hence modifications must not affect which instances match the query, nor
+     *     their order. In particular, a &quot;select pending, then mark as processed&quot; loop must not be
+     *     implemented by streaming the pending instances, as every chunk marked as processed would make the next
+     *     chunk skip just as many pending instances. Instead, re-run a limited query (eg. using
+     *     {@link Query#withLimit(long)}) until no more instances are pending.
+     * </p>
+     *
+     * @apiNote The default implementation simply streams the result of {@link #allMatches(Query)}.
+     *
+     * @see #streamAllInstances(Class)
+     * @since 3.5
+     */
+    default <T> Stream<T> streamAllMatches(final Query<T> query) {
+        return allMatches(query).stream();
+    }
+
+    /**
+     * Returns a sequential {@link Stream} of all persisted instances of specified type (including subtypes),
+     * fetched lazily in chunks (as the stream is consumed), rather than all at once.
+     *
+     * @see #streamAllMatches(Query)
+     * @since 3.5
+     */
+    default <T> Stream<T> streamAllInstances(final Class<T> ofType) {
+        return streamAllMatches(Query.allInstances(ofType));
+    }
+
     /**
      * Finds the only instance of the specified type (including subtypes) that
      * satifies the (client-side) predicate.
@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.command;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.schema.cmd.v2.ActionDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+class Command_lazyDto_Test {
+
+    @Test
+    void supplier_is_invoked_only_once_and_only_when_asked_for() {
+        var interactionId = UUID.randomUUID();
+        var command = new Command(interactionId);
+        var invocationCount = new AtomicInteger();
+
+        assertFalse(command.updater().hasCommandDto());
+
+        command.updater().setCommandDtoSupplier(()->{
+            invocationCount.incrementAndGet();
+            return commandDto(interactionId, "customer.Customer#placeOrder");
+        });
+
+        assertTrue(command.updater().hasCommandDto());
+        assertEquals(0, invocationCount.get());
+
+        assertEquals("customer.Customer#placeOrder", command.getLogicalMemberIdentifier());
+        assertEquals(1, invocationCount.get());
+
+        var commandDto = command.getCommandDto();
+        assertSame(commandDto, command.getCommandDto());
+        assertEquals(1, invocationCount.get());
+    }
+
+    @Test
+    void explicitly_set_dto_replaces_pending_supplier() {
+        var interactionId = UUID.randomUUID();
+        var command = new Command(interactionId);
+
+        command.updater().setCommandDtoSupplier(()->{
+            throw new AssertionError("not expected to be invoked");
+        });
+        var commandDto = commandDto(interactionId, "customer.Customer#name");
+        command.updater().setCommandDtoAndIdentifier(commandDto);
+
+        assertSame(commandDto, command.getCommandDto());
+    }
+
+    @Test
+    void failing_supplier_is_retained_for_retry() {
+        var interactionId = UUID.randomUUID();
+        var command = new Command(interactionId);
+        var invocationCount = new AtomicInteger();
+
+        command.updater().setCommandDtoSupplier(()->{
+            if(invocationCount.incrementAndGet()==1) {
+                throw new IllegalStateException("transient failure");
+            }
+            return commandDto(interactionId, "customer.Customer#placeOrder");
+        });
+
+        assertThrows(IllegalStateException.class, command::getCommandDto);
+        assertTrue(command.updater().hasCommandDto());
+
+        assertEquals("customer.Customer#placeOrder", command.getLogicalMemberIdentifier());
+        assertEquals(2, invocationCount.get());
+    }
+
+    @Test
+    void without_dto() {
+        var command = new Command(UUID.randomUUID());
+        assertNull(command.getCommandDto());
+        assertNull(command.getLogicalMemberIdentifier());
+    }
+
+    // -- HELPER
+
+    private static CommandDto commandDto(final UUID interactionId, final String logicalMemberIdentifier) {
+        var actionDto = new ActionDto();
+        actionDto.setLogicalMemberIdentifier(logicalMemberIdentifier);
+        var commandDto = new CommandDto();
+        commandDto.setInteractionId(interactionId.toString());
+        commandDto.setMember(actionDto);
+        return commandDto;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.commons.io.DtoMapper;
+import org.apache.causeway.core.internaltestsupport.annotations.DisabledIfRunningWithSurefire;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+/**
+ * Throughput of {@link CommandDto} and {@link InteractionDto} XML round-trips
+ * (marshalling followed by unmarshalling), single- and multi-threaded.
+ */
+class DtoMapperThroughputTest {
+
+    private static final int ROUND_TRIPS = 20_000;
+    private static final int RUNS = 5;
+
+    //XXX not a real test, just for performance tuning
+    @Test @DisabledIfRunningWithSurefire
+    void commandDtoRoundTrips() {
+        var dto = new CommandDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setUsername("sven");
+        for(int i = 0; i < 10; i++) {
+            CommandDtoUtils.setUserData(dto, "key" + i, "value" + i);
+        }
+        measure("CommandDto", CommandDtoUtils.dtoMapper(), dto, CommandDto::getInteractionId);
+    }
+
+    //XXX not a real test, just for performance tuning
+    @Test @DisabledIfRunningWithSurefire
+    void interactionDtoRoundTrips() {
+        var dto = new InteractionDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setExecution(InteractionDtoUtils.newActionInvocation(1,
+                Bookmark.forLogicalTypeNameAndIdentifier("customer.Customer", "42"),
+                "customer.Customer#placeOrder", List.of(), "sven"));
+        measure("InteractionDto", InteractionDtoUtils.dtoMapper(), dto, InteractionDto::getInteractionId);
+    }
+
+    // -- HELPER
+
+    private static <T> void measure(
+            final String label,
+            final DtoMapper<T> dtoMapper,
+            final T dto,
+            final Function<T, String> idOf) {
+
+        var expectedId = idOf.apply(dto);
+        var roundTrip = (Runnable)()->
+            assertEquals(expectedId, idOf.apply(dtoMapper.read(dtoMapper.toString(dto))));
+
+        for(int run = 0; run < RUNS; run++) {
+            var singleThreaded = _Timing.run(()->
+                IntStream.range(0, ROUND_TRIPS).forEach(__->roundTrip.run()));
+            var multiThreaded = _Timing.run(()->
+                IntStream.range(0, ROUND_TRIPS).parallel().forEach(__->roundTrip.run()));
+
+            System.err.printf("%s run %d: %d round-trips/s (single-threaded), %d round-trips/s (parallel)%n",
+                    label, run,
+                    perSecond(singleThreaded), perSecond(multiThreaded));
+        }
+    }
+
+    private static long perSecond(final _Timing.StopWatch stopWatch) {
+        return Math.round(ROUND_TRIPS * 1000d / Math.max(1, stopWatch.getMillis()));
+    }
+
+}
@@ -18,11 +18,13 @@
  */
 package org.apache.causeway.commons.io;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +36,7 @@
 import javax.xml.namespace.QName;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Result;
+import javax.xml.transform.Templates;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
@@ -51,6 +54,7 @@
 
 import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.codec._DocumentFactories;
 import org.apache.causeway.commons.internal.collections._Arrays;
@@ -87,6 +91,20 @@ public static class JaxbOptions {
         private final @Builder.Default boolean useContextCache = true;
         private final @Builder.Default boolean allowMissingRootElement = false;
         private final @Builder.Default boolean formattedOutput = true;
+        /**
+         * Whether to reuse {@link Marshaller}s and {@link Unmarshaller}s (sequentially) across calls,
+         * drawn from a bounded pool shared by all calls with the same mapped type, properties and
+         * {@link #isFormattedOutput() formattedOutput}. Only applies,
+         * if the {@link JAXBContext} in use is the cached one for the mapped type,
+         * if all {@link #getProperties() property} values are {@link String}s or {@link Boolean}s
+         * (as pools are keyed by these values), and as long as there are no more than
+         * {@value JaxbUtils#MAX_POOLS_PER_TYPE} pools for the mapped type already.
+         * <p>
+         * The {@link #getMarshallerConfigurer() marshallerConfigurer} and
+         * {@link #getUnmarshallerConfigurer() unmarshallerConfigurer} are still applied on every call,
+         * hence must (re-)configure any state they rely on, rather than assume a fresh instance.
+         */
+        private final @Builder.Default boolean usePool = false;
         private final @Singular Map<String, Object> properties;
         private final @Builder.Default @NonNull Consumer<Marshaller> marshallerConfigurer = _Functions.noopConsumer();
         private final @Builder.Default @NonNull Consumer<Unmarshaller> unmarshallerConfigurer = _Functions.noopConsumer();
@@ -159,12 +177,69 @@ private <T> void marshal(final Marshaller marshaller, final T pojo, final Output
             }
         }
         private <T> T unmarshal(final JAXBContext jaxbContext, final Class<T> mappedType, final InputStream is) {
-            return unmarshal(unmarshaller(jaxbContext, mappedType), mappedType, is);
+            var pool = sharedPool(jaxbContext, mappedType);
+            return pool!=null
+                    ? unmarshal(pool, mappedType, is)
+                    : unmarshal(unmarshaller(jaxbContext, mappedType), mappedType, is);
         }
         private <T> void marshal(final JAXBContext jaxbContext, final T pojo, final OutputStream os) {
             @SuppressWarnings("unchecked")
             var mappedType = (Class<T>)pojo.getClass();
-            marshal(marshaller(jaxbContext, mappedType), pojo, os);
+            var pool = sharedPool(jaxbContext, mappedType);
+            if(pool!=null) {
+                marshal(pool, pojo, os);
+            } else {
+                marshal(marshaller(jaxbContext, mappedType), pojo, os);
+            }
+        }
+        private <T> T unmarshal(final _JaxbPool pool, final Class<T> mappedType, final InputStream is) {
+            var unmarshaller = pool.borrowUnmarshaller();
+            var pojo = unmarshal(unmarshaller, mappedType, is);
+            pool.release(unmarshaller);
+            return pojo;
+        }
+        private <T> void marshal(final _JaxbPool pool, final T pojo, final OutputStream os) {
+            var marshaller = pool.borrowMarshaller();
+            marshal(marshaller, pojo, os);
+            pool.release(marshaller);
+        }
+        private _JaxbPool newPool(final JAXBContext jaxbContext, final Class<?> mappedType) {
+            return new _JaxbPool(
+                    ()->marshaller(jaxbContext, mappedType),
+                    ()->unmarshaller(jaxbContext, mappedType),
+                    _JaxbPool.DEFAULT_CAPACITY);
+        }
+        /**
+         * Returns {@code null} if not {@link #isUsePool() usePool}, if given {@link JAXBContext}
+         * is not the cached one, or if the properties are not suitable as part of a pool's key,
+         * as pools are kept for the lifetime of the application.
+         * Also returns {@code null} once the mapped type has reached its maximum number of pools.
+         */
+        @Nullable
+        private _JaxbPool sharedPool(final JAXBContext jaxbContext, final Class<?> mappedType) {
+            if(!usePool
+                    || jaxbContext!=jaxbContextByClass.get(mappedType)
+                    || !hasPoolableProperties()) {
+                return null;
+            }
+            var pools = poolsByType.get(mappedType);
+            var poolKey = new PoolKey(formattedOutput, properties!=null
+                    ? Map.copyOf(properties)
+                    : Map.of());
+            var pool = pools.get(poolKey);
+            if(pool!=null) return pool;
+            if(pools.size()>=MAX_POOLS_PER_TYPE) return null;
+            return pools.computeIfAbsent(poolKey, __->newPool(jaxbContext, mappedType));
+        }
+        /**
+         * Whether all property values are immutable and have value semantics,
+         * such that they can be part of a pool's key, without holding on to arbitrary caller state.
+         */
+        private boolean hasPoolableProperties() {
+            return properties==null
+                    || properties.values().stream()
+                        .allMatch(value->value instanceof String
+                                || value instanceof Boolean);
         }
         private <T> T unmarshal(final Class<T> mappedType, final InputStream is) {
             return unmarshal(jaxbContext(mappedType), mappedType, is);
@@ -176,6 +251,23 @@ private <T> void marshal(final T pojo, final OutputStream os) {
         }
     }
 
+    private record PoolKey(boolean formattedOutput, Map<String, Object> properties) {}
+    /**
+     * Bounds the number of pools per mapped type, as each distinct combination of properties
+     * would otherwise add a pool that is never released.
+     */
+    static final int MAX_POOLS_PER_TYPE = 8;
+    /**
+     * Pools per mapped type, held by the mapped type itself (rather than by a static map),
+     * so that they do not prevent its class-loader from being garbage collected.
+     */
+    private static final ClassValue<Map<PoolKey, _JaxbPool>> poolsByType = new ClassValue<>() {
+        @Override
+        protected Map<PoolKey, _JaxbPool> computeValue(final Class<?> mappedType) {
+            return _Maps.newConcurrentHashMap();
+        }
+    };
+
     @FunctionalInterface
     public interface JaxbCustomizer extends UnaryOperator<JaxbOptions.JaxbOptionsBuilder> {
     }
@@ -199,22 +291,40 @@ public <T> DtoMapper<T> mapperFor(final @NonNull Class<T> mappedType, final Jaxb
 
         var opts = createOptions(customizers);
         var jaxbContext = opts.jaxbContext(mappedType); // cached with this instance of DtoMapper
+        var pool = opts.newPool(jaxbContext, mappedType); // owned by this instance of DtoMapper
 
         return new DtoMapper<T>() {
 
             @Override
             public T read(final DataSource source) {
                 return source.tryReadAll((final InputStream is)->{
-                    return Try.call(()->opts.unmarshal(jaxbContext, mappedType, is));
+                    return Try.call(()->opts.unmarshal(pool, mappedType, is));
                 })
                 .ifFailureFail()
                 .getValue().orElseThrow();
             }
 
+            @Override
+            public T read(final @Nullable String source) {
+                if(source==null) return null;
+                return opts.unmarshal(pool, mappedType,
+                        new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)));
+            }
+
             @Override
             public void write(final T dto, final DataSink sink) {
                 if(dto==null) return;
-                sink.writeAll(os->Try.run(()->opts.marshal(jaxbContext, dto, os)));
+                sink.writeAll(os->Try.run(()->opts.marshal(pool, dto, os)));
+            }
+
+            @Override
+            public String toString(final @Nullable T dto) {
+                if(dto==null) return null;
+                var buffer = _JaxbPool.borrowBuffer();
+                opts.marshal(pool, dto, buffer);
+                var xml = buffer.toString(StandardCharsets.UTF_8);
+                _JaxbPool.releaseBuffer(buffer);
+                return xml;
             }
 
         };
@@ -275,29 +385,48 @@ public <T> String toStringUtf8(
             final @Nullable T pojo,
             final JaxbUtils.JaxbCustomizer ... customizers) {
         if(pojo==null) return null;
-        var sb = new StringBuilder();
-        write(pojo, DataSink.ofStringUtf8Consumer(sb), customizers);
-
-        var xml = sb.toString();
-        if (isFormattedOutput(customizers)) {
-            return prettyPrint(customizers, xml);
+        var opts = createOptions(customizers);
+        var buffer = _JaxbPool.borrowBuffer();
+        try {
+            opts.marshal(pojo, buffer);
+        } catch (Exception cause) {
+            throw verboseException("marshalling domain object to XML", pojo.getClass(), cause);
         }
+        var xml = buffer.toString(StandardCharsets.UTF_8);
+        _JaxbPool.releaseBuffer(buffer);
 
-        return xml;
+        return opts.isFormattedOutput()
+                ? prettyPrint(customizers, xml)
+                : xml;
+    }
+
+    /**
+     * Compiled once, unless the {@link TransformerFactory} is customized.
+     */
+    private static final _Lazy<Templates> PRETTY_PRINT_TEMPLATES = _Lazy.threadSafe(()->
+        prettyPrintTemplates(_DocumentFactories.transformerFactory(), new JaxbCustomizer[0]));
+
+    @SneakyThrows
+    private static Templates prettyPrintTemplates(
+            final TransformerFactory transformerFactory,
+            final JaxbCustomizer[] customizers) {
+        transformerFactory.setAttribute("indent-number", 4); // default, but can be overwritten by customizers.
+        apply(customizers, transformerFactory);
+        var xsltSource = new StreamSource(JaxbUtils.class.getResourceAsStream("prettyprint.xslt"));
+        return transformerFactory.newTemplates(xsltSource);
     }
 
     private static String prettyPrint(final JaxbCustomizer[] customizers, final String xml) {
         try {
-            var transformerFactory = _DocumentFactories.transformerFactory();
-            transformerFactory.setAttribute("indent-number", 4); // default, but can be overwritten by customizers.
-            apply(customizers, transformerFactory);
+            var templates = _NullSafe.stream(customizers).anyMatch(TransformerFactoryCustomizer.class::isInstance)
+                    ? prettyPrintTemplates(_DocumentFactories.transformerFactory(), customizers)
+                    : PRETTY_PRINT_TEMPLATES.get();
 
             var xmlInput = new StreamSource(new StringReader(xml));
-            var xsltSource = new StreamSource(JaxbUtils.class.getResourceAsStream("prettyprint.xslt"));
-            var stringWriter = new StringWriter();
+            var stringWriter = new StringWriter(xml.length() + xml.length() / 4); // pre-sized, allowing for indentation
             var xmlOutput = new StreamResult(stringWriter);
 
-            var transformer = transformerFactory.newTransformer(xsltSource);
+            var transformer = templates.newTransformer();
             transformer.setOutputProperty(OutputKeys.INDENT, "yes");
 
             transformer.transform(xmlInput, xmlOutput);
@@ -318,16 +447,6 @@ private static void apply(final JaxbCustomizer[] customizers, final TransformerF
         }
     }
 
-    private static boolean isFormattedOutput(final JaxbCustomizer[] customizers) {
-        JaxbOptions.JaxbOptionsBuilder builder = JaxbOptions.builder();
-        for (var customizer : customizers) {
-            customizer.apply(builder);
-        }
-        var jaxbOptions = builder.build();
-        boolean formattedOutput = jaxbOptions.formattedOutput;
-        return formattedOutput;
-    }
-
     // -- MAPPER FACTORY
 
     private JaxbOptions createOptions(
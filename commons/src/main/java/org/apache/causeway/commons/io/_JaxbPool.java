@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.io;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * package private utility for {@link JaxbUtils}
+ * <p>
+ * Bounded pool of readily configured {@link Marshaller}s and {@link Unmarshaller}s,
+ * all sharing the same {@link jakarta.xml.bind.JAXBContext} and configuration.
+ * Neither is thread-safe, but both may be reused sequentially, hence each borrowed instance
+ * is exclusively owned by its borrower until released.
+ * <p>
+ * Never blocks: if the pool is empty a new instance is created, if full a released instance is dropped.
+ * <p>
+ * Also provides thread-local (reusable) output buffers.
+ */
+final class _JaxbPool {
+
+    static final int DEFAULT_CAPACITY = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    private final Supplier<Marshaller> marshallerFactory;
+    private final Supplier<Unmarshaller> unmarshallerFactory;
+    private final BlockingQueue<Marshaller> marshallers;
+    private final BlockingQueue<Unmarshaller> unmarshallers;
+
+    _JaxbPool(
+            final @NonNull Supplier<Marshaller> marshallerFactory,
+            final @NonNull Supplier<Unmarshaller> unmarshallerFactory,
+            final int capacity) {
+        this.marshallerFactory = marshallerFactory;
+        this.unmarshallerFactory = unmarshallerFactory;
+        this.marshallers = new ArrayBlockingQueue<>(capacity);
+        this.unmarshallers = new ArrayBlockingQueue<>(capacity);
+    }
+
+    Marshaller borrowMarshaller() {
+        var marshaller = marshallers.poll();
+        return marshaller!=null
+                ? marshaller
+                : marshallerFactory.get();
+    }
+
+    Unmarshaller borrowUnmarshaller() {
+        var unmarshaller = unmarshallers.poll();
+        return unmarshaller!=null
+                ? unmarshaller
+                : unmarshallerFactory.get();
+    }
+
+    /**
+     * Only to be called after successful use, as a failed marshaller might be left in an undefined state.
+     */
+    void release(final @NonNull Marshaller marshaller) {
+        marshallers.offer(marshaller);
+    }
+
+    /**
+     * Only to be called after successful use, as a failed unmarshaller might be left in an undefined state.
+     */
+    void release(final @NonNull Unmarshaller unmarshaller) {
+        unmarshallers.offer(unmarshaller);
+    }
+
+    // -- OUTPUT BUFFERS
+
+    private static final int BUFFER_INITIAL_SIZE = 8 * 1024;
+    /** Buffers that have grown beyond this size are not retained. */
+    private static final int BUFFER_MAX_RETAINED_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFER = new ThreadLocal<>();
+
+    /**
+     * Returns the calling thread's (empty) buffer, or a new one if already borrowed
+     * (eg. when (un)marshalling recursively).
+     */
+    static ByteArrayOutputStream borrowBuffer() {
+        var buffer = BUFFER.get();
+        if(buffer==null) {
+            return new ByteArrayOutputStream(BUFFER_INITIAL_SIZE);
+        }
+        BUFFER.remove();
+        buffer.reset();
+        return buffer;
+    }
+
+    static void releaseBuffer(final @NonNull ByteArrayOutputStream buffer) {
+        if(buffer.size() <= BUFFER_MAX_RETAINED_SIZE) {
+            BUFFER.set(buffer);
+        }
+    }
+
+}
@@ -18,9 +18,14 @@
  */
 package org.apache.causeway.commons.io;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 import javax.xml.transform.TransformerFactory;
 
 import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlElement;
@@ -63,6 +68,19 @@ static class B {
         @Getter @Setter private String string;
     }
 
+    /**
+     * Only used by {@link #toStringUtf8_boundsPoolsPerType()}, as pools are shared per type.
+     */
+    @XmlRootElement(name = "type-c")
+    @XmlType
+    @XmlAccessorType(XmlAccessType.FIELD)
+    @EqualsAndHashCode
+    static class C {
+
+        @XmlElement(required = false)
+        @Getter @Setter private String string = "c";
+    }
+
     private A a;
     private B b;
 
@@ -133,4 +151,52 @@ public JaxbOptionsBuilder apply(final JaxbOptionsBuilder jaxbOptionsBuilder) {
         Approvals.verify(aXml);
     }
 
+    @Test
+    void mapper_reusesMarshallers() {
+        var marshallers = Collections.<Marshaller>newSetFromMap(new IdentityHashMap<>());
+        var mapper = JaxbUtils.mapperFor(A.class, opts->opts.marshallerConfigurer(marshallers::add));
+
+        for(int i = 0; i < 3; i++) {
+            assertEquals(a, mapper.read(mapper.toString(a)));
+        }
+        assertEquals(1, marshallers.size());
+    }
+
+    @Test
+    void toStringUtf8_reusesMarshallers_onlyWhenPooled() {
+        assertEquals(1, distinctMarshallersUsedFor(3, true).size());
+        assertEquals(3, distinctMarshallersUsedFor(3, false).size());
+    }
+
+    @Test
+    void toStringUtf8_boundsPoolsPerType() {
+        var c = new C();
+        var marshallers = Collections.<Marshaller>newSetFromMap(new IdentityHashMap<>());
+        var distinctProperties = JaxbUtils.MAX_POOLS_PER_TYPE + 2;
+        for(int i = 0; i < distinctProperties; i++) {
+            var schemaLocation = "schema-" + i + ".xsd";
+            for(int call = 0; call < 2; call++) {
+                JaxbUtils.toStringUtf8(c, opts->opts
+                        .usePool(true)
+                        .property(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, schemaLocation)
+                        .marshallerConfigurer(marshallers::add));
+            }
+        }
+        // one marshaller per pool, two per call beyond the maximum number of pools
+        assertEquals(JaxbUtils.MAX_POOLS_PER_TYPE + 2 * 2, marshallers.size());
+    }
+
+    // -- HELPER
+
+    private Set<Marshaller> distinctMarshallersUsedFor(final int calls, final boolean usePool) {
+        var marshallers = Collections.<Marshaller>newSetFromMap(new IdentityHashMap<>());
+        for(int i = 0; i < calls; i++) {
+            var aXml = JaxbUtils.toStringUtf8(a, opts->opts
+                    .usePool(usePool)
+                    .marshallerConfigurer(marshallers::add));
+            assertEquals(a, JaxbUtils.tryRead(A.class, aXml).valueAsNonNullElseFail());
+        }
+        return marshallers;
+    }
+
 }
@@ -1717,6 +1717,62 @@ public IntrospectionPolicy getPolicy() {
                  */
                 private boolean validateIncrementally = true;
 
+                /**
+                 * Whether domain object methods (getters, actions and supporting methods) should be invoked via
+                 * compiled accessors (generated by {@link java.lang.invoke.LambdaMetafactory} or based on
+                 * {@link java.lang.invoke.MethodHandle}s), rather than via reflection.
+                 *
+                 * <p>
+                 *     Where no compiled accessor can be created for a method, reflection is used regardless.
+                 * </p>
+                 */
+                private boolean compileMethodInvokers = true;
+
+                private final Snapshot snapshot = new Snapshot();
+                @Data
+                public static class Snapshot {
+
+                    /**
+                     * Whether to record a snapshot (marker file) of a successfully validated metamodel, keyed by a
+                     * fingerprint of the framework version, the configuration (except for the system environment
+                     * and system properties, other than those configuring Causeway or Spring) and active profiles,
+                     * the menubars layout, the bytecode of the programming model (including any application provided
+                     * facet factories and validators), the bytecode (and layout files) of all scanned domain types
+                     * (and their super types, interfaces and nested types), and the bytecode of all bean types
+                     * (eg. value semantics providers) and of all types referenced by the fields and methods of the
+                     * scanned domain types.
+                     *
+                     * <p>
+                     *     If on a subsequent bootstrap a snapshot with matching fingerprint is found, then metamodel
+                     *     validation and the eager introspection of any remaining (not otherwise eagerly
+                     *     introspected) types are skipped, as these are known to have succeeded before.
+                     *     Any changed type (or configuration) results in a different fingerprint, in which case the
+                     *     metamodel is fully introspected and validated again.
+                     * </p>
+                     *
+                     * <p>
+                     *     If the framework version cannot be determined (eg. when running from exploded classes),
+                     *     no snapshot is used, hence the metamodel is always validated.
+                     * </p>
+                     *
+                     * <p>
+                     *     Disabled by default.
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * Directory, where to store snapshot files.
+                     *
+                     * <p>
+                     *     If not set, a subdirectory (named after the application) of
+                     *     <code>${user.home}/.causeway/metamodel</code> is used, that is, a directory private to the
+                     *     user running the application (unlike the system's temp directory, which is shared).
+                     * </p>
+                     */
+                    private Optional<String> directory = Optional.empty();
+                }
+
             }
 
             private final Validator validator = new Validator();
@@ -1824,6 +1880,27 @@ public static class Jdoql {
                     private boolean variablesClause = true;
                 }
             }
+
+            private final QuickSearch quickSearch = new QuickSearch();
+            @Data
+            public static class QuickSearch {
+
+                /**
+                 * Tables with at least this many rows get an inverted index (word to rows) built,
+                 * once searched for the first time, provided the rows' tokens are indexable
+                 * (see <code>CollectionFilterService.IndexableTokens</code>).
+                 * <p>
+                 * Smaller tables are just scanned.
+                 */
+                @Min(0)
+                private int indexMinRows = 1000;
+
+                /**
+                 * Tables with more rows than this are not indexed, bounding the memory spent on the index.
+                 */
+                @Min(0)
+                private int indexMaxRows = 100_000;
+            }
         }
 
         private final Runtime runtime = new Runtime();
@@ -2143,6 +2220,93 @@ public static class Bulk {
                     int threshold = 1;
                 }
             }
+
+            private final AsyncPublishing asyncPublishing = new AsyncPublishing();
+            @Data
+            public static class AsyncPublishing {
+
+                /**
+                 * Publishing subscribers (that is, {@link org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber}s,
+                 * {@link org.apache.causeway.applib.services.publishing.spi.EntityChangesSubscriber}s or
+                 * {@link EntityPropertyChangeSubscriber}s) that opt-in to be notified asynchronously.
+                 *
+                 * <p>
+                 *     Each entry is either the fully qualified class name or the bean name (as per <code>@Named</code>)
+                 *     of a subscriber. Payloads for these subscribers are captured as usual (within the transaction),
+                 *     but only handed to a bounded queue once the transaction has committed; they are discarded on rollback.
+                 *     A pool of workers then delivers them in batches, each batch within its own interaction and transaction.
+                 *     Each subscriber is served by a single worker, so receives its payloads in commit order
+                 *     (unless delivered by the committing thread, as per {@link BackPressure#CALLER_RUNS}).
+                 * </p>
+                 *
+                 * <p>
+                 *     By default, all subscribers are notified synchronously.
+                 * </p>
+                 */
+                private final List<String> subscribers = new ArrayList<>();
+
+                /**
+                 * Maximum number of payloads waiting to be delivered, split evenly across the
+                 * {@link #getWorkerThreads() workers}.
+                 */
+                @Min(1)
+                private int queueCapacity = 10_000;
+
+                /**
+                 * Maximum number of payloads delivered to a subscriber in one go.
+                 */
+                @Min(1)
+                private int batchSize = 100;
+
+                /**
+                 * Number of worker threads that deliver the payloads.
+                 */
+                @Min(1)
+                private int workerThreads = 2;
+
+                /**
+                 * How often a batch is attempted to be delivered, before its payloads are given up on (and logged).
+                 *
+                 * <p>
+                 *     A batch is delivered within its own transaction, so a failed attempt is rolled back
+                 *     before the batch is retried (by the same worker, preserving the order of payloads).
+                 * </p>
+                 */
+                @Min(1)
+                private int deliveryAttempts = 3;
+
+                /**
+                 * How long to wait before the first retry of a failed batch; doubles with each further retry.
+                 */
+                private Duration retryDelay = Duration.ofMillis(500);
+
+                /**
+                 * What to do with a new payload when the queue is full.
+                 */
+                private BackPressure backPressure = BackPressure.BLOCK;
+
+                /**
+                 * With {@link BackPressure#BLOCK}, how long the committing thread waits at most for room in the queue;
+                 * once timed out, the payload is delivered synchronously, with the committing thread.
+                 */
+                private Duration blockTimeout = Duration.ofSeconds(10);
+
+                public enum BackPressure {
+                    /**
+                     * Blocks the committing thread, until there is room in the queue
+                     * (but no longer than the {@link AsyncPublishing#getBlockTimeout() block-timeout}).
+                     */
+                    BLOCK,
+                    /**
+                     * Discards the oldest payload waiting in the queue (and logs a warning).
+                     */
+                    DROP_OLDEST,
+                    /**
+                     * Delivers the payload synchronously, with the committing thread.
+                     */
+                    CALLER_RUNS
+                }
+            }
         }
     }
 
@@ -2154,6 +2318,55 @@ public static class Persistence {
         @Data
         public static class Commons {
 
+            private final BulkLoad bulkLoad = new BulkLoad();
+            @Data
+            public static class BulkLoad {
+
+                /**
+                 * When loading multiple entities by their bookmarks in one go
+                 * (eg. {@code ObjectManager#loadObjects(Can)}), the primary keys are
+                 * split into chunks of (at most) this size, each chunk resolved
+                 * by a single <i>IN</i> query against the persistence layer.
+                 *
+                 * <p>
+                 *     Keeps the number of bind parameters per statement below the limits
+                 *     imposed by some databases.
+                 * </p>
+                 */
+                @Min(1)
+                private int chunkSize = 500;
+            }
+
+            private final DtoColumn dtoColumn = new DtoColumn();
+            @Data
+            public static class DtoColumn {
+
+                public enum Encoding {
+                    /**
+                     * Stores the DTO as plain XML (as marshalled by JAXB).
+                     */
+                    XML,
+                    /**
+                     * Stores the DTO as gzip compressed XML, Base64 encoded (and prefixed),
+                     * such that it fits into the very same (character large object) column.
+                     */
+                    GZIP_XML
+                }
+
+                /**
+                 * How {@code CommandDto} and {@code InteractionDto} values are encoded, when written to
+                 * their (character large object) database columns, eg. by the command log, execution log
+                 * and execution outbox.
+                 *
+                 * <p>
+                 *     Reading is independent of this setting: either encoding is detected and decoded
+                 *     transparently, such that existing rows remain readable after switching.
+                 *     Existing rows can be re-encoded using {@code DtoColumnMigrationService}.
+                 * </p>
+                 */
+                private Encoding encoding = Encoding.XML;
+            }
+
             private final RepositoryService repositoryService = new RepositoryService();
             @Data
             public static class RepositoryService {
@@ -2170,6 +2383,49 @@ public static class RepositoryService {
                  * </p>
                  */
                 private boolean disableAutoFlush = false;
+
+                /**
+                 * The number of entities fetched per (ranged) query, when iterating over
+                 * {@link org.apache.causeway.applib.services.repository.RepositoryService#streamAllMatches(Query)}
+                 * or {@link org.apache.causeway.applib.services.repository.RepositoryService#streamAllInstances(Class)}.
+                 *
+                 * <p>
+                 *     Once the stream has advanced past a chunk, pending changes are flushed and the entities
+                 *     of that chunk are released (evicted) from the persistence context,
+                 *     such that memory consumption is bounded by the chunk size rather than by the size of
+                 *     the result set.
+                 * </p>
+                 */
+                @Min(1)
+                private int streamChunkSize = 1000;
+            }
+
+            private final TableFetchPlan tableFetchPlan = new TableFetchPlan();
+            @Data
+            public static class TableFetchPlan {
+
+                /**
+                 * When loading entities in bulk (that is, by query), whether to eagerly fetch those references
+                 * of the entities, that would be rendered as table columns
+                 * (using a JPA entity graph or a JDO fetch group respectively).
+                 *
+                 * <p>
+                 *     Avoids a lazy load per row and reference column, when rendering the result as a table.
+                 *     However, this applies to any query of such an entity type (not just those rendered as tables),
+                 *     so that eg. batch jobs also fetch references they never read; hence disabled by default.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Entity types, for which references are never fetched eagerly,
+                 * regardless of {@link #isEnabled()}.
+                 *
+                 * <p>
+                 *     Each entry is either the fully qualified class name or the logical type name of the entity.
+                 * </p>
+                 */
+                private List<String> excludedTypes = new ArrayList<>();
             }
 
             private final EntityChangeTracker entityChangeTracker = new EntityChangeTracker();
@@ -2199,6 +2455,47 @@ public static class EntityChangeTracker {
                  * </p>
                  */
                 private boolean enabled = true;
+
+                private final ValueCapture valueCapture = new ValueCapture();
+                @Data
+                public static class ValueCapture {
+                    /**
+                     * Pre- and post-values of {@link org.apache.causeway.applib.value.Blob}, {@link org.apache.causeway.applib.value.Clob},
+                     * {@link String} (and other {@link CharSequence}) properties that exceed this size (in bytes or characters)
+                     * are not held on to for the duration of the transaction; instead only their length and a (SHA-256) digest
+                     * are captured.
+                     *
+                     * <p>
+                     *     Change detection then compares digests, and subscribers (eg. the audit trail) receive
+                     *     a truncated representation including the digest, rather than the value itself.
+                     * </p>
+                     *
+                     * <p>
+                     *     If not set (the default), values are captured in full regardless of their size, unless
+                     *     listed in {@link #getAlwaysDigest()}. A typical setting is <code>65536</code>.
+                     * </p>
+                     */
+                    @Min(0)
+                    private Integer digestThreshold = null;
+                    /**
+                     * Properties, for which values are always captured as a digest, regardless of their size.
+                     *
+                     * <p>
+                     *     Each entry is either a fully qualified class name of the value type
+                     *     (eg. <code>org.apache.causeway.applib.value.Blob</code>) or the logical member identifier of a property
+                     *     (eg. <code>customer.Customer#photo</code>).
+                     * </p>
+                     */
+                    private final List<String> alwaysDigest = new ArrayList<>();
+                    /**
+                     * Properties, for which values are always captured in full, regardless of their size.
+                     *
+                     * <p>
+                     *     Entries take the same form as for {@link #getAlwaysDigest()}; this list takes precedence.
+                     * </p>
+                     */
+                    private final List<String> neverDigest = new ArrayList<>();
+                }
             }
         }
 
@@ -3876,6 +4173,75 @@ public enum MultipleExecutionStrategy {
     @Data
     public static class Extensions {
 
+        /**
+         * Retention policy of a log (such as the audit trail, command log, execution log or session log),
+         * which otherwise would only ever grow.
+         *
+         * <p>
+         *     Entries that exceed the {@link #getMaxAge() max-age} or the {@link #getMaxRows() max-rows}
+         *     (whichever is more restrictive) are purged periodically, oldest first, using bulk deletes
+         *     (of at most {@link #getChunkSize() chunk-size} entries each) that bypass the persistence context.
+         *     Optionally purged entries are archived to compressed local files beforehand.
+         * </p>
+         *
+         * <p>
+         *     With neither <code>max-age</code> nor <code>max-rows</code> set (the default), nothing is ever purged.
+         * </p>
+         */
+        @Data
+        public static class Retention {
+
+            /**
+             * Entries older than this are purged; if not set, entries are not purged by age.
+             */
+            private Duration maxAge = null;
+
+            /**
+             * Only (at least) this number of the most recent entries are retained, all older entries are purged;
+             * if not set, entries are not purged by count.
+             */
+            @Min(1)
+            private Integer maxRows = null;
+
+            /**
+             * The (maximum) number of entries deleted by a single bulk delete, each in its own transaction,
+             * so as to keep transactions (and locks held) short.
+             */
+            @Min(1)
+            private int chunkSize = 1000;
+
+            /**
+             * How often the log is purged (the first time after one such interval has passed since startup).
+             *
+             * <p>
+             *     Each node purges on its own schedule, without any coordination. To purge (and archive)
+             *     on a single node only, configure <code>max-age</code>/<code>max-rows</code> on that node only.
+             * </p>
+             */
+            private Duration purgeInterval = Duration.ofHours(1);
+
+            private final Archive archive = new Archive();
+            @Data
+            public static class Archive {
+
+                /**
+                 * Whether purged entries are archived beforehand, that is, written to a gzip compressed file
+                 * (one entry per line, one file per chunk) within the {@link #getDirectory() directory}.
+                 *
+                 * <p>
+                 *     Archiving requires the purged entries to be loaded, which the bulk delete alone would not.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * The local directory to write archive files to, created if required.
+                 * A relative path is resolved against the current working directory.
+                 */
+                private String directory = "log-archive";
+            }
+        }
+
         private final AuditTrail auditTrail = new AuditTrail();
         @Data
         public static class AuditTrail {
@@ -3915,6 +4281,30 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            private final Bulk bulk = new Bulk();
+            @Data
+            public static class Bulk {
+                /**
+                 * When entity property changes are published in bulk (that is, when exceeding
+                 * <code>causeway.core.runtime-services.entity-property-change-publisher.bulk.threshold</code>),
+                 * the corresponding audit trail entries are persisted in batches of this size,
+                 * with a single flush per batch (rather than per entry).
+                 *
+                 * <p>
+                 *     For the inserts to also be batched at the JDBC level, the ORM needs to be configured accordingly,
+                 *     eg. using <code>eclipselink.jdbc.batch-writing</code> (JPA) or
+                 *     <code>datanucleus.rdbms.statementBatchLimit</code> (JDO).
+                 * </p>
+                 */
+                @Min(1)
+                private int batchSize = 500;
+            }
+
+            /**
+             * How long entries of the audit trail are retained, see {@link Retention}.
+             */
+            private final Retention retention = new Retention();
         }
 
         private final CommandLog commandLog = new CommandLog();
@@ -4003,7 +4393,41 @@ public enum OnFailurePolicy {
                  * If there is an exception executing one of the commands, what should be done?
                  */
                 private OnFailurePolicy onFailurePolicy = OnFailurePolicy.STOP_THE_LINE;
+
+                /**
+                 * The number of workers (threads) that the <code>RunBackgroundCommandsJob</code> uses, each of which
+                 * claims and then executes its own batch (of {@link #getBatchSize() batch-size}) of pending commands.
+                 *
+                 * <p>
+                 *     Claims are made in the database, so that workers on multiple nodes (each running the job)
+                 *     never execute the same command.  Note that with more than one worker (or node), commands
+                 *     are no longer guaranteed to be executed in the order they were created.
+                 * </p>
+                 */
+                @Min(1)
+                private int workers = 1;
+
+                /**
+                 * How long a claim on a batch of pending commands lasts.  If the claiming worker has not started
+                 * a command by then (for example, because its node crashed), the command may be claimed by any
+                 * other worker.
+                 *
+                 * <p>
+                 *     Should comfortably exceed the time taken to execute a batch.
+                 * </p>
+                 */
+                private Duration claimDuration = Duration.ofMinutes(10);
             }
+
+            /**
+             * How long entries of the command log are retained, see {@link Retention}.
+             *
+             * <p>
+             *     Note that only completed commands are candidates for purging, as long as these are older
+             *     than any background command not yet started.
+             * </p>
+             */
+            private final Retention retention = new Retention();
         }
 
         private final CommandReplay commandReplay = new CommandReplay();
@@ -4217,6 +4641,11 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * How long entries of the execution log are retained, see {@link Retention}.
+             */
+            private final Retention retention = new Retention();
         }
 
         private final ExecutionOutbox executionOutbox = new ExecutionOutbox();
@@ -4572,6 +5001,11 @@ public enum UserMenuMeActionPolicy {
         @Data
         public static class SessionLog {
             boolean autoLogoutOnRestart = true;
+
+            /**
+             * How long entries of the session log are retained, see {@link Retention}.
+             */
+            private final Retention retention = new Retention();
         }
 
         private final Titlecache titlecache = new Titlecache();
@@ -45,6 +45,7 @@
     exports org.apache.causeway.core.metamodel.facets.members.publish.execution;
     exports org.apache.causeway.core.metamodel.facets.object.bookmarkpolicy;
     exports org.apache.causeway.core.metamodel.facets.object.callbacks;
+    exports org.apache.causeway.core.metamodel.facets.object.caching;
     exports org.apache.causeway.core.metamodel.facets.object.domainobject;
     exports org.apache.causeway.core.metamodel.facets.object.domainservicelayout;
     exports org.apache.causeway.core.metamodel.facets.object.entity;
@@ -37,6 +37,8 @@
 import org.apache.causeway.core.metamodel.facets.object.logicaltype.LogicalTypeMalformedValidator;
 import org.apache.causeway.core.metamodel.inspect.CausewayModuleCoreMetamodelMixins;
 import org.apache.causeway.core.metamodel.inspect.model.MetamodelInspectView;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdviceCache;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdviceStatistics;
 import org.apache.causeway.core.metamodel.progmodel.ProgrammingModelInitFilterDefault;
 import org.apache.causeway.core.metamodel.services.appfeat.ApplicationFeatureRepositoryDefault;
 import org.apache.causeway.core.metamodel.services.classsubstitutor.ClassSubstitutorDefault;
@@ -55,6 +57,7 @@
 import org.apache.causeway.core.metamodel.services.inject.ServiceInjectorDefault;
 import org.apache.causeway.core.metamodel.services.layout.LayoutServiceDefault;
 import org.apache.causeway.core.metamodel.services.metamodel.MetaModelServiceDefault;
+import org.apache.causeway.core.metamodel.services.publishing.DtoConstructionStatistics;
 import org.apache.causeway.core.metamodel.services.registry.ServiceRegistryDefault;
 import org.apache.causeway.core.metamodel.services.tablecol.TableColumnOrderServiceDefault;
 import org.apache.causeway.core.metamodel.services.tablecol.TableColumnOrderServiceUsingTxtFile;
@@ -171,12 +174,15 @@
 
         // @Service's
         ColumnOrderTxtFileServiceDefault.class,
+        DtoConstructionStatistics.class,
         ExceptionRecognizerForRecoverableException.class,
         GridLoaderServiceDefault.class,
         GridMarshallerServiceBootstrap.class,
         GridServiceDefault.class,
         GridSystemServiceBootstrap.class,
         IdStringifierLookupService.class,
+        InteractionAdviceCache.class,
+        InteractionAdviceStatistics.class,
         LayoutResourceLoaderDefault.class,
         LayoutServiceDefault.class,
         MetamodelEventService.class,
@@ -76,6 +76,7 @@
 import org.apache.causeway.core.metamodel.facetapi.MetaModelRefiner;
 import org.apache.causeway.core.metamodel.facets.object.icon.ObjectIconService;
 import org.apache.causeway.core.metamodel.facets.object.value.annotcfg.ValueFacetForValueAnnotationOrAnyMatchingValueSemanticsFacetFactory;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdviceCache;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.progmodel.ProgrammingModel;
@@ -178,6 +179,9 @@ public static MetaModelContext buildDefault() {
 
     private InteractionService interactionService;
 
+    @Builder.Default
+    private Optional<InteractionAdviceCache> interactionAdviceCache = Optional.empty();
+
     private TranslationService translationService;
 
     private InteractionContext authentication;
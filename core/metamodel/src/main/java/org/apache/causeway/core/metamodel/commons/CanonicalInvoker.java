@@ -21,10 +21,14 @@
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 
+import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Arrays;
@@ -78,24 +82,58 @@ public Object invoke(
             final Object targetPojo,
             final @Nullable Object ... executionParameters) {
         var convertedExecutionParameters = ParameterConverters.DEFAULT.convertAll(method, executionParameters);
-        return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
-            .mapFailure(ex->toVerboseException(ex,
-                    method,
-                    convertedExecutionParameters))
-            .valueAsNullableElseFail();
+        return invokeWithConvertedArgs(method, targetPojo, convertedExecutionParameters);
     }
-    
+
     public Object invokeWithConvertedArgs(
             final Method method,
             final Object targetPojo,
             final @Nullable Object ... convertedExecutionParameters) {
-        return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
+        var invoker = invokerFor(method);
+        return Try.call(()->invoker.invoke(targetPojo, convertedExecutionParameters))
             .mapFailure(ex->toVerboseException(ex,
                     method,
                     convertedExecutionParameters))
             .valueAsNullableElseFail();
     }
 
+    // -- INVOKERS
+
+    /**
+     * Creates and caches the {@link MethodInvoker}s for given methods, unless already cached.
+     * <p>
+     * Called during introspection, once the facets invoking these methods have been created,
+     * such that no invoker needs to be compiled on first invocation.
+     *
+     * @param compile - whether to try to create compiled accessors, falling back to reflection where
+     *      not possible; as configured via <i>causeway.core.meta-model.introspector.compile-method-invokers</i>
+     */
+    public void prepareInvokers(final @NonNull Stream<Method> methods, final boolean compile) {
+        methods.forEach(method->
+            INVOKERS.get(method.getDeclaringClass())
+                .computeIfAbsent(method, __->MethodInvoker.create(method, compile)));
+    }
+
+    /**
+     * Returns the {@link MethodInvoker} for given method, as cached with the method's declaring class.
+     * <p>
+     * Methods that were not prepared during introspection (see {@link #prepareInvokers(Stream, boolean)})
+     * are invoked via reflection.
+     */
+    public MethodInvoker invokerFor(final @NonNull Method method) {
+        return INVOKERS.get(method.getDeclaringClass())
+                .computeIfAbsent(method, __->MethodInvoker.create(method, false));
+    }
+
+    /**
+     * Ties the lifecycle of cached invokers to their declaring class.
+     */
+    private final ClassValue<Map<Method, MethodInvoker>> INVOKERS = new ClassValue<>() {
+        @Override protected Map<Method, MethodInvoker> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     // -- HELPER
 
     private Throwable toVerboseException(
@@ -0,0 +1,211 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.commons.internal.reflection._Reflect;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Invokes a given {@link Method}, following the contract of {@link Method#invoke(Object, Object...)}:
+ * exceptions thrown by the invoked method are wrapped in an {@link InvocationTargetException},
+ * while arguments not fitting the method's parameters result in an {@link IllegalArgumentException}.
+ * <p>
+ * Instead of reflection, invocation is preferably done via compiled accessors:
+ * non-void no-arg instance methods (getters and most supporting methods) are bound to a
+ * {@link LambdaMetafactory} generated {@link Function},
+ * any other methods are bound to a spreading {@link MethodHandle}.
+ * Falls back to reflection, only where neither is possible.
+ *
+ * @see CanonicalInvoker#invokerFor(Method)
+ */
+public sealed interface MethodInvoker
+permits MethodInvoker.Reflective, MethodInvoker.NoArgFunction, MethodInvoker.Spreader {
+
+    Method method();
+
+    /**
+     * @param target - ignored for static methods
+     * @param args - already converted to fit the method's parameters
+     */
+    Object invoke(@Nullable Object target, @Nullable Object[] args) throws Exception;
+
+    /**
+     * Whether this invoker uses reflection.
+     */
+    default boolean isReflective() {
+        return this instanceof Reflective;
+    }
+
+    // -- FACTORY
+
+    /**
+     * @param compile - whether to try to create a compiled accessor, otherwise uses reflection
+     */
+    static MethodInvoker create(final @NonNull Method method, final boolean compile) {
+        if(!compile) {
+            return new Reflective(method);
+        }
+        try {
+            var lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            var methodHandle = lookup.unreflect(method).asFixedArity();
+            if(NoArgFunction.isApplicable(method)) {
+                try {
+                    return NoArgFunction.compile(lookup, method, methodHandle);
+                } catch (Throwable e) {
+                    // eg. insufficient lookup privileges, fall through
+                }
+            }
+            return Spreader.compile(method, methodHandle);
+        } catch (Throwable e) {
+            return new Reflective(method);
+        }
+    }
+
+    // -- IMPLEMENTATIONS
+
+    record Reflective(Method method) implements MethodInvoker {
+        @Override
+        public Object invoke(final Object target, final Object[] args) throws Exception {
+            return _Reflect.invokeMethodOn(method, target, args)
+                    .valueAsNullableElseFail();
+        }
+    }
+
+    /**
+     * Binds a non-void no-arg instance method to a {@link Function} via {@link LambdaMetafactory}.
+     */
+    record NoArgFunction(Method method, Function<Object, Object> function) implements MethodInvoker {
+
+        static boolean isApplicable(final Method method) {
+            return method.getParameterCount() == 0
+                    && method.getReturnType() != void.class
+                    && !Modifier.isStatic(method.getModifiers());
+        }
+
+        @SuppressWarnings("unchecked")
+        static NoArgFunction compile(
+                final MethodHandles.Lookup lookup,
+                final Method method,
+                final MethodHandle methodHandle) throws Throwable {
+            var returnType = MethodType.methodType(method.getReturnType()).wrap().returnType();
+            var callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    methodHandle,
+                    MethodType.methodType(returnType, method.getDeclaringClass()));
+            return new NoArgFunction(method, (Function<Object, Object>) callSite.getTarget().invoke());
+        }
+
+        @Override
+        public Object invoke(final Object target, final Object[] args) throws Exception {
+            if(args!=null
+                    && args.length>0) {
+                throw new IllegalArgumentException("wrong number of arguments: %d expected: 0".formatted(args.length));
+            }
+            if(!method.getDeclaringClass().isInstance(target)) {
+                throw new IllegalArgumentException("object is not an instance of declaring class");
+            }
+            try {
+                return function.apply(target);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
+    /**
+     * Binds any method to a {@link MethodHandle} of generic type {@code (Object, Object[])Object}.
+     */
+    record Spreader(Method method, MethodHandle methodHandle) implements MethodInvoker {
+
+        private static final MethodType GENERIC_TYPE =
+                MethodType.methodType(Object.class, Object.class, Object[].class);
+
+        static Spreader compile(final Method method, final MethodHandle methodHandle) {
+            var receiverAware = Modifier.isStatic(method.getModifiers())
+                    ? MethodHandles.dropArguments(methodHandle, 0, Object.class)
+                    : methodHandle;
+            var spreader = receiverAware
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(GENERIC_TYPE);
+            return new Spreader(method, spreader);
+        }
+
+        @Override
+        public Object invoke(final Object target, final Object[] args) throws Exception {
+            var paramCount = method.getParameterCount();
+            var argArray = args!=null
+                    ? args
+                    : new Object[0];
+            if(argArray.length != paramCount) {
+                throw new IllegalArgumentException("wrong number of arguments: %d expected: %d"
+                        .formatted(argArray.length, paramCount));
+            }
+            if(!Modifier.isStatic(method.getModifiers())
+                    && !method.getDeclaringClass().isInstance(target)) {
+                throw new IllegalArgumentException("object is not an instance of declaring class");
+            }
+            try {
+                return (Object) methodHandle.invokeExact(target, argArray);
+            } catch (ClassCastException | NullPointerException e) {
+                // either thrown by argument type conversion or by the invoked method itself
+                if(!areArgsCompatible(method, argArray)) {
+                    throw new IllegalArgumentException("argument type mismatch", e);
+                }
+                throw new InvocationTargetException(e);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private static boolean areArgsCompatible(final Method method, final Object[] args) {
+        var parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            var arg = args[i];
+            var parameterType = parameterTypes[i];
+            if(arg==null) {
+                if(parameterType.isPrimitive()) return false;
+                continue;
+            }
+            if(!ClassExtensions.equalsWhenBoxing(arg.getClass(), parameterType)
+                    && !parameterType.isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
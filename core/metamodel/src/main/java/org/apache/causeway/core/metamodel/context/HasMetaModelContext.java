@@ -48,6 +48,7 @@
 import org.apache.causeway.core.config.viewer.web.WebAppContextPath;
 import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
 import org.apache.causeway.core.metamodel.facets.object.icon.ObjectIconService;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdviceCache;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.progmodel.ProgrammingModel;
@@ -159,6 +160,14 @@ default MenuBarsService getMenuBarsService() {
     default InteractionService getInteractionService() {
         return getMetaModelContext().getInteractionService();
     }
+
+    /**
+     * Optionally the {@link InteractionAdviceCache},
+     * which is not available when running without an interaction scope (eg. unit tests).
+     */
+    default Optional<InteractionAdviceCache> getInteractionAdviceCache() {
+        return getMetaModelContext().getInteractionAdviceCache();
+    }
     
     default CommandDtoFactory getCommandDtoFactory() {
         return getMetaModelContext().getCommandDtoFactory();
@@ -46,6 +46,7 @@
 import org.apache.causeway.core.config.viewer.web.WebAppContextPath;
 import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
 import org.apache.causeway.core.metamodel.facets.object.icon.ObjectIconService;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdviceCache;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.progmodel.ProgrammingModel;
@@ -164,6 +165,10 @@ void onDestroy() {
     private final InteractionService interactionService =
     getSingletonElseFail(InteractionService.class);
 
+    @Getter(lazy = true)
+    private final Optional<InteractionAdviceCache> interactionAdviceCache =
+    getDefault(InteractionAdviceCache.class);
+
     @Getter(lazy = true)
     private final CommandDtoFactory commandDtoFactory =
     getSingletonElseFail(CommandDtoFactory.class);
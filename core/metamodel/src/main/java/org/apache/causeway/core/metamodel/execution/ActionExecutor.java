@@ -138,9 +138,8 @@ public Object execute(final ActionInvocation currentExecution) {
         Optional<Bookmark> ownerBookmarkIfAny = ManagedObjects.bookmark(ownerAdapter);
         var ownerHasBookmark = ownerBookmarkIfAny.isPresent();
         if (ownerHasBookmark) {
-            var invocationDto =
-                    getInteractionDtoServiceInternal().asActionInvocationDto(owningAction, head, arguments);
-            currentExecution.setDto(invocationDto);
+            _ExecutionDtos.setupDto(this, facetHolder, currentExecution,
+                    getInteractionDtoServiceInternal().deferActionInvocationDto(owningAction, head, arguments));
         }
 
         if(!isPostable()) {
@@ -152,9 +152,8 @@ public Object execute(final PropertyEdit currentExecution) {
         var ownerHasBookmark = ManagedObjects.bookmark(ownerAdapter).isPresent();
 
         if (ownerHasBookmark) {
-            var propertyEditDto =
-                    getInteractionDtoServiceInternal().asPropertyEditDto(owningProperty, head, newValue);
-            currentExecution.setDto(propertyEditDto);
+            _ExecutionDtos.setupDto(this, facetHolder, currentExecution,
+                    getInteractionDtoServiceInternal().deferPropertyEditDto(owningProperty, head, newValue));
         }
 
         if(!isPostable()) {
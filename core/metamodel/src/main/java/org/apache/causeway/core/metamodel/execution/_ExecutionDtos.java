@@ -0,0 +1,68 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.execution;
+
+import java.util.function.Supplier;
+
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.members.publish.execution.ExecutionPublishingFacet;
+import org.apache.causeway.core.metamodel.services.publishing.DtoConstructionStatistics;
+import org.apache.causeway.core.metamodel.services.publishing.DtoConstructionStatistics.Kind;
+import org.apache.causeway.core.metamodel.services.publishing.ExecutionPublisher;
+import org.apache.causeway.schema.ixn.v2.MemberExecutionDto;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+class _ExecutionDtos {
+
+    /**
+     * Sets up the DTO (memento) of given execution, built right away if (potentially) going to be published,
+     * otherwise deferred until (if ever) asked for.
+     */
+    <T extends MemberExecutionDto> void setupDto(
+            final HasMetaModelContext mmc,
+            final FacetHolder facetHolder,
+            final Execution<T, ?> execution,
+            final Supplier<T> dtoFactory) {
+
+        var statistics = mmc.lookupService(DtoConstructionStatistics.class);
+
+        if(isDtoRequired(mmc, facetHolder)) {
+            execution.setDto(dtoFactory.get());
+            statistics.ifPresent(stats->stats.built(Kind.EXECUTION));
+        } else {
+            execution.setDtoSupplier(statistics
+                    .map(stats->stats.deferred(Kind.EXECUTION, dtoFactory))
+                    .orElse(dtoFactory));
+        }
+    }
+
+    private boolean isDtoRequired(
+            final HasMetaModelContext mmc,
+            final FacetHolder facetHolder) {
+        return ExecutionPublishingFacet.isPublishingEnabled(facetHolder)
+                && mmc.lookupService(ExecutionPublisher.class)
+                    .map(ExecutionPublisher::isAnySubscriberEnabled)
+                    .orElse(true);
+    }
+
+}
@@ -143,6 +143,22 @@ default <F extends Facet> Stream<F> streamFacets(final Class<F> requiredType) {
      */
     void addFacet(@NonNull Facet facet);
 
+    // -- SEALING
+
+    /**
+     * Freezes the current set of winning facets into an immutable lookup table,
+     * that is read without locking.
+     * <p>
+     * Meant to be called once the owning feature has been fully introspected.
+     * Adding facets after sealing is still allowed, but triggers a (copy-on-write) re-seal.
+     */
+    void seal();
+
+    /**
+     * Whether {@link #seal()} was called on this holder.
+     */
+    boolean isSealed();
+
     // -- VALIDATION SUPPORT
 
     Stream<FacetRanking> streamFacetRankings();
@@ -132,6 +132,18 @@ public Stream<Facet> streamFacets() {
                 .filter(_NullSafe::isPresent);
     }
 
+    @Override
+    public void seal() {
+        shared.seal();
+        local.seal();
+    }
+
+    @Override
+    public boolean isSealed() {
+        return shared.isSealed()
+                && local.isSealed();
+    }
+
     @Override
     public Stream<FacetRanking> streamFacetRankings() {
         // optimization, not strictly required
@@ -22,6 +22,7 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.apache.causeway.applib.Identifier;
@@ -34,12 +35,20 @@
 
 /**
  * Provides a (simple) list of {@link Facet}s.
+ * <p>
+ * Once {@link #seal() sealed}, facet lookups are served lock-free from an immutable copy of the
+ * current snapshot. Any subsequent {@link #addFacet(Facet)} that changes the outcome, replaces that
+ * immutable copy (copy-on-write), such that eg. spec reloading and incremental validation keep working.
  */
 record FacetHolderSimple(
     MetaModelContext metaModelContext,
     Identifier featureIdentifier,
     Map<Class<? extends Facet>, FacetRanking> rankingByType,
-    _Lazy<Map<Class<? extends Facet>, Facet>> snapshot
+    _Lazy<Map<Class<? extends Facet>, Facet>> snapshot,
+    /**
+     * {@code null} unless sealed
+     */
+    AtomicReference<Map<Class<? extends Facet>, Facet>> sealedSnapshot
     )
 implements FacetHolder {
 
@@ -53,7 +62,8 @@ private FacetHolderSimple(
         final @NonNull MetaModelContext metaModelContext,
         final Identifier featureIdentifier,
         final Map<Class<? extends Facet>, FacetRanking> rankingByType) {
-        this(metaModelContext, featureIdentifier, rankingByType, _Lazy.threadSafe(()->makeSnapshot(rankingByType.values())));
+        this(metaModelContext, featureIdentifier, rankingByType, _Lazy.threadSafe(()->makeSnapshot(rankingByType.values())),
+                new AtomicReference<>());
     }
 
     // -- FIELDS
@@ -70,6 +80,10 @@ public Identifier getFeatureIdentifier() {
 
     @Override
     public boolean containsFacet(final Class<? extends Facet> facetType) {
+        var sealed = sealedSnapshot.get();
+        if(sealed!=null) {
+            return sealed.containsKey(facetType);
+        }
         synchronized(rankingByType) {
             return snapshot.get().containsKey(facetType);
         }
@@ -82,12 +96,20 @@ public void addFacet(final @NonNull Facet facet) {
             var needsInvalidate = ranking.add(facet);
             if(needsInvalidate) {
                 snapshot.clear(); //invalidate
+                if(sealedSnapshot.get()!=null) {
+                    // copy-on-write re-seal
+                    sealedSnapshot.set(Map.copyOf(snapshot.get()));
+                }
             }
         }
     }
 
     @Override
     public <T extends Facet> T getFacet(final Class<T> facetType) {
+        var sealed = sealedSnapshot.get();
+        if(sealed!=null) {
+            return uncheckedCast(sealed.get(facetType));
+        }
         synchronized(rankingByType) {
             return uncheckedCast(snapshot.get().get(facetType));
         }
@@ -95,6 +117,10 @@ public <T extends Facet> T getFacet(final Class<T> facetType) {
 
     @Override
     public Stream<Facet> streamFacets() {
+        var sealed = sealedSnapshot.get();
+        if(sealed!=null) {
+            return sealed.values().stream();
+        }
         synchronized(rankingByType) {
             // consumers should play nice and don't take too long (as we have a lock)
             return snapshot.get().values().stream();
@@ -103,11 +129,29 @@ public Stream<Facet> streamFacets() {
 
     @Override
     public int getFacetCount() {
+        var sealed = sealedSnapshot.get();
+        if(sealed!=null) {
+            return sealed.size();
+        }
         synchronized(rankingByType) {
             return snapshot.get().size();
         }
     }
 
+    // -- SEALING
+
+    @Override
+    public void seal() {
+        synchronized(rankingByType) {
+            sealedSnapshot.set(Map.copyOf(snapshot.get()));
+        }
+    }
+
+    @Override
+    public boolean isSealed() {
+        return sealedSnapshot.get()!=null;
+    }
+
     // -- VALIDATION SUPPORT
 
     @Override
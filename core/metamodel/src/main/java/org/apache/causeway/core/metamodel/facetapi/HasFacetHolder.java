@@ -61,6 +61,16 @@ default void addFacet(final Facet facet) {
         getFacetHolder().addFacet(facet);
     }
 
+    @Override
+    default void seal() {
+        getFacetHolder().seal();
+    }
+
+    @Override
+    default boolean isSealed() {
+        return getFacetHolder().isSealed();
+    }
+
     @Override
     default Stream<FacetRanking> streamFacetRankings() {
         return getFacetHolder().streamFacetRankings();
@@ -38,22 +38,17 @@
 import org.apache.causeway.applib.services.registry.ServiceRegistry;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
-import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
-import org.apache.causeway.commons.internal.reflection._Reflect;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.interactions.InteractionHead;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
 import org.apache.causeway.core.metamodel.services.events.MetamodelEventService;
-import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
-import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
 
 import static org.apache.causeway.commons.internal.base._Casts.uncheckedCast;
 import static org.apache.causeway.commons.internal.reflection._Reflect.predicates.paramAssignableFrom;
 import static org.apache.causeway.commons.internal.reflection._Reflect.predicates.paramAssignableFromValue;
-import static org.apache.causeway.commons.internal.reflection._Reflect.predicates.paramCount;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -65,6 +60,18 @@ public static DomainEventHelper ofServiceRegistry(final ServiceRegistry serviceR
         return new DomainEventHelper(serviceRegistry.lookupServiceElseFail(MetamodelEventService.class));
     }
 
+    /**
+     * Whether given {@link DomainEventHolder} is post-able and
+     * any listener is actually interested in its event type.
+     * <p>
+     * Allows the interaction phases (hide, disable, validate) to bale out early,
+     * rather than building and publishing events that nobody listens to.
+     */
+    public boolean isPostableAndListenedTo(final DomainEventHolder<?> domainEventHolder) {
+        return domainEventHolder.isPostable()
+                && metamodelEventService.hasListeners(domainEventHolder.getEventType());
+    }
+
     // -- postEventForAction
 
     // variant using eventType and no existing event
@@ -135,20 +142,10 @@ public void postEventForAction(
                         event.setSemantics(objectAction.getSemantics());
                     }
 
-                    var parameters = objectAction.getParameters();
-
-                    var parameterNames = parameters.stream()
-                            .map(ObjectActionParameter::getCanonicalFriendlyName)
-                            .collect(_Lists.toUnmodifiable());
-
-                    final List<Class<?>> parameterTypes = parameters.stream()
-                            .map(ObjectActionParameter::getElementType)
-                            .map(ObjectSpecification::getCorrespondingClass)
-                            .collect(_Lists.toUnmodifiable());
-
                     if (event != null) {
-                        event.setParameterNames(parameterNames);
-                        event.setParameterTypes(parameterTypes);
+                        // memoized by the action, as these don't change once introspected
+                        event.setParameterNames(objectAction.getParameterNames());
+                        event.setParameterTypes(objectAction.getParameterClasses());
                     }
                 }
             }
@@ -177,22 +174,16 @@ public void postEventForAction(
         throws IllegalArgumentException,
             SecurityException {
 
-        var constructors = _Reflect.getPublicConstructors(type);
+        var constructors = _DomainEventConstructors.forEventType(type);
 
-        var noArgConstructor = constructors
-                .filter(paramCount(0))
-                .getFirst().orElse(null);
-        if(noArgConstructor!=null) {
+        if(constructors.hasNoArgConstructor()) {
             final ActionDomainEvent<S> ade = EventObjectBase.getInstanceWithSource(type, source).orElseThrow();
             ade.setIdentifier(identifier);
             ade.setArguments(asList(arguments));
             return ade;
         }
 
-        var oneArgConstructor = constructors
-                .filter(paramCount(1)
-                        .and(paramAssignableFrom(0, source.getClass())))
-                .getFirst().orElse(null);
+        var oneArgConstructor = constructors.oneArg(source.getClass()).orElse(null);
         if(oneArgConstructor!=null) {
 
             final Object event = invokeConstructor(oneArgConstructor, source);
@@ -203,12 +194,8 @@ public void postEventForAction(
             return ade;
         }
 
-        var threeArgConstructor = constructors
-                .filter(paramCount(3)
-                        .and(paramAssignableFrom(0, source.getClass()))
-                        .and(paramAssignableFrom(1, Identifier.class))
-                        .and(paramAssignableFrom(2, Object[].class))
-                        )
+        var threeArgConstructor = constructors.withSourceAndIdentifier(source.getClass(), 3)
+                .filter(paramAssignableFrom(2, Object[].class))
                 .getFirst()
                 .orElse(null);
 
@@ -285,12 +272,9 @@ static <S,T> PropertyDomainEvent<S,T> newPropertyDomainEvent(
             final T oldValue,
             final T newValue) throws NoSuchMethodException, SecurityException, IllegalArgumentException {
 
-        var constructors = _Reflect.getPublicConstructors(type);
+        var constructors = _DomainEventConstructors.forEventType(type);
 
-        var noArgonstructor = constructors
-                .filter(paramCount(0))
-                .getFirst().orElse(null);
-        if(noArgonstructor != null) {
+        if(constructors.hasNoArgConstructor()) {
             final PropertyDomainEvent<S, T> pde = EventObjectBase.getInstanceWithSource(type, source).orElseThrow();
             pde.setIdentifier(identifier);
             pde.setOldValue(oldValue);
@@ -298,10 +282,7 @@ static <S,T> PropertyDomainEvent<S,T> newPropertyDomainEvent(
             return pde;
         }
 
-        var oneArgConstructor = constructors
-                .filter(paramCount(1)
-                        .and(paramAssignableFrom(0, source.getClass())))
-                .getFirst().orElse(null);
+        var oneArgConstructor = constructors.oneArg(source.getClass()).orElse(null);
         if(oneArgConstructor != null) {
             final Object event = invokeConstructor(oneArgConstructor, source);
             final PropertyDomainEvent<S, T> pde = uncheckedCast(event);
@@ -312,11 +293,8 @@ static <S,T> PropertyDomainEvent<S,T> newPropertyDomainEvent(
         }
 
         // else
-        var fourArgConstructor = constructors
-                .filter(paramCount(4)
-                        .and(paramAssignableFrom(0, source.getClass()))
-                        .and(paramAssignableFrom(1, Identifier.class))
-                        .and(paramAssignableFromValue(2, oldValue))
+        var fourArgConstructor = constructors.withSourceAndIdentifier(source.getClass(), 4)
+                .filter(paramAssignableFromValue(2, oldValue)
                         .and(paramAssignableFromValue(3, newValue))
                 ).getFirst().orElse(null);
         if(fourArgConstructor != null) {
@@ -367,21 +345,15 @@ <S, T> CollectionDomainEvent<S, T> newCollectionDomainEvent(
             throws NoSuchMethodException, SecurityException,
             IllegalArgumentException {
 
-        var constructors = _Reflect.getPublicConstructors(type);
+        var constructors = _DomainEventConstructors.forEventType(type);
 
-        var noArgConstructor = constructors
-                .filter(paramCount(0))
-                .getFirst().orElse(null);
-        if(noArgConstructor != null) {
+        if(constructors.hasNoArgConstructor()) {
             final CollectionDomainEvent<S, T> cde = EventObjectBase.getInstanceWithSource(type, source).orElseThrow();
             cde.setIdentifier(identifier);
             return cde;
         }
 
-        var oneArgConstructor = constructors
-                .filter(paramCount(1)
-                        .and(paramAssignableFrom(0, source.getClass())))
-                .getFirst().orElse(null);
+        var oneArgConstructor = constructors.oneArg(source.getClass()).orElse(null);
         if(oneArgConstructor != null) {
             final Object event = invokeConstructor(oneArgConstructor, source);
             final CollectionDomainEvent<S, T> cde = uncheckedCast(event);
@@ -392,11 +364,7 @@ <S, T> CollectionDomainEvent<S, T> newCollectionDomainEvent(
 
         // else
         // search for constructor accepting source, identifier
-        var twoArgConstructor = constructors
-                .filter(paramCount(2)
-                        .and(paramAssignableFrom(0, source.getClass()))
-                        .and(paramAssignableFrom(1, Identifier.class))
-                        )
+        var twoArgConstructor = constructors.withSourceAndIdentifier(source.getClass(), 2)
                 .getFirst().orElse(null);
         if(twoArgConstructor != null) {
             var event = invokeConstructor(twoArgConstructor, source, identifier);
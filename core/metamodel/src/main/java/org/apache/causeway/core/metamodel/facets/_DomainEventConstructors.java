@@ -0,0 +1,88 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.reflection._Reflect;
+
+import static org.apache.causeway.commons.internal.reflection._Reflect.predicates.paramAssignableFrom;
+import static org.apache.causeway.commons.internal.reflection._Reflect.predicates.paramCount;
+
+/**
+ * Public constructors of a domain event type, resolved once per event type
+ * (and per source type, where constructor selection depends on the event's source).
+ * <p>
+ * Saves {@link DomainEventHelper} from reflecting on the event type for each and every
+ * hide/disable/validate/executing/executed phase.
+ */
+record _DomainEventConstructors(
+        boolean hasNoArgConstructor,
+        Can<Constructor<?>> publicConstructors,
+        Map<Class<?>, Optional<Constructor<?>>> oneArgBySourceType,
+        Map<Class<?>, Can<Constructor<?>>> withSourceAndIdentifierBySourceType) {
+
+    private static final ClassValue<_DomainEventConstructors> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected _DomainEventConstructors computeValue(final Class<?> eventType) {
+            var publicConstructors = _Reflect.getPublicConstructors(eventType);
+            return new _DomainEventConstructors(
+                    publicConstructors.stream().anyMatch(paramCount(0)),
+                    publicConstructors,
+                    new ConcurrentHashMap<>(),
+                    new ConcurrentHashMap<>());
+        }
+    };
+
+    static _DomainEventConstructors forEventType(final Class<?> eventType) {
+        return CONSTRUCTORS.get(eventType);
+    }
+
+    /**
+     * Optionally the public constructor taking the event's source as its only argument.
+     */
+    Optional<Constructor<?>> oneArg(final Class<?> sourceType) {
+        return oneArgBySourceType.computeIfAbsent(sourceType, __->
+            publicConstructors
+                .filter(paramCount(1)
+                        .and(paramAssignableFrom(0, sourceType)))
+                .getFirst());
+    }
+
+    /**
+     * Public constructors taking {@code paramCount} arguments,
+     * starting with the event's source followed by its {@link Identifier}.
+     * <p>
+     * Any further parameters are left to the caller to match.
+     */
+    Can<Constructor<?>> withSourceAndIdentifier(final Class<?> sourceType, final int paramCount) {
+        return withSourceAndIdentifierBySourceType.computeIfAbsent(sourceType, __->
+            publicConstructors
+                .filter(constructor->constructor.getParameterCount()>=2)
+                .filter(paramAssignableFrom(0, sourceType)
+                        .and(paramAssignableFrom(1, Identifier.class))))
+            .filter(paramCount(paramCount));
+    }
+
+}
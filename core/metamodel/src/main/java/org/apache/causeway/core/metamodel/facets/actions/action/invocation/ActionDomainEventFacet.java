@@ -124,7 +124,7 @@ public void initWithMixee(final ObjectSpecification mixeeSpec) {
 
     @Override
     public String hides(final VisibilityContext ic) {
-        if(!isPostable()) return null; // bale out
+        if(!domainEventHelper.isPostableAndListenedTo(this)) return null; // bale out
 
         final ActionDomainEvent<?> event =
                 domainEventHelper.postEventForAction(
@@ -145,7 +145,7 @@ public String hides(final VisibilityContext ic) {
 
     @Override
     public Optional<VetoReason> disables(final UsabilityContext ic) {
-        if(!isPostable()) return Optional.empty(); // bale out
+        if(!domainEventHelper.isPostableAndListenedTo(this)) return Optional.empty(); // bale out
 
         final ActionDomainEvent<?> event =
                 domainEventHelper.postEventForAction(
@@ -171,7 +171,7 @@ public Optional<VetoReason> disables(final UsabilityContext ic) {
 
     @Override
     public String invalidates(final ValidityContext ic) {
-        if(!isPostable()) return null; // bale out
+        if(!domainEventHelper.isPostableAndListenedTo(this)) return null; // bale out
 
         _Assert.assertTrue(ic instanceof ActionValidityContext, ()->
             String.format("expecting an action context but got %s", ic.identifier()));
@@ -24,9 +24,12 @@
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.members.hidden.HiddenFacetAbstract;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 
-public class HiddenFacetForActionLayoutAnnotation extends HiddenFacetAbstract {
+public class HiddenFacetForActionLayoutAnnotation
+extends HiddenFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     public static Optional<HiddenFacetForActionLayoutAnnotation> create(
             final Optional<ActionLayout> actionLayoutIfAny,
@@ -25,10 +25,12 @@
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.all.hide.HiddenFacet;
 import org.apache.causeway.core.metamodel.facets.members.hidden.HiddenFacetAbstract;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 
 public class HiddenFacetForActionLayoutXml
-extends HiddenFacetAbstract {
+extends HiddenFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     public static Optional<HiddenFacet> create(
             final ActionLayoutData actionLayout,
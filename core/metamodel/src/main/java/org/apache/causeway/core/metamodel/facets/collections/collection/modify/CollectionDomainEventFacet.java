@@ -102,7 +102,7 @@ public void initWithMixee(final ObjectSpecification mixeeSpec) {
 
     @Override
     public String hides(final VisibilityContext ic) {
-        if(!isPostable()) return null; // bale out
+        if(!domainEventHelper.isPostableAndListenedTo(this)) return null; // bale out
 
         final CollectionDomainEvent<?, ?> event =
                 domainEventHelper.postEventForCollection(
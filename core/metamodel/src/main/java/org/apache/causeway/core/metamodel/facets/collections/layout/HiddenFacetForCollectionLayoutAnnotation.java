@@ -25,10 +25,12 @@
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.members.hidden.HiddenFacetAbstract;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 
 public class HiddenFacetForCollectionLayoutAnnotation
-extends HiddenFacetAbstract {
+extends HiddenFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     public static Optional<HiddenFacetForCollectionLayoutAnnotation> create(
             final Optional<CollectionLayout> collectionLayoutIfAny,
@@ -21,9 +21,11 @@
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.core.metamodel.consent.Consent.VetoReason;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 
 public class DisabledFacetForContributee
-extends DisabledFacetAbstract {
+extends DisabledFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     public DisabledFacetForContributee(final VetoReason reason, final FacetHolder holder) {
         super(Where.ANYWHERE, reason, holder);
@@ -20,9 +20,12 @@
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 
-public abstract class HiddenFacetAbstractImpl extends HiddenFacetAbstract {
+public abstract class HiddenFacetAbstractImpl
+extends HiddenFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     public HiddenFacetAbstractImpl(
             Where where,
@@ -23,9 +23,12 @@
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 
-public abstract class HiddenFacetFromLayoutPropertiesAbstract extends HiddenFacetAbstract {
+public abstract class HiddenFacetFromLayoutPropertiesAbstract
+extends HiddenFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     protected static Where hidden(final Properties properties) {
         if(properties == null) {
@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.caching;
+
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.annotation.Caching;
+import org.apache.causeway.core.metamodel.facetapi.Facet;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+
+/**
+ * Corresponds to annotating the entity class with
+ * {@code @DomainObject(caching=CACHED|UNCACHED)}.
+ * <p>
+ * Persistence stacks translate this into the shared (second level) cache configuration
+ * and query result caching of their ORM. Also keeps track of the cache hit rate for this type.
+ *
+ * @since 3.5
+ */
+public interface CachingFacet extends Facet {
+
+    /**
+     * Cache lookups (by primary key) for an entity type.
+     */
+    record Statistics(long hits, long misses) {
+        public long lookups() {
+            return hits + misses;
+        }
+        /**
+         * Ratio of hits to lookups, or zero if there were no lookups yet.
+         */
+        public double hitRate() {
+            return lookups() == 0L
+                    ? 0.
+                    : (double) hits / lookups();
+        }
+    }
+
+    Caching caching();
+
+    /**
+     * Records a lookup (by primary key), based on whether the entity was found in the shared cache.
+     */
+    void recordLookup(boolean hit);
+
+    Statistics statistics();
+
+    // -- UTILITY
+
+    static Optional<CachingFacet> lookup(final @Nullable FacetHolder facetHolder) {
+        return facetHolder!=null
+                ? facetHolder.lookupFacet(CachingFacet.class)
+                : Optional.empty();
+    }
+
+    static boolean isCached(final @Nullable FacetHolder facetHolder) {
+        return lookup(facetHolder)
+                .map(cachingFacet->cachingFacet.caching().isCached())
+                .orElse(false);
+    }
+
+}
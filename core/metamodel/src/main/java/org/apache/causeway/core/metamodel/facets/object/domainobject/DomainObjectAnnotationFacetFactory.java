@@ -65,6 +65,7 @@
 import org.apache.causeway.core.metamodel.facets.object.callbacks.UpdatedLifecycleEventFacetForDomainObjectAnnotation;
 import org.apache.causeway.core.metamodel.facets.object.callbacks.UpdatingLifecycleEventFacetForDomainObjectAnnotation;
 import org.apache.causeway.core.metamodel.facets.object.domainobject.autocomplete.AutoCompleteFacetForDomainObjectAnnotation;
+import org.apache.causeway.core.metamodel.facets.object.domainobject.caching.CachingFacetForDomainObjectAnnotation;
 import org.apache.causeway.core.metamodel.facets.object.domainobject.choices.ChoicesFacetForDomainObjectAnnotation;
 import org.apache.causeway.core.metamodel.facets.object.domainobject.domainevents.ActionDomainEventDefaultFacetForDomainObjectAnnotation;
 import org.apache.causeway.core.metamodel.facets.object.domainobject.domainevents.CollectionDomainEventDefaultFacetForDomainObjectAnnotation;
@@ -174,6 +175,7 @@ public void process(final ProcessClassContext processClassContext) {
         processEntityChangePublishing(domainObjectIfAny, processClassContext);
         processAutoComplete(domainObjectIfAny, processClassContext);
         processBounded(domainObjectIfAny, processClassContext);
+        processCaching(domainObjectIfAny, processClassContext);
         processEditing(domainObjectIfAny, processClassContext);
         processNature(domainObjectIfAny, processClassContext);
         processLifecycleEvents(domainObjectIfAny, processClassContext);
@@ -194,6 +196,17 @@ void processEntityChangePublishing(
                 .create(entityChangePublishing, getConfiguration(), facetHolder));
     }
 
+    void processCaching(
+            final Optional<DomainObject> domainObjectIfAny,
+            final ProcessClassContext processClassContext) {
+        var facetHolder = processClassContext.getFacetHolder();
+
+        // check for @DomainObject(caching=....)
+        addFacetIfPresent(
+                CachingFacetForDomainObjectAnnotation
+                .create(domainObjectIfAny, facetHolder));
+    }
+
     // -- AUTO COMPLETE
 
     void processAutoComplete(
@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.domainobject.caching;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.apache.causeway.applib.annotation.Caching;
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.object.caching.CachingFacet;
+
+import org.jspecify.annotations.NonNull;
+
+public class CachingFacetForDomainObjectAnnotation
+extends FacetAbstract
+implements CachingFacet {
+
+    /**
+     * If {@link DomainObject} annotation not present
+     * or {@link DomainObject#caching()}
+     * is unspecified or null returns an empty Optional.
+     */
+    public static Optional<CachingFacet> create(
+            final Optional<DomainObject> domainObjectIfAny,
+            final FacetHolder holder) {
+
+        return domainObjectIfAny
+                .map(DomainObject::caching)
+                .filter(_NullSafe::isPresent)
+                .filter(caching->!caching.isNotSpecified())
+                .map(caching -> new CachingFacetForDomainObjectAnnotation(caching, holder));
+    }
+
+    private final @NonNull Caching caching;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private CachingFacetForDomainObjectAnnotation(
+            final Caching caching,
+            final FacetHolder holder) {
+        super(CachingFacet.class, holder);
+        this.caching = caching;
+    }
+
+    @Override
+    public Caching caching() {
+        return caching;
+    }
+
+    @Override
+    public void recordLookup(final boolean hit) {
+        (hit ? hits : misses).increment();
+    }
+
+    @Override
+    public Statistics statistics() {
+        return new Statistics(hits.sum(), misses.sum());
+    }
+
+    @Override
+    public void visitAttributes(final BiConsumer<String, Object> visitor) {
+        super.visitAttributes(visitor);
+        visitor.accept("caching", caching.name());
+    }
+
+}
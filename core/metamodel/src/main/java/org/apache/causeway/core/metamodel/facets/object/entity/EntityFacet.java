@@ -19,12 +19,18 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.util.ClassUtils;
 
+import org.apache.causeway.applib.query.LazyQueryList;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.IdStringifier;
@@ -32,6 +38,7 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData.PersistenceStack;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
@@ -83,6 +90,53 @@ public static <T> PrimaryKeyType<T> getInstance(
         }
     }
 
+    /**
+     * Supports implementations of {@link EntityFacet#fetchByBookmarks(Can)},
+     * that resolve primary keys in chunks of at most {@code chunkSize},
+     * each chunk by a single query.
+     */
+    record ChunkedFetch(int chunkSize) {
+
+        public static ChunkedFetch of(final @NonNull CausewayConfiguration configuration) {
+            return new ChunkedFetch(configuration.getPersistence().getCommons().getBulkLoad().getChunkSize());
+        }
+
+        /**
+         * @param bookmarks - all of the same entity type
+         * @param primaryKeyDecoder - converts a bookmark's identifier to its primary key
+         * @param chunkFetcher - fetches the entity pojos for a chunk of primary keys (in any order)
+         * @param primaryKeyOf - extracts the primary key from a fetched entity pojo,
+         *      expected to be equal to the decoded one
+         */
+        public Map<Bookmark, Object> fetch(
+                final @NonNull Can<Bookmark> bookmarks,
+                final @NonNull Function<String, ?> primaryKeyDecoder,
+                final @NonNull Function<Can<Object>, ? extends Iterable<?>> chunkFetcher,
+                final @NonNull Function<Object, ?> primaryKeyOf) {
+
+            var primaryKeyByBookmark = new LinkedHashMap<Bookmark, Object>(bookmarks.size());
+            bookmarks.forEach(bookmark->
+                primaryKeyByBookmark.computeIfAbsent(bookmark, __->primaryKeyDecoder.apply(bookmark.identifier())));
+
+            var pojoByPrimaryKey = new HashMap<Object, Object>(primaryKeyByBookmark.size());
+            Can.ofCollection(primaryKeyByBookmark.values())
+                .partitionInnerBound(chunkSize)
+                .forEach(chunk->
+                    chunkFetcher.apply(chunk)
+                        .forEach(pojo->pojoByPrimaryKey.put(primaryKeyOf.apply(pojo), pojo)));
+
+            // honor the order of given bookmarks
+            var pojoByBookmark = new LinkedHashMap<Bookmark, Object>(primaryKeyByBookmark.size());
+            primaryKeyByBookmark.forEach((bookmark, primaryKey)->{
+                var pojo = pojoByPrimaryKey.get(primaryKey);
+                if(pojo!=null) {
+                    pojoByBookmark.put(bookmark, pojo);
+                }
+            });
+            return pojoByBookmark;
+        }
+    }
+
     /**
      * The {@link ObjectSpecification} of the entity type this
      * facet is associated with.
@@ -140,8 +194,46 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * The entity pojos corresponding to given {@link Bookmark}s, keyed by bookmark,
+     * iterating in the order of given {@code bookmarks}.
+     * Bookmarks that could not be found are not contained in the result.
+     * <p>
+     * Persistence stacks are encouraged to override this, such that the lookup
+     * is done in chunks of {@code causeway.persistence.commons.bulk-load.chunk-size},
+     * rather than issuing a separate query per bookmark.
+     * @implNote default implementation delegates to {@link #fetchByBookmark(Bookmark)}
+     *      for each bookmark
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        var pojoByBookmark = new LinkedHashMap<Bookmark, Object>(bookmarks.size());
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(pojo->pojoByBookmark.put(bookmark, pojo)));
+        return pojoByBookmark;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
+    /**
+     * Optionally the number of entities matching given {@link Query} (ignoring its range),
+     * based on whether this kind of query can be counted without fetching its results.
+     * @see LazyQueryList#count()
+     */
+    default OptionalLong countByQuery(final Query<?> query) {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Optionally the entities matching given {@link Query} (honoring its range),
+     * ordered by given {@link LazyQueryList.Sort},
+     * based on whether this kind of query can be sorted by the requested property.
+     * @see LazyQueryList#fetch(org.apache.causeway.applib.query.QueryRange, LazyQueryList.Sort)
+     */
+    default Optional<Can<ManagedObject>> fetchByQuery(final Query<?> query, final LazyQueryList.@NonNull Sort sort) {
+        return Optional.empty();
+    }
+
     void persist(Object pojo);
 
     @Nullable <T> T refresh(@Nullable T pojo);
@@ -160,6 +252,114 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
 
     @Nullable <T> T detach(@Nullable T pojo);
 
+    /**
+     * Releases given (attached) pojo from the persistence context, such that it can be garbage collected,
+     * once no longer referenced otherwise. Any pending changes must have been flushed beforehand.
+     * @implNote default implementation does nothing
+     * @see org.apache.causeway.applib.services.repository.RepositoryService#streamAllMatches(Query)
+     */
+    default void evict(final @Nullable Object pojo) {
+    }
+
+    /**
+     * Removes given pojo from the shared (second level) cache, if any,
+     * such that subsequent lookups go to the database.
+     * @implNote default implementation does nothing
+     * @see org.apache.causeway.core.metamodel.facets.object.caching.CachingFacet
+     */
+    default void invalidateSharedCache(final @Nullable Object pojo) {
+    }
+
+    /**
+     * Optionally the number of entities deleted, based on whether all entities of this type
+     * (including subtypes) could be deleted by a single bulk operation, that is, without loading them.
+     * <p>
+     * Bulk deletion bypasses any callbacks and lifecycle events, as well as entity change tracking;
+     * callers are responsible to only request it for types not interested in these.
+     * @implNote default implementation does not support bulk deletion
+     * @see org.apache.causeway.applib.services.repository.RepositoryService#removeAll(Class)
+     */
+    default OptionalLong deleteAll() {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Optionally the value of given (basic, comparable) property, held by the entity at given zero based
+     * {@code position}, when all entities of this type are ordered by that property in ascending order.
+     * If {@code lessThan} is not {@code null}, only entities with a property value less than that are considered.
+     * <p>
+     * Only the property value is queried, that is, without loading any entities.
+     * @return empty if there is no entity at given position
+     * @implNote default implementation does not support this lookup
+     * @see #deleteBelow(String, Object, OrderKey)
+     */
+    default Optional<Object> propertyValueAt(
+            final String propertyName,
+            final long position,
+            final @Nullable Object lessThan) {
+        return Optional.empty();
+    }
+
+    /**
+     * Unique position of an entity, when entities are ordered by a (basic, comparable) property,
+     * then by primary key (as tiebreaker).
+     * @param values - the property value, followed by the primary key's component values
+     * @see #orderKeyAt(String, long, Object)
+     */
+    record OrderKey(@NonNull List<Object> values) {
+    }
+
+    /**
+     * Optionally the {@link OrderKey} of the entity at given zero based {@code position},
+     * when all entities of this type with a value of given (basic, comparable) property less than {@code lessThan}
+     * are ordered by that property, then by primary key, in ascending order.
+     * <p>
+     * Only the key is queried, that is, without loading any entities.
+     * @return empty if there is no entity at given position
+     * @implNote default implementation does not support this lookup
+     * @see #deleteBelow(String, Object, OrderKey)
+     */
+    default Optional<OrderKey> orderKeyAt(
+            final String propertyName,
+            final long position,
+            final Object lessThan) {
+        return Optional.empty();
+    }
+
+    /**
+     * Optionally all entities (pojos) of this type, for which given (basic, comparable) property
+     * is less than given {@code lessThan} and, if {@code upTo} is not {@code null},
+     * whose {@link OrderKey} is less than or equal to {@code upTo},
+     * ordered by that property, then by primary key, in ascending order.
+     * @implNote default implementation does not support this query
+     * @see #deleteBelow(String, Object, OrderKey)
+     */
+    default Optional<Can<Object>> fetchBelow(
+            final String propertyName,
+            final Object lessThan,
+            final @Nullable OrderKey upTo) {
+        return Optional.empty();
+    }
+
+    /**
+     * Optionally the number of entities deleted, for which given (basic, comparable) property
+     * is less than given {@code lessThan} and, if {@code upTo} is not {@code null},
+     * whose {@link OrderKey} is less than or equal to {@code upTo},
+     * based on whether these could be deleted by a single bulk operation, that is, without loading them.
+     * <p>
+     * Bounding by {@link OrderKey} (rather than by property value only) allows to delete in chunks
+     * of bounded size, even if many entities share the same property value.
+     * <p>
+     * Same restrictions apply as with {@link #deleteAll()}.
+     * @implNote default implementation does not support bulk deletion
+     */
+    default OptionalLong deleteBelow(
+            final String propertyName,
+            final Object lessThan,
+            final @Nullable OrderKey upTo) {
+        return OptionalLong.empty();
+    }
+
     PersistenceStack getPersistenceStack();
 
     /**
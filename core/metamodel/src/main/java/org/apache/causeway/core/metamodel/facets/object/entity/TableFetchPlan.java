@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.entity;
+
+import org.jspecify.annotations.NonNull;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.tablecol.TableColumnVisibilityService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+
+/**
+ * Those (entity) reference properties of an entity type, that are potentially rendered as table columns,
+ * hence are worth fetching along with the entities, when loading these in bulk (that is, by query).
+ * Otherwise rendering a table would trigger a lazy load per row and reference column.
+ * <p>
+ * Persistence stacks translate this into their own notion of a fetch plan
+ * (eg. JPA entity graphs or JDO fetch groups).
+ *
+ * @see org.apache.causeway.core.config.CausewayConfiguration.Persistence.Commons.TableFetchPlan
+ * @since 3.5
+ */
+public record TableFetchPlan(
+        /**
+         * Ids of the reference properties to fetch eagerly.
+         */
+        @NonNull Can<String> referencePropertyIds) {
+
+    public static TableFetchPlan none() {
+        return new TableFetchPlan(Can.empty());
+    }
+
+    /**
+     * Reference properties of given entity type, that are visible in (either standalone or parented) tables,
+     * unless disabled by configuration.
+     * <p>
+     * Does not consult any {@link TableColumnVisibilityService}s, as these might depend on the current user
+     * or request, whereas the returned plan is meant to be held on to; see {@link #withoutColumnsHiddenBy(Class, Can)}.
+     */
+    public static TableFetchPlan forEntity(final @NonNull ObjectSpecification entitySpec) {
+        var mmc = entitySpec.getMetaModelContext();
+        var config = mmc.getConfiguration().getPersistence().getCommons().getTableFetchPlan();
+        if(!config.isEnabled()
+                || config.getExcludedTypes().contains(entitySpec.getFullIdentifier())
+                || config.getExcludedTypes().contains(entitySpec.logicalTypeName())) {
+            return none();
+        }
+
+        return new TableFetchPlan(entitySpec.streamProperties(MixedIn.EXCLUDED)
+                .filter(property->property.getElementType().isEntity())
+                .filter(ObjectAssociation.Predicates.visibleAccordingToHiddenFacet(Where.STANDALONE_TABLES)
+                        .or(ObjectAssociation.Predicates.visibleAccordingToHiddenFacet(Where.PARENTED_TABLES)))
+                .map(ObjectAssociation::getId)
+                .collect(Can.toCan()));
+    }
+
+    /**
+     * This plan without those reference properties, that any of given {@link TableColumnVisibilityService}s
+     * hides for given entity type.
+     * <p>
+     * To be called for each query (rather than held on to), as these services might depend on the current user
+     * or request. {@code TableColumnOrderService}s are not consulted, as these cannot be without a rendering
+     * context; these are expected to rather reorder than add columns.
+     */
+    public TableFetchPlan withoutColumnsHiddenBy(
+            final @NonNull Class<?> entityClass,
+            final @NonNull Can<TableColumnVisibilityService> tableColumnVisibilityServices) {
+        if(isEmpty()
+                || tableColumnVisibilityServices.isEmpty()) {
+            return this;
+        }
+        return new TableFetchPlan(referencePropertyIds
+                .filter(propertyId->tableColumnVisibilityServices.stream()
+                        .noneMatch(service->service.hides(entityClass, propertyId))));
+    }
+
+    public boolean isEmpty() {
+        return referencePropertyIds.isEmpty();
+    }
+
+}
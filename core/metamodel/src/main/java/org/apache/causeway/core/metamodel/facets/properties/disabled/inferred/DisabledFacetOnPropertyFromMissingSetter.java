@@ -22,9 +22,11 @@
 import org.apache.causeway.core.metamodel.consent.Consent.VetoReason;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.members.disabled.DisabledFacetAbstract;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 
 public class DisabledFacetOnPropertyFromMissingSetter
-extends DisabledFacetAbstract {
+extends DisabledFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     public DisabledFacetOnPropertyFromMissingSetter(final FacetHolder holder) {
         super(Where.ANYWHERE, VetoReason.propertyHasNoSetter(), holder);
@@ -28,9 +28,11 @@
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.members.disabled.DisabledFacet;
 import org.apache.causeway.core.metamodel.facets.members.disabled.DisabledFacetAbstract;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 
 public class DisabledFacetForPropertyAnnotation
-extends DisabledFacetAbstract {
+extends DisabledFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     public static Optional<DisabledFacet> create(
             final Optional<Property> propertyIfAny,
@@ -22,9 +22,11 @@
 import org.apache.causeway.core.metamodel.consent.Consent.VetoReason;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.members.disabled.DisabledFacetAbstract;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 
 public class DisabledFacetForPropertyAnnotationInvertedSemantics
-extends DisabledFacetAbstract {
+extends DisabledFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     DisabledFacetForPropertyAnnotationInvertedSemantics(final FacetHolder holder) {
         super(Where.EVERYWHERE,
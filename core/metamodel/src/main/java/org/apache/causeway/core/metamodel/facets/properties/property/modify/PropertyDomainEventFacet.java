@@ -133,7 +133,7 @@ public void initWithMixee(final ObjectSpecification mixeeSpec) {
 
     @Override
     public String hides(final VisibilityContext ic) {
-        if(!isPostable()) return null; // bale out
+        if(!domainEventHelper.isPostableAndListenedTo(this)) return null; // bale out
 
         final PropertyDomainEvent<?, ?> event =
                 domainEventHelper.postEventForProperty(
@@ -148,7 +148,7 @@ public String hides(final VisibilityContext ic) {
 
     @Override
     public Optional<VetoReason> disables(final UsabilityContext ic) {
-        if(!isPostable()) return Optional.empty(); // bale out
+        if(!domainEventHelper.isPostableAndListenedTo(this)) return Optional.empty(); // bale out
 
         final PropertyDomainEvent<?, ?> event =
                 domainEventHelper.postEventForProperty(
@@ -173,7 +173,7 @@ public Optional<VetoReason> disables(final UsabilityContext ic) {
     @Override
     public String invalidates(final ValidityContext ic) {
         if(getterFacetIfAny == null) return null;
-        if(!isPostable()) return null; // bale out
+        if(!domainEventHelper.isPostableAndListenedTo(this)) return null; // bale out
 
         // if this is a mixin, then this ain't true.
         if(!(ic instanceof ProposedHolder)) return null;
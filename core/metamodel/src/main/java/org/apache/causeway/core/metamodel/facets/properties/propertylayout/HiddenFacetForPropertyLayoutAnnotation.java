@@ -24,10 +24,12 @@
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.members.hidden.HiddenFacetAbstract;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 
 public class HiddenFacetForPropertyLayoutAnnotation
-extends HiddenFacetAbstract {
+extends HiddenFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     public static Optional<HiddenFacetForPropertyLayoutAnnotation> create(
             final Optional<PropertyLayout> propertyLayoutIfAny,
@@ -0,0 +1,139 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.interactions;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.annotation.InteractionScope;
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
+import org.apache.causeway.core.metamodel.consent.Consent.VetoReason;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Memoizes the hiding and disabling advice of {@link ObjectIndependentInteractionAdvisor}s
+ * for the duration of the current interaction.
+ * <p>
+ * When rendering tables, these advisors would otherwise be consulted per row and per column,
+ * always giving the same answer.
+ * <p>
+ * Hit and miss counts are exposed, to verify the cache's effect per interaction.
+ * Once the interaction has ended, these are added to the {@link InteractionAdviceStatistics}.
+ *
+ * @since 3.5
+ */
+@Component
+@Named(CausewayModuleCoreMetamodel.NAMESPACE + ".InteractionAdviceCache")
+@InteractionScope
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class InteractionAdviceCache implements DisposableBean {
+
+    public enum AdviceKind {
+        HIDING,
+        DISABLING
+    }
+
+    record AdviceKey(
+            @NonNull AdviceKind adviceKind,
+            @NonNull ObjectIndependentInteractionAdvisor advisor,
+            @NonNull Identifier featureIdentifier,
+            @Nullable Where where,
+            @NonNull ObjectSpecification ownerSpec,
+            @Nullable UserMemento user) {
+    }
+
+    private final InteractionLayerTracker iaTracker;
+    private final InteractionAdviceStatistics statistics;
+
+    private final Map<AdviceKey, Optional<VetoReason>> adviceByKey = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Number of advisor evaluations that were served from this cache.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Number of advisor evaluations that had to consult the advisor.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the memoized advice of given {@code advisor} for given {@code context},
+     * else consults given {@code advice} and memoizes its outcome.
+     */
+    public Optional<VetoReason> computeIfAbsent(
+            final @NonNull AdviceKind adviceKind,
+            final @NonNull ObjectIndependentInteractionAdvisor advisor,
+            final @NonNull InteractionContext context,
+            final @NonNull Supplier<Optional<VetoReason>> advice) {
+        var user = iaTracker.currentInteractionContext()
+                .map(interactionContext->interactionContext.getUser())
+                .orElse(null);
+        var key = new AdviceKey(adviceKind, advisor,
+                context.identifier(), context.where(), context.head().owner().objSpec(), user);
+        var cached = adviceByKey.get(key);
+        if(cached!=null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        // not using Map.computeIfAbsent, as advisors might recursively consult this cache
+        var computed = advice.get();
+        adviceByKey.put(key, computed);
+        return computed;
+    }
+
+    @Override
+    public void destroy() {
+        final long hits = hitCount.sumThenReset();
+        final long misses = missCount.sumThenReset();
+        statistics.addInteraction(hits, misses);
+        if(log.isDebugEnabled()) {
+            log.debug("interaction advice: {} hits, {} misses", hits, misses);
+        }
+        adviceByKey.clear();
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.interactions;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
+
+/**
+ * Accumulates the hit and miss counts of all (interaction scoped) {@link InteractionAdviceCache}s,
+ * each contributing its counts once its interaction has ended.
+ *
+ * @since 3.5 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreMetamodel.NAMESPACE + ".InteractionAdviceStatistics")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class InteractionAdviceStatistics {
+
+    /**
+     * @param interactions - number of interactions that consulted their cache at least once
+     * @param hits - number of advisor evaluations that were served from a cache
+     * @param misses - number of advisor evaluations that had to consult the advisor
+     */
+    public record Counts(long interactions, long hits, long misses) {
+        /**
+         * Ratio of hits over all advisor evaluations, or zero if there were none.
+         */
+        public double hitRatio() {
+            final long total = hits + misses;
+            return total == 0
+                    ? 0.
+                    : (double) hits / total;
+        }
+    }
+
+    private final LongAdder interactions = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public Counts counts() {
+        return new Counts(interactions.sum(), hits.sum(), misses.sum());
+    }
+
+    public void reset() {
+        interactions.reset();
+        hits.reset();
+        misses.reset();
+    }
+
+    // -- HELPER
+
+    void addInteraction(final long hitCount, final long missCount) {
+        if(hitCount + missCount == 0) {
+            return;
+        }
+        interactions.increment();
+        hits.add(hitCount);
+        misses.add(missCount);
+    }
+
+}
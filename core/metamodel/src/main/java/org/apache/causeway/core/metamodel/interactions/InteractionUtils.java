@@ -36,6 +36,7 @@
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.DomainEventFacetAbstract;
 import org.apache.causeway.core.metamodel.facets.actions.action.invocation.ActionDomainEventFacet;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdviceCache.AdviceKind;
 import org.apache.causeway.core.metamodel.interactions.use.UsabilityContext;
 import org.apache.causeway.core.metamodel.interactions.val.ValidityContext;
 import org.apache.causeway.core.metamodel.interactions.vis.VisibilityContext;
@@ -56,11 +57,11 @@ public InteractionResult isVisibleResult(final FacetHolder facetHolder, final Vi
         var ifHiddenPolicy = context.renderPolicy().ifHiddenPolicy();
         switch (ifHiddenPolicy) {
             case HIDE:
+                var adviceCache = adviceCache(facetHolder);
                 facetHolder.streamFacets(HidingInteractionAdvisor.class)
                 .filter(advisor->compatible(advisor, context))
                 .forEach(advisor->{
-                    _Strings.nonEmpty(advisor.hides(context))
-                        .map(Consent.VetoReason::explicit)
+                    hidingReason(advisor, context, adviceCache)
                         .ifPresent(hidingReason->builder.addAdvise(hidingReason, advisor));
                 });
                 break;
@@ -76,6 +77,7 @@ public InteractionResult isVisibleResult(final FacetHolder facetHolder, final Vi
     public InteractionResult isUsableResult(final FacetHolder facetHolder, final UsabilityContext context) {
 
         var builder = InteractionResult.builder(context.createInteractionEvent());
+        var adviceCache = adviceCache(facetHolder);
 
         // depending on the ifHiddenPolicy, we additionally may disable using a hidden advisor
         var ifHiddenPolicy = context.renderPolicy().ifHiddenPolicy();
@@ -88,8 +90,7 @@ public InteractionResult isUsableResult(final FacetHolder facetHolder, final Usa
                 facetHolder.streamFacets(HidingInteractionAdvisor.class)
                     .filter(advisor->compatible(advisor, context))
                     .forEach(advisor->{
-                        _Strings.nonEmpty(advisor.hides(visibilityContext))
-                            .map(Consent.VetoReason::explicit)
+                        hidingReason(advisor, visibilityContext, adviceCache)
                             .ifPresent(hidingReason->{
                                 if(ifHiddenPolicy.isShowAsDisabledWithDiagnostics()) {
                                     hidingReason = VetoUtil.withAdvisorAsDiagnostic(hidingReason, advisor);
@@ -104,7 +105,7 @@ public InteractionResult isUsableResult(final FacetHolder facetHolder, final Usa
         facetHolder.streamFacets(DisablingInteractionAdvisor.class)
             .filter(advisor->compatible(advisor, context))
             .forEach(advisor->{
-                advisor.disables(context)
+                disablingReason(advisor, context, adviceCache)
                     .ifPresent(disablingReason->{
                         if(ifDisabledPolicy.isShowAsDisabledWithDiagnostics()) {
                             disablingReason = VetoUtil.withAdvisorAsDiagnostic(disablingReason, advisor);
@@ -147,6 +148,39 @@ public RenderPolicy renderPolicy(final ManagedObject ownerAdapter) {
 
     // -- HELPER
 
+    /**
+     * Optionally the {@link InteractionAdviceCache}, if within an interaction.
+     */
+    private @Nullable InteractionAdviceCache adviceCache(final FacetHolder facetHolder) {
+        var mmc = facetHolder.getMetaModelContext();
+        return mmc.getInteractionAdviceCache()
+                .filter(__->mmc.getInteractionService().isInInteraction())
+                .orElse(null);
+    }
+
+    private Optional<Consent.VetoReason> hidingReason(
+            final HidingInteractionAdvisor advisor,
+            final VisibilityContext context,
+            final @Nullable InteractionAdviceCache adviceCache) {
+        return adviceCache!=null
+                && advisor instanceof ObjectIndependentInteractionAdvisor objectIndependentAdvisor
+            ? adviceCache.computeIfAbsent(AdviceKind.HIDING, objectIndependentAdvisor, context, ()->
+                hidingReason(advisor, context, null))
+            : _Strings.nonEmpty(advisor.hides(context))
+                .map(Consent.VetoReason::explicit);
+    }
+
+    private Optional<Consent.VetoReason> disablingReason(
+            final DisablingInteractionAdvisor advisor,
+            final UsabilityContext context,
+            final @Nullable InteractionAdviceCache adviceCache) {
+        return adviceCache!=null
+                && advisor instanceof ObjectIndependentInteractionAdvisor objectIndependentAdvisor
+            ? adviceCache.computeIfAbsent(AdviceKind.DISABLING, objectIndependentAdvisor, context, ()->
+                advisor.disables(context))
+            : advisor.disables(context);
+    }
+
     /**
      * [CAUSEWAY-3554] an empty String most likely is wrong use of the programming model,
      * we should generate a message,
@@ -0,0 +1,39 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.interactions;
+
+import org.apache.causeway.applib.annotation.Where;
+
+/**
+ * Mix-in interface for {@link InteractionAdvisorFacet}s, whose advice does not depend on the
+ * target object's state, but solely on the current user, the feature, the owner's type
+ * and the {@link Where} context.
+ * <p>
+ * Hiding and disabling advice of such advisors is memoized for the duration of
+ * the current interaction, see {@link InteractionAdviceCache}.
+ * <p>
+ * Implemented eg. by the authorization facets, by the facets derived from static
+ * {@code hidden} layout attributes ({@link Where}-based), and by the facets of statically
+ * disabled properties. Facets that inspect the target object (eg. the one derived from
+ * immutability) must not implement this interface.
+ */
+public interface ObjectIndependentInteractionAdvisor
+extends InteractionAdvisorFacet {
+
+}
@@ -21,6 +21,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 
@@ -49,6 +50,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
+import org.apache.causeway.core.metamodel.spec.feature.ParameterDependencies;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -72,12 +74,15 @@ public static ParameterNegotiationModel of(
     private final Can<ParameterModel> paramModels;
     private final _BindableAbstract<Boolean> validationFeedbackActive;
     private final LazyObservable<String> observableActionValidation;
+    private final ParameterDependencies parameterDependencies;
+    private int supportingMethodInvocationCount;
 
     private ParameterNegotiationModel(
             final @NonNull ManagedAction managedAction,
             final @NonNull Can<ManagedObject> initialParamValues) {
         this.managedAction = managedAction;
         this.validationFeedbackActive = _Bindables.forValue(false);
+        this.parameterDependencies = managedAction.getAction().getParameterDependencies();
 
         var paramNrIterator = IntStream.range(0, initialParamValues.size()).iterator();
         this.paramModels = initialParamValues
@@ -293,7 +298,8 @@ public void updateParamValuePojo(
      * @see ObjectActionParameter#reassessDefault(ParameterNegotiationModel)
      */
     public boolean reassessDefaults(final int paramIndexForReassessment) {
-        return getParamMetamodel(paramIndexForReassessment).reassessDefault(this);
+        return countingSupportingMethodInvocation(()->
+            getParamMetamodel(paramIndexForReassessment).reassessDefault(this));
     }
 
     /**
@@ -312,11 +318,32 @@ public void activateValidationFeedback() {
         validationFeedbackActive.setValue(true);
     }
 
-    private void onNewParamValue() {
-        paramModels.forEach(ParameterModel::invalidateChoicesAndValidation);
+    /**
+     * Number of times parameter supporting logic (choices, autoComplete, validation, visibility, usability)
+     * was evaluated for this dialog so far.
+     * <p>
+     * exposed for testing
+     */
+    public int getSupportingMethodInvocationCount() {
+        return supportingMethodInvocationCount;
+    }
+
+    /**
+     * Only invalidates choices and validation of those parameters,
+     * that (transitively) depend on the changed one.
+     * @see ParameterDependencies
+     */
+    private void onNewParamValue(final int changedParamIndex) {
+        parameterDependencies.streamTransitiveDependentsOf(changedParamIndex)
+            .forEach(paramIndex->paramModels.getElseFail(paramIndex).invalidateChoicesAndValidation());
         observableActionValidation.invalidate();
     }
 
+    private <T> T countingSupportingMethodInvocation(final Supplier<T> supportingMethodInvocation) {
+        ++supportingMethodInvocationCount;
+        return supportingMethodInvocation.get();
+    }
+
     private String actionValidationMessage() {
         var validityConsentForAction = this.validateParameterSetForAction();
         return validityConsentForAction!=null
@@ -407,20 +434,20 @@ private ParameterModel(
                     bindableParamValue().setValue(metaModel().getEmpty()); // triggers this event again
                     return;
                 }
-                negotiationModel().onNewParamValue();
+                negotiationModel().onNewParamValue(paramIndex);
                 bindableParamValueDirtyFlag().setValue(true); // set dirty whenever an update event happens
             });
 
             // has either autoComplete, choices, or none
             this.observableParamChoices = metaModel().hasAutoComplete()
-                ? _Observables.lazy(()->
+                ? _Observables.lazy(()->negotiationModel.countingSupportingMethodInvocation(()->
                     metaModel().getAutoComplete(
                             negotiationModel(),
                             bindableParamSearchArgument().getValue(),
-                            InteractionInitiatedBy.USER))
+                            InteractionInitiatedBy.USER)))
                 : metaModel().hasChoices()
-                    ? _Observables.lazy(()->
-                        getMetaModel().getChoices(negotiationModel(), InteractionInitiatedBy.USER))
+                    ? _Observables.lazy(()->negotiationModel.countingSupportingMethodInvocation(()->
+                        getMetaModel().getChoices(negotiationModel(), InteractionInitiatedBy.USER)))
                     : _Observables.lazy(Can::empty);
 
             // if has autoComplete, then activate the search argument
@@ -433,19 +460,20 @@ private ParameterModel(
             // validate this parameter, but only when validationFeedback has been activated
             this.observableParamValidation = _Observables.lazy(()->
                 isValidationFeedbackActive()
-                    ? negotiationModel().validateImmediately(paramIndex)
+                    ? negotiationModel.countingSupportingMethodInvocation(()->
+                        negotiationModel().validateImmediately(paramIndex))
                     : (String)null);
 
-            this.observableVisibilityConsent = _Observables.lazy(()->
+            this.observableVisibilityConsent = _Observables.lazy(()->negotiationModel.countingSupportingMethodInvocation(()->
                 metaModel().isVisible(
                         negotiationModel().interactionHead(),
                         negotiationModel().getParamValues(),
-                        InteractionInitiatedBy.USER));
-            this.observableUsabilityConsent = _Observables.lazy(()->
+                        InteractionInitiatedBy.USER)));
+            this.observableUsabilityConsent = _Observables.lazy(()->negotiationModel.countingSupportingMethodInvocation(()->
                 metaModel().isUsable(
                         negotiationModel().interactionHead(),
                         negotiationModel().getParamValues(),
-                        InteractionInitiatedBy.USER));
+                        InteractionInitiatedBy.USER)));
 
             // value types should have associated rederers via value semantics
             this.observableParamAsTitle = _BindingUtil
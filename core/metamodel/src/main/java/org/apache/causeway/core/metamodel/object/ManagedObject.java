@@ -20,16 +20,19 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import org.apache.causeway.applib.fa.FontAwesomeLayers;
+import org.apache.causeway.applib.query.LazyQueryList;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.Either;
 import org.apache.causeway.commons.internal.assertions._Assert;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.facets.object.icon.ObjectIcon;
@@ -563,6 +566,19 @@ static PackedManagedObject packed(
             final @Nullable Can<ManagedObject> nonScalar) {
         return new PackedManagedObject(elementSpec, nonScalar);
     }
+    /**
+     * PACKED, with elements fetched (and adapted) on first unpacking
+     * @param elementSpec - required
+     * @param lazyQueryList - required, the originating pojo
+     * @param nonScalar - required, supplies the adapted elements
+     * @see #packed(ObjectSpecification, Can)
+     */
+    static PackedManagedObject packedLazily(
+            final @NonNull ObjectSpecification elementSpec,
+            final @NonNull LazyQueryList<?> lazyQueryList,
+            final @NonNull Supplier<Can<ManagedObject>> nonScalar) {
+        return new PackedManagedObject(elementSpec, _Lazy.threadSafe(nonScalar::get), Optional.of(lazyQueryList));
+    }
 
     /**
      * For cases, when the pojo's specification is not available and needs to be looked up.
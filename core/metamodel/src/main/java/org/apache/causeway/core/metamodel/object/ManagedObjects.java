@@ -62,8 +62,8 @@ public boolean isNullOrUnspecifiedOrEmpty(final @Nullable ManagedObject adapter)
                 || adapter.specialization().isEmpty()) {
             return true;
         }
-        if(adapter instanceof PackedManagedObject) {
-            return ((PackedManagedObject)adapter).unpack().isEmpty();
+        if(adapter instanceof PackedManagedObject packed) {
+            return packed.isEmpty();
         }
         return adapter.getPojo()==null;
     }
@@ -25,50 +25,85 @@
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import org.apache.causeway.applib.query.LazyQueryList;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMemento;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 /**
  * 'Collection' of {@link ManagedObject}s.
+ * <p>
+ * If originating from a {@link LazyQueryList}, its elements are only fetched
+ * (and adapted) on first {@link #unpack()}.
  * @see ManagedObject.Specialization#PACKED
  */
 public record PackedManagedObject(
     /** element spec */
     @NonNull ObjectSpecification objSpec,
-    @NonNull Can<ManagedObject> nonScalar)
+    @NonNull _Lazy<Can<ManagedObject>> lazyNonScalar,
+    /** the originating pojo, if its elements can be fetched page-wise */
+    @NonNull Optional<LazyQueryList<?>> lazyQueryList,
+    /** memoized emptiness, as checked without unpacking all elements, if avoidable */
+    @NonNull _Lazy<Boolean> lazyEmpty)
 implements
     ManagedObject, Bookmarkable.NoBookmark {
 
     public PackedManagedObject(
             final ObjectSpecification objSpec,
             final @Nullable Can<ManagedObject> nonScalar) {
+        this(objSpec,
+                memoized(nonScalar!=null
+                    ? nonScalar
+                    : Can.empty()),
+                Optional.empty());
+    }
+
+    public PackedManagedObject(
+            final ObjectSpecification objSpec,
+            final _Lazy<Can<ManagedObject>> lazyNonScalar,
+            final Optional<LazyQueryList<?>> lazyQueryList) {
+        this(objSpec, lazyNonScalar, lazyQueryList,
+                _Lazy.threadSafe(()->unpackAtMost(1, objSpec, lazyNonScalar, lazyQueryList).isEmpty()));
+    }
+
+    // canonical constructor with consistency checks
+    public PackedManagedObject(
+            final ObjectSpecification objSpec,
+            final _Lazy<Can<ManagedObject>> lazyNonScalar,
+            final Optional<LazyQueryList<?>> lazyQueryList,
+            final _Lazy<Boolean> lazyEmpty) {
         this.objSpec = objSpec;
-        this.nonScalar = nonScalar!=null
-                ? nonScalar
-                : Can.empty();
+        this.lazyNonScalar = lazyNonScalar;
+        this.lazyQueryList = lazyQueryList;
+        this.lazyEmpty = lazyEmpty;
         _Assert.assertTrue(objSpec().isSingular(), "a PackedManagedObject cannot containt non-scalars");
     }
 
     @Override
     public String getTitle() {
-        return nonScalar.stream()
+        return unpack().stream()
                     .map(ManagedObject::getTitle)
                     .collect(Collectors.joining(","));
     }
 
     @Override
     public Object getPojo() {
+        if(lazyQueryList.isPresent()
+                && !lazyNonScalar.isMemoized()) {
+            return lazyQueryList.get();
+        }
         // this algorithm preserves null pojos ...
-        return nonScalar.stream()
+        return unpack().stream()
                 .map(ManagedObject::getPojo)
                 .toList();
     }
 
     @Override
     public Optional<ObjectMemento> getMemento() {
-        var listOfMementos = nonScalar.stream()
+        var listOfMementos = unpack().stream()
             .map(scalar->scalar.getMementoElseFail())
             .collect(Collectors.toCollection(ArrayList::new)); // ArrayList is serializable
         var memento = ObjectMemento.packed(
@@ -78,7 +113,80 @@ public Optional<ObjectMemento> getMemento() {
     }
 
     public Can<ManagedObject> unpack(){
-        return nonScalar;
+        return lazyNonScalar.get();
+    }
+
+    /**
+     * Up to {@code limit} elements, without unpacking all of them, if avoidable.
+     * <p>
+     * Allows for cheap cardinality checks (eg. empty or single).
+     */
+    public Can<ManagedObject> unpackAtMost(final int limit) {
+        return unpackAtMost(limit, objSpec, lazyNonScalar, lazyQueryList);
+    }
+
+    /**
+     * Whether there are no elements, without unpacking all of them, if avoidable.
+     * <p>
+     * Is memoized, such that repeated checks do not re-query.
+     */
+    public boolean isEmpty() {
+        return lazyNonScalar.isMemoized()
+                ? lazyNonScalar.get().isEmpty()
+                : lazyEmpty.get();
+    }
+
+    // -- HELPER
+
+    private static Can<ManagedObject> unpackAtMost(
+            final int limit,
+            final ObjectSpecification objSpec,
+            final _Lazy<Can<ManagedObject>> lazyNonScalar,
+            final Optional<LazyQueryList<?>> lazyQueryList) {
+        if(lazyQueryList.isPresent()
+                && !lazyNonScalar.isMemoized()) {
+            var fetched = lazyQueryList.get().fetch(QueryRange.limit(limit), null);
+            if(fetched.isPresent()) {
+                return fetched.get().stream()
+                        .map(objSpec.getObjectManager()::adapt)
+                        .collect(Can.toCan());
+            }
+        }
+        var nonScalar = lazyNonScalar.get();
+        return nonScalar.size()<=limit
+                ? nonScalar
+                : nonScalar.subCan(0, limit);
+    }
+
+    private static _Lazy<Can<ManagedObject>> memoized(final Can<ManagedObject> nonScalar) {
+        var lazy = _Lazy.<Can<ManagedObject>>of(()->nonScalar);
+        lazy.set(nonScalar);
+        return lazy;
+    }
+
+    // -- OBJECT CONTRACT
+
+    /**
+     * If originating from a {@link LazyQueryList}, equality is based on the identity of that list (hence its query),
+     * such that the elements need not be fetched; otherwise based on the elements.
+     */
+    @Override
+    public final boolean equals(final Object obj) {
+        if(!(obj instanceof PackedManagedObject other)
+                || !this.objSpec().equals(other.objSpec())) {
+            return false;
+        }
+        return this.lazyQueryList().isPresent()
+                || other.lazyQueryList().isPresent()
+            ? this.lazyQueryList().orElse(null) == other.lazyQueryList().orElse(null)
+            : this.unpack().equals(other.unpack());
+    }
+
+    @Override
+    public final int hashCode() {
+        return lazyQueryList().isPresent()
+                ? System.identityHashCode(lazyQueryList().get())
+                : unpack().hashCode();
     }
 
     @Override
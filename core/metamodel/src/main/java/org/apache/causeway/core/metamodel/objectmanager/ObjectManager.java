@@ -18,8 +18,11 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Named;
 
@@ -27,6 +30,7 @@
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.exceptions.unrecoverable.BookmarkNotFoundException;
+import org.apache.causeway.applib.query.LazyQueryList;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
@@ -37,6 +41,7 @@
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
@@ -120,6 +125,75 @@ public Optional<ManagedObject> loadObject(final @Nullable Bookmark bookmark) {
                 .map(this::loadObject);
     }
 
+    /**
+     * Recovers the objects for given {@code bookmarks}, honoring their order,
+     * while entities of the same type are fetched in bulk.
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     * <p>
+     * The result corresponds to the given {@code bookmarks} index by index:
+     * bookmarks, for which the logical type cannot be resolved (for which {@link #loadObject(Bookmark)}
+     * returns empty), are represented by an {@link ManagedObject#unspecified() unspecified} {@link ManagedObject};
+     * entities that cannot be found are represented by an empty {@link ManagedObject},
+     * same as with {@link #loadObject(ProtoObject)}.
+     *
+     * @see EntityFacet#fetchByBookmarks(Can)
+     */
+    public Can<ManagedObject> loadObjects(final @Nullable Can<Bookmark> bookmarks) {
+        if(bookmarks==null
+                || bookmarks.isEmpty()) {
+            return Can.empty();
+        }
+        var specLoader = getMetaModelContext().getSpecificationLoader();
+        var protoObjects = bookmarks
+                .map(bookmark->ProtoObject.resolve(specLoader, bookmark));
+
+        // one bulk fetch per entity type
+        var entityPojoByBookmark = new HashMap<Bookmark, Object>();
+        protoObjects.stream()
+            .flatMap(Optional::stream)
+            .filter(protoObject->protoObject.objectSpecification().isEntity())
+            .collect(Collectors.groupingBy(ProtoObject::objectSpecification, LinkedHashMap::new,
+                    Collectors.mapping(ProtoObject::bookmark, Can.toCan())))
+            .forEach((entitySpec, entityBookmarks)->
+                entityPojoByBookmark.putAll(
+                        entitySpec.entityFacetElseFail().fetchByBookmarks(entityBookmarks)));
+
+        return protoObjects.map(protoObjectIfAny->{
+            if(protoObjectIfAny.isEmpty()) {
+                return ManagedObject.unspecified();
+            }
+            var protoObject = protoObjectIfAny.get();
+            var spec = protoObject.objectSpecification();
+            if(!spec.isEntity()) {
+                return loadObject(protoObject);
+            }
+            var bookmark = protoObject.bookmark();
+            return Optional.ofNullable(entityPojoByBookmark.get(bookmark))
+                    .map(entityPojo->ManagedObject.entity(spec, entityPojo, Optional.of(bookmark)))
+                    .orElseGet(()->ManagedObject.empty(spec));
+        });
+    }
+
+    /**
+     * Variant of {@link #loadObjects(Can)}, that fails (same as {@link #loadObjectElseFail(Bookmark)})
+     * if any of the given {@code bookmarks} cannot be recovered, instead of
+     * representing it by an unspecified or empty {@link ManagedObject}.
+     *
+     * @throws BookmarkNotFoundException
+     */
+    public Can<ManagedObject> loadObjectsElseFail(final @NonNull Can<Bookmark> bookmarks) {
+        var objects = loadObjects(bookmarks);
+        _Assert.assertEquals(bookmarks.size(), objects.size(),
+                ()->"number of recovered objects must match the number of bookmarks");
+        for(int index = 0; index < bookmarks.size(); ++index) {
+            if(ManagedObjects.isNullOrUnspecifiedOrEmpty(objects.getElseFail(index))) {
+                throw bookmarkNotFound(bookmarks.getElseFail(index));
+            }
+        }
+        return objects;
+    }
+
     /**
      * Introduced for serializing action parameter values to bookmarks and vice versa.
      * <p>
@@ -147,7 +221,7 @@ public ManagedObject debookmark(final @NonNull Bookmark bookmark) {
      */
     public ManagedObject loadObjectElseFail(final @NonNull Bookmark bookmark) {
         var adapter = loadObject(bookmark)
-                .orElseThrow(() -> new BookmarkNotFoundException(String.format("Bookmark %s was not found.", bookmark)));
+                .orElseThrow(() -> bookmarkNotFound(bookmark));
         if(adapter.specialization().isEntity()) {
             _Assert.assertEquals(bookmark, adapter.getBookmark().orElse(null),
                     ()->"object loaded from bookmark must itself return an equal bookmark");
@@ -219,13 +293,20 @@ public ManagedObject adapt(
             // best we can do?
             return ManagedObject.unspecified();
         }
-        return spec.isSingular()
-                ? ManagedObject.adaptSingular(spec, pojo)
-                : ManagedObject.packed(
-                        spec.getElementSpecification().orElseGet(fallbackElementType),
-                        _NullSafe.streamAutodetect(pojo)
-                        .map(element->adapt(element))
-                        .collect(Can.toCan()));
+        if(spec.isSingular()) {
+            return ManagedObject.adaptSingular(spec, pojo);
+        }
+        var elementSpec = spec.getElementSpecification().orElseGet(fallbackElementType);
+        return pojo instanceof LazyQueryList<?> lazyQueryList
+                // defer fetching, such that viewers may fetch page-wise instead
+                ? ManagedObject.packedLazily(elementSpec, lazyQueryList, ()->adaptElements(lazyQueryList))
+                : ManagedObject.packed(elementSpec, adaptElements(pojo));
+    }
+
+    private Can<ManagedObject> adaptElements(final @NonNull Object pluralPojo) {
+        return _NullSafe.streamAutodetect(pluralPojo)
+                .map(element->adapt(element))
+                .collect(Can.toCan());
     }
 
     // -- OBJECT MEMENTOS
@@ -259,4 +340,10 @@ public MetaModelContext getMetaModelContext() {
         return mmc;
     }
 
+    // -- HELPER
+
+    private static BookmarkNotFoundException bookmarkNotFound(final Bookmark bookmark) {
+        return new BookmarkNotFoundException(String.format("Bookmark %s was not found.", bookmark));
+    }
+
 }
@@ -24,6 +24,7 @@
 import org.apache.causeway.core.metamodel.facetapi.Facet;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 import org.apache.causeway.core.metamodel.interactions.use.UsabilityContext;
 import org.apache.causeway.core.metamodel.interactions.vis.VisibilityContext;
 import org.apache.causeway.core.security.authorization.manager.AuthorizationManager;
@@ -33,7 +34,7 @@
 @Log4j2
 public abstract class AuthorizationFacetAbstract
 extends FacetAbstract
-implements AuthorizationFacet {
+implements AuthorizationFacet, ObjectIndependentInteractionAdvisor {
 
     private static final Class<? extends Facet> type() {
         return AuthorizationFacet.class;
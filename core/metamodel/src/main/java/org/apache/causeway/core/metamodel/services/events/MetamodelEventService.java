@@ -18,13 +18,27 @@
  */
 package org.apache.causeway.core.metamodel.services.events;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import jakarta.annotation.Priority;
 import jakarta.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Service;
 
+import org.jspecify.annotations.Nullable;
+
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.events.domain.ActionDomainEvent;
 import org.apache.causeway.applib.events.domain.CollectionDomainEvent;
@@ -49,6 +63,42 @@ public class MetamodelEventService {
 
     private final ApplicationEventPublisher publisher;
 
+    // -- LISTENER INDEX
+
+    /**
+     * Per event type, whether any application listener is interested in it.
+     * Populated lazily, once the application context has been refreshed.
+     */
+    private final Map<Class<?>, Boolean> hasListenersByEventType = new ConcurrentHashMap<>();
+    private volatile boolean contextRefreshed;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed(final ContextRefreshedEvent event) {
+        hasListenersByEventType.clear();
+        contextRefreshed = true;
+    }
+
+    /**
+     * Whether any application listener would receive events of given {@code eventType}.
+     * <p>
+     * Conservatively returns {@code true} unless the set of listeners can be determined,
+     * that is, before the application context has been refreshed,
+     * or if the publisher is not a (root) {@link AbstractApplicationContext}.
+     * <p>
+     * Listener beans are not instantiated for this purpose; for those not yet instantiated, their declared
+     * event type is inspected instead. Note that any catch-all listener (eg. of {@code ApplicationListener<ApplicationEvent>})
+     * does receive all events, hence results in {@code true} for any event type.
+     */
+    public boolean hasListeners(final Class<?> eventType) {
+        if(!contextRefreshed
+                || !(publisher instanceof AbstractApplicationContext applicationContext)
+                || applicationContext.getParent()!=null) {
+            return true;
+        }
+        return hasListenersByEventType.computeIfAbsent(eventType, __->
+            anyListenerSupports(applicationContext, eventType));
+    }
+
     // -- METAMODEL UI EVENTS
 
     public void fireCssClassUiEvent(final CssClassUiEvent<Object> event) {
@@ -79,4 +129,52 @@ public void fireCollectionDomainEvent(final CollectionDomainEvent<?, ?> event) {
         publisher.publishEvent(event);
     }
 
+    // -- HELPER
+
+    private static boolean anyListenerSupports(
+            final AbstractApplicationContext applicationContext,
+            final Class<?> eventType) {
+        // domain events are not ApplicationEvents, hence get wrapped by the publisher
+        var payloadEventType = ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, eventType);
+
+        // @EventListener methods are registered with the context (as listener instances), while listener beans are not
+        if(applicationContext.getApplicationListeners().stream()
+                .anyMatch(listener->supportsEventType(listener, payloadEventType))) {
+            return true;
+        }
+
+        // listener beans are inspected without instantiating any of them (eg. lazy or prototype ones)
+        var beanFactory = applicationContext.getBeanFactory();
+        for(var beanName : beanFactory.getBeanNamesForType(ApplicationListener.class, true, false)) {
+            var supportsEventType = beanFactory.getSingleton(beanName) instanceof ApplicationListener<?> listener
+                    ? supportsEventType(listener, payloadEventType)
+                    : supportsEventType(beanFactory.getType(beanName, false), payloadEventType);
+            if(supportsEventType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean supportsEventType(final ApplicationListener<?> listener, final ResolvableType eventType) {
+        return listener instanceof GenericApplicationListener genericListener
+                ? genericListener.supportsEventType(eventType)
+                : new GenericApplicationListenerAdapter(listener).supportsEventType(eventType);
+    }
+
+    /**
+     * Based on the declared event type of a listener bean not yet instantiated;
+     * conservatively {@code true} if it cannot be determined.
+     */
+    private static boolean supportsEventType(final @Nullable Class<?> listenerType, final ResolvableType eventType) {
+        if(listenerType==null
+                || SmartApplicationListener.class.isAssignableFrom(listenerType)
+                || GenericApplicationListener.class.isAssignableFrom(listenerType)) {
+            return true; // decided by the instance
+        }
+        var declaredEventType = ResolvableType.forClass(listenerType).as(ApplicationListener.class).getGeneric();
+        return declaredEventType.resolve()==null
+                || declaredEventType.isAssignableFrom(eventType);
+    }
+
 }
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.core.metamodel.services.ixn;
 
+import java.util.function.Supplier;
+
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.interactions.InteractionHead;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -86,6 +88,38 @@ PropertyEditDto asPropertyEditDto(
             OneToOneAssociation property,
             InteractionHead interactionHead, ManagedObject newValueAdapterIfAny);
 
+    /**
+     * Variant of {@link #asActionInvocationDto(ObjectAction, InteractionHead, Can)},
+     * that allows to defer building the {@link ActionInvocationDto} until (if ever) required.
+     *
+     * <p>
+     *     Any state that depends on the current interaction (such as the execution sequence)
+     *     is captured right away, so that the returned {@link Supplier} can be invoked later on.
+     *     The default implementation does not actually defer anything.
+     * </p>
+     */
+    default Supplier<ActionInvocationDto> deferActionInvocationDto(
+            final ObjectAction objectAction,
+            final InteractionHead head,
+            final Can<ManagedObject> argumentAdapters) {
+        var actionInvocationDto = asActionInvocationDto(objectAction, head, argumentAdapters);
+        return ()->actionInvocationDto;
+    }
+
+    /**
+     * Variant of {@link #asPropertyEditDto(OneToOneAssociation, InteractionHead, ManagedObject)},
+     * that allows to defer building the {@link PropertyEditDto} until (if ever) required.
+     *
+     * @see #deferActionInvocationDto(ObjectAction, InteractionHead, Can)
+     */
+    default Supplier<PropertyEditDto> deferPropertyEditDto(
+            final OneToOneAssociation property,
+            final InteractionHead interactionHead,
+            final ManagedObject newValueAdapterIfAny) {
+        var propertyEditDto = asPropertyEditDto(property, interactionHead, newValueAdapterIfAny);
+        return ()->propertyEditDto;
+    }
+
     /**
      * Called by the framework to attach the result of an action invocation
      * to the aforementioned {@link ActionInvocationDto}.
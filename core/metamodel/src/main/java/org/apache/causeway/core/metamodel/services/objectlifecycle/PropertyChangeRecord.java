@@ -41,6 +41,7 @@ public final class PropertyChangeRecord implements Comparable<PropertyChangeReco
 
     @Getter private final PropertyChangeRecordId id;
     @Getter private PreAndPostValue preAndPostValue;
+    private PropertyValueCapture valueCapture = PropertyValueCapture.FULL;
 
     public ManagedObject getEntity() {return id.getEntity();}
     public OneToOneAssociation getProperty() {return id.getProperty();}
@@ -85,6 +86,21 @@ public String getLogicalMemberIdentifier() {
         return target.logicalTypeName() + "#" + propertyId;
     }
 
+    /**
+     * Uses given {@link PropertyValueCapture} for any values captured from now on,
+     * and re-captures the values already present.
+     */
+    public PropertyChangeRecord withValueCapture(final @NonNull PropertyValueCapture valueCapture) {
+        this.valueCapture = valueCapture;
+        if(preAndPostValue != null) {
+            var recaptured = PreAndPostValue.pre(capture(preAndPostValue.getPre()));
+            this.preAndPostValue = preAndPostValue.getPost() != null
+                    ? recaptured.withPost(capture(preAndPostValue.getPost()))
+                    : recaptured;
+        }
+        return this;
+    }
+
     public PropertyChangeRecord withPreValueSetToCurrentElseUnknown(DeadlockRecognizer deadlockRecognizer) {
         try {
             return withPreValueSetToCurrent();
@@ -107,7 +123,7 @@ private PropertyChangeRecord withPreValueSetToNew() {
     }
 
     private PropertyChangeRecord withPreValueSetTo(Object preValue) {
-        this.preAndPostValue = PreAndPostValue.pre(preValue);
+        this.preAndPostValue = PreAndPostValue.pre(capture(preValue));
         return this;
     }
 
@@ -133,7 +149,7 @@ public PropertyChangeRecord withPostValueSetToUnknown() {
     }
 
     private PropertyChangeRecord withPostValueSetTo(Object postValue) {
-        this.preAndPostValue = preAndPostValue.withPost(postValue);
+        this.preAndPostValue = preAndPostValue.withPost(capture(postValue));
         return this;
     }
 
@@ -161,6 +177,12 @@ public EntityPropertyChange toEntityPropertyChange(
 
     // -- HELPER
 
+    private Object capture(final Object value) {
+        return value instanceof PropertyValuePlaceholder
+                ? value
+                : valueCapture.capture(getProperty(), value);
+    }
+
     private Object getPropertyValue() {
         var referencedAdapter = getProperty().get(getEntity(), InteractionInitiatedBy.PASS_THROUGH);
         return MmUnwrapUtils.single(referencedAdapter);
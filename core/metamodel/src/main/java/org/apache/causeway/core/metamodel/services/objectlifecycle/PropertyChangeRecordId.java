@@ -44,16 +44,27 @@ public final class PropertyChangeRecordId implements Comparable<PropertyChangeRe
     public static PropertyChangeRecordId of(
             final @NonNull ManagedObject entity,
             final @NonNull OneToOneAssociation property) {
-        return new PropertyChangeRecordId(entity, property);
+        return new PropertyChangeRecordId(entity, ManagedObjects.bookmarkElseFail(entity), property);
+    }
+    /**
+     * Optimized for cases, when the entity's bookmark is already available,
+     * eg. when enlisting multiple properties of the same entity.
+     */
+    public static PropertyChangeRecordId of(
+            final @NonNull ManagedObject entity,
+            final @NonNull Bookmark bookmark,
+            final @NonNull OneToOneAssociation property) {
+        return new PropertyChangeRecordId(entity, bookmark, property);
     }
     private PropertyChangeRecordId(
             final ManagedObject entity,
+            final Bookmark bookmark,
             final OneToOneAssociation property) {
 
         // these exposed as a convenience
         this.entity = entity;
         this.property = property;
-        this.bookmark = ManagedObjects.bookmarkElseFail(entity);
+        this.bookmark = bookmark;
 
         // these are the key
         this.bookmarkStr = bookmark.toString();
@@ -0,0 +1,48 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.objectlifecycle;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+/**
+ * Decides how the pre- and post-values of a {@link PropertyChangeRecord} are held on to
+ * for the duration of a transaction.
+ *
+ * @since 3.5
+ */
+@FunctionalInterface
+public interface PropertyValueCapture {
+
+    /**
+     * Captures all values as they are.
+     */
+    PropertyValueCapture FULL = (property, value) -> value;
+
+    /**
+     * Returns either given {@code value} as is, or a compact stand-in,
+     * typically a {@link PropertyValueDigest}.
+     * <p>
+     * Stand-ins must implement {@link Object#equals(Object)} such that change detection
+     * remains accurate, and {@link Object#toString()} as the representation to publish.
+     */
+    @Nullable Object capture(OneToOneAssociation property, @Nullable Object value);
+
+}
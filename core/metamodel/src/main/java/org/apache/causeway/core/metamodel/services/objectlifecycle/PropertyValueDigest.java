@@ -0,0 +1,140 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.objectlifecycle;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.value.Blob;
+import org.apache.causeway.applib.value.Clob;
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+
+/**
+ * Compact stand-in for a (potentially large) property value, as captured by a {@link PropertyValueCapture}.
+ * <p>
+ * Two digests are equal if their summaries, lengths and SHA-256 digests are, hence
+ * change detection does not require the original values to be retained.
+ *
+ * @param summary - short description of the value, eg. a {@link Blob}'s name and mime type
+ *      or the first few characters of a string
+ * @param length - in bytes for binary data, in characters otherwise
+ * @param sha256 - hex encoded
+ *
+ * @since 3.5
+ */
+public record PropertyValueDigest(
+        String summary,
+        long length,
+        String sha256) {
+
+    static final int SUMMARY_MAX_CHARS = 32;
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Size of given value, in bytes for binary data, in characters for textual data,
+     * or empty if the value is of neither kind.
+     */
+    public static Optional<Long> sizeOf(final @Nullable Object value) {
+        if(value instanceof Blob blob) return Optional.of((long)blob.bytes().length);
+        if(value instanceof Clob clob) return Optional.of((long)clob.chars().length());
+        if(value instanceof byte[] bytes) return Optional.of((long)bytes.length);
+        if(value instanceof CharSequence chars) return Optional.of((long)chars.length());
+        return Optional.empty();
+    }
+
+    /**
+     * Digest of given non-null value; values that are neither binary nor textual
+     * are digested by their {@link Object#toString()} representation.
+     */
+    public static PropertyValueDigest of(final Object value) {
+        if(value instanceof Blob blob) {
+            return new PropertyValueDigest(
+                    blob.name() + " [" + blob.mimeType().getBaseType() + "]",
+                    blob.bytes().length, sha256(blob.bytes()));
+        }
+        if(value instanceof Clob clob) {
+            return new PropertyValueDigest(
+                    clob.name() + " [" + clob.mimeType().getBaseType() + "]",
+                    clob.chars().length(), sha256(clob.chars()));
+        }
+        if(value instanceof byte[] bytes) {
+            return new PropertyValueDigest("byte[]", bytes.length, sha256(bytes));
+        }
+        var chars = value instanceof CharSequence charSequence
+                ? charSequence
+                : value.toString();
+        return new PropertyValueDigest(abbreviate(chars), chars.length(), sha256(chars));
+    }
+
+    @Override
+    public String toString() {
+        return summary + " (" + length + ", sha256:" + sha256 + ")";
+    }
+
+    // -- HELPER
+
+    private static String abbreviate(final CharSequence chars) {
+        return chars.length() > SUMMARY_MAX_CHARS
+                ? chars.subSequence(0, SUMMARY_MAX_CHARS) + "..."
+                : chars.toString();
+    }
+
+    private static String sha256(final byte[] bytes) {
+        var digest = messageDigest();
+        digest.update(bytes);
+        return _Bytes.hexDump(digest.digest(), "");
+    }
+
+    /**
+     * Digests the UTF-8 encoding of given chars chunk-wise,
+     * not requiring a full copy of a large character sequence.
+     */
+    private static String sha256(final CharSequence chars) {
+        var digest = messageDigest();
+        var encoder = StandardCharsets.UTF_8.newEncoder();
+        var out = ByteBuffer.allocate((int)(CHUNK_SIZE * encoder.maxBytesPerChar()));
+        int start = 0;
+        while(start < chars.length()) {
+            int end = Math.min(start + CHUNK_SIZE, chars.length());
+            // don't split surrogate pairs
+            if(end < chars.length()
+                    && Character.isHighSurrogate(chars.charAt(end - 1))) {
+                end--;
+            }
+            out.clear();
+            encoder.reset().encode(CharBuffer.wrap(chars, start, end), out, true);
+            encoder.flush(out);
+            out.flip();
+            digest.update(out);
+            start = end;
+        }
+        return _Bytes.hexDump(digest.digest(), "");
+    }
+
+    private static MessageDigest messageDigest() {
+        return HashAlgorithm.SHA256.tryGetMessageDigest().valueAsNonNullElseFail();
+    }
+
+}
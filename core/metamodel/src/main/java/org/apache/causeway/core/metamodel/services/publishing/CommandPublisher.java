@@ -48,4 +48,12 @@ public interface CommandPublisher {
      */
     void complete(@NonNull Command command);
 
+    /**
+     * Whether there is any enabled {@link CommandSubscriber} at all,
+     * allowing callers to skip work that is only required for publishing.
+     */
+    default boolean isAnySubscriberEnabled() {
+        return true;
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.publishing;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
+
+import lombok.NonNull;
+
+/**
+ * Counts how many {@code CommandDto}s and {@code InteractionDto}s were actually built,
+ * versus how many were deferred but never asked for (because no publishing subscriber
+ * needed them).
+ *
+ * @since 3.5 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreMetamodel.NAMESPACE + ".DtoConstructionStatistics")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class DtoConstructionStatistics {
+
+    public enum Kind {
+        /** {@code CommandDto}, as held by a {@code Command} */
+        COMMAND,
+        /** {@code ActionInvocationDto} or {@code PropertyEditDto}, as held by an {@code Execution} */
+        EXECUTION
+    }
+
+    /**
+     * @param built - number of DTOs built, either eagerly or on demand
+     * @param skipped - number of DTOs deferred and (so far) never built
+     */
+    public record Counts(long built, long skipped) {
+        public long total() {
+            return built + skipped;
+        }
+    }
+
+    private final Counters command = new Counters();
+    private final Counters execution = new Counters();
+
+    /**
+     * Records a DTO that was built eagerly.
+     */
+    public void built(final @NonNull Kind kind) {
+        countersFor(kind).builtEagerly.increment();
+    }
+
+    /**
+     * Wraps given DTO factory, such that its invocation (if ever) is recorded as built,
+     * otherwise it is recorded as skipped.
+     */
+    public <T> Supplier<T> deferred(final @NonNull Kind kind, final @NonNull Supplier<T> dtoFactory) {
+        var counters = countersFor(kind);
+        counters.deferred.increment();
+        return ()->{
+            counters.builtOnDemand.increment();
+            return dtoFactory.get();
+        };
+    }
+
+    public Counts counts(final @NonNull Kind kind) {
+        return countersFor(kind).snapshot();
+    }
+
+    public void reset() {
+        command.reset();
+        execution.reset();
+    }
+
+    // -- HELPER
+
+    private Counters countersFor(final Kind kind) {
+        return switch (kind) {
+            case COMMAND -> command;
+            case EXECUTION -> execution;
+        };
+    }
+
+    private static final class Counters {
+        final LongAdder builtEagerly = new LongAdder();
+        final LongAdder deferred = new LongAdder();
+        final LongAdder builtOnDemand = new LongAdder();
+
+        Counts snapshot() {
+            long onDemand = builtOnDemand.sum();
+            return new Counts(
+                    builtEagerly.sum() + onDemand,
+                    Math.max(0L, deferred.sum() - onDemand));
+        }
+
+        void reset() {
+            builtEagerly.reset();
+            deferred.reset();
+            builtOnDemand.reset();
+        }
+    }
+
+}
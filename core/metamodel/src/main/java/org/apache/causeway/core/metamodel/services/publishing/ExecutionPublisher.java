@@ -58,4 +58,12 @@ public interface ExecutionPublisher extends DisposableBean {
      */
     <T> T withPublishingSuppressed(Supplier<T> block);
 
+    /**
+     * Whether there is any enabled {@link ExecutionSubscriber} at all,
+     * allowing callers to skip work that is only required for publishing.
+     */
+    default boolean isAnySubscriberEnabled() {
+        return true;
+    }
+
 }
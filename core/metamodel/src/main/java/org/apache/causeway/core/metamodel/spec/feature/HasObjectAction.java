@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.metamodel.spec.feature;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -160,6 +161,12 @@ default FacetHolder getFacetHolder() {
     @Override default Can<ObjectSpecification> getParameterTypes() {
         return getObjectAction().getParameterTypes();
     }
+    @Override default List<String> getParameterNames() {
+        return getObjectAction().getParameterNames();
+    }
+    @Override default List<Class<?>> getParameterClasses() {
+        return getObjectAction().getParameterClasses();
+    }
     @Override default Can<ObjectActionParameter> getParameters(final Predicate<ObjectActionParameter> predicate) {
         return getObjectAction().getParameters();
     }
@@ -17,6 +17,7 @@
 package org.apache.causeway.core.metamodel.spec.feature;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -210,11 +211,32 @@ default Stream<ObjectActionParameter> streamParameters() {
      */
     Can<ObjectSpecification> getParameterTypes();
 
+    /**
+     * Returns the {@link ObjectActionParameter#getCanonicalFriendlyName() canonical friendly name}
+     * of each of the {@link #getParameters() parameters}, as passed on to domain events.
+     */
+    List<String> getParameterNames();
+
+    /**
+     * Returns the corresponding class of each of the {@link #getParameterTypes() parameter types},
+     * as passed on to domain events.
+     */
+    List<Class<?>> getParameterClasses();
+
     /**
      * Returns set of parameter information matching the supplied filter.
      */
     Can<ObjectActionParameter> getParameters(Predicate<ObjectActionParameter> predicate);
 
+    /**
+     * Returns which parameters depend on which, as inferred from their supporting methods.
+     * <p>
+     * Allows to only reassess (choices, validation) parameters that depend on a changed one.
+     */
+    default ParameterDependencies getParameterDependencies() {
+        return ParameterDependencies.inferFrom(this);
+    }
+
     /**
      * Returns the parameter with provided zero-based index.
      */
@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.feature;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.NonNull;
+
+import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
+
+/**
+ * Parameter dependency graph of an {@link ObjectAction}, as inferred from the signatures of
+ * the parameters' supporting methods (choices, autoComplete, default, validate, disable, hide).
+ * <p>
+ * A supporting method for parameter N takes either a prefix of the action's parameters,
+ * or all of them (<i>Parameters as a Tuple</i>), hence depends on just those.
+ * Every parameter depends on itself.
+ *
+ * @since 3.5
+ */
+public final class ParameterDependencies {
+
+    /**
+     * Inspects the {@link ImperativeFacet}s of each of given action's parameters.
+     */
+    public static ParameterDependencies inferFrom(final @NonNull ObjectAction action) {
+        var paramCount = action.getParameterCount();
+        var directDependencies = new BitSet[paramCount];
+        action.getParameters().forEach(param->{
+            var paramIndex = param.getParameterIndex();
+            var dependencies = new BitSet(paramCount);
+            dependencies.set(paramIndex);
+            param.getFacetHolder().streamFacets(ImperativeFacet.class)
+                .flatMap(imperativeFacet->imperativeFacet.getMethods().stream())
+                // additional (trailing) arguments, like an autoComplete search argument, are not parameters
+                .forEach(method->dependencies.set(0, Math.min(method.getParameterCount(), paramCount)));
+            directDependencies[paramIndex] = dependencies;
+        });
+        return new ParameterDependencies(directDependencies);
+    }
+
+    /**
+     * Every parameter only depends on itself.
+     */
+    public static ParameterDependencies none(final int paramCount) {
+        var directDependencies = new BitSet[paramCount];
+        for(int paramIndex = 0; paramIndex < paramCount; ++paramIndex) {
+            directDependencies[paramIndex] = new BitSet(paramCount);
+            directDependencies[paramIndex].set(paramIndex);
+        }
+        return new ParameterDependencies(directDependencies);
+    }
+
+    /** by (changed) param index, the param indexes that (transitively) depend on it */
+    private final BitSet[] transitiveDependents;
+
+    private ParameterDependencies(final BitSet[] directDependencies) {
+        var paramCount = directDependencies.length;
+        this.transitiveDependents = new BitSet[paramCount];
+        for(int changed = 0; changed < paramCount; ++changed) {
+            var dependents = new BitSet(paramCount);
+            var queue = new ArrayDeque<Integer>();
+            queue.add(changed);
+            while(!queue.isEmpty()) {
+                var dependency = queue.poll();
+                for(int paramIndex = 0; paramIndex < paramCount; ++paramIndex) {
+                    if(directDependencies[paramIndex].get(dependency)
+                            && !dependents.get(paramIndex)) {
+                        dependents.set(paramIndex);
+                        queue.add(paramIndex);
+                    }
+                }
+            }
+            this.transitiveDependents[changed] = dependents;
+        }
+    }
+
+    public int getParameterCount() {
+        return transitiveDependents.length;
+    }
+
+    /**
+     * Zero-based indexes of all parameters, whose supporting methods (transitively) depend on given parameter,
+     * including the parameter itself. In ascending order.
+     */
+    public IntStream streamTransitiveDependentsOf(final int paramIndex) {
+        return transitiveDependents[paramIndex].stream();
+    }
+
+    /**
+     * Whether parameter {@code dependentIndex} (transitively) depends on parameter {@code paramIndex}.
+     */
+    public boolean isTransitiveDependent(final int dependentIndex, final int paramIndex) {
+        return transitiveDependents[paramIndex].get(dependentIndex);
+    }
+
+}
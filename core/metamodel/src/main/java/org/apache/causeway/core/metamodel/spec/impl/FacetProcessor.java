@@ -35,6 +35,8 @@
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.core.metamodel.commons.CanonicalInvoker;
+import org.apache.causeway.core.metamodel.commons.MethodInvoker;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
@@ -47,6 +49,7 @@
 import org.apache.causeway.core.metamodel.facets.FacetFactory.ProcessParameterContext;
 import org.apache.causeway.core.metamodel.facets.FacetedMethod;
 import org.apache.causeway.core.metamodel.facets.FacetedMethodParameter;
+import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.facets.ObjectTypeFacetFactory;
 import org.apache.causeway.core.metamodel.facets.ObjectTypeFacetFactory.ProcessObjectTypeContext;
 import org.apache.causeway.core.metamodel.methods.MethodFilteringFacetFactory;
@@ -219,6 +222,7 @@ public void processObjectType(final Class<?> cls, final FacetHolder facetHolder)
         for (var facetFactory : objectSpecIfFacetFactoryList()) {
             facetFactory.process(new ProcessObjectTypeContext(cls, facetHolder));
         }
+        prepareInvokers(facetHolder);
     }
 
     /**
@@ -248,6 +252,7 @@ public void process(
 
         factoriesByFeatureType.getOrElseEmpty(FeatureType.OBJECT)
             .forEach(facetFactory->facetFactory.process(ctx));
+        prepareInvokers(facetHolder);
     }
 
     /**
@@ -292,6 +297,7 @@ public void process(
         for (FacetFactory facetFactory : factoriesByFeatureType.getOrElseEmpty(featureType)) {
             facetFactory.process(processMethodContext);
         }
+        prepareInvokers(facetedMethod);
     }
 
     public void processMemberOrder(final ObjectMember facetHolder) {
@@ -329,6 +335,20 @@ public void processParams(
             .flatMap(List::stream)
             .collect(Collectors.toSet())
             .forEach(facetFactory->facetFactory.processParams(processParameterContext));
+        prepareInvokers(facetedMethodParameter);
+    }
+
+    /**
+     * Prepares the {@link MethodInvoker}s for all methods invoked by the {@link ImperativeFacet}s
+     * just created for given {@link FacetHolder}.
+     */
+    private void prepareInvokers(final FacetHolder facetHolder) {
+        var compile = getConfiguration().getCore().getMetaModel().getIntrospector().isCompileMethodInvokers();
+        CanonicalInvoker.prepareInvokers(
+                facetHolder.streamFacets(ImperativeFacet.class)
+                    .flatMap(imperativeFacet->imperativeFacet.getMethods().stream())
+                    .map(methodFacade->methodFacade.asMethodForIntrospection().method()),
+                compile);
     }
 
     // -- INITIALIZERS
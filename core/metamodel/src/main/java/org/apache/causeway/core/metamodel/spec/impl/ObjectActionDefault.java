@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.metamodel.spec.impl;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,6 +40,7 @@
 import org.apache.causeway.commons.functional.IndexedFunction;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.commons.UtilStr;
 import org.apache.causeway.core.metamodel.consent.Consent;
@@ -63,6 +65,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
+import org.apache.causeway.core.metamodel.spec.feature.ParameterDependencies;
 import org.apache.causeway.core.metamodel.util.Facets;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
@@ -226,6 +229,14 @@ public Can<ObjectActionParameter> getParameters() {
         return parameters.get();
     }
 
+    private final _Lazy<ParameterDependencies> parameterDependencies =
+            _Lazy.threadSafe(()->ParameterDependencies.inferFrom(this));
+
+    @Override
+    public ParameterDependencies getParameterDependencies() {
+        return parameterDependencies.get();
+    }
+
     protected Can<ObjectActionParameter> determineParameters() {
         var specLoaderInternal = specLoaderInternal();
 
@@ -245,6 +256,17 @@ public Can<ObjectSpecification> getParameterTypes() {
         return getParameters().map(ObjectActionParameter::getElementType);
     }
 
+    @Getter(onMethod_ = @Override, lazy=true)
+    private final List<String> parameterNames = getParameters().stream()
+            .map(ObjectActionParameter::getCanonicalFriendlyName)
+            .collect(_Lists.toUnmodifiable());
+
+    @Getter(onMethod_ = @Override, lazy=true)
+    private final List<Class<?>> parameterClasses = getParameters().stream()
+            .map(ObjectActionParameter::getElementType)
+            .map(ObjectSpecification::getCorrespondingClass)
+            .collect(_Lists.toUnmodifiable());
+
     @Override
     public ObjectActionParameter getParameterById(final String paramId) {
         return getParameters().stream()
@@ -45,6 +45,7 @@
 import org.apache.causeway.core.metamodel.facets.all.hide.HiddenFacet;
 import org.apache.causeway.core.metamodel.facets.all.i8n.staatic.HasStaticText;
 import org.apache.causeway.core.metamodel.facets.all.named.MemberNamedFacet;
+import org.apache.causeway.core.metamodel.facets.members.publish.command.CommandPublishingFacet;
 import org.apache.causeway.core.metamodel.interactions.DisablingInteractionAdvisor;
 import org.apache.causeway.core.metamodel.interactions.HidingInteractionAdvisor;
 import org.apache.causeway.core.metamodel.interactions.InteractionContext;
@@ -55,6 +56,9 @@
 import org.apache.causeway.core.metamodel.interactions.vis.VisibilityContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.services.publishing.CommandPublisher;
+import org.apache.causeway.core.metamodel.services.publishing.DtoConstructionStatistics;
+import org.apache.causeway.core.metamodel.services.publishing.DtoConstructionStatistics.Kind;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.MixedInMember;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
@@ -306,16 +310,40 @@ protected void setupCommand(
             "No command available with current thread, "
                 + "are we missing an interaction context?");
 
-        if (command.getCommandDto() != null) {
+        if (command.updater().hasCommandDto()) {
             // guard here to prevent subsequent mixin actions from
             // trampling over the command's DTO
-        } else {
-            var dto = commandDtoFactory.apply(command.getInteractionId());
+            return;
+        }
+
+        var interactionId = command.getInteractionId();
+        var statistics = lookupService(DtoConstructionStatistics.class);
+
+        if(isCommandDtoRequired()) {
+            var dto = commandDtoFactory.apply(interactionId);
             command.updater().setCommandDtoAndIdentifier(dto);
+            statistics.ifPresent(stats->stats.built(Kind.COMMAND));
+        } else {
+            // nobody is going to publish this command, so defer building its DTO until (if ever) asked for
+            Supplier<CommandDto> dtoFactory = ()->commandDtoFactory.apply(interactionId);
+            command.updater().setCommandDtoSupplier(statistics
+                    .map(stats->stats.deferred(Kind.COMMAND, dtoFactory))
+                    .orElse(dtoFactory));
         }
 
     }
 
+    /**
+     * Whether the command's DTO is (potentially) going to be published,
+     * in which case it is built right away, capturing the state as of now.
+     */
+    private boolean isCommandDtoRequired() {
+        return CommandPublishingFacet.isPublishingEnabled(this)
+                && lookupService(CommandPublisher.class)
+                    .map(CommandPublisher::isAnySubscriberEnabled)
+                    .orElse(true);
+    }
+
     // -- DEPENDENCIES
 
     protected InteractionProvider getInteractionContext() {
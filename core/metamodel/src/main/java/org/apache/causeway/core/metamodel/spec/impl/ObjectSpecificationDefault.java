@@ -105,6 +105,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
 import org.apache.causeway.core.metamodel.spi.EntityTitleSubscriber;
@@ -316,14 +317,13 @@ public Optional<ObjectAction> getDeclaredAction(
 
         introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
 
-        return _Strings.isEmpty(id)
-            ? Optional.empty()
-            : streamDeclaredActions(actionScopes, mixedIn)
-                .filter(action->
-                    id.equals(action.getFeatureIdentifier().getMemberNameAndParameterClassNamesIdentityString())
-                            || id.equals(action.getFeatureIdentifier().memberLogicalName())
-                )
-                .findFirst();
+        if(_Strings.isEmpty(id)) {
+            return Optional.empty();
+        }
+
+        mixedInActionAdder.trigger(this::createMixedInActionsAndResort); // only if not already
+
+        return actionIndex.lookup(id, actionScopes, mixedIn);
     }
 
     @Override
@@ -472,6 +472,10 @@ public Can<ObjectSpecification> snapshot() {
     private final _Lazy<Can<ObjectAssociation>> unmodifiableAssociations =
             _Lazy.threadSafe(()->Can.ofCollection(associations));
 
+    // immutable lookup table of associations by id; rebuilt in replaceAssociations()
+    private volatile _MemberIdIndex<ObjectAssociation> associationIndex =
+            _MemberIdIndex.forAssociations(List.of());
+
     // -- ACTIONS
 
     private final List<ObjectAction> objectActions = _Lists.newArrayList();
@@ -487,6 +491,10 @@ public Can<ObjectSpecification> snapshot() {
     private final ListMultimap<ActionScope, ObjectAction> objectActionsByType =
             _Multimaps.newConcurrentListMultimap();
 
+    // immutable lookup table of objectActions by id; rebuilt in replaceActions()
+    private volatile _MemberIdIndex.ActionIndex actionIndex =
+            _MemberIdIndex.ActionIndex.create(Map.of());
+
     // -- INTERFACES
 
     private final List<ObjectSpecification> interfaces = _Lists.newArrayList();
@@ -624,6 +632,29 @@ private void introspectFully() {
 
         // make sure we've loaded the facets from layout.xml also.
         Facets.gridPreload(this, null);
+
+        // from now on facet lookups are lock-free
+        sealFacets();
+    }
+
+    /**
+     * Seals the {@link FacetHolder}s of this spec and its (so far known) members,
+     * such that facet lookups are served lock-free.
+     * Later facet additions trigger a copy-on-write re-seal.
+     */
+    private void sealFacets() {
+        facetHolder.seal();
+        synchronized (unmodifiableAssociations) {
+            associations.forEach(ObjectMember::seal);
+        }
+        synchronized (unmodifiableActions) {
+            objectActions.forEach(ObjectSpecificationDefault::sealActionFacets);
+        }
+    }
+
+    private static void sealActionFacets(final ObjectAction action) {
+        action.seal();
+        action.getParameters().forEach(ObjectActionParameter::seal);
     }
 
     boolean isLessThan(final IntrospectionState upTo) {
@@ -673,6 +704,7 @@ protected final void replaceAssociations(final Stream<ObjectAssociation> associa
             this.associations.clear();
             this.associations.addAll(orderedAssociations);
             unmodifiableAssociations.clear(); // invalidate
+            associationIndex = _MemberIdIndex.forAssociations(orderedAssociations);
         }
     }
 
@@ -691,6 +723,8 @@ protected final void replaceActions(final Stream<ObjectAction> objectActions) {
                 .filter(ObjectAction.Predicates.ofActionType(actionType))
                 .forEach(objectActionForType::add);
             }
+
+            actionIndex = _MemberIdIndex.ActionIndex.create(objectActionsByType);
         }
     }
 
@@ -1025,9 +1059,9 @@ public Optional<ObjectAssociation> getDeclaredAssociation(final String id, final
             return Optional.empty();
         }
 
-        return streamDeclaredAssociations(mixedIn)
-                .filter(objectAssociation->objectAssociation.getId().equals(id))
-                .findFirst();
+        mixedInAssociationAdder.trigger(this::createMixedInAssociationsAndResort); // only if not already
+
+        return Optional.ofNullable(associationIndex.lookup(id, mixedIn));
     }
 
     @Override
@@ -1216,6 +1250,8 @@ private void createMixedInActionsAndResort() {
         replaceActions(Stream.concat(
                 regularActions.stream(),
                 mixedInActions.stream()));
+
+        mixedInActions.forEach(ObjectSpecificationDefault::sealActionFacets);
     }
 
     /**
@@ -1239,6 +1275,8 @@ private void createMixedInAssociationsAndResort() {
         replaceAssociations(Stream.concat(
                 regularAssociations.stream(),
                 mixedInAssociations.stream()));
+
+        mixedInAssociations.forEach(ObjectMember::seal);
     }
 
     @Getter(lazy = true)
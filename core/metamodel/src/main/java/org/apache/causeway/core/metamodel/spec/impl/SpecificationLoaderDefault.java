@@ -53,11 +53,12 @@
 import org.apache.causeway.applib.value.semantics.ValueSemanticsResolver;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
-import org.apache.causeway.commons.internal.base._Blackhole;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.base._Timing;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.commons.internal.ioc._IocContainer;
+import org.apache.causeway.commons.internal.ioc._SingletonBeanProvider;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData.DiscoveredBy;
@@ -71,6 +72,7 @@
 import org.apache.causeway.core.metamodel.commons.ClassUtil;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
+import org.apache.causeway.core.metamodel.facetapi.MetaModelRefiner;
 import org.apache.causeway.core.metamodel.progmodel.ProgrammingModel;
 import org.apache.causeway.core.metamodel.services.classsubstitutor.ClassSubstitutor;
 import org.apache.causeway.core.metamodel.services.classsubstitutor.ClassSubstitutor.Substitution;
@@ -277,24 +279,64 @@ public void createMetaModel() {
 
         serviceRegistry.lookupServiceElseFail(MenuBarsService.class).menuBars();
 
-        if(isFullIntrospect()) {
-            var snapshot = snapshotSpecifications();
-            log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
-            introspect(snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
-            introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
-        }
+        var metaModelSnapshot = _MetaModelSnapshot.create(causewayConfiguration,
+                CausewayModuleCoreMetamodel.class.getPackage().getImplementationVersion(),
+                streamProgrammingModelTypes(),
+                // no IoC container with framework internal unit tests
+                Optional.ofNullable(causewaySystemEnvironment.getIocContainer()).stream()
+                    .flatMap(_IocContainer::streamAllBeans)
+                    .map(_SingletonBeanProvider::beanClass),
+                causewayBeanTypeRegistry.streamScannedTypes().map(CausewayBeanMetaData::getCorrespondingClass))
+            .orElse(null);
+        var isSnapshotValidated = metaModelSnapshot!=null
+                && metaModelSnapshot.exists();
+
+        if(isSnapshotValidated) {
+            log.info(" - skipping eager introspection of remaining types and validation, "
+                    + "as already validated with matching snapshot {}", metaModelSnapshot.file());
+            if(!validationResult.isMemoized()) {
+                validationResult.set(validationFailures); // known to have no failures
+            }
+        } else {
+            if(isFullIntrospect()) {
+                var snapshot = snapshotSpecifications();
+                log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
+                introspect(snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+                introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+            }
 
-        log.info(" - running remaining validators");
-        _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
+            log.info(" - running remaining validators");
+            var assessedFailures = getOrAssessValidationResult(); // as a side effect memoizes the validation result
+
+            if(metaModelSnapshot!=null
+                    && !assessedFailures.hasFailures()) {
+                metaModelSnapshot.write(cache.size());
+            }
+        }
 
         stopWatch.stop();
         log.info("Metamodel created in {}ms. ({} introspection)", stopWatch.getMillis(), parallel ? "parallel" : "sequential");
 
-        if(isFullIntrospect()) {
+        if(isFullIntrospect()
+                && !isSnapshotValidated) {
             setMetamodelFullyIntrospected(true);
         }
     }
 
+    /**
+     * The types that make up the programming model, including those contributed by any application provided
+     * {@link MetaModelRefiner}s, as these affect the outcome of introspection and validation.
+     */
+    private Stream<Class<?>> streamProgrammingModelTypes() {
+        return Stream.<Stream<?>>of(
+                    programmingModel.streamFactories(),
+                    programmingModel.streamValidators(),
+                    programmingModel.streamPostProcessors(),
+                    serviceRegistry.select(MetaModelRefiner.class).stream())
+                .flatMap(stream->stream)
+                .map(Object::getClass);
+    }
+
     @Override
     public Optional<ValidationFailures> getValidationResult() {
         return validationResult.getMemoized();
@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.impl;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.apache.causeway.commons.collections.ImmutableEnumSet;
+import org.apache.causeway.core.metamodel.spec.ActionScope;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Package private, immutable member lookup tables of an {@link ObjectSpecificationDefault},
+ * built once from its (ordered) list of members,
+ * such that resolving a member by id does not require to scan all members.
+ * <p>
+ * For each lookup key, the first member (in member order) wins,
+ * which is consistent with a linear search over the ordered members.
+ */
+record _MemberIdIndex<T extends ObjectMember>(
+        /**
+         * Per {@link MixedIn} filter, maps member ids to members.
+         */
+        EnumMap<MixedIn, Map<String, T>> byMixedIn) {
+
+    // -- ACTIONS
+
+    /**
+     * Per {@link ActionScope}, indexes actions both by their logical member name
+     * and by their member name with parameter class names (full identity string).
+     */
+    record ActionIndex(
+            EnumMap<ActionScope, _MemberIdIndex<ObjectAction>> byActionScope) {
+
+        static ActionIndex create(final Map<ActionScope, List<ObjectAction>> actionsByScope) {
+            var byActionScope = new EnumMap<ActionScope, _MemberIdIndex<ObjectAction>>(ActionScope.class);
+            for (var actionScope : ActionScope.values()) {
+                byActionScope.put(actionScope, _MemberIdIndex.create(
+                        actionsByScope.getOrDefault(actionScope, List.of()),
+                        (action, keyConsumer)->{
+                            var featureIdentifier = action.getFeatureIdentifier();
+                            keyConsumer.accept(featureIdentifier.getMemberNameAndParameterClassNamesIdentityString());
+                            keyConsumer.accept(featureIdentifier.memberLogicalName());
+                        }));
+            }
+            return new ActionIndex(byActionScope);
+        }
+
+        Optional<ObjectAction> lookup(
+                final String id,
+                final ImmutableEnumSet<ActionScope> actionScopes,
+                final MixedIn mixedIn) {
+            for (var actionScope : actionScopes) {
+                var action = byActionScope.get(actionScope).lookup(id, mixedIn);
+                if(action!=null) return Optional.of(action);
+            }
+            return Optional.empty();
+        }
+    }
+
+    // -- ASSOCIATIONS
+
+    static _MemberIdIndex<ObjectAssociation> forAssociations(final List<ObjectAssociation> associations) {
+        return _MemberIdIndex.create(associations,
+                (association, keyConsumer)->keyConsumer.accept(association.getId()));
+    }
+
+    // -- LOOKUP
+
+    @Nullable T lookup(final String id, final MixedIn mixedIn) {
+        return byMixedIn.get(mixedIn).get(id);
+    }
+
+    // -- HELPER
+
+    @FunctionalInterface
+    interface KeyExtractor<T> {
+        void extractKeys(T member, Consumer<String> keyConsumer);
+    }
+
+    private static <T extends ObjectMember> _MemberIdIndex<T> create(
+            final List<T> orderedMembers,
+            final KeyExtractor<T> keyExtractor) {
+        var byMixedIn = new EnumMap<MixedIn, Map<String, T>>(MixedIn.class);
+        for (var mixedIn : MixedIn.values()) {
+            var filter = mixedIn.toFilter();
+            var byId = new HashMap<String, T>();
+            for (var member : orderedMembers) {
+                if(!filter.test(member)) continue;
+                keyExtractor.extractKeys(member, key->{
+                    if(key!=null) {
+                        byId.putIfAbsent(key, member); // first member wins
+                    }
+                });
+            }
+            byMixedIn.put(mixedIn, Map.copyOf(byId));
+        }
+        return new _MemberIdIndex<>(byMixedIn);
+    }
+
+}
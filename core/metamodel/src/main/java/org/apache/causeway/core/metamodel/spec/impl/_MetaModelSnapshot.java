@@ -0,0 +1,329 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Package private marker file, recording that a metamodel with given fingerprint
+ * was introspected and validated without failures.
+ * <p>
+ * The fingerprint is a digest over
+ * <ul>
+ * <li>the framework version,</li>
+ * <li>the configuration (all properties, except those of the system environment and system properties
+ * other than <code>causeway.*</code> and <code>spring.*</code> ones) and the active profiles,</li>
+ * <li>the menubars layout,</li>
+ * <li>the bytecode of the programming model (its facet factories, validators and post-processors,
+ * including any contributed by {@link org.apache.causeway.core.metamodel.facetapi.MetaModelRefiner}s),</li>
+ * <li>the bytecode (including any super types, interfaces, nested types and layout files) of all scanned domain types,</li>
+ * <li>the bytecode (including any super types and interfaces) of all bean types (eg. value semantics providers
+ * or other SPI implementations) and of all types referenced by the fields and methods of the scanned domain types.</li>
+ * </ul>
+ * <p>
+ * If any of these cannot be determined (eg. the framework version, when running from exploded classes),
+ * there is no snapshot, hence the metamodel is always validated.
+ *
+ * @see CausewayConfiguration.Core.MetaModel.Introspector.Snapshot
+ */
+@Log4j2
+record _MetaModelSnapshot(Path file) {
+
+    /**
+     * Returns empty if snapshots are disabled or if a fingerprint cannot be determined.
+     */
+    static Optional<_MetaModelSnapshot> create(
+            final CausewayConfiguration causewayConfiguration,
+            final @Nullable String frameworkVersion,
+            final Stream<Class<?>> programmingModelTypes,
+            final Stream<Class<?>> beanTypes,
+            final Stream<Class<?>> scannedTypes) {
+        var snapshotConfig = causewayConfiguration.getCore().getMetaModel().getIntrospector().getSnapshot();
+        if(!snapshotConfig.isEnabled()) {
+            return Optional.empty();
+        }
+        if(frameworkVersion==null) {
+            log.warn("cannot determine framework version, metamodel snapshot is disabled");
+            return Optional.empty();
+        }
+        var directory = snapshotConfig.getDirectory()
+                .map(Path::of)
+                .orElseGet(()->defaultDirectory(causewayConfiguration));
+        return fingerprint(causewayConfiguration, frameworkVersion, programmingModelTypes, beanTypes, scannedTypes)
+                .map(fingerprint->new _MetaModelSnapshot(directory.resolve("metamodel-" + fingerprint + ".snapshot")));
+    }
+
+    /**
+     * Whether a previous bootstrap recorded this snapshot.
+     */
+    boolean exists() {
+        return Files.isRegularFile(file);
+    }
+
+    /**
+     * Records this snapshot, to be picked up by subsequent bootstraps.
+     */
+    void write(final int specificationCount) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, "validated=%s%nspecifications=%d%n"
+                    .formatted(Instant.now(), specificationCount));
+        } catch (IOException e) {
+            log.warn("failed to write metamodel snapshot {}", file, e);
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * A directory private to the current user (rather than the shared temp directory), and specific to the application.
+     */
+    private static Path defaultDirectory(final CausewayConfiguration causewayConfiguration) {
+        var applicationName = causewayConfiguration.valueOf("spring.application.name", null)
+                .orElseGet(()->causewayConfiguration.getViewer().getCommon().getApplication().getName());
+        return Path.of(System.getProperty("user.home"), ".causeway", "metamodel",
+                applicationName.replaceAll("[^A-Za-z0-9._-]+", "_"));
+    }
+
+    private static Optional<String> fingerprint(
+            final CausewayConfiguration causewayConfiguration,
+            final String frameworkVersion,
+            final Stream<Class<?>> programmingModelTypes,
+            final Stream<Class<?>> beanTypes,
+            final Stream<Class<?>> scannedTypes) {
+        var messageDigest = HashAlgorithm.SHA256.tryGetMessageDigest().valueAsNonNullElseFail();
+
+        update(messageDigest, frameworkVersion);
+
+        var environment = causewayConfiguration.getEnvironment();
+        update(messageDigest, String.join(",", environment.getActiveProfiles()));
+        streamFingerprintedPropertyNames(environment)
+            .distinct()
+            .sorted()
+            .forEach(name->update(messageDigest,
+                    name + "=" + causewayConfiguration.valueOf(name, null).orElse("")));
+
+        var menubarsLayoutFile = causewayConfiguration.getViewer().getCommon().getApplication().getMenubarsLayoutFile();
+        update(messageDigest, menubarsLayoutFile);
+        var menubarsLayout = readResource(new ClassPathResource(menubarsLayoutFile));
+        if(menubarsLayout!=null) {
+            messageDigest.update(menubarsLayout);
+        }
+
+        var visited = new HashSet<Class<?>>();
+        var domainTypes = sorted(Stream.concat(programmingModelTypes, scannedTypes));
+        for (var type : domainTypes) {
+            if(!updateWithTypeHierarchy(messageDigest, type, visited, true)) {
+                log.warn("cannot fingerprint type {}, metamodel snapshot is disabled", type.getName());
+                return Optional.empty();
+            }
+        }
+
+        // types that are not part of the domain, but still shape the metamodel (eg. value semantics providers,
+        // or library types used as property or parameter types); these are fingerprinted leniently,
+        // as eg. generated types have no class file of their own
+        try {
+            var otherTypes = sorted(Stream.concat(
+                    beanTypes,
+                    domainTypes.stream().flatMap(_MetaModelSnapshot::streamSignatureTypes)));
+            for (var type : otherTypes) {
+                updateWithTypeHierarchy(messageDigest, type, visited, false);
+            }
+        } catch (LinkageError e) {
+            log.warn("cannot fingerprint types referenced by the domain, metamodel snapshot is disabled", e);
+            return Optional.empty();
+        }
+        return Optional.of(_Bytes.hexDump(messageDigest.digest(), ""));
+    }
+
+    /**
+     * All property names, except those of the system environment, or of the system properties
+     * (which are bound to contain values that vary from one run to the next, eg. the process id),
+     * unless these (potentially) configure Causeway or Spring.
+     */
+    private static Stream<String> streamFingerprintedPropertyNames(final ConfigurableEnvironment environment) {
+        return environment.getPropertySources().stream()
+                .filter(EnumerablePropertySource.class::isInstance)
+                .map(EnumerablePropertySource.class::cast)
+                .flatMap(propertySource->{
+                    var propertyNames = Stream.of(propertySource.getPropertyNames());
+                    return switch (propertySource.getName()) {
+                        case StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME -> propertyNames
+                                .filter(name->name.startsWith("CAUSEWAY_")
+                                        || name.startsWith("SPRING_"));
+                        case StandardEnvironment.SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME -> propertyNames
+                                .filter(name->name.startsWith("causeway.")
+                                        || name.startsWith("spring."));
+                        default -> propertyNames;
+                    };
+                });
+    }
+
+    /**
+     * The types of the fields, and the return and parameter types of the methods (including their type arguments),
+     * declared by given type.
+     */
+    private static Stream<Class<?>> streamSignatureTypes(final Class<?> type) {
+        return Stream.concat(
+                    Stream.of(type.getDeclaredFields())
+                        .map(Field::getGenericType),
+                    Stream.of(type.getDeclaredMethods())
+                        .flatMap(method->Stream.concat(
+                                Stream.of(method.getGenericReturnType()),
+                                Stream.of(method.getGenericParameterTypes()))))
+                .flatMap(_MetaModelSnapshot::streamRawTypes);
+    }
+
+    private static Stream<Class<?>> streamRawTypes(final Type type) {
+        if(type instanceof Class<?> cls) {
+            return cls.isArray()
+                    ? streamRawTypes(cls.getComponentType())
+                    : Stream.of(cls);
+        }
+        if(type instanceof ParameterizedType parameterizedType) {
+            return Stream.concat(
+                    streamRawTypes(parameterizedType.getRawType()),
+                    Stream.of(parameterizedType.getActualTypeArguments()).flatMap(_MetaModelSnapshot::streamRawTypes));
+        }
+        if(type instanceof GenericArrayType genericArrayType) {
+            return streamRawTypes(genericArrayType.getGenericComponentType());
+        }
+        return Stream.empty(); // type variables and wildcards
+    }
+
+    private static List<Class<?>> sorted(final Stream<Class<?>> types) {
+        return types
+                .distinct()
+                .sorted(Comparator.comparing(Class::getName))
+                .toList();
+    }
+
+    /**
+     * @param strict - whether the lack of a class file (eg. of a generated type) fails the fingerprint, and
+     *      whether nested types are included
+     */
+    private static boolean updateWithTypeHierarchy(
+            final MessageDigest messageDigest,
+            final @Nullable Class<?> type,
+            final Set<Class<?>> visited,
+            final boolean strict) {
+        if(type==null
+                || type.isPrimitive()
+                || type.getClassLoader()==null // JDK
+                || !visited.add(type)) {
+            return true;
+        }
+        if(type.isHidden()) {
+            // eg. lambdas have no class file of their own, their code is part of their nest host
+            return updateWithTypeHierarchy(messageDigest, type.getNestHost(), visited, strict);
+        }
+        update(messageDigest, type.getName());
+        var classFile = readResource(type, type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class");
+        if(classFile!=null) {
+            messageDigest.update(classFile);
+        } else if(strict) {
+            return false;
+        }
+        if(strict) {
+            for(var layoutSuffix : LAYOUT_SUFFIXES) {
+                var layoutFile = readResource(type, type.getSimpleName() + layoutSuffix);
+                if(layoutFile!=null) {
+                    messageDigest.update(layoutFile);
+                }
+            }
+        }
+        try {
+            if(!updateWithTypeHierarchy(messageDigest, type.getSuperclass(), visited, strict)) {
+                return false;
+            }
+            for(var related : Stream.concat(
+                        Stream.of(type.getInterfaces()),
+                        // nested types, eg. mixins or domain events declared within their domain type
+                        strict
+                            ? Stream.of(type.getDeclaredClasses())
+                            : Stream.<Class<?>>empty())
+                    .sorted(Comparator.comparing(Class::getName))
+                    .toList()) {
+                if(!updateWithTypeHierarchy(messageDigest, related, visited, strict)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    private static final String[] LAYOUT_SUFFIXES = {".layout.xml", ".layout.fallback.xml"};
+
+    private static void update(final MessageDigest messageDigest, final String string) {
+        messageDigest.update(string.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+    }
+
+    @Nullable
+    private static byte[] readResource(final Class<?> type, final String resourceName) {
+        try(InputStream inputStream = type.getResourceAsStream(resourceName)) {
+            return inputStream!=null
+                    ? inputStream.readAllBytes()
+                    : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static byte[] readResource(final ClassPathResource resource) {
+        if(!resource.exists()) return null;
+        try(InputStream inputStream = resource.getInputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+}
@@ -95,9 +95,24 @@ public Optional<Comparator<ManagedObject>> asComparator(final Can<? extends Data
 
     /**
      * Counts number of rows in {@link #dataRowsFilteredAndSortedObservable()}.
+     * <p>
+     * When originating from a {@link org.apache.causeway.applib.query.LazyQueryList},
+     * the count is pushed down to the persistence layer if possible.
      */
     int getFilteredElementCount();
 
+    // -- ROW PAGING
+
+    /**
+     * Page of {@link #dataRowsFilteredAndSortedObservable()}, skipping the first {@code skip} rows
+     * and returning at most {@code limit} rows.
+     * <p>
+     * When originating from a {@link org.apache.causeway.applib.query.LazyQueryList},
+     * paging and sorting are pushed down to the persistence layer if possible,
+     * such that only the requested page is fetched.
+     */
+    Can<DataRow> getDataRowsFilteredAndSorted(int skip, int limit);
+
     // -- ROW LOOKUP
 
     /**
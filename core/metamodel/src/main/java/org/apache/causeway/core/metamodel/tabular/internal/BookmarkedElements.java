@@ -0,0 +1,191 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.query.LazyQueryListAbstract;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+
+/**
+ * Compact (serializable) representation of a table's elements by their {@link Bookmark}s,
+ * with logical type names interned and identifiers packed.
+ * <p>
+ * Elements are recovered lazily, page by page, entities of the same type in bulk.
+ * (Any hint-ids of the original bookmarks are not retained.)
+ * Fails if any element cannot be recovered, rather than shifting the remaining elements' indexes.
+ */
+final class BookmarkedElements
+extends LazyQueryListAbstract<Object>
+implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static BookmarkedElements of(final @NonNull Can<Bookmark> bookmarks) {
+        var typeIndexByName = new LinkedHashMap<String, Integer>();
+        var typeIndexes = new int[bookmarks.size()];
+        var numericIds = new long[bookmarks.size()];
+        var allNumeric = true;
+        var packedIds = new StringBuilder();
+        var idEnds = new int[bookmarks.size()];
+
+        int index = 0;
+        for(var bookmark : bookmarks) {
+            typeIndexes[index] = typeIndexByName.computeIfAbsent(bookmark.logicalTypeName(), __->typeIndexByName.size());
+            var id = _Strings.nullToEmpty(bookmark.identifier());
+            if(allNumeric) {
+                var numericId = parseCanonicalLong(id);
+                if(numericId.isPresent()) {
+                    numericIds[index] = numericId.getAsLong();
+                } else {
+                    allNumeric = false;
+                }
+            }
+            packedIds.append(id);
+            idEnds[index] = packedIds.length();
+            ++index;
+        }
+
+        return new BookmarkedElements(
+                typeIndexByName.keySet().toArray(String[]::new),
+                typeIndexByName.size()>1 ? typeIndexes : null,
+                allNumeric ? numericIds : null,
+                allNumeric ? null : packedIds.toString(),
+                allNumeric ? null : idEnds);
+    }
+
+    private final @NonNull String[] logicalTypeNames;
+    /** by element index, {@code null} if all elements are of the same logical type */
+    private final int @Nullable [] typeIndexes;
+    /** by element index, {@code null} if not all identifiers are numeric */
+    private final long @Nullable [] numericIds;
+    /** all identifiers concatenated, {@code null} if all identifiers are numeric */
+    private final @Nullable String packedIds;
+    /** by element index, end offset of the identifier within {@link #packedIds} */
+    private final int @Nullable [] idEnds;
+
+    private BookmarkedElements(
+            final String[] logicalTypeNames,
+            final int @Nullable [] typeIndexes,
+            final long @Nullable [] numericIds,
+            final @Nullable String packedIds,
+            final int @Nullable [] idEnds) {
+        this.logicalTypeNames = logicalTypeNames;
+        this.typeIndexes = typeIndexes;
+        this.numericIds = numericIds;
+        this.packedIds = packedIds;
+        this.idEnds = idEnds;
+    }
+
+    int bookmarkCount() {
+        return numericIds!=null
+                ? numericIds.length
+                : idEnds.length;
+    }
+
+    Bookmark bookmark(final int index) {
+        var logicalTypeName = logicalTypeNames[typeIndexes!=null ? typeIndexes[index] : 0];
+        var id = numericIds!=null
+                ? Long.toString(numericIds[index])
+                : packedIds.substring(index>0 ? idEnds[index - 1] : 0, idEnds[index]);
+        return Bookmark.forLogicalTypeNameAndIdentifier(logicalTypeName, id);
+    }
+
+    /**
+     * Recovers all elements, entities of the same type in bulk.
+     */
+    Can<ManagedObject> loadAll() {
+        return load(0, bookmarkCount());
+    }
+
+    // -- LAZY QUERY LIST
+
+    @Override
+    public OptionalLong count() {
+        return OptionalLong.of(bookmarkCount());
+    }
+
+    /**
+     * Sorting is not supported, as that requires all elements.
+     */
+    @Override
+    public Optional<List<Object>> fetch(final @NonNull QueryRange range, final @Nullable Sort sort) {
+        if(sort!=null) {
+            return Optional.empty();
+        }
+        var start = (int) Math.min(range.getStart(), bookmarkCount());
+        var end = range.hasLimit()
+                ? start + (int) Math.min(range.getLimit(), bookmarkCount() - start)
+                : bookmarkCount();
+        return Optional.of(pojos(load(start, end)));
+    }
+
+    @Override
+    protected List<Object> fetchAll() {
+        return pojos(loadAll());
+    }
+
+    // -- HELPER
+
+    private Can<ManagedObject> load(final int start, final int end) {
+        var bookmarks = new Bookmark[end - start];
+        for(int i = start; i < end; ++i) {
+            bookmarks[i - start] = bookmark(i);
+        }
+        return MetaModelContext.instanceElseFail().getObjectManager()
+                .loadObjectsElseFail(Can.ofArray(bookmarks));
+    }
+
+    private static List<Object> pojos(final Can<ManagedObject> objects) {
+        return objects.stream()
+                .map(ManagedObject::getPojo)
+                .toList();
+    }
+
+    /**
+     * Only if parsing and formatting round-trips, such that the original identifier can be recovered.
+     */
+    private static OptionalLong parseCanonicalLong(final String id) {
+        if(id.isEmpty()
+                || id.length()>19) {
+            return OptionalLong.empty();
+        }
+        try {
+            var numericId = Long.parseLong(id);
+            return Long.toString(numericId).equals(id)
+                    ? OptionalLong.of(numericId)
+                    : OptionalLong.empty();
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+}
@@ -18,13 +18,18 @@
  */
 package org.apache.causeway.core.metamodel.tabular.internal;
 
+import java.io.Serializable;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -32,25 +37,32 @@
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.LazyQueryList;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.IndexedFunction;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Observables;
 import org.apache.causeway.commons.internal.binding._Observables.LazyObservable;
 import org.apache.causeway.commons.internal.collections._Streams;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ActionInteraction;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedAction;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedMember;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
-import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.object.MmSortUtils.SortDirection;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.tabular.DataColumn;
 import org.apache.causeway.core.metamodel.tabular.DataRow;
 import org.apache.causeway.core.metamodel.tabular.DataTableInteractive;
@@ -74,10 +86,12 @@ public static DataTableInternal empty(final ManagedMember managedMember, final W
 
     public static DataTableInternal forCollection(
             final ManagedCollection managedCollection) {
-        return new DataTableInternal(managedCollection, managedCollection.getWhere(),
-            managedCollection
-            .streamElements()
-            .collect(Can.toCan()));
+        var collectionValue = managedCollection.getCollectionValue();
+        return collectionValue instanceof PackedManagedObject packed
+            ? new DataTableInternal(managedCollection, managedCollection.getWhere(), packed)
+            : new DataTableInternal(managedCollection, managedCollection.getWhere(),
+                CollectionFacet.streamAdapters(collectionValue)
+                .collect(Can.toCan()));
     }
 
     public static DataTableInternal forAction(
@@ -85,16 +99,17 @@ public static DataTableInternal forAction(
             final ManagedObject actionResult) {
 
         if(actionResult==null) {
-            new DataTableInternal(managedAction, managedAction.getWhere(), Can.empty());
+            return new DataTableInternal(managedAction, managedAction.getWhere(), Can.empty());
         }
-        if(!(actionResult instanceof PackedManagedObject)) {
+        if(!(actionResult instanceof PackedManagedObject packed)) {
             throw _Exceptions.unexpectedCodeReach();
         }
 
-        var elements = ((PackedManagedObject)actionResult).unpack();
-        elements.forEach(ManagedObject::getBookmark);
+        if(packed.lazyQueryList().isEmpty()) {
+            packed.unpack().forEach(ManagedObject::getBookmark);
+        }
 
-        return new DataTableInternal(managedAction, managedAction.getWhere(), elements);
+        return new DataTableInternal(managedAction, managedAction.getWhere(), packed);
     }
 
     // -- CONSTRUCTION
@@ -128,6 +143,22 @@ public static DataTableInternal forAction(
     @Getter private final @NonNull LazyObservable<String> titleObservable;
 
     private final Optional<FilterHandler> filterHandler;
+    /**
+     * Built on first search, if worth it.
+     */
+    private final _Lazy<Optional<TokenIndex>> tokenIndex;
+
+    private final _Lazy<Can<ManagedObject>> elements;
+    /**
+     * If present, allows to push paging, sorting and counting down to the persistence layer.
+     * @see #queryPushDown()
+     */
+    private final Optional<LazyQueryList<?>> lazyQueryList;
+    private final _Lazy<OptionalLong> pushedDownCount;
+    /**
+     * Rows fetched by the most recent query push-down, by row index.
+     */
+    private final Map<Integer, DataRowInternal> pushedDownRows = new HashMap<>();
 
     /**
      * On data row selection changes (originating from UI),
@@ -137,28 +168,44 @@ public static DataTableInternal forAction(
     private final _BindableAbstract<Boolean> selectionChanges;
 
     private DataTableInternal(
-            // we need access to the owner in support of imperative title and referenced column detection
             final ManagedMember managedMember,
             final Where where,
             final Can<ManagedObject> elements) {
+        this(managedMember, where, ManagedObject.packed(managedMember.getElementType(), elements));
+    }
+
+    private DataTableInternal(
+            // we need access to the owner in support of imperative title and referenced column detection
+            final ManagedMember managedMember,
+            final Where where,
+            final PackedManagedObject packedElements) {
 
         this.managedMember = managedMember;
         this.where = where;
         this.filterHandler = FilterUtils.createFilterHandler(managedMember.getElementType());
 
+        this.elements = packedElements.lazyNonScalar();
+        this.lazyQueryList = packedElements.lazyQueryList();
+        this.pushedDownCount = _Lazy.threadSafe(()->lazyQueryList
+                .map(LazyQueryList::count)
+                .orElseGet(OptionalLong::empty));
+
         this.searchArgumentBindable = _Bindables.forValue("");
         this.columnSortBindable = _Bindables.forValue(null);
 
-        this.dataElementsObservable = _Observables.lazy(()->elements);
+        this.dataElementsObservable = _Observables.lazy(elements::get);
 
         this.dataRowsObservable = _Observables.lazy(()->
             dataElementsObservable.getValue().stream()
                 .map(IndexedFunction.zeroBased((rowIndex, element)->new DataRowInternal(rowIndex, this, element, tokens(element))))
                 .collect(Can.toCan()));
 
+        this.tokenIndex = _Lazy.threadSafe(()->filterHandler
+                .flatMap(handler->handler.createTokenIndex(dataRowsObservable.getValue())));
+
         this.dataRowsFilteredAndSortedObservable = _Observables.lazy(()->
             _Streams.sortConditionally(
-                dataRowsObservable.getValue().stream().filter(adaptSearchPredicate()),
+                streamDataRowsFiltered(),
                     sortingComparator().orElse(null))
                 .collect(Can.toCan()));
 
@@ -175,6 +222,7 @@ private DataTableInternal(
 
         this.columnSortBindable.addListener((e,o,n)->{
             dataRowsFilteredAndSortedObservable.invalidate();
+            pushedDownRows.clear();
         });
 
         this.dataColumnsObservable = _Observables.lazy(()->
@@ -217,7 +265,21 @@ public int getVisibleElementCount() {
      */
     @Override
     public int getFilteredElementCount() {
-        return dataRowsFilteredAndSortedObservable.getValue().size();
+        return queryPushDown()
+            .map(__->pushedDownCount.get())
+            .filter(OptionalLong::isPresent)
+            .map(count->Math.toIntExact(count.getAsLong()))
+            .orElseGet(()->dataRowsFilteredAndSortedObservable.getValue().size());
+    }
+
+    @Override
+    public Can<DataRow> getDataRowsFilteredAndSorted(final int skip, final int limit) {
+        return queryPushDown()
+            .flatMap(queryList->fetchPushedDown(queryList, skip, limit))
+            .orElseGet(()->dataRowsFilteredAndSortedObservable.getValue().stream()
+                    .skip(skip)
+                    .limit(limit)
+                    .collect(Can.toCan()));
     }
 
     @Override
@@ -231,10 +293,76 @@ public ObjectSpecification getElementType() {
 
     @Override
     public Optional<DataRow> lookupDataRow(final int rowIndex) {
+        if(queryPushDown().isPresent()) {
+            var pushedDownRow = Optional.<DataRow>ofNullable(pushedDownRows.get(rowIndex))
+                .or(()->getDataRowsFilteredAndSorted(rowIndex, 1).getFirst());
+            if(pushedDownRow.isPresent()) {
+                return pushedDownRow;
+            }
+        }
         return dataRowsObservable().getValue().get(rowIndex)
                 .map(DataRow.class::cast);
     }
 
+    // -- QUERY PUSH-DOWN
+
+    /**
+     * Optionally the {@link LazyQueryList}, paging, sorting and counting can be pushed down to,
+     * based on whether originating from one and not requiring all elements in memory anyway.
+     * <p>
+     * That is, falls back to in-memory processing once elements have been fetched,
+     * for quick-search, for element ordering as only known to the metamodel and for multi-select.
+     */
+    private Optional<LazyQueryList<?>> queryPushDown() {
+        if(lazyQueryList.isEmpty()
+                || elements.isMemoized()
+                || _Strings.isNotEmpty(searchArgumentBindable.getValue())
+                || (columnSortBindable.getValue()==null
+                    && getMetaModel().getElementComparator().isPresent())
+                || isMultiselect()) {
+            return Optional.empty();
+        }
+        return lazyQueryList;
+    }
+
+    private boolean isMultiselect() {
+        return getMetaModel() instanceof OneToManyAssociation collection
+                && collection.hasAssociatedActionsWithChoicesFromThisCollection();
+    }
+
+    /**
+     * Row indexes correspond to the position within the (sorted) query result.
+     * Empty, if the query does not support the requested sort.
+     */
+    private Optional<Can<DataRow>> fetchPushedDown(
+            final LazyQueryList<?> queryList,
+            final int skip,
+            final int limit) {
+        var objectManager = managedMember.getElementType().getObjectManager();
+        return queryList.fetch(QueryRange.of(skip, limit), querySort().orElse(null))
+            .map(pojos->{
+                pushedDownRows.clear();
+                return _NullSafe.stream(pojos)
+                    .map(IndexedFunction.zeroBased((index, pojo)->{
+                        var element = objectManager.adapt(pojo);
+                        element.getBookmark();
+                        var dataRow = new DataRowInternal(skip + index, this, element, tokens(element));
+                        pushedDownRows.put(dataRow.rowIndex(), dataRow);
+                        return (DataRow) dataRow;
+                    }))
+                    .collect(Can.toCan());
+            });
+    }
+
+    private Optional<LazyQueryList.Sort> querySort() {
+        return Optional.ofNullable(columnSortBindable.getValue())
+            .flatMap(sort->dataColumnsObservable.getValue().get(sort.columnIndex())
+                .map(column->column.associationMetaModel().getSpecialization().leftIfAny())
+                .map(property->new LazyQueryList.Sort(
+                        property.getId(),
+                        sort.sortDirection() == SortDirection.ASCENDING)));
+    }
+
     // -- FILTER
 
     @Override
@@ -243,6 +371,23 @@ public String getSearchPromptPlaceholderText() {
                 .orElse("");
     }
 
+    /**
+     * Only considers candidate rows as yielded by the {@link TokenIndex} (if any),
+     * instead of scanning all rows.
+     */
+    private Stream<DataRow> streamDataRowsFiltered() {
+        var dataRows = dataRowsObservable.getValue();
+        var searchArg = searchArgumentBindable.getValue();
+        var candidates = _Strings.isNotEmpty(searchArg)
+            ? tokenIndex.get()
+                .map(index->index.candidates(searchArg).stream()
+                    .mapToObj(dataRows::getElseFail))
+            : Optional.<Stream<DataRow>>empty();
+        return candidates
+            .orElseGet(dataRows::stream)
+            .filter(adaptSearchPredicate());
+    }
+
     private Predicate<DataRow> adaptSearchPredicate() {
         return filterHandler.isEmpty()
                 ? dataRow->true
@@ -389,16 +534,6 @@ public DataTable export() {
                     .collect(Can.toCan()));
     }
 
-    // used internally for serialization
-    private DataTable exportAll() {
-        return new DataTable(
-                getElementType(),
-                titleObservable().getValue(),
-                dataColumnsObservable().getValue()
-                    .map(DataColumn::associationMetaModel),
-                dataElementsObservable().getValue());
-    }
-
     // -- MEMENTO
 
     @Override
@@ -429,15 +564,28 @@ static Memento create(
             return new Memento(
                     tableInteractive.managedMember.getIdentifier(),
                     tableInteractive.where,
-                    tableInteractive.exportAll(),
+                    compactElements(tableInteractive),
                     tableInteractive.searchArgumentBindable.getValue(),
                     tableInteractive.getSelectedRowIndexes(),
                     tableInteractive.columnSortBindable().getValue());
         }
 
+        /**
+         * As long as not fetched yet, rather memoizes the (serializable) query than all its elements,
+         * otherwise just the elements' bookmarks.
+         */
+        private static LazyQueryList<?> compactElements(final DataTableInternal tableInteractive) {
+            return tableInteractive.lazyQueryList
+                    .filter(queryList->queryList instanceof BookmarkedElements
+                            || (queryList instanceof Serializable
+                                && !tableInteractive.elements.isMemoized()))
+                    .orElseGet(()->BookmarkedElements.of(tableInteractive.elements.get()
+                            .map(ManagedObject::getBookmarkElseFail)));
+        }
+
         private final @NonNull Identifier featureId;
         private final @NonNull Where where;
-        private final @NonNull DataTable dataTable;
+        private final @NonNull LazyQueryList<?> elements;
 
         private @Nullable String searchArgument;
         private @NonNull Set<Integer> selectedRowIndexes;
@@ -453,20 +601,22 @@ public DataTableInternal recreateDataTableModel(final ManagedObject owner) {
                     : ManagedAction.lookupAction(owner, memberId, where)
                         .orElseThrow();
 
+            var elementType = managedMember.getElementType();
             var dataTableInteractive = new DataTableInternal(managedMember, where,
-                    dataTable.streamDataElements()
-                    .peek(obj->{
-                        if(obj.specialization().isViewmodel()) {
-                            // make sure any referenced entities are made live if currently hollow
-                            ManagedObjects.refreshViewmodel(obj, /*bookmark supplier*/ null);
-                        }
-                    })
-                    .collect(Can.toCan()));
+                    elements instanceof BookmarkedElements bookmarkedElements
+                        // recovered page by page, unless all are required
+                        ? ManagedObject.packedLazily(elementType, bookmarkedElements, bookmarkedElements::loadAll)
+                        : (PackedManagedObject) elementType.getObjectManager()
+                            .adapt(elements, ()->elementType));
 
             if(columnSort!=null)  {
                 dataTableInteractive.columnSortBindable.setValue(columnSort);
             }
             dataTableInteractive.searchArgumentBindable.setValue(searchArgument);
+            if(selectedRowIndexes.isEmpty()) {
+                // don't fetch all rows, just to not select any
+                return dataTableInteractive;
+            }
             dataTableInteractive.doProgrammaticToggle(()->{
                 dataTableInteractive.dataRowsObservable.getValue().stream()
                     .filter(dataRow->selectedRowIndexes.contains(dataRow.rowIndex()))
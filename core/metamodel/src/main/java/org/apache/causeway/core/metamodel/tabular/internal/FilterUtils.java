@@ -29,7 +29,9 @@
 import org.apache.causeway.applib.services.filter.CollectionFilterService.Tokens;
 import org.apache.causeway.applib.services.i18n.TranslationContext;
 import org.apache.causeway.applib.services.i18n.TranslationService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.tabular.DataRow;
 
@@ -38,12 +40,27 @@ record FilterUtils() {
     record FilterHandler(
         @NonNull Function<Object, Tokens> tokenizer,
         @NonNull BiPredicate<Tokens, String> tokenFilter,
-        @NonNull String searchPromptPlaceholderText) {
+        @NonNull String searchPromptPlaceholderText,
+        CausewayConfiguration.Core.MetaModel.@NonNull QuickSearch quickSearchConfig) {
 
         @NonNull BiPredicate<DataRow, String> getDataRowFilter() {
             return (dataRow, searchArg) ->
                 tokenFilter.test(dataRow.filterTokens().orElse(null), searchArg);
         }
+
+        /**
+         * Optionally an inverted index over given rows' tokens, if worth it and within memory bounds.
+         * @param dataRows - expected to be in row index order
+         */
+        Optional<TokenIndex> createTokenIndex(final @NonNull Can<DataRow> dataRows) {
+            if(dataRows.size() < quickSearchConfig.getIndexMinRows()
+                    || dataRows.size() > quickSearchConfig.getIndexMaxRows()) {
+                return Optional.empty();
+            }
+            return TokenIndex.create(dataRows.stream()
+                    .map(dataRow->dataRow.filterTokens().orElse(null))
+                    .toList());
+        }
     }
 
     static Optional<FilterHandler> createFilterHandler(final @Nullable ObjectSpecification elementType) {
@@ -82,7 +99,8 @@ static Optional<FilterHandler> createFilterHandler(final @Nullable ObjectSpecifi
         return Optional.of(new FilterHandler(
                 _Casts.uncheckedCast(tokenizer),
                 tokenFilter,
-                searchPromptPlaceholderText));
+                searchPromptPlaceholderText,
+                mmc.getConfiguration().getCore().getMetaModel().getQuickSearch()));
     }
 
 }
@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.services.filter.CollectionFilterService.IndexableTokens;
+import org.apache.causeway.applib.services.filter.CollectionFilterService.Tokens;
+import org.apache.causeway.commons.internal.base._Strings;
+
+/**
+ * Inverted index (word to row-index bitmap) over the {@link IndexableTokens} of a table's rows.
+ * <p>
+ * Yields candidate rows for a given search argument, that still need to be matched against the actual filter,
+ * as per contract of {@link IndexableTokens}. A search argument, that refines the previous one,
+ * narrows the previous candidates instead of starting over.
+ * <p>
+ * Not thread-safe.
+ */
+final class TokenIndex {
+
+    /**
+     * Optionally creates the index, provided all rows have {@link IndexableTokens}.
+     * @param tokensByRowIndex - as indexed by zero-based row index
+     */
+    static Optional<TokenIndex> create(final @NonNull List<? extends @Nullable Tokens> tokensByRowIndex) {
+        var rowsByWord = new TreeMap<String, BitSet>();
+        int rowIndex = 0;
+        for(var tokens : tokensByRowIndex) {
+            if(!(tokens instanceof IndexableTokens indexableTokens)) {
+                return Optional.empty();
+            }
+            for(var word : indexableTokens.words()) {
+                if(_Strings.isNotEmpty(word)) {
+                    rowsByWord.computeIfAbsent(normalize(word), __->new BitSet()).set(rowIndex);
+                }
+            }
+            ++rowIndex;
+        }
+        return Optional.of(new TokenIndex(rowsByWord, rowIndex));
+    }
+
+    private final NavigableMap<String, BitSet> rowsByWord;
+    private final int rowCount;
+
+    private @Nullable String previousSearchArg;
+    private @Nullable BitSet previousCandidates;
+
+    private TokenIndex(final NavigableMap<String, BitSet> rowsByWord, final int rowCount) {
+        this.rowsByWord = rowsByWord;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Row indexes of all rows, that potentially match given search argument.
+     */
+    BitSet candidates(final @Nullable String searchArg) {
+        var normalizedSearchArg = normalize(_Strings.nullToEmpty(searchArg).trim());
+        if(normalizedSearchArg.isEmpty()) {
+            var all = new BitSet(rowCount);
+            all.set(0, rowCount);
+            return all;
+        }
+        var candidates = isRefinementOfPrevious(normalizedSearchArg)
+                ? (BitSet) previousCandidates.clone()
+                : null;
+        for(var searchWord : normalizedSearchArg.split("\\s+")) {
+            if(candidates!=null
+                    && candidates.isEmpty()) {
+                break;
+            }
+            var rowsWithWord = rowsWithWordPrefix(searchWord);
+            if(candidates==null) {
+                candidates = rowsWithWord;
+            } else {
+                candidates.and(rowsWithWord);
+            }
+        }
+        this.previousSearchArg = normalizedSearchArg;
+        this.previousCandidates = candidates;
+        return (BitSet) candidates.clone();
+    }
+
+    // -- HELPER
+
+    /**
+     * Any row matching a search argument that (after normalization) starts with the previous one,
+     * also matched the previous one, as each previous search word is a prefix of the corresponding new one.
+     */
+    private boolean isRefinementOfPrevious(final String normalizedSearchArg) {
+        return previousCandidates!=null
+                && normalizedSearchArg.startsWith(previousSearchArg);
+    }
+
+    private BitSet rowsWithWordPrefix(final String wordPrefix) {
+        var rows = new BitSet(rowCount);
+        rowsByWord.subMap(wordPrefix, true, wordPrefix + Character.MAX_VALUE, true)
+            .values()
+            .forEach(rows::or);
+        return rows;
+    }
+
+    private static String normalize(final String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+}
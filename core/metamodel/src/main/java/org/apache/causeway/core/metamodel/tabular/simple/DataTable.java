@@ -362,7 +362,8 @@ private Object readResolve() {
             var mmc = MetaModelContext.instanceElseFail();
             var objectManager = mmc.getObjectManager();
             var elementType = mmc.specForTypeElseFail(elementTypeClass);
-            var rowElements = rowElementBookmarks.map(objectManager::loadObjectElseFail);
+            // entities of the same type are fetched in bulk, failing if any row cannot be recovered
+            var rowElements = objectManager.loadObjectsElseFail(rowElementBookmarks);
             var dataTable = new DataTable(elementType,
                 tableFriendlyName,
                 columnIds
@@ -0,0 +1,177 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.internal.base._Blackhole;
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.core.internaltestsupport.annotations.DisabledIfRunningWithSurefire;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+
+import lombok.SneakyThrows;
+
+class MethodInvokerTest {
+
+    static class Customer {
+        private String name = "Joe";
+        private int visits;
+        public String getName() { return name; }
+        public int getVisits() { return visits; }
+        @SuppressWarnings("unused")
+        private boolean hideName() { return false; }
+        public void updateName(final String name, final int visits) {
+            this.name = name;
+            this.visits = visits;
+        }
+        public String fail() { throw new IllegalStateException("fail"); }
+        public static String describe(final String prefix) { return prefix + "Customer"; }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void noArgMethods(final boolean compile) throws Throwable {
+        var customer = new Customer();
+        assertEquals("Joe", invoker("getName", compile).invoke(customer, null));
+        assertEquals(0, invoker("getVisits", compile).invoke(customer, new Object[0]));
+        assertEquals(false, invoker("hideName", compile).invoke(customer, null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void methodsWithArgs(final boolean compile) throws Throwable {
+        var customer = new Customer();
+        assertNull(invoker("updateName", compile).invoke(customer, new Object[] {"Jane", 3}));
+        assertEquals("Jane", customer.getName());
+        assertEquals(3, customer.getVisits());
+        assertEquals("aCustomer", invoker("describe", compile).invoke(null, new Object[] {"a"}));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void exceptionsAreWrapped(final boolean compile) {
+        var ex = assertThrows(InvocationTargetException.class,
+                ()->invoker("fail", compile).invoke(new Customer(), null));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void argumentMismatch(final boolean compile) {
+        assertThrows(IllegalArgumentException.class,
+                ()->invoker("updateName", compile).invoke(new Customer(), new Object[] {"Jane", null}));
+        assertThrows(IllegalArgumentException.class,
+                ()->invoker("updateName", compile).invoke(new Customer(), new Object[] {"Jane"}));
+    }
+
+    @Test
+    void compiledInvokers() {
+        assertFalse(invoker("getName", true).isReflective());
+        assertFalse(invoker("hideName", true).isReflective());
+        assertFalse(invoker("updateName", true).isReflective());
+        assertFalse(invoker("describe", true).isReflective());
+        assertTrue(invoker("getName", false).isReflective());
+        assertInstanceOf(MethodInvoker.NoArgFunction.class, invoker("getName", true));
+    }
+
+    public static class Order {
+        public String getNumber() { return "1"; }
+    }
+
+    public static class Invoice {
+        public String getNumber() { return "2"; }
+    }
+
+    @Test
+    void invokersArePreparedDuringIntrospection() throws Throwable {
+        var mmc = MetaModelContext_forTesting.buildDefault();
+        mmc.getSpecificationLoader().specForTypeElseFail(Order.class).getPropertyElseFail("number");
+
+        var invoker = CanonicalInvoker.invokerFor(Order.class.getMethod("getNumber"));
+        assertFalse(invoker.isReflective());
+        assertEquals("1", invoker.invoke(new Order(), null));
+    }
+
+    @Test
+    void invokersAreNotCompiled_whenDisabledByConfig() throws Throwable {
+        var mmc = MetaModelContext_forTesting.buildDefault();
+        mmc.getConfiguration().getCore().getMetaModel().getIntrospector().setCompileMethodInvokers(false);
+        mmc.getSpecificationLoader().specForTypeElseFail(Invoice.class).getPropertyElseFail("number");
+
+        var invoker = CanonicalInvoker.invokerFor(Invoice.class.getMethod("getNumber"));
+        assertTrue(invoker.isReflective());
+        assertEquals("2", invoker.invoke(new Invoice(), null));
+    }
+
+    //XXX not a real test, just for performance tuning
+    @Test @DisabledIfRunningWithSurefire
+    void compareReflectiveWithCompiled() throws Throwable {
+        var customer = new Customer();
+        var reflective = new MethodInvoker[] {invoker("getName", false), invoker("updateName", false)};
+        var compiled = new MethodInvoker[] {invoker("getName", true), invoker("updateName", true)};
+        var args = new Object[] {"Jane", 3};
+
+        final int warmup = 1_000_000;
+        final int iterations = 10_000_000;
+        for(var invokers : new MethodInvoker[][] {reflective, compiled, reflective, compiled}) {
+            run(invokers, customer, args, warmup);
+            var stopWatch = _Timing.now();
+            run(invokers, customer, args, iterations);
+            stopWatch.stop();
+            System.err.printf("%s: %.1f ns/op%n",
+                    invokers[0].isReflective() ? "reflective" : "compiled",
+                    (double)stopWatch.getNanos() / (2L * iterations));
+        }
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static void run(final MethodInvoker[] invokers, final Object target, final Object[] args, final int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            _Blackhole.consume(invokers[0].invoke(target, null));
+            _Blackhole.consume(invokers[1].invoke(target, args));
+        }
+    }
+
+    private static MethodInvoker invoker(final String methodName, final boolean compile) {
+        return MethodInvoker.create(method(methodName), compile);
+    }
+
+    @SneakyThrows
+    private static Method method(final String methodName) {
+        for(var method : Customer.class.getDeclaredMethods()) {
+            if(method.getName().equals(methodName)) return method;
+        }
+        throw new NoSuchMethodException(methodName);
+    }
+
+}
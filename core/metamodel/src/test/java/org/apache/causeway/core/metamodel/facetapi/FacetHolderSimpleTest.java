@@ -0,0 +1,91 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facetapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+
+class FacetHolderSimpleTest {
+
+    static interface FooFacet extends Facet {
+    }
+
+    static interface BarFacet extends Facet {
+    }
+
+    static class FooFacetImpl extends FacetAbstract implements FooFacet {
+        public FooFacetImpl(final FacetHolder holder, final Precedence precedence) {
+            super(FooFacet.class, holder, precedence);
+        }
+    }
+
+    static class BarFacetImpl extends FacetAbstract implements BarFacet {
+        public BarFacetImpl(final FacetHolder holder) {
+            super(BarFacet.class, holder);
+        }
+    }
+
+    private FacetHolder facetHolder;
+
+    @BeforeEach
+    void setUp() {
+        facetHolder = FacetHolder.forTesting(MetaModelContext_forTesting.buildDefault());
+        facetHolder.addFacet(new FooFacetImpl(facetHolder, Facet.Precedence.DEFAULT));
+    }
+
+    @Test
+    void sealing_preservesLookup() {
+        var fooFacet = facetHolder.getFacet(FooFacet.class);
+        assertFalse(facetHolder.isSealed());
+
+        facetHolder.seal();
+
+        assertTrue(facetHolder.isSealed());
+        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+        assertTrue(facetHolder.containsFacet(FooFacet.class));
+        assertFalse(facetHolder.containsFacet(BarFacet.class));
+        assertEquals(1, facetHolder.getFacetCount());
+        assertEquals(1L, facetHolder.streamFacets().count());
+    }
+
+    @Test
+    void addingFacets_afterSealing_reseals() {
+        facetHolder.seal();
+
+        var barFacet = new BarFacetImpl(facetHolder);
+        facetHolder.addFacet(barFacet);
+
+        assertTrue(facetHolder.isSealed());
+        assertSame(barFacet, facetHolder.getFacet(BarFacet.class));
+        assertEquals(2, facetHolder.getFacetCount());
+
+        // higher precedence wins also after sealing
+        var highFooFacet = new FooFacetImpl(facetHolder, Facet.Precedence.HIGH);
+        facetHolder.addFacet(highFooFacet);
+        assertSame(highFooFacet, facetHolder.getFacet(FooFacet.class));
+    }
+
+}
@@ -35,6 +35,7 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.applib.annotation.Bounding;
+import org.apache.causeway.applib.annotation.Caching;
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.DomainService;
 import org.apache.causeway.applib.id.LogicalType;
@@ -46,6 +47,7 @@
 import org.apache.causeway.core.metamodel.facets.AbstractTestWithMetaModelContext;
 import org.apache.causeway.core.metamodel.facets.FacetFactoryTestAbstract;
 import org.apache.causeway.core.metamodel.facets.object.autocomplete.AutoCompleteFacet;
+import org.apache.causeway.core.metamodel.facets.object.caching.CachingFacet;
 import org.apache.causeway.core.metamodel.facets.object.domainobject.autocomplete.AutoCompleteFacetForDomainObjectAnnotation;
 import org.apache.causeway.core.metamodel.facets.object.domainobject.choices.ChoicesFacetForDomainObjectAnnotation;
 import org.apache.causeway.core.metamodel.facets.object.domainobject.editing.ImmutableFacetForDomainObjectAnnotation;
@@ -380,6 +382,77 @@ public void whenNoDomainObjectAnnotation() {
 
     }
 
+    public static class Cached extends DomainObjectAnnotationFacetFactoryTest {
+
+        @DomainObject(caching = Caching.CACHED)
+        class CustomerWithDomainObjectAndCachingSetToCached {
+        }
+
+        @DomainObject(caching = Caching.UNCACHED)
+        class CustomerWithDomainObjectAndCachingSetToUncached {
+        }
+
+        @DomainObject
+        class CustomerWithDomainObjectButNoCaching {
+        }
+
+        @Override
+        @BeforeEach
+        public void setUp() throws Exception {
+            super.setUp();
+            ignoringConfiguration();
+        }
+
+        @Test
+        public void whenDomainObjectAndCachingSetToCached() {
+
+            objectScenario(CustomerWithDomainObjectAndCachingSetToCached.class, (processClassContext, facetHolder)->{
+                facetFactory.process(processClassContext);
+
+                final CachingFacet facet = facetHolder.getFacet(CachingFacet.class);
+                assertNotNull(facet);
+                assertTrue(CachingFacet.isCached(facetHolder));
+
+                facet.recordLookup(true);
+                facet.recordLookup(true);
+                facet.recordLookup(true);
+                facet.recordLookup(false);
+                assertThat(facet.statistics(), is(new CachingFacet.Statistics(3L, 1L)));
+                assertThat(facet.statistics().hitRate(), is(0.75));
+
+                assertNoMethodsRemoved();
+            });
+        }
+
+        @Test
+        public void whenDomainObjectAndCachingSetToUncached() {
+
+            objectScenario(CustomerWithDomainObjectAndCachingSetToUncached.class, (processClassContext, facetHolder)->{
+                facetFactory.process(processClassContext);
+
+                final CachingFacet facet = facetHolder.getFacet(CachingFacet.class);
+                assertNotNull(facet);
+                assertFalse(CachingFacet.isCached(facetHolder));
+
+                assertNoMethodsRemoved();
+            });
+        }
+
+        @Test
+        public void whenDomainObjectButNoCaching() {
+
+            objectScenario(CustomerWithDomainObjectButNoCaching.class, (processClassContext, facetHolder)->{
+                facetFactory.process(processClassContext);
+
+                final Facet facet = facetHolder.getFacet(CachingFacet.class);
+                assertNull(facet);
+
+                assertNoMethodsRemoved();
+            });
+        }
+
+    }
+
     public static class Editing extends DomainObjectAnnotationFacetFactoryTest {
 
         class CustomerWithImmutableAnnotation {
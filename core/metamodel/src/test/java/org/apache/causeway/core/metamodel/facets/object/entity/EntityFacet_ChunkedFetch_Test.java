@@ -0,0 +1,69 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet.ChunkedFetch;
+
+class EntityFacet_ChunkedFetch_Test {
+
+    record Customer(Long id) {}
+
+    private static Bookmark bookmark(final long id) {
+        return Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "" + id);
+    }
+
+    @Test
+    void fetchesInChunks_honoringOrder_skippingMissing() {
+        var chunks = new ArrayList<List<Object>>();
+
+        var bookmarks = Can.of(bookmark(5), bookmark(3), bookmark(4), bookmark(1), bookmark(2), bookmark(3));
+
+        Map<Bookmark, Object> pojoByBookmark = new ChunkedFetch(2)
+                .fetch(bookmarks,
+                        Long::valueOf,
+                        primaryKeys->{
+                            chunks.add(primaryKeys.toList());
+                            // simulate the database returning rows in arbitrary order, and id=4 not found
+                            return primaryKeys.reverse().stream()
+                                    .filter(pk->!pk.equals(4L))
+                                    .map(pk->new Customer((Long)pk))
+                                    .toList();
+                        },
+                        pojo->((Customer)pojo).id());
+
+        // duplicates collapsed, then chunked
+        assertEquals(List.of(List.of(5L, 3L), List.of(4L, 1L), List.of(2L)), chunks);
+
+        assertEquals(
+                List.of(bookmark(5), bookmark(3), bookmark(1), bookmark(2)),
+                List.copyOf(pojoByBookmark.keySet()));
+        assertEquals(new Customer(1L), pojoByBookmark.get(bookmark(1)));
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.entity;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.tablecol.TableColumnVisibilityService;
+import org.apache.causeway.commons.functional.Either;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.facets.all.hide.HiddenFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+class TableFetchPlanTest {
+
+    static class Order {}
+
+    private MetaModelContext_forTesting mmc;
+    private ObjectSpecification orderSpec;
+
+    private OneToOneAssociation customer; // entity reference, visible in tables
+    private OneToOneAssociation salesRep; // entity reference, hidden in tables
+    private OneToOneAssociation product;  // entity reference, hidden by TableColumnVisibilityService
+    private OneToOneAssociation reference; // value
+
+    private boolean hidesProduct = true; // eg. depending on the current user
+
+    @BeforeEach
+    void setUp() {
+        mmc = MetaModelContext_forTesting.builder()
+                .singleton(new TableColumnVisibilityService() {
+                    @Override public boolean hides(final Class<?> collectionType, final String memberId) {
+                        return hidesProduct
+                                && memberId.equals("product");
+                    }
+                })
+                .build();
+        mmc.getConfiguration().getPersistence().getCommons().getTableFetchPlan().setEnabled(true);
+
+        var entitySpec = Mockito.mock(ObjectSpecification.class);
+        when(entitySpec.isEntity()).thenReturn(true);
+        var valueSpec = Mockito.mock(ObjectSpecification.class);
+
+        customer = property("customer", entitySpec);
+        salesRep = property("salesRep", entitySpec);
+        var hiddenFacet = Mockito.mock(HiddenFacet.class);
+        when(hiddenFacet.where()).thenReturn(Where.ALL_TABLES);
+        doReturn(Optional.of(hiddenFacet)).when(salesRep).lookupFacet(HiddenFacet.class);
+        product = property("product", entitySpec);
+        reference = property("reference", valueSpec);
+
+        orderSpec = Mockito.mock(ObjectSpecification.class);
+        when(orderSpec.getMetaModelContext()).thenReturn(mmc);
+        when(orderSpec.getFullIdentifier()).thenReturn(Order.class.getName());
+        when(orderSpec.logicalTypeName()).thenReturn("test.Order");
+        doReturn(Order.class).when(orderSpec).getCorrespondingClass();
+        when(orderSpec.streamProperties(MixedIn.EXCLUDED))
+            .thenAnswer(__->Stream.of(customer, salesRep, product, reference));
+    }
+
+    @Test
+    void includes_visible_entity_references_only() {
+        var plan = TableFetchPlan.forEntity(orderSpec);
+        assertEquals(List.of("customer", "product"), plan.referencePropertyIds().toList());
+        assertEquals(List.of("customer"), withoutColumnsHidden(plan).referencePropertyIds().toList());
+    }
+
+    @Test
+    void consults_table_column_visibility_services_on_each_use() {
+        var plan = TableFetchPlan.forEntity(orderSpec);
+        assertEquals(List.of("customer"), withoutColumnsHidden(plan).referencePropertyIds().toList());
+        hidesProduct = false;
+        assertEquals(List.of("customer", "product"), withoutColumnsHidden(plan).referencePropertyIds().toList());
+    }
+
+    @Test
+    void is_disabled_by_default() {
+        assertFalse(new CausewayConfiguration.Persistence.Commons.TableFetchPlan().isEnabled());
+    }
+
+    @Test
+    void is_empty_when_disabled() {
+        mmc.getConfiguration().getPersistence().getCommons().getTableFetchPlan().setEnabled(false);
+        assertTrue(TableFetchPlan.forEntity(orderSpec).isEmpty());
+    }
+
+    @Test
+    void is_empty_when_type_excluded_by_logical_type_name() {
+        mmc.getConfiguration().getPersistence().getCommons().getTableFetchPlan()
+            .setExcludedTypes(List.of("test.Order"));
+        assertTrue(TableFetchPlan.forEntity(orderSpec).isEmpty());
+    }
+
+    @Test
+    void is_empty_when_type_excluded_by_class_name() {
+        mmc.getConfiguration().getPersistence().getCommons().getTableFetchPlan()
+            .setExcludedTypes(List.of(Order.class.getName()));
+        assertTrue(TableFetchPlan.forEntity(orderSpec).isEmpty());
+    }
+
+    // -- HELPER
+
+    private TableFetchPlan withoutColumnsHidden(final TableFetchPlan plan) {
+        return plan.withoutColumnsHiddenBy(Order.class,
+                mmc.getServiceRegistry().select(TableColumnVisibilityService.class));
+    }
+
+    private static OneToOneAssociation property(final String id, final ObjectSpecification elementType) {
+        var property = Mockito.mock(OneToOneAssociation.class);
+        when(property.getId()).thenReturn(id);
+        when(property.getElementType()).thenReturn(elementType);
+        when(property.getSpecialization()).thenReturn(Either.left(property));
+        return property;
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.interactions;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.consent.Consent.VetoReason;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdviceCache.AdviceKind;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+class InteractionAdviceCacheTest {
+
+    static class Customer {
+    }
+
+    private final AtomicReference<UserMemento> currentUser = new AtomicReference<>(UserMemento.ofName("sven"));
+    private final AtomicInteger evaluationCount = new AtomicInteger();
+
+    private InteractionAdviceStatistics statistics;
+    private InteractionAdviceCache adviceCache;
+    private ObjectIndependentInteractionAdvisor advisor;
+    private ObjectSpecification ownerSpec;
+
+    @BeforeEach
+    void setUp() {
+        var iaTracker = Mockito.mock(InteractionLayerTracker.class);
+        Mockito.when(iaTracker.currentInteractionContext()).thenAnswer(__->
+            Optional.of(org.apache.causeway.applib.services.iactnlayer.InteractionContext
+                .ofUserWithSystemDefaults(currentUser.get())));
+        statistics = new InteractionAdviceStatistics();
+        adviceCache = new InteractionAdviceCache(iaTracker, statistics);
+        advisor = Mockito.mock(ObjectIndependentInteractionAdvisor.class);
+        ownerSpec = MetaModelContext_forTesting.buildDefault()
+                .getSpecificationLoader().loadSpecification(Customer.class);
+    }
+
+    @Test
+    void sameFeatureAndWhere_isEvaluatedOnlyOnce() {
+        var context = context("name", Where.ALL_TABLES);
+
+        for (int row = 0; row < 10; row++) {
+            assertEquals("Not authorized to view", hidingReason(context).orElseThrow().string());
+        }
+
+        assertEquals(1, evaluationCount.get());
+        assertEquals(9, adviceCache.getHitCount());
+        assertEquals(1, adviceCache.getMissCount());
+    }
+
+    @Test
+    void differentFeatureWhereKindOrUser_isEvaluatedSeparately() {
+        hidingReason(context("name", Where.ALL_TABLES));
+        hidingReason(context("email", Where.ALL_TABLES));
+        hidingReason(context("name", Where.OBJECT_FORMS));
+        adviceCache.computeIfAbsent(AdviceKind.DISABLING, advisor, context("name", Where.ALL_TABLES), this::evaluate);
+        currentUser.set(UserMemento.ofName("dick"));
+        hidingReason(context("name", Where.ALL_TABLES));
+
+        assertEquals(5, evaluationCount.get());
+        assertEquals(0, adviceCache.getHitCount());
+    }
+
+    @Test
+    void destroy_clearsMemoizedAdvice() {
+        var context = context("name", Where.ALL_TABLES);
+        hidingReason(context);
+        adviceCache.destroy();
+        hidingReason(context);
+
+        assertEquals(2, evaluationCount.get());
+    }
+
+    @Test
+    void destroy_contributesToStatistics() {
+        var context = context("name", Where.ALL_TABLES);
+        for (int row = 0; row < 4; row++) {
+            hidingReason(context);
+        }
+        adviceCache.destroy();
+        adviceCache.destroy(); // interaction without any evaluations is not counted
+
+        var counts = statistics.counts();
+        assertEquals(new InteractionAdviceStatistics.Counts(1, 3, 1), counts);
+        assertEquals(0.75, counts.hitRatio(), 1e-9);
+        assertEquals(0, adviceCache.getHitCount());
+    }
+
+    // -- HELPER
+
+    private Optional<VetoReason> hidingReason(final InteractionContext context) {
+        return adviceCache.computeIfAbsent(AdviceKind.HIDING, advisor, context, this::evaluate);
+    }
+
+    private Optional<VetoReason> evaluate() {
+        evaluationCount.incrementAndGet();
+        return Optional.of(VetoReason.explicit("Not authorized to view"));
+    }
+
+    private InteractionContext context(final String memberName, final Where where) {
+        var head = InteractionHead.regular(ManagedObject.adaptSingular(ownerSpec, new Customer()));
+        var context = Mockito.mock(InteractionContext.class);
+        Mockito.when(context.identifier()).thenReturn(
+                Identifier.propertyIdentifier(LogicalType.fqcn(Customer.class), memberName));
+        Mockito.when(context.where()).thenReturn(where);
+        Mockito.when(context.head()).thenReturn(head);
+        return context;
+    }
+
+}
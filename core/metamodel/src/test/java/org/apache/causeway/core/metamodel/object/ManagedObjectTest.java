@@ -19,6 +19,9 @@
 package org.apache.causeway.core.metamodel.object;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -28,11 +31,15 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.applib.domain.DomainObjectList;
+import org.apache.causeway.applib.query.LazyQueryListAbstract;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal._Constants;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
@@ -244,4 +251,73 @@ void comparatorShouldNotViolateItsGeneralContract() {
         managedObjects.sort(MmSortUtils.NATURAL_NULL_FIRST);
     }
 
+    @Test
+    void lazilyPackedShouldFetchOnlyWhatIsAsked() {
+
+        var stringSpec = specLoader.specForTypeElseFail(String.class);
+        var fetchAllCount = new AtomicInteger();
+        var queryList = new LazyQueryListAbstract<String>() {
+            @Override public OptionalLong count() {
+                return OptionalLong.of(3);
+            }
+            @Override public Optional<List<String>> fetch(final QueryRange range, final Sort sort) {
+                return Optional.of(List.of("a", "b", "c").subList(0, (int)Math.min(3, range.getLimit())));
+            }
+            @Override protected List<String> fetchAll() {
+                fetchAllCount.incrementAndGet();
+                return List.of("a", "b", "c");
+            }
+        };
+
+        var packed = (PackedManagedObject) mmc.getObjectManager().adapt(queryList, ()->stringSpec);
+        assertTrue(packed.lazyQueryList().isPresent());
+
+        // cardinality checks should not fetch all
+        assertEquals(2, packed.unpackAtMost(2).size());
+        assertFalse(packed.isEmpty());
+        assertEquals(0, fetchAllCount.get());
+
+        // unpacking fetches all, but only once
+        assertEquals(List.of("a", "b", "c"), packed.unpack().map(ManagedObject::getPojo).toList());
+        assertEquals(3, packed.unpackAtMost(5).size());
+        assertEquals(1, fetchAllCount.get());
+    }
+
+    @Test
+    void lazilyPackedShouldNotRequeryForEmptinessNorEquality() {
+
+        var stringSpec = specLoader.specForTypeElseFail(String.class);
+        var fetchCount = new AtomicInteger();
+        var queryList = new LazyQueryListAbstract<String>() {
+            @Override public OptionalLong count() {
+                return OptionalLong.of(3);
+            }
+            @Override public Optional<List<String>> fetch(final QueryRange range, final Sort sort) {
+                fetchCount.incrementAndGet();
+                return Optional.of(List.of("a", "b", "c").subList(0, (int)Math.min(3, range.getLimit())));
+            }
+            @Override protected List<String> fetchAll() {
+                fetchCount.incrementAndGet();
+                return List.of("a", "b", "c");
+            }
+        };
+
+        var packed = (PackedManagedObject) mmc.getObjectManager().adapt(queryList, ()->stringSpec);
+        var packedOfSameQuery = (PackedManagedObject) mmc.getObjectManager().adapt(queryList, ()->stringSpec);
+
+        // emptiness is memoized
+        assertFalse(packed.isEmpty());
+        assertFalse(packed.isEmpty());
+        assertEquals(1, fetchCount.get());
+
+        // equality is based on the originating query list, not on its elements
+        assertEquals(packed, packedOfSameQuery);
+        assertEquals(packed.hashCode(), packedOfSameQuery.hashCode());
+        assertNotEquals(packed, ManagedObject.packed(stringSpec, Can.of(
+                ManagedObject.value(stringSpec, "a"),
+                ManagedObject.value(stringSpec, "b"),
+                ManagedObject.value(stringSpec, "c"))));
+        assertEquals(1, fetchCount.get());
+    }
+
 }
@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.events;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.GenericApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.events.domain.ActionDomainEvent;
+import org.apache.causeway.applib.events.domain.PropertyDomainEvent;
+
+class MetamodelEventServiceTest {
+
+    public static class SomeActionDomainEvent extends ActionDomainEvent<Object> {}
+
+    public static class SomeActionDomainEventSubscriber {
+        @EventListener(SomeActionDomainEvent.class)
+        public void on(final SomeActionDomainEvent event) {}
+    }
+
+    public static class SomePropertyDomainEventListener implements ApplicationListener<PayloadApplicationEvent<PropertyDomainEvent.Default>> {
+        static int instanceCount;
+        public SomePropertyDomainEventListener() { instanceCount++; }
+        @Override public void onApplicationEvent(final PayloadApplicationEvent<PropertyDomainEvent.Default> event) {}
+    }
+
+    private GenericApplicationContext applicationContext;
+
+    @AfterEach
+    void tearDown() {
+        if(applicationContext!=null) {
+            applicationContext.close();
+        }
+    }
+
+    @Test
+    void whenNoSubscriber_thenNotListenedTo() {
+        var metamodelEventService = refreshedContextWith();
+
+        assertFalse(metamodelEventService.hasListeners(ActionDomainEvent.Default.class));
+        assertFalse(metamodelEventService.hasListeners(SomeActionDomainEvent.class));
+    }
+
+    @Test
+    void whenSubscriber_thenOnlyItsEventTypeIsListenedTo() {
+        var metamodelEventService = refreshedContextWith(SomeActionDomainEventSubscriber.class);
+
+        assertTrue(metamodelEventService.hasListeners(SomeActionDomainEvent.class));
+        assertFalse(metamodelEventService.hasListeners(ActionDomainEvent.Default.class));
+        assertFalse(metamodelEventService.hasListeners(PropertyDomainEvent.Default.class));
+    }
+
+    @Test
+    void whenLazyListenerBean_thenListenedTo_withoutInstantiatingIt() {
+        SomePropertyDomainEventListener.instanceCount = 0;
+        var metamodelEventService = refreshedContextWith(__->{
+            applicationContext.registerBean(SomePropertyDomainEventListener.class,
+                    beanDefinition->beanDefinition.setLazyInit(true));
+        });
+
+        assertTrue(metamodelEventService.hasListeners(PropertyDomainEvent.Default.class));
+        assertFalse(metamodelEventService.hasListeners(ActionDomainEvent.Default.class));
+        assertEquals(0, SomePropertyDomainEventListener.instanceCount);
+    }
+
+    @Test
+    void whenPublisherIsNotAnApplicationContext_thenConservativelyListenedTo() {
+        var metamodelEventService = new MetamodelEventService(__->{});
+
+        assertTrue(metamodelEventService.hasListeners(ActionDomainEvent.Default.class));
+    }
+
+    // -- HELPER
+
+    private MetamodelEventService refreshedContextWith(final Class<?>... beanTypes) {
+        return refreshedContextWith(__->{
+            for(var beanType : beanTypes) {
+                applicationContext.registerBean(beanType);
+            }
+        });
+    }
+
+    private MetamodelEventService refreshedContextWith(final Consumer<GenericApplicationContext> beanRegistrar) {
+        applicationContext = new GenericApplicationContext();
+        AnnotationConfigUtils.registerAnnotationConfigProcessors(applicationContext);
+        applicationContext.registerBean(MetamodelEventService.class);
+        beanRegistrar.accept(applicationContext);
+        applicationContext.refresh();
+        return applicationContext.getBean(MetamodelEventService.class);
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.publishing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.core.metamodel.services.publishing.DtoConstructionStatistics.Counts;
+import org.apache.causeway.core.metamodel.services.publishing.DtoConstructionStatistics.Kind;
+
+class DtoConstructionStatisticsTest {
+
+    @Test
+    void counts_built_versus_skipped() {
+        var statistics = new DtoConstructionStatistics();
+
+        statistics.built(Kind.COMMAND);
+        var used = statistics.deferred(Kind.COMMAND, ()->"dto");
+        statistics.deferred(Kind.COMMAND, ()->"dto"); // never invoked
+        statistics.deferred(Kind.EXECUTION, ()->"dto"); // never invoked
+
+        assertEquals(new Counts(1, 2), statistics.counts(Kind.COMMAND));
+        assertEquals(new Counts(0, 1), statistics.counts(Kind.EXECUTION));
+
+        assertEquals("dto", used.get());
+
+        assertEquals(new Counts(2, 1), statistics.counts(Kind.COMMAND));
+        assertEquals(3, statistics.counts(Kind.COMMAND).total());
+
+        statistics.reset();
+        assertEquals(new Counts(0, 0), statistics.counts(Kind.COMMAND));
+        assertEquals(new Counts(0, 0), statistics.counts(Kind.EXECUTION));
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.feature;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.reflection._MethodFacades;
+import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
+
+class ParameterDependenciesTest {
+
+    static class Customer {
+        public String args1(final String p0) { return null; }
+        public String args2(final String p0, final String p1) { return null; }
+        public String args5(final String p0, final String p1, final String p2, final String p3, final String search) { return null; }
+    }
+
+    @Test
+    void supportingMethodArgsShouldDefineDependencies() {
+        // p0: no supporting methods
+        // p1: choices1(p0)
+        // p2: choices2(p0, p1)
+        // p3: no supporting methods
+        var dependencies = ParameterDependencies.inferFrom(action(
+                Can.empty(),
+                Can.of(1),
+                Can.of(2),
+                Can.empty()));
+
+        assertEquals(List.of(0, 1, 2), dependentsOf(dependencies, 0));
+        assertEquals(List.of(1, 2), dependentsOf(dependencies, 1));
+        assertEquals(List.of(2), dependentsOf(dependencies, 2));
+        assertEquals(List.of(3), dependentsOf(dependencies, 3));
+    }
+
+    @Test
+    void dependenciesShouldBeTransitive() {
+        // p1: choices1(p0)
+        // p3: autoComplete3(p0, p1, p2, p3, String search), trailing search arg is not a param
+        var dependencies = ParameterDependencies.inferFrom(action(
+                Can.empty(),
+                Can.of(1),
+                Can.empty(),
+                Can.of(5)));
+
+        assertEquals(List.of(0, 1, 3), dependentsOf(dependencies, 0));
+        assertEquals(List.of(1, 3), dependentsOf(dependencies, 1));
+        assertEquals(List.of(2, 3), dependentsOf(dependencies, 2));
+        assertEquals(List.of(3), dependentsOf(dependencies, 3));
+    }
+
+    @Test
+    void noneShouldOnlyHaveSelfDependencies() {
+        var dependencies = ParameterDependencies.none(3);
+        IntStream.range(0, 3)
+            .forEach(paramIndex->assertEquals(List.of(paramIndex), dependentsOf(dependencies, paramIndex)));
+    }
+
+    // -- HELPER
+
+    private static List<Integer> dependentsOf(final ParameterDependencies dependencies, final int paramIndex) {
+        return dependencies.streamTransitiveDependentsOf(paramIndex).boxed().toList();
+    }
+
+    /**
+     * @param supportingMethodArgCounts - per parameter, the arg counts of its supporting methods
+     */
+    @SafeVarargs
+    private static ObjectAction action(final Can<Integer> ... supportingMethodArgCounts) {
+        var action = Mockito.mock(ObjectAction.class);
+        var params = IntStream.range(0, supportingMethodArgCounts.length)
+            .mapToObj(paramIndex->param(paramIndex, supportingMethodArgCounts[paramIndex]))
+            .collect(Can.toCan());
+        Mockito.when(action.getParameterCount()).thenReturn(supportingMethodArgCounts.length);
+        Mockito.when(action.getParameters()).thenReturn(params);
+        return action;
+    }
+
+    private static MethodFacade supportingMethod(final int argCount) {
+        return Stream.of(Customer.class.getDeclaredMethods())
+            .filter(method->method.getName().equals("args" + argCount))
+            .map(_MethodFacades.testing::regular)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static ObjectActionParameter param(final int paramIndex, final Can<Integer> supportingMethodArgCounts) {
+        var param = Mockito.mock(ObjectActionParameter.class);
+        var facetHolder = Mockito.mock(FacetHolder.class);
+        var imperativeFacet = Mockito.mock(ImperativeFacet.class);
+        var methods = supportingMethodArgCounts.map(ParameterDependenciesTest::supportingMethod);
+        Mockito.when(imperativeFacet.getMethods()).thenReturn(methods);
+        Mockito.when(facetHolder.streamFacets(ImperativeFacet.class)).thenAnswer(__->Stream.of(imperativeFacet));
+        Mockito.when(param.getParameterIndex()).thenReturn(paramIndex);
+        Mockito.when(param.getFacetHolder()).thenReturn(facetHolder);
+        return param;
+    }
+
+}
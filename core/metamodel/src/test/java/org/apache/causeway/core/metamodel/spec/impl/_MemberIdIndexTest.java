@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.impl;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.core.metamodel.spec.ActionScope;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+
+class _MemberIdIndexTest {
+
+    static class Customer {
+    }
+
+    @Test
+    void actionLookup_byLogicalName_andByIdentityString() {
+        var placeOrder = action("placeOrder", String.class);
+        var cancel = action("cancel");
+
+        var index = _MemberIdIndex.ActionIndex.create(Map.of(
+                ActionScope.PRODUCTION, List.of(placeOrder),
+                ActionScope.PROTOTYPE, List.of(cancel)));
+
+        assertEquals(placeOrder, index.lookup("placeOrder", ActionScope.ANY, MixedIn.INCLUDED).orElseThrow());
+        assertEquals(placeOrder, index.lookup("placeOrder(java.lang.String)", ActionScope.ANY, MixedIn.INCLUDED).orElseThrow());
+        assertEquals(cancel, index.lookup("cancel()", ActionScope.ANY, MixedIn.EXCLUDED).orElseThrow());
+
+        // honors action scopes and mixed-in filter
+        assertTrue(index.lookup("cancel", ActionScope.PRODUCTION_ONLY, MixedIn.INCLUDED).isEmpty());
+        assertTrue(index.lookup("placeOrder", ActionScope.ANY, MixedIn.ONLY).isEmpty());
+        assertTrue(index.lookup("unknown", ActionScope.ANY, MixedIn.INCLUDED).isEmpty());
+    }
+
+    @Test
+    void actionLookup_firstInMemberOrderWins() {
+        var first = action("overloaded", String.class);
+        var second = action("overloaded", Integer.class);
+
+        var index = _MemberIdIndex.ActionIndex.create(Map.of(
+                ActionScope.PRODUCTION, List.of(first, second)));
+
+        assertEquals(first, index.lookup("overloaded", ActionScope.ANY, MixedIn.INCLUDED).orElseThrow());
+        assertEquals(second, index.lookup("overloaded(java.lang.Integer)", ActionScope.ANY, MixedIn.INCLUDED).orElseThrow());
+    }
+
+    // -- HELPER
+
+    private static ObjectAction action(final String name, final Class<?>... paramTypes) {
+        var action = Mockito.mock(ObjectAction.class);
+        Mockito.when(action.getFeatureIdentifier())
+            .thenReturn(Identifier.actionIdentifier(LogicalType.fqcn(Customer.class), name, paramTypes));
+        return action;
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.impl;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.env.AbstractEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+class _MetaModelSnapshotTest {
+
+    interface HasName {
+    }
+
+    static class Customer implements HasName {
+    }
+
+    static class Order {
+    }
+
+    static class FacetFactory {
+    }
+
+    static class ValueSemanticsProvider {
+    }
+
+    static class Address {
+    }
+
+    static class CustomerWithAddress {
+        Address address;
+    }
+
+    private static final String VERSION = "1.0.0";
+
+    @TempDir Path tempDir;
+    private CausewayConfiguration config;
+
+    private AbstractEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new AbstractEnvironment() {};
+        config = CausewayConfiguration.builder().environment(environment).build();
+        config.getCore().getMetaModel().getIntrospector().getSnapshot().setEnabled(true);
+        config.getCore().getMetaModel().getIntrospector().getSnapshot().setDirectory(Optional.of(tempDir.toString()));
+    }
+
+    @Test
+    void disabledByDefault() {
+        config.getCore().getMetaModel().getIntrospector().getSnapshot().setEnabled(false);
+        assertTrue(_MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).isEmpty());
+    }
+
+    @Test
+    void sameTypes_shouldYieldSameSnapshot() {
+        var snapshot1 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class, Order.class)).orElseThrow();
+        var snapshot2 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Order.class, Customer.class)).orElseThrow();
+        assertEquals(snapshot1.file(), snapshot2.file());
+
+        assertFalse(snapshot1.exists());
+        snapshot1.write(2);
+        assertTrue(snapshot2.exists());
+    }
+
+    @Test
+    void differentTypes_shouldYieldDifferentSnapshot() {
+        var snapshot1 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        var snapshot2 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class, Order.class)).orElseThrow();
+        assertNotEquals(snapshot1.file(), snapshot2.file());
+    }
+
+    @Test
+    void unknownFrameworkVersion_shouldYieldNoSnapshot() {
+        // eg. when running from exploded classes, hence validation must not be skipped
+        assertTrue(_MetaModelSnapshot.create(config, null, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).isEmpty());
+    }
+
+    @Test
+    void differentFrameworkVersion_shouldYieldDifferentSnapshot() {
+        var snapshot1 = _MetaModelSnapshot.create(config, "1.0.0", Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        var snapshot2 = _MetaModelSnapshot.create(config, "1.0.1", Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        assertNotEquals(snapshot1.file(), snapshot2.file());
+    }
+
+    @Test
+    void differentProgrammingModel_shouldYieldDifferentSnapshot() {
+        var snapshot1 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        var snapshot2 = _MetaModelSnapshot.create(config, VERSION, Stream.of(FacetFactory.class), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        assertNotEquals(snapshot1.file(), snapshot2.file());
+    }
+
+    @Test
+    void lambdas_shouldBeFingerprintedViaTheirNestHost() {
+        Runnable lambda = ()->{};
+        assertTrue(_MetaModelSnapshot.create(config, VERSION, Stream.of(lambda.getClass()), Stream.empty(), Stream.of(Customer.class)).isPresent());
+    }
+
+    @Test
+    void interfaces_shouldBeFingerprinted() {
+        var snapshot1 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        var snapshot2 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class, HasName.class)).orElseThrow();
+        // HasName is already part of the fingerprint of Customer
+        assertEquals(snapshot1.file(), snapshot2.file());
+    }
+
+    @Test
+    void differentBeanTypes_shouldYieldDifferentSnapshot() {
+        var snapshot1 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        var snapshot2 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.of(ValueSemanticsProvider.class), Stream.of(Customer.class)).orElseThrow();
+        assertNotEquals(snapshot1.file(), snapshot2.file());
+    }
+
+    @Test
+    void signatureTypes_shouldBeFingerprinted() {
+        var snapshot1 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(CustomerWithAddress.class)).orElseThrow();
+        var snapshot2 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.of(Address.class), Stream.of(CustomerWithAddress.class)).orElseThrow();
+        // Address is already part of the fingerprint of CustomerWithAddress
+        assertEquals(snapshot1.file(), snapshot2.file());
+    }
+
+    @Test
+    void differentProperties_shouldYieldDifferentSnapshot() {
+        var snapshot1 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        environment.getPropertySources().addFirst(new MapPropertySource("application", Map.of("app.feature", "on")));
+        var snapshot2 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        assertNotEquals(snapshot1.file(), snapshot2.file());
+    }
+
+    @Test
+    void differentProfiles_shouldYieldDifferentSnapshot() {
+        var snapshot1 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        environment.setActiveProfiles("prototyping");
+        var snapshot2 = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        assertNotEquals(snapshot1.file(), snapshot2.file());
+    }
+
+    @Test
+    void defaultDirectory_shouldBePrivateToUser_andSpecificToApplication() {
+        config.getCore().getMetaModel().getIntrospector().getSnapshot().setDirectory(Optional.empty());
+        config.getViewer().getCommon().getApplication().setName("My App");
+        var snapshot = _MetaModelSnapshot.create(config, VERSION, Stream.empty(), Stream.empty(), Stream.of(Customer.class)).orElseThrow();
+        assertEquals(Path.of(System.getProperty("user.home"), ".causeway", "metamodel", "My_App"), snapshot.file().getParent());
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.exceptions.unrecoverable.BookmarkNotFoundException;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.resources._Serializables;
+import org.apache.causeway.commons.internal.testing._SerializationTester;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+
+class BookmarkedElementsTest {
+
+    @Test
+    void numericIdsShouldRoundtrip() {
+        assertRoundtrip(Can.of(
+                Bookmark.forLogicalTypeNameAndIdentifier("a.Customer", "1"),
+                Bookmark.forLogicalTypeNameAndIdentifier("a.Customer", "-42"),
+                Bookmark.forLogicalTypeNameAndIdentifier("a.Customer", "9223372036854775807")));
+    }
+
+    @Test
+    void mixedIdsAndTypesShouldRoundtrip() {
+        assertRoundtrip(Can.of(
+                Bookmark.forLogicalTypeNameAndIdentifier("a.Customer", "1"),
+                Bookmark.forLogicalTypeNameAndIdentifier("a.Order", "007"), // not canonical
+                Bookmark.forLogicalTypeNameAndIdentifier("a.Customer", ""),
+                Bookmark.forLogicalTypeNameAndIdentifier("a.Order", "ab:cd")));
+    }
+
+    @Test
+    void emptyShouldRoundtrip() {
+        assertRoundtrip(Can.empty());
+    }
+
+    @Test
+    void shouldBeMoreCompactThanBookmarks() {
+        var bookmarks = IntStream.range(0, 1000)
+                .mapToObj(i->Bookmark.forLogicalTypeNameAndIdentifier("a.Customer", "" + i))
+                .collect(Can.toCan());
+        var serializedSize = _Serializables.write(BookmarkedElements.of(bookmarks)).length;
+        var serializedSizeOfBookmarks = _Serializables.write(bookmarks).length;
+        assertTrue(serializedSize * 2 < serializedSizeOfBookmarks,
+                ()->String.format("expected %d to be much smaller than %d", serializedSize, serializedSizeOfBookmarks));
+    }
+
+    @Test
+    void unrecoverableElementShouldFailRatherThanShiftIndexes() {
+        MetaModelContext_forTesting.builder().build();
+        var bookmarkedElements = BookmarkedElements.of(Can.of(
+                Bookmark.forLogicalTypeNameAndIdentifier("a.Unknown", "1")));
+        assertThrows(BookmarkNotFoundException.class, bookmarkedElements::loadAll);
+    }
+
+    // -- HELPER
+
+    private static void assertRoundtrip(final Can<Bookmark> bookmarks) {
+        var bookmarkedElements = _SerializationTester.roundtrip(BookmarkedElements.of(bookmarks));
+        assertEquals(bookmarks.size(), bookmarkedElements.bookmarkCount());
+        IntStream.range(0, bookmarks.size())
+            .forEach(index->assertEquals(bookmarks.getElseFail(index), bookmarkedElements.bookmark(index)));
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.filter.CollectionFilterService;
+import org.apache.causeway.applib.services.filter.CollectionFilterService.IndexableTokens;
+import org.apache.causeway.applib.services.filter.CollectionFilterService.Tokens;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+import org.apache.causeway.core.metamodel.tabular.internal.FilterUtils.FilterHandler;
+
+class TokenIndexTest {
+
+    record Words(Set<String> words) implements IndexableTokens {
+        static Words of(final String title) {
+            return new Words(Set.of(title.split(" ")));
+        }
+        @Override public boolean match(final @Nullable String searchArg) {
+            return true; // not used by the index
+        }
+    }
+
+    private final TokenIndex index = TokenIndex.create(List.of(
+            Words.of("Apple Pie"),
+            Words.of("apple juice"),
+            Words.of("Pineapple"),
+            Words.of("Peach Pie")))
+        .orElseThrow();
+
+    @Test
+    void emptySearchArgShouldYieldAllRows() {
+        assertEquals(bits(0, 1, 2, 3), index.candidates(null));
+        assertEquals(bits(0, 1, 2, 3), index.candidates(" "));
+    }
+
+    @Test
+    void searchWordsShouldMatchWordPrefixesIgnoringCase() {
+        assertEquals(bits(0, 1), index.candidates("APP"));
+        assertEquals(bits(0, 3), index.candidates("pie"));
+        assertEquals(bits(0), index.candidates("pie app"));
+        assertEquals(bits(), index.candidates("banana"));
+    }
+
+    @Test
+    void refinedSearchArgShouldNarrowPreviousCandidates() {
+        assertEquals(bits(0, 2, 3), index.candidates("p"));
+        assertEquals(bits(0, 2, 3), index.candidates("pi"));
+        assertEquals(bits(2), index.candidates("pin"));
+        // not a refinement, starts over
+        assertEquals(bits(0, 1), index.candidates("a"));
+    }
+
+    @Test
+    void shouldNotIndexIfAnyRowIsNotIndexable() {
+        Tokens notIndexable = searchArg->true;
+        assertTrue(TokenIndex.create(Arrays.asList(Words.of("a"), notIndexable)).isEmpty());
+        assertTrue(TokenIndex.create(Arrays.asList(Words.of("a"), null)).isEmpty());
+    }
+
+    @Test
+    void defaultTokensShouldBeIndexed_andYieldSameMatchesAsScanning() {
+        var service = new CollectionFilterService() {
+            @Override public boolean handles(final Class<?> domainType) {
+                return domainType==String.class;
+            }
+            @Override public <T> Function<T, Tokens> tokenizer(final Class<T> domainType) {
+                return title->IndexableTokens.parse((String)title);
+            }
+        };
+        var quickSearchConfig = new CausewayConfiguration.Core.MetaModel.QuickSearch();
+        quickSearchConfig.setIndexMinRows(0);
+        var filterHandler = new FilterHandler(
+                _Casts.uncheckedCast(service.tokenizer(String.class)),
+                service.tokenFilter(String.class),
+                "",
+                quickSearchConfig);
+
+        var dataRows = Can.of("Apple Pie", "apple juice", "Pineapple", "Peach Pie", "")
+                .map(filterHandler.tokenizer())
+                .map(TokenIndexTest::dataRow);
+        var tokenIndex = filterHandler.createTokenIndex(dataRows).orElseThrow();
+        var dataRowFilter = filterHandler.getDataRowFilter();
+
+        for(var searchArg : List.of("app", "APPLE p", "pie", "pi", "pine", "juice pie", "banana")) {
+            var scanned = dataRows.filter(dataRow->dataRowFilter.test(dataRow, searchArg));
+            var indexed = Can.ofStream(tokenIndex.candidates(searchArg).stream()
+                    .mapToObj(dataRows::getElseFail))
+                    .filter(dataRow->dataRowFilter.test(dataRow, searchArg));
+            assertEquals(scanned, indexed, searchArg);
+        }
+        assertEquals(3, dataRows.filter(dataRow->dataRowFilter.test(dataRow, "pi")).size());
+    }
+
+    // -- HELPER
+
+    private static DataRow dataRow(final Tokens tokens) {
+        var dataRow = Mockito.mock(DataRow.class);
+        Mockito.when(dataRow.filterTokens()).thenReturn(Optional.of(tokens));
+        return dataRow;
+    }
+
+    private static BitSet bits(final int ... rowIndexes) {
+        var bits = new BitSet();
+        Arrays.stream(rowIndexes).forEach(bits::set);
+        return bits;
+    }
+
+}
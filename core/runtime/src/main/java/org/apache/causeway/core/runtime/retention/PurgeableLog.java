@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtime.retention;
+
+import java.sql.Timestamp;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+/**
+ * SPI for logs (such as the audit trail, command log, execution log or session log), whose entries
+ * are to be purged periodically, as per their configured {@link CausewayConfiguration.Extensions.Retention retention}.
+ *
+ * <p>
+ * Implementations are discovered as Spring beans; typically these are the repositories of the respective log.
+ * </p>
+ *
+ * @since 3.5 {@index}
+ */
+public interface PurgeableLog {
+
+    /**
+     * The entity type of the log's entries; its subtypes are purged as well.
+     */
+    Class<?> getEntityClass();
+
+    /**
+     * Name of the {@link Timestamp} property, by which entries are ordered and purged.
+     * Ideally backed by an index.
+     */
+    String getTimestampPropertyName();
+
+    CausewayConfiguration.Extensions.Retention getRetention();
+
+    /**
+     * Allows to further restrict the entries to be purged, to those with a timestamp before the returned value.
+     * @param cutoff - as derived from the {@link #getRetention() retention}
+     */
+    default Timestamp limitCutoff(final Timestamp cutoff) {
+        return cutoff;
+    }
+
+    /**
+     * Single line representation of given entry, when archived.
+     */
+    default String archiveLineFor(final Object entry) {
+        return entry.toString();
+    }
+
+}
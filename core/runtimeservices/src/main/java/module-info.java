@@ -36,6 +36,7 @@
     exports org.apache.causeway.core.runtimeservices.publish;
     exports org.apache.causeway.core.runtimeservices.recognizer;
     exports org.apache.causeway.core.runtimeservices.recognizer.dae;
+    exports org.apache.causeway.core.runtimeservices.retention;
     exports org.apache.causeway.core.runtimeservices.routing;
     exports org.apache.causeway.core.runtimeservices.scratchpad;
     exports org.apache.causeway.core.runtimeservices.serializing;
@@ -57,6 +57,7 @@
 import org.apache.causeway.core.runtimeservices.publish.ObjectLifecyclePublisherDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.ExceptionRecognizerServiceDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.dae.ExceptionRecognizerForDataAccessException;
+import org.apache.causeway.core.runtimeservices.retention.LogRetentionService;
 import org.apache.causeway.core.runtimeservices.routing.RoutingServiceDefault;
 import org.apache.causeway.core.runtimeservices.scratchpad.ScratchpadDefault;
 import org.apache.causeway.core.runtimeservices.serializing.SerializingAdapterDefault;
@@ -100,6 +101,7 @@
         JaxbServiceDefault.class,
         LanguageProviderDefault.class,
         LocaleChoiceProviderDefault.class,
+        LogRetentionService.class,
         MemberExecutorServiceDefault.class,
         MenuBarsLoaderServiceDefault.class,
         MenuBarsMarshallerServiceBootstrap.class,
@@ -202,8 +202,8 @@ private ManagedObject invokeActionInternally(
         });
 
         // sync DTO with result
-        interactionDtoFactory
-        .updateResult((ActionInvocationDto)priorExecution.getDto(), owningAction, returnedAdapter);
+        priorExecution.updateDto(dto->interactionDtoFactory
+                .updateResult((ActionInvocationDto)dto, owningAction, returnedAdapter));
 
         // update Command (if required)
         setCommandResultIfEntity(interaction.getCommand(), returnedAdapter);
@@ -362,12 +362,15 @@ void prepareCommandForPublishing(
             final @NonNull ObjectMember objectMember,
             final @NonNull FacetHolder facetHolder) {
 
-        if(interactionHead.isCommandForMember(command, objectMember)
-                && isPublishingEnabled(facetHolder)) {
+        var commandPublisher = commandPublisherProvider.get();
+        // checks cheapest first, as matching the member requires the command's DTO
+        if(isPublishingEnabled(facetHolder)
+                && commandPublisher.isAnySubscriberEnabled()
+                && interactionHead.isCommandForMember(command, objectMember)) {
             command.updater().setPublishingPhase(Command.CommandPublishingPhase.READY);
         }
 
-        commandPublisherProvider.get().ready(command);
+        commandPublisher.ready(command);
     }
 
 }
@@ -19,6 +19,7 @@
 package org.apache.causeway.core.runtimeservices.interaction;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
@@ -80,6 +81,14 @@ public ActionInvocationDto asActionInvocationDto(
             final ObjectAction objectAction,
             final InteractionHead head,
             final Can<ManagedObject> argumentAdapters) {
+        return deferActionInvocationDto(objectAction, head, argumentAdapters).get();
+    }
+
+    @Override
+    public Supplier<ActionInvocationDto> deferActionInvocationDto(
+            final ObjectAction objectAction,
+            final InteractionHead head,
+            final Can<ManagedObject> argumentAdapters) {
 
         _Assert.assertEquals(objectAction.getParameterCount(), argumentAdapters.size(),
                 "action's parameter count and provided argument count must match");
@@ -94,15 +103,17 @@ public ActionInvocationDto asActionInvocationDto(
 
         final String currentUser = userService.currentUserNameElseNobody();
 
-        final ActionDto actionDto = new ActionDto();
-        commandDtoServiceInternal.addActionArgs(head, objectAction, actionDto, argumentAdapters);
-        final List<ParamDto> parameterDtos = CommandDtoUtils.parametersFor(actionDto).getParameter();
-
-        return InteractionDtoUtils.newActionInvocation(
-                nextEventSequence, targetBookmark,
-                actionDto.getLogicalMemberIdentifier(),
-                parameterDtos, currentUser
-                );
+        return ()->{
+            final ActionDto actionDto = new ActionDto();
+            commandDtoServiceInternal.addActionArgs(head, objectAction, actionDto, argumentAdapters);
+            final List<ParamDto> parameterDtos = CommandDtoUtils.parametersFor(actionDto).getParameter();
+
+            return InteractionDtoUtils.newActionInvocation(
+                    nextEventSequence, targetBookmark,
+                    actionDto.getLogicalMemberIdentifier(),
+                    parameterDtos, currentUser
+                    );
+        };
     }
 
     @Override
@@ -127,6 +138,14 @@ public PropertyEditDto asPropertyEditDto(
             final OneToOneAssociation property,
             final InteractionHead interactionHead,
             final ManagedObject newValueAdapterIfAny) {
+        return deferPropertyEditDto(property, interactionHead, newValueAdapterIfAny).get();
+    }
+
+    @Override
+    public Supplier<PropertyEditDto> deferPropertyEditDto(
+            final OneToOneAssociation property,
+            final InteractionHead interactionHead,
+            final ManagedObject newValueAdapterIfAny) {
 
         ManagedObject targetAdapter = interactionHead.owner();
 
@@ -138,15 +157,17 @@ public PropertyEditDto asPropertyEditDto(
 
         final String currentUser = userService.currentUserNameElseNobody();
 
-        final PropertyDto propertyDto = new PropertyDto();
-        commandDtoServiceInternal.addPropertyValue(interactionHead, property, propertyDto, newValueAdapterIfAny);
-        final ValueWithTypeDto newValue = propertyDto.getNewValue();
-
-        return InteractionDtoUtils.newPropertyEdit(
-                nextEventSequence, targetBookmark,
-                propertyDto.getLogicalMemberIdentifier(),
-                newValue, currentUser
-                );
+        return ()->{
+            final PropertyDto propertyDto = new PropertyDto();
+            commandDtoServiceInternal.addPropertyValue(interactionHead, property, propertyDto, newValueAdapterIfAny);
+            final ValueWithTypeDto newValue = propertyDto.getNewValue();
+
+            return InteractionDtoUtils.newPropertyEdit(
+                    nextEventSequence, targetBookmark,
+                    propertyDto.getLogicalMemberIdentifier(),
+                    newValue, currentUser
+                    );
+        };
     }
 
 }
@@ -0,0 +1,362 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.AsyncPublishing.BackPressure;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Delivers publishing payloads to those subscribers that opted-in to be notified asynchronously
+ * (as per <code>causeway.core.runtime-services.async-publishing.subscribers</code>).
+ *
+ * <p>
+ * Payloads are handed over to a bounded queue once the current transaction has committed (or immediately,
+ * if there is no transaction), and are discarded if it rolls back. Worker threads drain the queue and
+ * deliver to each subscriber in batches, each batch within its own interaction (of the originating user)
+ * and transaction.
+ * </p>
+ *
+ * <p>
+ * Each worker has its own queue, and each subscriber is pinned to one worker, such that a subscriber
+ * receives its payloads in commit order. A failed batch is retried by that same worker (with exponential
+ * backoff), up to the configured number of delivery attempts, before its payloads are given up on.
+ * </p>
+ *
+ * <p>
+ * Queue depth, lag and delivery counts are exposed for monitoring.
+ * </p>
+ *
+ * @since 3.5 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".AsyncPublishingDispatcher")
+@Priority(PriorityPrecedence.EARLY)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class AsyncPublishingDispatcher {
+
+    private final CausewayConfiguration causewayConfiguration;
+    private final InteractionService interactionService;
+    private final InteractionLayerTracker iaTracker;
+    private final TransactionService transactionService;
+
+    private Set<String> asyncSubscribers = Set.of();
+    private List<BlockingQueue<Delivery<?, ?>>> queues = List.of();
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+    private final AtomicLong lastLagNanos = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        var config = config();
+        asyncSubscribers = Set.copyOf(config.getSubscribers());
+        if(asyncSubscribers.isEmpty()) return;
+
+        var workerThreads = config.getWorkerThreads();
+        var capacityPerWorker = Math.max(1, (config.getQueueCapacity() + workerThreads - 1) / workerThreads);
+        queues = IntStream.range(0, workerThreads)
+                .<BlockingQueue<Delivery<?, ?>>>mapToObj(__->new ArrayBlockingQueue<>(capacityPerWorker))
+                .toList();
+        var threadCounter = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable->{
+            var thread = new Thread(runnable, "causeway-async-publishing-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        queues.forEach(queue->workers.execute(()->work(queue)));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if(workers == null) return;
+        running = false;
+        workers.shutdown();
+        if(!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("async publishing workers did not terminate in time, {} payload(s) not delivered", getQueueDepth());
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Whether given subscriber opted-in to be notified asynchronously.
+     */
+    public boolean isAsync(final Object subscriber) {
+        if(asyncSubscribers.isEmpty()) return false;
+        var subscriberClass = ClassUtils.getUserClass(subscriber);
+        if(asyncSubscribers.contains(subscriberClass.getName())) return true;
+        var named = subscriberClass.getAnnotation(Named.class);
+        return named != null
+                && asyncSubscribers.contains(named.value());
+    }
+
+    /**
+     * Hands given payload over for asynchronous delivery to given subscriber, once the current transaction
+     * has committed.
+     *
+     * @param batchDelivery - notifies the subscriber of one or more payloads
+     */
+    public <S, P> void dispatchAfterCommit(
+            final S subscriber,
+            final P payload,
+            final BiConsumer<S, Can<P>> batchDelivery) {
+        var interactionContext = iaTracker.currentInteractionContext()
+                .orElseGet(()->InteractionContext.ofUserWithSystemDefaults(UserMemento.system()));
+        var delivery = new Delivery<>(subscriber, payload, batchDelivery, interactionContext);
+
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(delivery);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(delivery);
+            }
+        });
+    }
+
+    // -- METRICS
+
+    /**
+     * Number of payloads currently waiting to be delivered.
+     */
+    public int getQueueDepth() {
+        return queues.stream()
+                .mapToInt(BlockingQueue::size)
+                .sum();
+    }
+
+    /**
+     * How long the oldest payload currently waiting has been queued for.
+     */
+    public Duration getLag() {
+        var now = System.nanoTime();
+        return queues.stream()
+                .map(BlockingQueue::peek)
+                .filter(Objects::nonNull)
+                .map(oldest->Duration.ofNanos(now - oldest.enqueuedAtNanos()))
+                .max(Comparator.naturalOrder())
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * How long the payloads most recently delivered had been queued for.
+     */
+    public Duration getLastDeliveryLag() {
+        return Duration.ofNanos(lastLagNanos.get());
+    }
+
+    public long getEnqueuedCount() { return enqueuedCount.longValue(); }
+    public long getDeliveredCount() { return deliveredCount.longValue(); }
+    public long getDroppedCount() { return droppedCount.longValue(); }
+    public long getFailedCount() { return failedCount.longValue(); }
+    public long getRetriedCount() { return retriedCount.longValue(); }
+
+    // -- HELPER
+
+    private record Delivery<S, P>(
+            S subscriber,
+            P payload,
+            BiConsumer<S, Can<P>> batchDelivery,
+            InteractionContext interactionContext,
+            long enqueuedAtNanos) {
+
+        Delivery(final S subscriber, final P payload, final BiConsumer<S, Can<P>> batchDelivery,
+                final InteractionContext interactionContext) {
+            this(subscriber, payload, batchDelivery, interactionContext, System.nanoTime());
+        }
+
+        /**
+         * Deliveries of the same group are delivered as a single batch.
+         */
+        Object groupKey() {
+            return List.of(subscriber, batchDelivery, interactionContext);
+        }
+    }
+
+    /**
+     * The queue of the worker, given subscriber is pinned to.
+     */
+    private BlockingQueue<Delivery<?, ?>> queueFor(final Object subscriber) {
+        return queues.get(Math.floorMod(System.identityHashCode(subscriber), queues.size()));
+    }
+
+    private void enqueue(final Delivery<?, ?> delivery) {
+        var backPressure = config().getBackPressure();
+        var queue = queueFor(delivery.subscriber());
+        if(queue.offer(delivery)) {
+            enqueuedCount.increment();
+            return;
+        }
+        if(backPressure == BackPressure.CALLER_RUNS) {
+            deliver(List.of(delivery));
+            return;
+        }
+        if(backPressure == BackPressure.DROP_OLDEST) {
+            while(!queue.offer(delivery)) {
+                if(queue.poll() != null) {
+                    droppedCount.increment();
+                    log.warn("async publishing queue is full, dropped oldest payload");
+                }
+            }
+            enqueuedCount.increment();
+            return;
+        }
+        try {
+            var blockTimeout = config().getBlockTimeout();
+            if(queue.offer(delivery, blockTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                enqueuedCount.increment();
+                return;
+            }
+            log.warn("no room in the async publishing queue within {}, delivering with the committing thread",
+                    blockTimeout);
+            deliver(List.of(delivery));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCount.increment();
+            log.warn("interrupted while waiting for room in the async publishing queue, dropped payload");
+        }
+    }
+
+    private void work(final BlockingQueue<Delivery<?, ?>> queue) {
+        var batchSize = config().getBatchSize();
+        while(running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if(first == null) continue;
+                var batch = new ArrayList<Delivery<?, ?>>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void deliver(final List<Delivery<?, ?>> batch) {
+        lastLagNanos.set(System.nanoTime() - batch.get(0).enqueuedAtNanos());
+        var groups = new LinkedHashMap<Object, List<Delivery<?, ?>>>();
+        batch.forEach(delivery->groups.computeIfAbsent(delivery.groupKey(), __->new ArrayList<>()).add(delivery));
+        groups.values().forEach(this::deliverGroup);
+    }
+
+    private void deliverGroup(final List<Delivery<?, ?>> group) {
+        var deliveryAttempts = config().getDeliveryAttempts();
+        var retryDelay = config().getRetryDelay();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                deliverGroupOnce(group);
+                deliveredCount.add(group.size());
+                return;
+            } catch (Exception e) {
+                var subscriber = group.get(0).subscriber();
+                if(attempt >= deliveryAttempts
+                        || !sleep(retryDelay.multipliedBy(1L << (attempt - 1)))) {
+                    failedCount.add(group.size());
+                    log.error("failed to deliver {} payload(s) to {}, giving up after {} attempt(s)",
+                            group.size(), subscriber, attempt, e);
+                    return;
+                }
+                retriedCount.increment();
+                log.warn("failed to deliver {} payload(s) to {} (attempt {} of {}), retrying",
+                        group.size(), subscriber, attempt, deliveryAttempts, e);
+            }
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void deliverGroupOnce(final List<Delivery<?, ?>> group) {
+        var first = (Delivery) group.get(0);
+        var payloads = Can.ofCollection(group.stream().map(Delivery::payload).toList());
+        interactionService.run(first.interactionContext(), ()->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->
+                first.batchDelivery().accept(first.subscriber(), payloads))
+            .ifFailureFail());
+    }
+
+    /**
+     * @return whether slept for the given duration, that is, was not interrupted
+     */
+    private static boolean sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private CausewayConfiguration.Core.RuntimeServices.AsyncPublishing config() {
+        return causewayConfiguration.getCore().getRuntimeServices().getAsyncPublishing();
+    }
+
+}
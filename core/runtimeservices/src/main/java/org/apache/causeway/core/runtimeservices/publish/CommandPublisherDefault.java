@@ -78,7 +78,7 @@ public void ready(final @NonNull Command command) {
                 enabledSubscribers,
                 ()->getCannotPublishReason(command));
 
-        if(canPublish(command) && command.getPublishingPhase().isReady()) {
+        if(command.getPublishingPhase().isReady() && canPublish(command)) {
             log.debug("about to PUBLISH command {}: {} to {}", "ready", command, enabledSubscribers);
             enabledSubscribers.forEach(subscriber -> subscriber.onReady(command));
         }
@@ -95,7 +95,7 @@ public void start(final @NonNull Command command) {
                 enabledSubscribers,
                 ()->getCannotPublishReason(command));
 
-        if(canPublish(command) && command.getPublishingPhase().isStarted()) {
+        if(command.getPublishingPhase().isStarted() && canPublish(command)) {
             log.debug("about to PUBLISH command {}: {} to {}", "started", command, enabledSubscribers);
             enabledSubscribers.forEach(subscriber -> subscriber.onStarted(command));
         }
@@ -112,7 +112,7 @@ public void complete(final @NonNull Command command) {
                 enabledSubscribers,
                 ()->getCannotPublishReason(command));
 
-        if(canPublish(command) && command.getPublishingPhase().isCompleted()) {
+        if(command.getPublishingPhase().isCompleted() && canPublish(command)) {
             log.debug("about to PUBLISH command {}: {} to {}", "completed", command, enabledSubscribers);
             enabledSubscribers.forEach(subscriber -> subscriber.onCompleted(command));
         }
@@ -120,6 +120,11 @@ public void complete(final @NonNull Command command) {
         _Xray.exitPublishing(handle);
     }
 
+    @Override
+    public boolean isAnySubscriberEnabled() {
+        return enabledSubscribers.isNotEmpty();
+    }
+
     // -- HELPER
 
     private boolean canPublish(final Command command) {
@@ -61,6 +61,7 @@ public class EntityChangesPublisherDefault implements EntityChangesPublisher {
     private final ClockService clockService;
     private final UserService userService;
     private final InteractionLayerTracker iaTracker;
+    private final AsyncPublishingDispatcher asyncPublishingDispatcher;
 
     private Can<EntityChangesSubscriber> enabledSubscribers = Can.empty();
 
@@ -82,7 +83,13 @@ public void publishChangingEntities(HasEnlistedEntityChanges hasEnlistedEntityCh
 
         payload.ifPresent(entityChanges->{
             for (var subscriber : enabledSubscribers) {
-                subscriber.onChanging(entityChanges);
+                if(asyncPublishingDispatcher.isAsync(subscriber)) {
+                    entityChanges.getDto(); // captures the payload, while still within the transaction
+                    asyncPublishingDispatcher.dispatchAfterCommit(subscriber, entityChanges,
+                            (asyncSubscriber, batch) -> batch.forEach(asyncSubscriber::onChanging));
+                } else {
+                    subscriber.onChanging(entityChanges);
+                }
             }
         });
 
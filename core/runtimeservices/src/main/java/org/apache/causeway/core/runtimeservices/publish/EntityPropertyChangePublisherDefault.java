@@ -71,13 +71,18 @@ public class EntityPropertyChangePublisherDefault implements EntityPropertyChang
     private final InteractionLayerTracker iaTracker;
     private final Provider<HasEnlistedEntityPropertyChanges> hasEnlistedEntityPropertyChangesProvider;
     private final CausewayConfiguration causewayConfiguration;
+    private final AsyncPublishingDispatcher asyncPublishingDispatcher;
 
     private Can<EntityPropertyChangeSubscriber> enabledSubscribers = Can.empty();
+    private Can<EntityPropertyChangeSubscriber> syncSubscribers = Can.empty();
+    private Can<EntityPropertyChangeSubscriber> asyncSubscribers = Can.empty();
 
     @PostConstruct
     public void init() {
         enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
+        syncSubscribers = enabledSubscribers.filter(subscriber->!asyncPublishingDispatcher.isAsync(subscriber));
+        asyncSubscribers = enabledSubscribers.filter(asyncPublishingDispatcher::isAsync);
     }
 
     private HasEnlistedEntityPropertyChanges hasEnlistedEntityPropertyChanges() {
@@ -121,15 +126,23 @@ public void publishChangedProperties() {
 
             if (uniquePropertyChanges.size() <= causewayConfiguration.getCore().getRuntimeServices().getEntityPropertyChangePublisher().getBulk().getThreshold()) {
                 uniquePropertyChanges.forEach(propertyChange -> {
-                    for (var subscriber : enabledSubscribers) {
+                    for (var subscriber : syncSubscribers) {
                         subscriber.onChanging(propertyChange);
                     }
                 });
             } else {
-                for (var subscriber : enabledSubscribers) {
+                for (var subscriber : syncSubscribers) {
                     subscriber.onChanging(uniquePropertyChanges);
                 }
             }
+            if(uniquePropertyChanges.isNotEmpty()) {
+                for (var subscriber : asyncSubscribers) {
+                    asyncPublishingDispatcher.dispatchAfterCommit(subscriber, uniquePropertyChanges,
+                            (asyncSubscriber, batches) -> asyncSubscriber.onChanging(batches.stream()
+                                    .flatMap(Can::stream)
+                                    .collect(Can.toCan())));
+                }
+            }
         } finally {
             _Xray.exitPublishing(xrayHandle);
         }
@@ -59,6 +59,7 @@
 
     private final List<ExecutionSubscriber> subscribers;
     private final InteractionLayerTracker iaTracker;
+    private final AsyncPublishingDispatcher asyncPublishingDispatcher;
 
     private Can<ExecutionSubscriber> enabledSubscribers = Can.empty();
     /**
@@ -97,6 +98,11 @@ public <T> T withPublishingSuppressed(final Supplier<T> block) {
         }
     }
 
+    @Override
+    public boolean isAnySubscriberEnabled() {
+        return enabledSubscribers.isNotEmpty();
+    }
+
     // -- HELPER
 
     private void notifySubscribers(final Execution<?,?> execution) {
@@ -109,7 +115,13 @@ private void notifySubscribers(final Execution<?,?> execution) {
 
         if(canPublish()) {
             for (var subscriber : enabledSubscribers) {
-                subscriber.onExecution(execution);
+                if(asyncPublishingDispatcher.isAsync(subscriber)) {
+                    buildDtos(execution); // builds the (possibly deferred) payload, while still within the interaction
+                    asyncPublishingDispatcher.dispatchAfterCommit(subscriber, execution,
+                            (asyncSubscriber, batch) -> batch.forEach(asyncSubscriber::onExecution));
+                } else {
+                    subscriber.onExecution(execution);
+                }
             }
         }
 
@@ -117,6 +129,11 @@ private void notifySubscribers(final Execution<?,?> execution) {
 
     }
 
+    private static void buildDtos(final Execution<?,?> execution) {
+        execution.getDto();
+        execution.getChildren().forEach(ExecutionPublisherDefault::buildDtos);
+    }
+
     private boolean canPublish() {
         return enabledSubscribers.isNotEmpty()
                 && suppressionRequestCounter.longValue() < 1L;
@@ -0,0 +1,323 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.retention;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.runtime.retention.PurgeableLog;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Periodically purges the entries of {@link PurgeableLog}s, that exceed their configured
+ * {@link CausewayConfiguration.Extensions.Retention retention}.
+ *
+ * <p>
+ * Entries are purged oldest first, in chunks of (at most) <code>chunk-size</code> entries, each chunk by a single
+ * bulk delete (bypassing the persistence context) within its own transaction. Optionally each chunk is archived
+ * to a gzip compressed local file, before it gets deleted. The archive is written to a temporary
+ * (<code>.tmp</code>) file first, which is moved into place only once the deletion got committed;
+ * a left over temporary file (eg. after a crash) holds entries, that may or may not have been deleted.
+ * </p>
+ *
+ * <p>
+ * Logs with neither <code>max-age</code> nor <code>max-rows</code> configured are never purged.
+ * </p>
+ *
+ * <p>
+ * The purge is not coordinated across nodes: in a cluster, each node purges on its own schedule. Deletion is
+ * unaffected (bulk deletes by timestamp and key are idempotent), but purged entries may end up archived by more
+ * than one node. To purge (and archive) on a single node only, configure <code>max-age</code>/<code>max-rows</code>
+ * on that node only (eg. by means of a Spring profile).
+ * </p>
+ *
+ * @since 3.5 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".LogRetentionService")
+@Priority(PriorityPrecedence.EARLY)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class LogRetentionService {
+
+    private final List<PurgeableLog> purgeableLogs;
+    private final SpecificationLoader specificationLoader;
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final ClockService clockService;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void init() {
+        var scheduledLogs = purgeableLogs.stream()
+                .filter(purgeableLog->isRetentionLimited(purgeableLog.getRetention()))
+                .toList();
+        if(scheduledLogs.isEmpty()) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable->{
+            var thread = new Thread(runnable, "causeway-log-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduledLogs.forEach(purgeableLog->{
+            var intervalMillis = purgeableLog.getRetention().getPurgeInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(()->purgeAndLogFailure(purgeableLog),
+                    intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if(scheduler == null) return;
+        // a chunk being purged is allowed to complete
+        scheduler.shutdown();
+        if(!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("log retention purge did not terminate in time");
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Purges the entries of given log, that exceed its retention, returning the number of entries purged.
+     * <p>
+     * Runs anonymously and in (multiple) transactions of its own, hence must not be called
+     * from within an interaction, that has pending changes to the log.
+     */
+    public long purge(final PurgeableLog purgeableLog) {
+        var entitySpec = specificationLoader.specForTypeElseFail(purgeableLog.getEntityClass());
+        var entityFacet = entitySpec.entityFacetElseFail();
+        return interactionService.callAnonymous(()->{
+            var cutoff = transactionService.callTransactional(Propagation.REQUIRES_NEW,
+                    ()->cutoffFor(purgeableLog, entityFacet))
+                .valueAsNullableElseFail();
+            if(cutoff == null) return 0L;
+
+            var purgedCount = 0L;
+            for(var chunkIndex = 0; ; chunkIndex++) {
+                var archiveFile = purgeableLog.getRetention().getArchive().isEnabled()
+                        ? Optional.of(archiveFileFor(purgeableLog, entitySpec, chunkIndex))
+                        : Optional.<Path>empty();
+                var tempArchiveFile = archiveFile.map(LogRetentionService::tempFileFor);
+                var chunk = transactionService.callTransactional(Propagation.REQUIRES_NEW,
+                        ()->purgeChunk(purgeableLog, entityFacet, cutoff, tempArchiveFile.orElse(null)))
+                    .ifFailure(__->tempArchiveFile.ifPresent(LogRetentionService::deleteQuietly))
+                    .valueAsNonNullElseFail();
+                if(chunk.isEmpty()) {
+                    log.warn("{} does not support bulk deletion (or archiving) by '{}', hence is not purged",
+                            entitySpec.logicalTypeName(), purgeableLog.getTimestampPropertyName());
+                    break;
+                }
+                // the archive is published only once the deletion of its entries got committed
+                if(chunk.get().deletedCount() > 0) {
+                    archiveFile.ifPresent(file->moveIntoPlace(tempArchiveFile.get(), file));
+                } else {
+                    tempArchiveFile.ifPresent(LogRetentionService::deleteQuietly);
+                }
+                purgedCount += chunk.get().deletedCount();
+                if(chunk.get().isLast()
+                        || chunk.get().deletedCount() == 0) {
+                    break;
+                }
+            }
+            log.info("purged {} entries of {} before {}", purgedCount, entitySpec.logicalTypeName(), cutoff);
+            return purgedCount;
+        });
+    }
+
+    // -- HELPER
+
+    private record Chunk(long deletedCount, boolean isLast) {}
+
+    private static boolean isRetentionLimited(final CausewayConfiguration.Extensions.Retention retention) {
+        return retention.getMaxAge() != null
+                || retention.getMaxRows() != null;
+    }
+
+    private void purgeAndLogFailure(final PurgeableLog purgeableLog) {
+        try {
+            purge(purgeableLog);
+        } catch (Exception e) {
+            log.error("failed to purge {}", purgeableLog.getEntityClass().getName(), e);
+        }
+    }
+
+    /**
+     * Entries with a timestamp before the returned cutoff are to be purged; {@code null} if none.
+     */
+    private Timestamp cutoffFor(final PurgeableLog purgeableLog, final EntityFacet entityFacet) {
+        var retention = purgeableLog.getRetention();
+
+        var byAge = Optional.ofNullable(retention.getMaxAge())
+                .map(maxAge->Timestamp.from(clockService.getClock().nowAsInstant().minus(maxAge)));
+
+        var byRows = Optional.ofNullable(retention.getMaxRows())
+                .flatMap(maxRows->{
+                    var count = entityFacet.countByQuery(Query.allInstances(purgeableLog.getEntityClass()));
+                    if(count.isEmpty()) {
+                        log.warn("{} does not support counting, hence is not purged by max-rows",
+                                purgeableLog.getEntityClass().getName());
+                        return Optional.empty();
+                    }
+                    return count.getAsLong() > maxRows
+                            // the oldest entry to be retained
+                            ? entityFacet.propertyValueAt(purgeableLog.getTimestampPropertyName(),
+                                    count.getAsLong() - maxRows, null)
+                                .map(Timestamp.class::cast)
+                            : Optional.<Timestamp>empty();
+                });
+
+        // the more restrictive of both, that is, the later one
+        return Stream.concat(byAge.stream(), byRows.stream())
+                .max(Timestamp::compareTo)
+                .map(purgeableLog::limitCutoff)
+                .orElse(null);
+    }
+
+    /**
+     * Purges the oldest (at most) <code>chunk-size</code> entries before given cutoff, optionally archiving them
+     * to given file first. Chunks are bounded by a (timestamp, primary key) keyset, such that their size stays bounded,
+     * even if many entries share the same timestamp.
+     */
+    private Optional<Chunk> purgeChunk(
+            final PurgeableLog purgeableLog,
+            final EntityFacet entityFacet,
+            final Timestamp cutoff,
+            final @Nullable Path archiveFile) {
+        var retention = purgeableLog.getRetention();
+        var propertyName = purgeableLog.getTimestampPropertyName();
+
+        // the key of the youngest entry of this chunk, if it is not the last one
+        var upTo = entityFacet.orderKeyAt(propertyName, retention.getChunkSize() - 1, cutoff)
+                .orElse(null);
+        var isLast = upTo == null;
+
+        if(archiveFile!=null) {
+            var entries = entityFacet.fetchBelow(propertyName, cutoff, upTo);
+            if(entries.isEmpty()) {
+                return Optional.empty(); // never delete without archiving
+            }
+            archive(purgeableLog, entityFacet, entries.get(), archiveFile);
+        }
+
+        var deletedCount = entityFacet.deleteBelow(propertyName, cutoff, upTo);
+        if(deletedCount.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Chunk(deletedCount.getAsLong(), isLast));
+    }
+
+    private Path archiveFileFor(
+            final PurgeableLog purgeableLog,
+            final ObjectSpecification entitySpec,
+            final int chunkIndex) {
+        return Path.of(purgeableLog.getRetention().getArchive().getDirectory())
+                .resolve(String.format("%s-%d-%04d.log.gz",
+                        entitySpec.logicalTypeName(), clockService.getClock().nowAsEpochMilli(), chunkIndex));
+    }
+
+    private static Path tempFileFor(final Path archiveFile) {
+        return archiveFile.resolveSibling(archiveFile.getFileName() + ".tmp");
+    }
+
+    /**
+     * Writes given entries to a new gzip compressed file, one entry per line,
+     * then releases them from the persistence context.
+     */
+    private void archive(
+            final PurgeableLog purgeableLog,
+            final EntityFacet entityFacet,
+            final Can<Object> entries,
+            final Path archiveFile) {
+        try {
+            Files.createDirectories(archiveFile.getParent());
+            try(var writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(archiveFile, StandardOpenOption.CREATE_NEW)),
+                    StandardCharsets.UTF_8))) {
+                for(var entry : entries) {
+                    // guards against multi-line representations
+                    writer.write(purgeableLog.archiveLineFor(entry).replaceAll("\\R", " "));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to archive to " + archiveFile, e);
+        }
+        entries.forEach(entityFacet::evict);
+    }
+
+    private static void moveIntoPlace(final Path tempFile, final Path file) {
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format(
+                    "failed to move archive %s into place, though its entries got deleted", tempFile), e);
+        }
+    }
+
+    private static void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("failed to delete {}", file, e);
+        }
+    }
+
+}
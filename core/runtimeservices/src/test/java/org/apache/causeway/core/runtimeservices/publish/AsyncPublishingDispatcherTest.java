@@ -0,0 +1,299 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.AsyncPublishing.BackPressure;
+
+import lombok.SneakyThrows;
+
+class AsyncPublishingDispatcherTest {
+
+    static class Subscriber {
+        final List<Can<String>> batches = new CopyOnWriteArrayList<>();
+        final List<String> received = new CopyOnWriteArrayList<>();
+        void onBatch(final Can<String> batch) {
+            batches.add(batch);
+            received.addAll(batch.toList());
+        }
+    }
+
+    private AsyncPublishingDispatcher dispatcher;
+
+    @AfterEach
+    @SneakyThrows
+    void tearDown() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void shouldDeliverOnlyAfterCommit() {
+        dispatcher = dispatcher(100, BackPressure.BLOCK);
+        var subscriber = new Subscriber();
+
+        TransactionSynchronizationManager.initSynchronization();
+        for (int i = 0; i < 10; i++) {
+            dispatcher.dispatchAfterCommit(subscriber, "p" + i, Subscriber::onBatch);
+        }
+        assertEquals(0, dispatcher.getEnqueuedCount());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        awaitUntil(()->subscriber.received.size() == 10);
+
+        assertEquals(List.of("p0", "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8", "p9"), subscriber.received);
+        assertEquals(10, dispatcher.getDeliveredCount());
+        assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    void shouldDiscardOnRollback() {
+        dispatcher = dispatcher(100, BackPressure.BLOCK);
+        var subscriber = new Subscriber();
+
+        TransactionSynchronizationManager.initSynchronization();
+        dispatcher.dispatchAfterCommit(subscriber, "p", Subscriber::onBatch);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync->sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(0, dispatcher.getEnqueuedCount());
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldDropOldestWhenFull() {
+        dispatcher = dispatcher(1, BackPressure.DROP_OLDEST);
+        var subscriber = new Subscriber();
+        var release = new CountDownLatch(1);
+
+        dispatcher.dispatchAfterCommit(subscriber, "p0", (s, batch)->{
+            await(release);
+            s.onBatch(batch);
+        });
+        awaitUntil(()->dispatcher.getQueueDepth() == 0); // worker is now blocked on p0
+
+        dispatcher.dispatchAfterCommit(subscriber, "p1", Subscriber::onBatch);
+        dispatcher.dispatchAfterCommit(subscriber, "p2", Subscriber::onBatch);
+        assertEquals(1, dispatcher.getDroppedCount());
+        assertEquals(1, dispatcher.getQueueDepth());
+
+        release.countDown();
+        awaitUntil(()->subscriber.received.size() == 2);
+        assertEquals(List.of("p0", "p2"), subscriber.received);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldRunWithCallerWhenFull() {
+        dispatcher = dispatcher(1, BackPressure.CALLER_RUNS);
+        var subscriber = new Subscriber();
+        var release = new CountDownLatch(1);
+
+        dispatcher.dispatchAfterCommit(subscriber, "p0", (s, batch)->{
+            await(release);
+            s.onBatch(batch);
+        });
+        awaitUntil(()->dispatcher.getQueueDepth() == 0); // worker is now blocked on p0
+
+        dispatcher.dispatchAfterCommit(subscriber, "p1", Subscriber::onBatch);
+        dispatcher.dispatchAfterCommit(subscriber, "p2", Subscriber::onBatch);
+        // p1 queued, p2 delivered by the caller
+        assertEquals(List.of("p2"), subscriber.received);
+
+        release.countDown();
+        awaitUntil(()->subscriber.received.size() == 3);
+        assertEquals(0, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldDeliverWithCallerWhenBlockTimesOut() {
+        dispatcher = dispatcher(1, BackPressure.BLOCK, asyncPublishing->
+            asyncPublishing.setBlockTimeout(Duration.ofMillis(50)));
+        var subscriber = new Subscriber();
+        var release = new CountDownLatch(1);
+
+        dispatcher.dispatchAfterCommit(subscriber, "p0", (s, batch)->{
+            await(release);
+            s.onBatch(batch);
+        });
+        awaitUntil(()->dispatcher.getQueueDepth() == 0); // worker is now blocked on p0
+
+        dispatcher.dispatchAfterCommit(subscriber, "p1", Subscriber::onBatch);
+        dispatcher.dispatchAfterCommit(subscriber, "p2", Subscriber::onBatch);
+        // p1 queued, p2 delivered by the caller, once timed out
+        assertEquals(List.of("p2"), subscriber.received);
+
+        release.countDown();
+        awaitUntil(()->subscriber.received.size() == 3);
+        assertEquals(0, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    void shouldPinEachSubscriberToOneWorker() {
+        dispatcher = dispatcher(100, BackPressure.BLOCK, asyncPublishing->
+            asyncPublishing.setWorkerThreads(4));
+        var subscribers = List.of(new Subscriber(), new Subscriber(), new Subscriber());
+        var threadNames = subscribers.stream()
+                .collect(Collectors.toMap(Function.identity(), __->new CopyOnWriteArraySet<String>()));
+
+        for (int i = 0; i < 50; i++) {
+            for(var subscriber : subscribers) {
+                dispatcher.dispatchAfterCommit(subscriber, "p" + i, (s, batch)->{
+                    threadNames.get(s).add(Thread.currentThread().getName());
+                    s.onBatch(batch);
+                });
+            }
+        }
+        awaitUntil(()->dispatcher.getDeliveredCount() == 150);
+
+        var expected = IntStream.range(0, 50).mapToObj(i->"p" + i).toList();
+        subscribers.forEach(subscriber->{
+            assertEquals(expected, subscriber.received);
+            assertEquals(1, threadNames.get(subscriber).size());
+        });
+    }
+
+    @Test
+    void shouldRetryFailedBatch() {
+        dispatcher = dispatcher(100, BackPressure.BLOCK, asyncPublishing->
+            asyncPublishing.setRetryDelay(Duration.ofMillis(1)));
+        var subscriber = new Subscriber();
+        var attempts = new AtomicInteger();
+
+        dispatcher.dispatchAfterCommit(subscriber, "p0", (s, batch)->{
+            if(attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("transient failure");
+            }
+            s.onBatch(batch);
+        });
+        awaitUntil(()->dispatcher.getDeliveredCount() == 1);
+
+        assertEquals(List.of("p0"), subscriber.received);
+        assertEquals(1, dispatcher.getRetriedCount());
+        assertEquals(0, dispatcher.getFailedCount());
+    }
+
+    @Test
+    void shouldGiveUpAfterLastAttempt() {
+        dispatcher = dispatcher(100, BackPressure.BLOCK, asyncPublishing->{
+            asyncPublishing.setDeliveryAttempts(2);
+            asyncPublishing.setRetryDelay(Duration.ofMillis(1));
+        });
+        var attempts = new AtomicInteger();
+
+        dispatcher.dispatchAfterCommit(new Subscriber(), "p0", (s, batch)->{
+            attempts.incrementAndGet();
+            throw new IllegalStateException("permanent failure");
+        });
+        awaitUntil(()->dispatcher.getFailedCount() == 1);
+
+        assertEquals(2, attempts.get());
+        assertEquals(0, dispatcher.getDeliveredCount());
+    }
+
+    // -- HELPER
+
+    private static AsyncPublishingDispatcher dispatcher(final int queueCapacity, final BackPressure backPressure) {
+        return dispatcher(queueCapacity, backPressure, __->{});
+    }
+
+    @SneakyThrows
+    private static AsyncPublishingDispatcher dispatcher(
+            final int queueCapacity,
+            final BackPressure backPressure,
+            final Consumer<CausewayConfiguration.Core.RuntimeServices.AsyncPublishing> customizer) {
+        var config = new CausewayConfiguration(null, Optional.empty());
+        var asyncPublishing = config.getCore().getRuntimeServices().getAsyncPublishing();
+        asyncPublishing.getSubscribers().add(Subscriber.class.getName());
+        asyncPublishing.setQueueCapacity(queueCapacity);
+        asyncPublishing.setWorkerThreads(1);
+        asyncPublishing.setBackPressure(backPressure);
+        customizer.accept(asyncPublishing);
+
+        var interactionService = Mockito.mock(InteractionService.class);
+        Mockito.doAnswer(invocation->{
+            invocation.<ThrowingRunnable>getArgument(1).run();
+            return null;
+        }).when(interactionService).run(any(InteractionContext.class), any(ThrowingRunnable.class));
+
+        var transactionService = Mockito.mock(TransactionService.class);
+        Mockito.when(transactionService.runTransactional(any(Propagation.class), any(ThrowingRunnable.class)))
+            .thenAnswer(invocation->Try.run(invocation.<ThrowingRunnable>getArgument(1)));
+
+        var iaTracker = Mockito.mock(InteractionLayerTracker.class);
+        Mockito.when(iaTracker.currentInteractionContext())
+            .thenReturn(Optional.of(InteractionContext.ofUserWithSystemDefaults(UserMemento.system())));
+
+        var dispatcher = new AsyncPublishingDispatcher(config, interactionService, iaTracker, transactionService);
+        dispatcher.init();
+        return dispatcher;
+    }
+
+    @SneakyThrows
+    private static void await(final CountDownLatch latch) {
+        latch.await(10, TimeUnit.SECONDS);
+    }
+
+    @SneakyThrows
+    private static void awaitUntil(final BooleanSupplier condition) {
+        var deadline = System.currentTimeMillis() + 10_000;
+        while(!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out");
+            Thread.sleep(10);
+        }
+    }
+
+}
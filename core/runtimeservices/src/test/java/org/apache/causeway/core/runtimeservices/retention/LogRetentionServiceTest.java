@@ -0,0 +1,287 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.retention;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPInputStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.transaction.annotation.Propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+
+import org.apache.causeway.applib.clock.VirtualClock;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet.OrderKey;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.runtime.retention.PurgeableLog;
+
+import lombok.SneakyThrows;
+
+class LogRetentionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    record Entry(Timestamp timestamp, int id) {
+        static final Comparator<Entry> ORDER = Comparator.comparing(Entry::timestamp).thenComparing(Entry::id);
+        OrderKey orderKey() {
+            return new OrderKey(List.of(timestamp, id));
+        }
+        static Entry of(final OrderKey orderKey) {
+            return new Entry((Timestamp)orderKey.values().get(0), (Integer)orderKey.values().get(1));
+        }
+    }
+
+    /**
+     * In-memory log, holding its entries in ascending order.
+     */
+    static class Log implements PurgeableLog {
+        final CausewayConfiguration.Extensions.Retention retention = new CausewayConfiguration.Extensions.Retention();
+        final List<Entry> entries = new ArrayList<>();
+        int bulkDeletes;
+        long largestBulkDelete;
+
+        Log(final int entryCount) {
+            // one entry per minute, the most recent one a minute ago
+            for (int i = entryCount; i > 0; i--) {
+                entries.add(new Entry(Timestamp.from(NOW.minus(Duration.ofMinutes(i))), entryCount - i));
+            }
+        }
+        @Override public Class<?> getEntityClass() { return Timestamp.class; }
+        @Override public String getTimestampPropertyName() { return "timestamp"; }
+        @Override public CausewayConfiguration.Extensions.Retention getRetention() { return retention; }
+
+        Optional<Object> valueAt(final long position, final @Nullable Object lessThan) {
+            return entries.stream()
+                    .map(Entry::timestamp)
+                    .filter(ts->lessThan==null || ts.before((Timestamp)lessThan))
+                    .skip(position)
+                    .findFirst()
+                    .map(Object.class::cast);
+        }
+        Optional<OrderKey> orderKeyAt(final long position, final Object lessThan) {
+            return below(lessThan, null).stream()
+                    .skip(position)
+                    .findFirst()
+                    .map(Entry::orderKey);
+        }
+        List<Entry> below(final Object lessThan, final @Nullable OrderKey upTo) {
+            return entries.stream()
+                    .filter(entry->entry.timestamp().before((Timestamp)lessThan))
+                    .filter(entry->upTo==null || Entry.ORDER.compare(entry, Entry.of(upTo)) <= 0)
+                    .sorted(Entry.ORDER)
+                    .toList();
+        }
+        OptionalLong delete(final Object lessThan, final @Nullable OrderKey upTo) {
+            var deleted = below(lessThan, upTo);
+            entries.removeAll(deleted);
+            bulkDeletes++;
+            largestBulkDelete = Math.max(largestBulkDelete, deleted.size());
+            return OptionalLong.of(deleted.size());
+        }
+    }
+
+    private Log purgeableLog;
+    private EntityFacet entityFacet;
+    private LogRetentionService logRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        purgeableLog = new Log(25);
+
+        entityFacet = Mockito.mock(EntityFacet.class);
+        Mockito.when(entityFacet.countByQuery(any()))
+            .thenAnswer(invocation->OptionalLong.of(purgeableLog.entries.size()));
+        Mockito.when(entityFacet.propertyValueAt(anyString(), anyLong(), any()))
+            .thenAnswer(invocation->purgeableLog.valueAt(invocation.getArgument(1), invocation.getArgument(2)));
+        Mockito.when(entityFacet.orderKeyAt(anyString(), anyLong(), any()))
+            .thenAnswer(invocation->purgeableLog.orderKeyAt(invocation.getArgument(1), invocation.getArgument(2)));
+        Mockito.when(entityFacet.fetchBelow(anyString(), any(), any()))
+            .thenAnswer(invocation->Optional.of(Can.ofStream(
+                    purgeableLog.below(invocation.getArgument(1), invocation.getArgument(2)).stream().map(Object.class::cast))));
+        Mockito.when(entityFacet.deleteBelow(anyString(), any(), any()))
+            .thenAnswer(invocation->purgeableLog.delete(invocation.getArgument(1), invocation.getArgument(2)));
+
+        var entitySpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(entitySpec.entityFacetElseFail()).thenReturn(entityFacet);
+        Mockito.when(entitySpec.logicalTypeName()).thenReturn("test.LogEntry");
+
+        var specificationLoader = Mockito.mock(SpecificationLoader.class);
+        Mockito.when(specificationLoader.specForTypeElseFail(Timestamp.class)).thenReturn(entitySpec);
+
+        var interactionService = Mockito.mock(InteractionService.class);
+        Mockito.when(interactionService.callAnonymous(any()))
+            .thenAnswer(invocation->invocation.<Callable<?>>getArgument(0).call());
+
+        var transactionService = Mockito.mock(TransactionService.class);
+        Mockito.when(transactionService.callTransactional(any(Propagation.class), any()))
+            .thenAnswer(invocation->Try.call(invocation.<Callable<?>>getArgument(1)));
+
+        var clockService = Mockito.mock(ClockService.class);
+        Mockito.when(clockService.getClock()).thenReturn(VirtualClock.frozenAt(NOW));
+
+        logRetentionService = new LogRetentionService(
+                List.of(purgeableLog), specificationLoader, interactionService, transactionService, clockService);
+    }
+
+    @Test
+    void shouldNotPurgeWithoutLimits() {
+        assertEquals(0, logRetentionService.purge(purgeableLog));
+        assertEquals(25, purgeableLog.entries.size());
+    }
+
+    @Test
+    void shouldPurgeByMaxAgeInChunks() {
+        purgeableLog.retention.setMaxAge(Duration.ofMinutes(10).plusSeconds(30));
+        purgeableLog.retention.setChunkSize(4);
+
+        assertEquals(15, logRetentionService.purge(purgeableLog));
+        assertEquals(10, purgeableLog.entries.size());
+        // 3 full chunks of 4, then the remaining 3
+        assertEquals(4, purgeableLog.bulkDeletes);
+    }
+
+    @Test
+    void shouldPurgeByMaxRows() {
+        purgeableLog.retention.setMaxRows(7);
+
+        assertEquals(18, logRetentionService.purge(purgeableLog));
+        assertEquals(7, purgeableLog.entries.size());
+        assertEquals(Timestamp.from(NOW.minus(Duration.ofMinutes(7))), purgeableLog.entries.get(0).timestamp());
+    }
+
+    @Test
+    void shouldApplyTheMoreRestrictiveLimit() {
+        purgeableLog.retention.setMaxAge(Duration.ofMinutes(20).plusSeconds(30));
+        purgeableLog.retention.setMaxRows(12);
+
+        assertEquals(13, logRetentionService.purge(purgeableLog));
+        assertEquals(12, purgeableLog.entries.size());
+    }
+
+    @Test
+    void shouldBoundChunksEvenIfEntriesShareTheirTimestamp() {
+        var entryCount = purgeableLog.entries.size();
+        var timestamp = Timestamp.from(NOW.minus(Duration.ofMinutes(30)));
+        purgeableLog.entries.replaceAll(entry->new Entry(timestamp, entry.id()));
+        purgeableLog.retention.setMaxAge(Duration.ofMinutes(10));
+        purgeableLog.retention.setChunkSize(4);
+
+        assertEquals(entryCount, logRetentionService.purge(purgeableLog));
+        assertTrue(purgeableLog.entries.isEmpty());
+        // 6 full chunks of 4, then the remaining 1
+        assertEquals(7, purgeableLog.bulkDeletes);
+        assertEquals(4, purgeableLog.largestBulkDelete);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldArchiveBeforeDeleting(final @TempDir Path archiveDirectory) {
+        purgeableLog.retention.setMaxRows(5);
+        purgeableLog.retention.setChunkSize(8);
+        purgeableLog.retention.getArchive().setEnabled(true);
+        purgeableLog.retention.getArchive().setDirectory(archiveDirectory.toString());
+
+        assertEquals(20, logRetentionService.purge(purgeableLog));
+
+        try(var archiveFiles = Files.list(archiveDirectory)) {
+            var archivedLines = archiveFiles.sorted()
+                    .flatMap(LogRetentionServiceTest::readGzipped)
+                    .toList();
+            assertEquals(20, archivedLines.size());
+            assertEquals(new Entry(Timestamp.from(NOW.minus(Duration.ofMinutes(25))), 0).toString(), archivedLines.get(0));
+        }
+        // no temporary files left over
+        assertEquals(List.of(), listFiles(archiveDirectory).stream()
+                .filter(file->!file.getFileName().toString().endsWith(".log.gz"))
+                .toList());
+        // archived entries are released from the persistence context
+        Mockito.verify(entityFacet, Mockito.times(20)).evict(any());
+    }
+
+    @Test
+    void shouldNotPublishArchiveUnlessDeletionGotCommitted(final @TempDir Path archiveDirectory) {
+        Mockito.doThrow(new IllegalStateException("deletion failed"))
+            .when(entityFacet).deleteBelow(anyString(), any(), any());
+        purgeableLog.retention.setMaxRows(5);
+        purgeableLog.retention.getArchive().setEnabled(true);
+        purgeableLog.retention.getArchive().setDirectory(archiveDirectory.toString());
+
+        assertThrows(IllegalStateException.class, ()->logRetentionService.purge(purgeableLog));
+        assertEquals(25, purgeableLog.entries.size());
+        assertEquals(List.of(), listFiles(archiveDirectory));
+    }
+
+    @Test
+    void shouldNotPurgeWhenBulkDeletionIsNotSupported() {
+        Mockito.doReturn(OptionalLong.empty())
+            .when(entityFacet).deleteBelow(anyString(), any(), any());
+        purgeableLog.retention.setMaxRows(5);
+
+        assertEquals(0, logRetentionService.purge(purgeableLog));
+        assertEquals(25, purgeableLog.entries.size());
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static List<Path> listFiles(final Path directory) {
+        try(var files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    @SneakyThrows
+    private static java.util.stream.Stream<String> readGzipped(final Path file) {
+        try(var reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList().stream();
+        }
+    }
+
+}
@@ -149,6 +149,27 @@ public static class Nq {
         public static final String FIND_MOST_RECENT_COMPLETED           = LOGICAL_TYPE_NAME + ".findMostRecentCompleted";
         public static final String FIND_BY_REPLAY_STATE                 = LOGICAL_TYPE_NAME + ".findNotYetReplayed";
         public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED  = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStarted";
+        /**
+         * The interaction ids of background commands not yet started, and either not claimed by any worker,
+         * or whose claim has expired (as of parameter {@code now}).
+         */
+        public static final String FIND_CLAIMABLE_INTERACTION_IDS       = LOGICAL_TYPE_NAME + ".findClaimableInteractionIds";
+        /**
+         * Background commands (of parameter {@code interactionIds}) claimed by parameter {@code worker}.
+         */
+        public static final String FIND_CLAIMED_BY                      = LOGICAL_TYPE_NAME + ".findClaimedBy";
+        /**
+         * Bulk update, claiming those background commands (of parameter {@code interactionIds}) that are still
+         * claimable (as of parameter {@code now}) on behalf of parameter {@code worker}
+         * until parameter {@code claimedUntil}.
+         */
+        public static final String CLAIM_IF_CLAIMABLE                   = LOGICAL_TYPE_NAME + ".claimIfClaimable";
+        /**
+         * Bulk update, extending the claim of parameter {@code worker} on the background command of parameter
+         * {@code interactionId} until parameter {@code claimedUntil}, provided it is still claimed by that worker
+         * and not yet started.
+         */
+        public static final String RENEW_CLAIM                          = LOGICAL_TYPE_NAME + ".renewClaim";
         public static final String FIND_RECENT_BACKGROUND_BY_TARGET     = LOGICAL_TYPE_NAME + ".findRecentBackgroundByTarget";
     }
 
@@ -624,6 +645,78 @@ class DomainEvent extends PropertyDomainEvent<String> {}
         return getReplayState() == null || !getReplayState().isFailed();
     }
 
+    @Property(
+            domainEvent = ClaimedBy.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL,
+            maxLength = ClaimedBy.MAX_LENGTH
+    )
+    @PropertyLayout(hidden = Where.ALL_TABLES)
+    @Parameter(
+            optionality = Optionality.OPTIONAL,
+            maxLength = ClaimedBy.MAX_LENGTH
+    )
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ClaimedBy {
+        class DomainEvent extends PropertyDomainEvent<String> {}
+        int MAX_LENGTH = 80;
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * For a {@link org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn#BACKGROUND background} command, the worker that has claimed it for execution.
+     */
+    @ClaimedBy
+    public abstract String getClaimedBy();
+    public abstract void setClaimedBy(String claimedBy);
+
+    @Property(
+            domainEvent = ClaimedUntil.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL
+    )
+    @PropertyLayout(hidden = Where.ALL_TABLES)
+    @Parameter(
+            optionality = Optionality.OPTIONAL
+    )
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ClaimedUntil {
+        class DomainEvent extends PropertyDomainEvent<java.sql.Timestamp> {}
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * For a {@link org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn#BACKGROUND background} command, when the {@link #getClaimedBy() claim} expires;
+     * thereafter (if still not started) the command may be claimed by any other worker.
+     */
+    @ClaimedUntil
+    public abstract java.sql.Timestamp getClaimedUntil();
+    public abstract void setClaimedUntil(java.sql.Timestamp claimedUntil);
+
+    @Programmatic
+    public void claim(final String claimedBy, final java.sql.Timestamp claimedUntil) {
+        setClaimedBy(claimedBy);
+        setClaimedUntil(claimedUntil);
+    }
+
+    @Programmatic
+    public void releaseClaim() {
+        setClaimedBy(null);
+        setClaimedUntil(null);
+    }
+
+    /**
+     * Whether given {@code worker} was the last to claim this command, regardless of whether that claim has
+     * expired since (see {@link #getClaimedUntil()}); hence this does not establish ownership, for which see
+     * {@link CommandLogEntryRepository#renewClaim(UUID, String, java.time.Duration)}.
+     */
+    @Programmatic
+    public boolean isClaimedBy(final String worker) {
+        return worker.equals(getClaimedBy());
+    }
+
     @Programmatic
     public void saveAnalysis(final String analysis) {
         if (analysis == null) {
@@ -126,6 +126,39 @@ List<CommandLogEntry> findByTargetAndFromAndTo(
      */
     List<CommandLogEntry> findBackgroundAndNotYetStarted();
 
+    /**
+     * As {@link #findBackgroundAndNotYetStarted()}, but returns at most {@code limit} commands (the oldest first),
+     * with the limit applied by the query.
+     */
+    List<CommandLogEntry> findBackgroundAndNotYetStarted(int limit);
+
+    /**
+     * Claims (at most {@code limit}) background commands that have not yet started, and that are not currently
+     * claimed by some other worker (or whose claim has expired), on behalf of given {@code worker}
+     * for the given {@code claimDuration}.
+     *
+     * <p>
+     * Must be called within a transaction; the claims become visible to other workers once it commits.
+     * </p>
+     *
+     * @see CommandLogEntry#getClaimedBy()
+     * @see CommandLogEntry#getClaimedUntil()
+     */
+    List<CommandLogEntry> claimBackgroundAndNotYetStarted(String worker, java.time.Duration claimDuration, int limit);
+
+    /**
+     * Renews the claim of given {@code worker} on the (background) command of given {@code interactionId}
+     * for another {@code claimDuration}, provided it is still claimed by that {@code worker} and not yet started.
+     *
+     * <p>
+     * To be called within the transaction that executes the command, just before executing it: if the
+     * claim has been lost (because it expired and the command was claimed by some other worker since),
+     * this returns <code>false</code> and the command must not be executed. Otherwise the (row) lock taken by the
+     * renewal is held until the transaction commits, so that no other worker can claim the command meanwhile.
+     * </p>
+     */
+    boolean renewClaim(UUID interactionId, String worker, java.time.Duration claimDuration);
+
     List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target);
 
     /**
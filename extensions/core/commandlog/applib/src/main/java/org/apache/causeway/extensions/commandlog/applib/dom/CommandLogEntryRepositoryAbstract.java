@@ -19,6 +19,7 @@
 package org.apache.causeway.extensions.commandlog.applib.dom;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -37,12 +38,15 @@
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.command.Command;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtime.retention.PurgeableLog;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 import org.apache.causeway.schema.cmd.v2.CommandsDto;
 import org.apache.causeway.schema.cmd.v2.MapDto;
@@ -53,11 +57,13 @@
  *
  * @since 2.0 {@index}
  */
-public abstract class CommandLogEntryRepositoryAbstract<C extends CommandLogEntry> implements CommandLogEntryRepository {
+public abstract class CommandLogEntryRepositoryAbstract<C extends CommandLogEntry> implements CommandLogEntryRepository, PurgeableLog {
 
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
+    @Inject ClockService clockService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     private final Class<C> commandLogEntryClass;
 
@@ -289,6 +295,94 @@ public List<CommandLogEntry> findBackgroundAndNotYetStarted() {
                     Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)));
     }
 
+    @Override
+    public List<CommandLogEntry> findBackgroundAndNotYetStarted(final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)
+                        .withLimit(limit)));
+    }
+
+    @Override
+    public List<CommandLogEntry> claimBackgroundAndNotYetStarted(
+            final String worker,
+            final Duration claimDuration,
+            final int limit) {
+        var now = clockService.getClock().nowAsJavaSqlTimestamp();
+        var claimedUntil = new Timestamp(now.getTime() + claimDuration.toMillis());
+
+        // claims optimistically, that is without locking any rows: the candidates are re-checked by the (conditional)
+        // bulk update, so of those claimed concurrently by some other worker, only one worker's update applies;
+        // as concurrent workers tend to select the same (oldest) candidates, we keep selecting (skipping those
+        // already attempted) and claiming, until the batch is full or nothing claimable is left
+        var attemptedInteractionIds = new ArrayList<UUID>();
+        long claimedCount = 0;
+        for(int round = 0; round < MAX_CLAIM_ROUNDS && claimedCount < limit; round++) {
+            var remaining = (int) (limit - claimedCount);
+            var candidateInteractionIds = findClaimableInteractionIds(now, attemptedInteractionIds.size() + remaining)
+                    .stream()
+                    .filter(interactionId -> !attemptedInteractionIds.contains(interactionId))
+                    .limit(remaining)
+                    .toList();
+            if(candidateInteractionIds.isEmpty()) {
+                break;
+            }
+            attemptedInteractionIds.addAll(candidateInteractionIds);
+            claimedCount += claimIfClaimable(candidateInteractionIds, worker, claimedUntil, now);
+        }
+        if(claimedCount == 0) {
+            return Collections.emptyList();
+        }
+
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_CLAIMED_BY)
+                        .withParameter("interactionIds", attemptedInteractionIds)
+                        .withParameter("worker", worker)));
+    }
+
+    /**
+     * Upper bound of select-and-claim rounds per call to {@link #claimBackgroundAndNotYetStarted(String, Duration, int)},
+     * so that a worker losing all its rounds to concurrent workers gives up (until its next run).
+     */
+    private static final int MAX_CLAIM_ROUNDS = 5;
+
+    @Override
+    public boolean renewClaim(final UUID interactionId, final String worker, final Duration claimDuration) {
+        var now = clockService.getClock().nowAsJavaSqlTimestamp();
+        var claimedUntil = new Timestamp(now.getTime() + claimDuration.toMillis());
+        return renewClaimIfClaimedBy(interactionId, worker, claimedUntil) == 1;
+    }
+
+    /**
+     * Returns the interaction ids of (at most {@code limit}) background commands not yet started,
+     * that are either unclaimed or whose claim has expired as of {@code now}, the oldest first.
+     * <p>
+     * Must not lock the rows, see {@link #claimIfClaimable(List, String, Timestamp, Timestamp)}.
+     *
+     * @see CommandLogEntry.Nq#FIND_CLAIMABLE_INTERACTION_IDS
+     */
+    protected abstract List<UUID> findClaimableInteractionIds(Timestamp now, int limit);
+
+    /**
+     * Claims those commands (of given {@code interactionIds}) on behalf of given {@code worker}, that are still
+     * claimable as of {@code now}, using a single (conditional) bulk update.
+     *
+     * @return the number of commands claimed
+     * @see CommandLogEntry.Nq#CLAIM_IF_CLAIMABLE
+     */
+    protected abstract long claimIfClaimable(List<UUID> interactionIds, String worker, Timestamp claimedUntil, Timestamp now);
+
+    /**
+     * Extends the claim of given {@code worker} on the command of given {@code interactionId} until
+     * {@code claimedUntil}, using a single (conditional) bulk update, provided that command is still claimed by
+     * that {@code worker} and not yet started.
+     *
+     * @return the number of commands updated, that is either 1 or 0
+     * @see CommandLogEntry.Nq#RENEW_CLAIM
+     */
+    protected abstract long renewClaimIfClaimedBy(UUID interactionId, String worker, Timestamp claimedUntil);
+
     public List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target) {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
@@ -470,4 +564,36 @@ public void removeAll() {
         repositoryService().removeAll(commandLogEntryClass);
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getTimestampPropertyName() {
+        return "timestamp";
+    }
+
+    @Override
+    public CausewayConfiguration.Extensions.Retention getRetention() {
+        return causewayConfiguration.getExtensions().getCommandLog().getRetention();
+    }
+
+    /**
+     * Background commands not yet started (and any more recent commands) are never purged.
+     */
+    @Override
+    public Timestamp limitCutoff(final Timestamp cutoff) {
+        return findBackgroundAndNotYetStarted(1).stream()
+                .map(CommandLogEntry::getTimestamp)
+                .filter(timestamp->timestamp.before(cutoff))
+                .findFirst()
+                .orElse(cutoff);
+    }
+
+    /**
+     * Archives the {@link CommandDto} of given entry, as XML.
+     */
+    @Override
+    public String archiveLineFor(final Object entry) {
+        return CommandDtoUtils.dtoMapper().toString(((CommandLogEntry) entry).getCommandDto());
+    }
+
 }
@@ -18,11 +18,16 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import jakarta.inject.Inject;
 
@@ -43,6 +48,7 @@
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
 import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.services.deadlock.DeadlockRecognizer;
 import org.apache.causeway.core.runtimeservices.transaction.TransactionServiceSpring;
@@ -65,6 +71,22 @@
  *     the control is managed through the injected {@link BackgroundCommandsJobControl}
  * </p>
  *
+ * <p>
+ *     Pending commands are claimed in the database (in batches) before they are executed, by one or more workers
+ *     (see {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getWorkers() workers}).
+ *     This job may therefore also run on multiple nodes at once, without any command being executed twice.
+ *     If a worker fails to start a claimed command within the
+ *     {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getClaimDuration() claim-duration},
+ *     the command may be claimed by any other worker. Each claim is therefore renewed (within the transaction that
+ *     executes the command) just before the command is executed, and the command is skipped if the claim has been
+ *     lost meanwhile.
+ * </p>
+ *
+ * <p>
+ *     Correctness does not rely on {@link DisallowConcurrentExecution}; it is kept so that overlapping triggers
+ *     on the same node do not multiply the number of (configured) workers per node.
+ * </p>
+ *
  * @see BackgroundCommandsJobControl
  *
  * @since 2.0 {@index}
@@ -100,22 +122,50 @@ public void execute(final JobExecutionContext quartzContext) {
         var userMemento = UserMemento.ofNameAndRoleNames("scheduler_user", "admin_role");
         var interactionContext = InteractionContext.builder().user(userMemento).build();
 
-        // we obtain the list of Commands first; we use their CommandDto as it is serializable across transactions
-        final Optional<List<CommandDto>> commandDtosIfAny = pendingCommandDtos(interactionContext);
+        var workers = Math.max(1, causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getWorkers());
+        var workerPrefix = workerPrefix();
+        if(workers == 1) {
+            runWorker(workerPrefix + "#0", interactionContext);
+            return;
+        }
+
+        // each worker claims (and then executes) its own batch
+        var executorService = Executors.newFixedThreadPool(workers);
+        try {
+            var futures = IntStream.range(0, workers)
+                    .mapToObj(workerIndex -> executorService.submit(() -> runWorker(workerPrefix + "#" + workerIndex, interactionContext)))
+                    .collect(Collectors.toList());
+            for (var future : futures) {
+                awaitWorker(future);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private void runWorker(final String worker, final InteractionContext interactionContext) {
+
+        // we claim the Commands first; we use their CommandDto as it is serializable across transactions
+        final Optional<List<CommandDto>> commandDtosIfAny = claimPendingCommandDtos(worker, interactionContext);
 
         // for each command, we execute within its own transaction.  Failure of one should not impact the next.
         commandDtosIfAny.ifPresent(commandDtos -> {
             List<CommandAndResult> commandResults = new ArrayList<>();
-            for (CommandDto dto : commandDtos) {
-                Try<?> attempt = executeCommandWithinTransaction(dto, interactionContext);
-                if(attempt.isFailure()) {
-                    var onFailurePolicy = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getOnFailurePolicy();
-                    if (onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE) {
-                        break;
+            try {
+                for (CommandDto dto : commandDtos) {
+                    Try<?> attempt = executeCommandWithinTransaction(dto, worker, interactionContext);
+                    if(attempt.isFailure()) {
+                        var onFailurePolicy = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getOnFailurePolicy();
+                        if (onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE) {
+                            break;
+                        }
                     }
+                    CommandAndResult apply = CommandAndResult.of(dto, attempt);
+                    commandResults.add(apply);
                 }
-                CommandAndResult apply = CommandAndResult.of(dto, attempt);
-                commandResults.add(apply);
+            } finally {
+                // any commands not started (not reached, or failed with STOP_THE_LINE) are to be picked up again
+                releaseClaimsOfNotYetStarted(commandDtos, worker, interactionContext);
             }
 
             // an enhancement for the listener interface would be to say whether each interaction succeeded or not
@@ -138,13 +188,18 @@ static class CommandAndResult {
         private final Try<?> executionResult;
     }
 
-    private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext interactionContext) {
+    /**
+     * Claims a batch of pending commands on behalf of given {@code worker}, committing the claim in its own transaction,
+     * so that it becomes visible to all other workers (whether on this or any other node).
+     */
+    private Optional<List<CommandDto>> claimPendingCommandDtos(final String worker, final InteractionContext interactionContext) {
+        var runBackgroundCommands = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
         return interactionService.callAndCatch(interactionContext, () ->
             transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
-                commandLogEntryRepository.findBackgroundAndNotYetStarted()
+                commandLogEntryRepository.claimBackgroundAndNotYetStarted(
+                            worker, runBackgroundCommands.getClaimDuration(), runBackgroundCommands.getBatchSize())
                         .stream()
                         .map(CommandLogEntry::getCommandDto)
-                        .limit(causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getBatchSize())
                         .collect(Collectors.toList())
                 )
                 .ifFailureFail()
@@ -156,8 +211,30 @@ private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext i
 
     @Inject TransactionServiceSpring transactionServiceSpring;
 
+    private void releaseClaimsOfNotYetStarted(
+            final List<CommandDto> commandDtos,
+            final String worker,
+            final InteractionContext interactionContext) {
+        if(commandDtos.isEmpty()) {
+            return;
+        }
+        interactionService.runAndCatch(interactionContext, () ->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () ->
+                commandDtos.stream()
+                    .map(commandDto -> commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId())))
+                    .flatMap(Optional::stream)
+                    .filter(commandLogEntry -> commandLogEntry.getStartedAt() == null
+                            && commandLogEntry.isClaimedBy(worker))
+                    .forEach(CommandLogEntry::releaseClaim)
+            )
+            .ifFailureFail()
+        )
+        .ifFailure(throwable -> log.warn("Failed to release claims of worker {}; these will expire instead", worker, throwable));
+    }
+
     private Try<?> executeCommandWithinTransaction(
             final CommandDto commandDto,
+            final String worker,
             final InteractionContext interactionContext
     ) {
         int remainingAttempts = RETRY_COUNT;
@@ -167,7 +244,18 @@ private Try<?> executeCommandWithinTransaction(
 
                 // previously we were creating a new transaction here with REQUIRES_NEW, but this isn't necessary
                 // (and massively complicates things) since each interaction will implictly creates its own transaction
-                var commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
+                var interactionId = UUID.fromString(commandDto.getInteractionId());
+
+                // renewing the claim (rather than just checking it) also keeps any other worker from claiming the
+                // command, until this transaction commits (by which time the command will have started)
+                var claimDuration = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getClaimDuration();
+                if(!commandLogEntryRepository.renewClaim(interactionId, worker, claimDuration)) {
+                    // our claim has expired, and the command has since been claimed (or even executed) by some other worker
+                    log.warn("Claim of worker {} on command {} has been lost; skipping", worker, commandDto.getInteractionId());
+                    return Try.empty();
+                }
+
+                var commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(interactionId);
                 if(commandLogEntryIfAny.isEmpty()) {
                     return Try.empty();
                 }
@@ -262,6 +350,9 @@ private void invokeListenerCallbackWithinTransaction(
             final RunBackgroundCommandsJobListener listener,
             final List<String> interactionIds,
             final InteractionContext interactionContext) {
+        if(commandDtos.isEmpty()) {
+            return;
+        }
         interactionService.runAndCatch(interactionContext, () -> {
             transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
                 listener.executed(interactionIds);
@@ -279,6 +370,24 @@ private boolean isEncounteredDeadlock(final Try<?> result) {
                 .orElse(false);
     }
 
+    /**
+     * Identifies the workers of this job execution, unique across nodes (and across job executions).
+     */
+    private static String workerPrefix() {
+        var node = _Strings.trimmed(ManagementFactory.getRuntimeMXBean().getName(), 60);
+        return node + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static void awaitWorker(final Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Background commands worker failed", e.getCause());
+        }
+    }
+
     private static void sleep(final long retryIntervalMs) {
         try {
             Thread.sleep(retryIntervalMs);
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.integtest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -235,6 +236,74 @@ void using_background_service() {
 
     }
 
+    @SneakyThrows
+    @Test
+    void claim_expiry_and_release() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        givenBackgroundCommand();
+
+        // when claimed by some worker
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var claimed = commandLogEntryRepository.claimBackgroundAndNotYetStarted("worker-1", Duration.ofMinutes(10), 10);
+            assertThat(claimed).hasSize(1);
+            assertThat(claimed.get(0))
+                    .satisfies(x -> assertThat(x.getClaimedBy()).isEqualTo("worker-1"))
+                    .satisfies(x -> assertThat(x.getClaimedUntil()).isNotNull());
+        }).ifFailureFail();
+
+        // then cannot be claimed by any other worker
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.claimBackgroundAndNotYetStarted("worker-2", Duration.ofMinutes(10), 10))
+                    .isEmpty();
+        }).ifFailureFail();
+
+        // when released
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            commandLogEntryRepository.findBackgroundAndNotYetStarted()
+                    .forEach(CommandLogEntry::releaseClaim);
+        }).ifFailureFail();
+
+        // then can be claimed by any other worker, here with a claim that has expired straight away
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var claimed = commandLogEntryRepository.claimBackgroundAndNotYetStarted("worker-2", Duration.ofMinutes(-1), 10);
+            assertThat(claimed).hasSize(1);
+            assertThat(claimed.get(0).getClaimedBy()).isEqualTo("worker-2");
+        }).ifFailureFail();
+
+        // when expired, then can be claimed by any other worker
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var claimed = commandLogEntryRepository.claimBackgroundAndNotYetStarted("worker-3", Duration.ofMinutes(10), 10);
+            assertThat(claimed).hasSize(1);
+            assertThat(claimed.get(0).getClaimedBy()).isEqualTo("worker-3");
+        }).ifFailureFail();
+
+        // and the superseded worker no longer holds the claim
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var all = commandLogEntryRepository.findAll();
+            assertThat(all).hasSize(1);
+            assertThat(all.get(0).isClaimedBy("worker-2")).isFalse();
+        }).ifFailureFail();
+    }
+
+    @SneakyThrows
+    private void givenBackgroundCommand() {
+        final AtomicReference<AsyncProxy<Counter>> asyncProxy = new AtomicReference<>();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            asyncProxy.set(backgroundService.execute(counter));
+        }).ifFailureFail();
+
+        asyncProxy.get()
+            .acceptAsync(Counter::bumpUsingDeclaredAction)
+            .tryGet(5, TimeUnit.SECONDS); // wait till done
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).hasSize(1);
+        }).ifFailureFail();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
@@ -181,6 +181,21 @@
                   + " WHERE executeIn == 'BACKGROUND' "
                   + "    && startedAt == null "
                   + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_CLAIMABLE_INTERACTION_IDS,
+            value = "SELECT interactionId "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && startedAt == null "
+                  + "    && (claimedUntil == null || claimedUntil < :now) "
+                  + " ORDER BY timestamp ASC "), // programmatic RANGE (batch size)
+    @Query(
+            name  = Nq.FIND_CLAIMED_BY,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE :interactionIds.contains(interactionId) "
+                  + "    && claimedBy == :worker "
+                  + " ORDER BY timestamp ASC "),
     @Query(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             value = "SELECT "
@@ -315,4 +330,14 @@ public CommandLogEntry(
     @Getter @Setter
     private String replayStateFailureReason;
 
+    @Column(allowsNull = ClaimedBy.ALLOWS_NULL, length = ClaimedBy.MAX_LENGTH)
+    @ClaimedBy
+    @Getter @Setter
+    private String claimedBy;
+
+    @Column(allowsNull = ClaimedUntil.ALLOWS_NULL)
+    @ClaimedUntil
+    @Getter @Setter
+    private java.sql.Timestamp claimedUntil;
+
 }
@@ -18,14 +18,24 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.jdo.PersistenceManager;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,10 +50,76 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJdo.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JdoSupportService jdoSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Override
+    protected List<UUID> findClaimableInteractionIds(final Timestamp now, final int limit) {
+        var query = jdoSupportService.getPersistenceManager()
+                .newNamedQuery(CommandLogEntry.class, Nq.FIND_CLAIMABLE_INTERACTION_IDS)
+                .setNamedParameters(Map.of("now", now));
+        query.range(0, limit);
+        return query.executeResultList(UUID.class);
+    }
+
+    /**
+     * Uses a JDOQL bulk update (a DataNucleus extension), which bypasses the caches,
+     * hence evicts any cached {@link CommandLogEntry} instances, before these are re-read.
+     */
+    @Override
+    protected long claimIfClaimable(
+            final List<UUID> interactionIds,
+            final String worker,
+            final Timestamp claimedUntil,
+            final Timestamp now) {
+        var persistenceManager = jdoSupportService.getPersistenceManager();
+        var query = persistenceManager.newQuery(
+                "UPDATE " + CommandLogEntry.FQCN
+              + "   SET this.claimedBy = :worker, "
+              + "       this.claimedUntil = :claimedUntil "
+              + " WHERE :interactionIds.contains(this.interactionId) "
+              + "    && this.startedAt == null "
+              + "    && (this.claimedUntil == null || this.claimedUntil < :now)");
+        var claimedCount = (Long) query.executeWithMap(Map.of(
+                "interactionIds", interactionIds,
+                "worker", worker,
+                "claimedUntil", claimedUntil,
+                "now", now));
+        evictAll(persistenceManager);
+        return claimedCount;
+    }
+
+    /**
+     * As for {@link #claimIfClaimable(List, String, Timestamp, Timestamp)}, uses a JDOQL bulk update.
+     */
+    @Override
+    protected long renewClaimIfClaimedBy(
+            final UUID interactionId,
+            final String worker,
+            final Timestamp claimedUntil) {
+        var persistenceManager = jdoSupportService.getPersistenceManager();
+        var query = persistenceManager.newQuery(
+                "UPDATE " + CommandLogEntry.FQCN
+              + "   SET this.claimedUntil = :claimedUntil "
+              + " WHERE this.interactionId == :interactionId "
+              + "    && this.claimedBy == :worker "
+              + "    && this.startedAt == null");
+        var renewedCount = (Long) query.executeWithMap(Map.of(
+                "interactionId", interactionId,
+                "worker", worker,
+                "claimedUntil", claimedUntil));
+        evictAll(persistenceManager);
+        return renewedCount;
+    }
+
+    private static void evictAll(final PersistenceManager persistenceManager) {
+        persistenceManager.evictAll(false, CommandLogEntry.class);
+        persistenceManager.getPersistenceManagerFactory().getDataStoreCache().evictAll(false, CommandLogEntry.class);
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
@@ -187,6 +187,36 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.startedAt is null "
                   + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.FIND_CLAIMABLE_INTERACTION_IDS,
+            query = "SELECT cl.pk.interactionId "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt is null "
+                  + "   AND (cl.claimedUntil is null OR cl.claimedUntil < :now) "
+                  + " ORDER BY cl.timestamp ASC"), // programmatic LIMIT (batch size)
+    @NamedQuery(
+            name  = Nq.FIND_CLAIMED_BY,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.pk.interactionId IN :interactionIds "
+                  + "   AND cl.claimedBy = :worker "
+                  + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.CLAIM_IF_CLAIMABLE,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.claimedBy = :worker, "
+                  + "       cl.claimedUntil = :claimedUntil "
+                  + " WHERE cl.pk.interactionId IN :interactionIds "
+                  + "   AND cl.startedAt is null "
+                  + "   AND (cl.claimedUntil is null OR cl.claimedUntil < :now)"),
+    @NamedQuery(
+            name  = Nq.RENEW_CLAIM,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.claimedUntil = :claimedUntil "
+                  + " WHERE cl.pk.interactionId = :interactionId "
+                  + "   AND cl.claimedBy = :worker "
+                  + "   AND cl.startedAt is null"),
         @NamedQuery(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             query = "SELECT cl "
@@ -326,4 +356,14 @@ public void setInteractionId(UUID interactionId) {
     @Getter @Setter
     private String replayStateFailureReason;
 
+    @Column(nullable = ClaimedBy.NULLABLE, length = ClaimedBy.MAX_LENGTH)
+    @ClaimedBy
+    @Getter @Setter
+    private String claimedBy;
+
+    @Column(nullable = ClaimedUntil.NULLABLE)
+    @ClaimedUntil
+    @Getter @Setter
+    private java.sql.Timestamp claimedUntil;
+
 }
@@ -18,14 +18,21 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,8 +47,55 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJpa.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JpaSupportService jpaSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Override
+    protected List<UUID> findClaimableInteractionIds(final Timestamp now, final int limit) {
+        return jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.FIND_CLAIMABLE_INTERACTION_IDS, UUID.class)
+                .setParameter("now", now)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * The bulk update bypasses the persistence context, however the candidates were selected by id only,
+     * hence no stale {@link CommandLogEntry} instances are held by it.
+     */
+    @Override
+    protected long claimIfClaimable(
+            final List<UUID> interactionIds,
+            final String worker,
+            final Timestamp claimedUntil,
+            final Timestamp now) {
+        return jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.CLAIM_IF_CLAIMABLE)
+                .setParameter("interactionIds", interactionIds)
+                .setParameter("worker", worker)
+                .setParameter("claimedUntil", claimedUntil)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    /**
+     * As for {@link #claimIfClaimable(List, String, Timestamp, Timestamp)}, the bulk update bypasses the
+     * persistence context, hence is to be called before the {@link CommandLogEntry} is (re-)read.
+     */
+    @Override
+    protected long renewClaimIfClaimedBy(
+            final UUID interactionId,
+            final String worker,
+            final Timestamp claimedUntil) {
+        return jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.RENEW_CLAIM)
+                .setParameter("interactionId", interactionId)
+                .setParameter("worker", worker)
+                .setParameter("claimedUntil", claimedUntil)
+                .executeUpdate();
+    }
+
 }
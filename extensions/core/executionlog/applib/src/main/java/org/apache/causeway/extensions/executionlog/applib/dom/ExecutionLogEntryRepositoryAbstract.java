@@ -36,8 +36,11 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtime.retention.PurgeableLog;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -45,13 +48,14 @@
  *
  * @since 2.0 {@index}
  */
-public abstract class ExecutionLogEntryRepositoryAbstract<E extends ExecutionLogEntry> implements ExecutionLogEntryRepository {
+public abstract class ExecutionLogEntryRepositoryAbstract<E extends ExecutionLogEntry> implements ExecutionLogEntryRepository, PurgeableLog {
 
     private final Class<E> executionLogEntryClass;
 
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     protected ExecutionLogEntryRepositoryAbstract(final Class<E> executionLogEntryClass) {
         this.executionLogEntryClass = executionLogEntryClass;
@@ -259,6 +263,28 @@ public void removeAll() {
         repositoryService().removeAll(executionLogEntryClass);
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getTimestampPropertyName() {
+        return "timestamp";
+    }
+
+    @Override
+    public CausewayConfiguration.Extensions.Retention getRetention() {
+        return causewayConfiguration.getExtensions().getExecutionLog().getRetention();
+    }
+
+    /**
+     * Archives the {@link org.apache.causeway.schema.ixn.v2.InteractionDto} of given entry, as XML.
+     */
+    @Override
+    public String archiveLineFor(final Object entry) {
+        return InteractionDtoUtils.dtoMapper().toString(((ExecutionLogEntry) entry).getInteractionDto());
+    }
+
+    // -- HELPER
+
     private static Timestamp toTimestampStartOfDayWithOffset(
             final @Nullable LocalDate dt,
             final int daysOffset) {
@@ -33,9 +33,12 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtime.retention.PurgeableLog;
 
 /**
  * Provides supporting functionality for querying {@link AuditTrailEntry audit trail entry} entities.
@@ -43,11 +46,13 @@
  * @since 2.0 {@index}
  */
 public abstract class AuditTrailEntryRepositoryAbstract<E extends AuditTrailEntry>
-        implements AuditTrailEntryRepository  {
+        implements AuditTrailEntryRepository, PurgeableLog {
 
     @Inject RepositoryService repositoryService;
     @Inject FactoryService factoryService;
+    @Inject TransactionService transactionService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     private final Class<E> auditTrailEntryClass;
 
@@ -61,14 +66,45 @@ public Class<E> getEntityClass() {
 
     @Override
     public AuditTrailEntry createFor(final EntityPropertyChange change) {
-        E entry = factoryService.detachedEntity(auditTrailEntryClass);
-        entry.init(change);
-        return repositoryService.persistAndFlush(entry);
+        return repositoryService.persistAndFlush(newEntry(change));
     }
 
+    /**
+     * Bulk path, as used when entity property changes are published in bulk.
+     * <p>
+     * Entries are persisted in batches of
+     * {@link CausewayConfiguration.Extensions.AuditTrail.Bulk#getBatchSize() batch-size},
+     * each batch flushed once, rather than once per entry.
+     *
+     * @see #persistBatch(Can)
+     */
     @Override
-    public Can<AuditTrailEntry> createFor(Can<EntityPropertyChange> entityPropertyChanges) {
-        return Can.ofCollection(repositoryService.execInBulk(() -> entityPropertyChanges.map(this::createFor).toList()));
+    public Can<AuditTrailEntry> createFor(final Can<EntityPropertyChange> entityPropertyChanges) {
+        var entries = entityPropertyChanges.map(this::newEntry);
+        var batchSize = causewayConfiguration.getExtensions().getAuditTrail().getBulk().getBatchSize();
+        entries.partitionInnerBound(batchSize)
+            .forEach(this::persistBatch);
+        return _Casts.uncheckedCast(entries);
+    }
+
+    /**
+     * Persists given (detached) entries and flushes once.
+     * <p>
+     * Persistence modules may override to bypass the {@link RepositoryService},
+     * eg. by talking to the ORM directly.
+     */
+    protected void persistBatch(final Can<E> entries) {
+        repositoryService.execInBulk(() -> {
+            entries.forEach(repositoryService::persist);
+            return null;
+        });
+        transactionService.flushTransaction();
+    }
+
+    protected E newEntry(final EntityPropertyChange change) {
+        E entry = factoryService.detachedEntity(auditTrailEntryClass);
+        entry.init(change);
+        return entry;
     }
 
     public Optional<AuditTrailEntry> findFirstByTarget(final Bookmark target) {
@@ -304,4 +340,33 @@ public void removeAll() {
         repositoryService.removeAll(auditTrailEntryClass);
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getTimestampPropertyName() {
+        return "timestamp";
+    }
+
+    @Override
+    public CausewayConfiguration.Extensions.Retention getRetention() {
+        return causewayConfiguration.getExtensions().getAuditTrail().getRetention();
+    }
+
+    /**
+     * Archives given entry tab separated, including its pre- and post-value.
+     */
+    @Override
+    public String archiveLineFor(final Object entry) {
+        var auditTrailEntry = (AuditTrailEntry) entry;
+        return String.join("\t",
+                String.valueOf(auditTrailEntry.getTimestamp()),
+                String.valueOf(auditTrailEntry.getInteractionId()),
+                String.valueOf(auditTrailEntry.getSequence()),
+                String.valueOf(auditTrailEntry.getUsername()),
+                String.valueOf(auditTrailEntry.getTarget()),
+                String.valueOf(auditTrailEntry.getPropertyId()),
+                String.valueOf(auditTrailEntry.getPreValue()),
+                String.valueOf(auditTrailEntry.getPostValue()));
+    }
+
 }
@@ -0,0 +1,121 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.audittrail.applib.dom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+class AuditTrailEntryRepositoryAbstractTest {
+
+    /**
+     * Records the batches, rather than creating actual entities.
+     */
+    static class AuditTrailEntryRepositoryForTesting extends AuditTrailEntryRepositoryAbstract<AuditTrailEntry> {
+
+        final List<Integer> batchSizes = new ArrayList<>();
+
+        AuditTrailEntryRepositoryForTesting() {
+            super(AuditTrailEntry.class);
+        }
+
+        @Override
+        protected AuditTrailEntry newEntry(final EntityPropertyChange change) {
+            return mock(AuditTrailEntry.class);
+        }
+
+        @Override
+        protected void persistBatch(final Can<AuditTrailEntry> entries) {
+            batchSizes.add(entries.size());
+            super.persistBatch(entries);
+        }
+    }
+
+    private AuditTrailEntryRepositoryForTesting repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new AuditTrailEntryRepositoryForTesting();
+        repository.repositoryService = mock(RepositoryService.class);
+        repository.transactionService = mock(TransactionService.class);
+        repository.causewayConfiguration = new CausewayConfiguration(null, Optional.empty());
+        repository.causewayConfiguration.getExtensions().getAuditTrail().getBulk().setBatchSize(3);
+
+        when(repository.repositoryService.execInBulk(any()))
+            .thenAnswer(invocation -> invocation.<Callable<?>>getArgument(0).call());
+    }
+
+    @Test
+    void entries_arePersisted_inBatchesOfBatchSize() {
+        var changes = Can.ofCollection(List.of(
+                mock(EntityPropertyChange.class), mock(EntityPropertyChange.class), mock(EntityPropertyChange.class),
+                mock(EntityPropertyChange.class), mock(EntityPropertyChange.class), mock(EntityPropertyChange.class),
+                mock(EntityPropertyChange.class)));
+
+        var entries = repository.createFor(changes);
+
+        assertThat(entries.size()).isEqualTo(7);
+        assertThat(repository.batchSizes).containsExactly(3, 3, 1);
+        Mockito.verify(repository.repositoryService, times(7)).persist(any());
+    }
+
+    @Test
+    void eachBatch_isFlushedOnce_afterItsEntriesArePersisted() {
+        var changes = Can.ofCollection(List.of(
+                mock(EntityPropertyChange.class), mock(EntityPropertyChange.class), mock(EntityPropertyChange.class),
+                mock(EntityPropertyChange.class)));
+
+        repository.createFor(changes);
+
+        InOrder inOrder = inOrder(repository.repositoryService, repository.transactionService);
+        inOrder.verify(repository.repositoryService, times(3)).persist(any());
+        inOrder.verify(repository.transactionService).flushTransaction();
+        inOrder.verify(repository.repositoryService).persist(any());
+        inOrder.verify(repository.transactionService).flushTransaction();
+    }
+
+    @Test
+    void belowBatchSize_isPersistedAsSingleBatch() {
+        repository.createFor(Can.of(mock(EntityPropertyChange.class)));
+
+        assertThat(repository.batchSizes).containsExactly(1);
+        Mockito.verify(repository.transactionService, times(1)).flushTransaction();
+    }
+
+}
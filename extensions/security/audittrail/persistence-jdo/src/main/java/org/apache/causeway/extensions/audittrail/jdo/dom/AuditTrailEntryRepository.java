@@ -19,14 +19,33 @@
  */
 package org.apache.causeway.extensions.audittrail.jdo.dom;
 
+import jakarta.inject.Inject;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 @Service
 public class AuditTrailEntryRepository extends AuditTrailEntryRepositoryAbstract<AuditTrailEntry> {
 
+    @Inject JdoSupportService jdoSupportService;
+
     public AuditTrailEntryRepository() {
         super(AuditTrailEntry.class);
     }
+
+    /**
+     * Hands the batch directly to the {@link javax.jdo.PersistenceManager} using
+     * {@link javax.jdo.PersistenceManager#makePersistentAll(java.util.Collection)},
+     * such that the inserts are sent in JDBC batches (of up to <code>datanucleus.rdbms.statementBatchLimit</code>)
+     * on flush.
+     */
+    @Override
+    protected void persistBatch(final Can<AuditTrailEntry> entries) {
+        var persistenceManager = jdoSupportService.getPersistenceManager();
+        persistenceManager.makePersistentAll(entries.toList());
+        persistenceManager.flush();
+    }
 }
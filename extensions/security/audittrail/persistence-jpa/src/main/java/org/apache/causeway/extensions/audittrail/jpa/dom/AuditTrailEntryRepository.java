@@ -19,14 +19,38 @@
  */
 package org.apache.causeway.extensions.audittrail.jpa.dom;
 
+import jakarta.inject.Inject;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 @Service
 public class AuditTrailEntryRepository extends AuditTrailEntryRepositoryAbstract<AuditTrailEntry> {
 
+    @Inject JpaSupportService jpaSupportService;
+
     public AuditTrailEntryRepository() {
         super(AuditTrailEntry.class);
     }
+
+    /**
+     * Hands the batch directly to the {@link jakarta.persistence.EntityManager},
+     * such that (with <code>eclipselink.jdbc.batch-writing</code> enabled) the inserts
+     * are sent as a single JDBC batch on flush.
+     * <p>
+     * Once flushed, the entries are detached, so that the persistence context does not grow
+     * (and is not dirty-checked) with every batch for the remainder of the transaction.
+     * Not using {@link jakarta.persistence.EntityManager#clear()}, as that would also detach
+     * any other entities the current transaction is working with.
+     */
+    @Override
+    protected void persistBatch(final Can<AuditTrailEntry> entries) {
+        var entityManager = jpaSupportService.getEntityManagerElseFail(AuditTrailEntry.class);
+        entries.forEach(entityManager::persist);
+        entityManager.flush();
+        entries.forEach(entityManager::detach);
+    }
 }
@@ -34,7 +34,9 @@
 import org.apache.causeway.applib.services.session.SessionSubscriber;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtime.retention.PurgeableLog;
 
 import org.jspecify.annotations.NonNull;
 
@@ -43,12 +45,13 @@
  *
  * @since 2.0 {@index}
  */
-public abstract class SessionLogEntryRepositoryAbstract<E extends SessionLogEntry> implements SessionLogEntryRepository {
+public abstract class SessionLogEntryRepositoryAbstract<E extends SessionLogEntry> implements SessionLogEntryRepository, PurgeableLog {
 
     @Inject RepositoryService repositoryService;
     @Inject TransactionService transactionService;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     private final Class<E> sessionLogEntryClass;
 
@@ -56,6 +59,11 @@ protected SessionLogEntryRepositoryAbstract(@NonNull Class<E> sessionLogEntryCla
         this.sessionLogEntryClass = sessionLogEntryClass;
     }
 
+    @Override
+    public Class<E> getEntityClass() {
+        return sessionLogEntryClass;
+    }
+
     public void logoutAllSessions(final Timestamp logoutTimestamp) {
         var allSessions = repositoryService.allMatches(
                 Query.named(sessionLogEntryClass, SessionLogEntry.Nq.FIND_ACTIVE_SESSIONS));
@@ -230,4 +238,35 @@ public void removeAll() {
         repositoryService.removeAll(sessionLogEntryClass);
     }
 
+    // -- RETENTION
+
+    /**
+     * Sessions are purged by the time they were logged in.
+     */
+    @Override
+    public String getTimestampPropertyName() {
+        return "loginTimestamp";
+    }
+
+    @Override
+    public CausewayConfiguration.Extensions.Retention getRetention() {
+        return causewayConfiguration.getExtensions().getSessionLog().getRetention();
+    }
+
+    /**
+     * Active sessions (not yet logged out), and any more recent sessions, are never purged.
+     * <p>
+     * Sessions left active by a crashed node are logged out on the next restart
+     * (see {@link #logoutAllSessions(Timestamp)}), hence do not block purging indefinitely.
+     */
+    @Override
+    public Timestamp limitCutoff(final Timestamp cutoff) {
+        return repositoryService.firstMatch(
+                    Query.named(sessionLogEntryClass, SessionLogEntry.Nq.FIND_ACTIVE_SESSIONS)
+                        .withLimit(1))
+                .map(SessionLogEntry::getLoginTimestamp)
+                .filter(loginTimestamp->loginTimestamp.before(cutoff))
+                .orElse(cutoff);
+    }
+
 }
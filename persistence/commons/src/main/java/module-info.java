@@ -19,8 +19,10 @@
 module org.apache.causeway.persistence.commons {
     exports org.apache.causeway.persistence.commons;
     exports org.apache.causeway.persistence.commons.metamodel.facets.prop.column;
+    exports org.apache.causeway.persistence.commons.integration.caching;
     exports org.apache.causeway.persistence.commons.integration.repository;
     exports org.apache.causeway.persistence.commons.integration.changetracking;
+    exports org.apache.causeway.persistence.commons.integration.dtocolumn;
     exports org.apache.causeway.persistence.commons.integration.version;
 
     requires jakarta.annotation;
@@ -24,8 +24,10 @@
 import org.springframework.context.annotation.Import;
 
 import org.apache.causeway.core.runtime.CausewayModuleCoreRuntime;
+import org.apache.causeway.persistence.commons.integration.caching.EntityCacheStatisticsService;
 import org.apache.causeway.persistence.commons.integration.changetracking.EntityChangeTrackerDefault;
 import org.apache.causeway.persistence.commons.integration.changetracking.PreAndPostValueEvaluatorServiceDefault;
+import org.apache.causeway.persistence.commons.integration.dtocolumn.DtoColumnMigrationService;
 import org.apache.causeway.persistence.commons.integration.repository.RepositoryServiceDefault;
 
 @Configuration
@@ -34,6 +36,8 @@
         CausewayModuleCoreRuntime.class,
 
         // @Service's
+        DtoColumnMigrationService.class,
+        EntityCacheStatisticsService.class,
         EntityChangeTrackerDefault.class,
         PreAndPostValueEvaluatorServiceDefault.class,
 
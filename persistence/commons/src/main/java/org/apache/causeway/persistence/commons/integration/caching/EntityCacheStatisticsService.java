@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.caching;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.core.metamodel.facets.object.caching.CachingFacet;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.persistence.commons.CausewayModulePersistenceCommons;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exposes the shared (second level) cache hit rate per entity type,
+ * for those entity types declared {@link DomainObject#caching() @DomainObject(caching=CACHED)}.
+ *
+ * @since 3.5 {@index}
+ */
+@Service
+@Named(CausewayModulePersistenceCommons.NAMESPACE + ".EntityCacheStatisticsService")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class EntityCacheStatisticsService {
+
+    private final SpecificationLoader specificationLoader;
+
+    /**
+     * Snapshot of the cache lookup statistics, keyed (and sorted) by logical type name.
+     */
+    public Map<String, CachingFacet.Statistics> statisticsByLogicalTypeName() {
+        var statisticsByLogicalTypeName = new TreeMap<String, CachingFacet.Statistics>();
+        specificationLoader.snapshotSpecifications().stream()
+            .filter(spec->spec.isEntity()
+                    && CachingFacet.isCached(spec))
+            .forEach(spec->CachingFacet.lookup(spec)
+                    .ifPresent(cachingFacet->
+                        statisticsByLogicalTypeName.put(spec.logicalTypeName(), cachingFacet.statistics())));
+        return statisticsByLogicalTypeName;
+    }
+
+}
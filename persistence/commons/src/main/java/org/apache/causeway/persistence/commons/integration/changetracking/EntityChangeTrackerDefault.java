@@ -19,10 +19,8 @@
  */
 package org.apache.causeway.persistence.commons.integration.changetracking;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -74,6 +72,7 @@
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.facets.object.caching.CachingFacet;
 import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
@@ -82,6 +81,7 @@
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValueCapture;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
 import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.causeway.core.transaction.changetracking.EntityChangesPublisher;
@@ -153,24 +153,24 @@ public int getOrder() {
     private final PreAndPostValueEvaluatorService preAndPostValueEvaluatorService;
 
     /**
-     * Contains a record for every objectId/propertyId that was changed.
-     * @implNote access to this {@link Map} must be thread-safe and the map also should preserve insertion order. We
-     *           cannot use <code>newConcurrentHashMap</code> as this doesn't preserve insertion order; instead we
-     *           make sure that it is only ever accessed within a <code>synchronized</code> block.
+     * Contains a record for every objectId/propertyId that was changed, in order of enlistment.
+     * @implNote thread-safe, keyed by compact (entity-index, property-index) pairs
      */
-    private final Map<PropertyChangeRecordId, PropertyChangeRecord> enlistedPropertyChangeRecordsById = _Maps.newLinkedHashMap();
+    private final _PropertyChangeRecords enlistedPropertyChangeRecords = new _PropertyChangeRecords();
 
     /**
-     * As used when {@link #enlistCreated(ManagedObject)} or {@link #enlistUpdating(ManagedObject, Function)}
+     * Enlists all properties of given entity that are enabled for change publishing,
+     * using given {@code factory} to create the record (and capture the pre-value),
+     * but only for those properties not already enlisted.
      */
-    private void addPropertyChangeRecordIfAbsent(final PropertyChangeRecordId pcrId, final PropertyChangeRecord pcr) {
-        enlistedPropertyChangeRecordsById.computeIfAbsent(pcrId, id -> pcr);
-    }
-    /**
-     * As used when {@link #enlistDeleting(ManagedObject)}.
-     */
-    private void addPropertyChangeRecordIfAbsent(final PropertyChangeRecordId pcrId, final Function<PropertyChangeRecordId, PropertyChangeRecord> func) {
-        enlistedPropertyChangeRecordsById.computeIfAbsent(pcrId, func);
+    private void addPropertyChangeRecordsIfAbsent(
+            final ManagedObject entity,
+            final Function<PropertyChangeRecordId, PropertyChangeRecord> factory) {
+        var bookmark = ManagedObjects.bookmarkElseFail(entity);
+        var valueCapture = configuration.getValueCapture();
+        MmEntityUtils.streamPropertiesEnabledForChangePublishing(entity)
+            .forEach(property -> enlistedPropertyChangeRecords.addIfAbsent(entity, bookmark, property,
+                    pcrId -> factory.apply(pcrId).withValueCapture(valueCapture)));
     }
 
     private Changes evaluateChanges() {
@@ -179,9 +179,9 @@ private Changes evaluateChanges() {
         var isCountersAndDetail = causewayConfiguration.getApplib().getService().getMetricsService().getLevel().isCountersAndDetail();
         Set<Bookmark> loadedBookmarks =
                 isCountersAndDetail
-                        ? enlistedPropertyChangeRecordsById.keySet()
+                        ? enlistedPropertyChangeRecords.records()
                                 .stream()
-                                .map(PropertyChangeRecordId::getBookmark)
+                                .map(PropertyChangeRecord::getBookmark)
                                 .collect(Collectors.<Bookmark>toSet())
                         : Collections.emptySet();
 
@@ -193,27 +193,13 @@ private Changes evaluateChanges() {
                                 .collect(Collectors.<Bookmark>toSet())
                         :  Collections.emptySet();
 
-        enlistedPropertyChangeRecordsById.clear();
+        enlistedPropertyChangeRecords.clear();
 
         return new Changes(changedProperties, loadedBookmarks, dirtiedBookmarks);
     }
 
     private Set<PropertyChangeRecord> evaluateChangedProperties() {
-        Set<PropertyChangeRecord> dirtiedProperties;
-        try {
-            dirtiedProperties = changedRecords(enlistedPropertyChangeRecordsById.values());
-        } catch (ConcurrentModificationException ex) {
-            log.warn(
-                    "A concurrent modification exception, one of these properties seemed to change as we looked at it :\n" +
-                            enlistedPropertyChangeRecordsById.keySet()
-                                    .stream()
-                                    .map(PropertyChangeRecordId::toString)
-                                    .collect(Collectors.joining("\n"))
-            );
-            // instead, we take a copy
-            dirtiedProperties = changedRecords(new ArrayList<>(enlistedPropertyChangeRecordsById.values()));
-        }
-        return dirtiedProperties;
+        return changedRecords(enlistedPropertyChangeRecords.records());
     }
 
     @RequiredArgsConstructor
@@ -226,14 +212,13 @@ static class Changes {
     /**
      * Contains pre- and post- values of every property of every object that actually changed. A lazy snapshot.
      */
-    private final _Lazy<Changes> changes = _Lazy.of(this::evaluateChanges);
+    private final _Lazy<Changes> changes = _Lazy.threadSafe(this::evaluateChanges);
 
     /**
-     * when iterating over the original value set, if any of the properties causes the entity to change state as it is
-     * evaluated then a ConcurrentModificationException will be thrown because an enlist will occur.
+     * If any of the properties causes the entity to change state as it is evaluated, an enlist will occur;
+     * iteration over the records is weakly consistent, hence does not fail in that case.
      */
-    private Set<PropertyChangeRecord> changedRecords(final Collection<PropertyChangeRecord> propertyChangeRecords)
-            throws ConcurrentModificationException {
+    private Set<PropertyChangeRecord> changedRecords(final Collection<PropertyChangeRecord> propertyChangeRecords) {
         return propertyChangeRecords.stream()
                 // set post values, which have been left empty up to now
                 .peek(rec -> {
@@ -254,7 +239,13 @@ private Changes memoizeChangesIfRequired() {
     /**
      * @implNote access to this {@link Map} must be thread-safe (insertion order preservation is not required)
      */
-    private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newHashMap();
+    private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newConcurrentHashMap();
+
+    /**
+     * Entities of {@link CachingFacet cached} types, that were enlisted (regardless of whether enabled for
+     * change publishing), to be evicted from the ORM's shared cache once the transaction completes.
+     */
+    private final Map<Bookmark, ManagedObject> sharedCacheInvalidations = _Maps.newConcurrentHashMap();
 
     private final LongAdder numberEntitiesLoaded = new LongAdder();
     private final LongAdder entityChangeEventCount = new LongAdder();
@@ -272,10 +263,11 @@ public void destroy() {
     }
 
     private void clearAndReset() {
-        enlistedPropertyChangeRecordsById.clear();
+        enlistedPropertyChangeRecords.clear();
         changes.clear();
 
         changeKindByEnlistedAdapter.clear();
+        sharedCacheInvalidations.clear();
         numberEntitiesLoaded.reset();
         entityChangeEventCount.reset();
 
@@ -303,6 +295,20 @@ private boolean shouldPublish(final PreAndPostValue preAndPostValue) {
         return preAndPostValueEvaluatorService.differ(preAndPostValue);
     }
 
+    private void enlistForSharedCacheInvalidation(final ManagedObject entity) {
+        if(!CachingFacet.isCached(entity.objSpec())) {
+            return;
+        }
+        ManagedObjects.bookmark(entity)
+            .ifPresent(bookmark->sharedCacheInvalidations.putIfAbsent(bookmark, entity));
+    }
+
+    private void invalidateSharedCache() {
+        sharedCacheInvalidations.values()
+            .forEach(entity->entity.objSpec().entityFacet()
+                    .ifPresent(entityFacet->entityFacet.invalidateSharedCache(entity.getPojo())));
+    }
+
     private boolean isEntityExcludedForChangePublishing(final ManagedObject entity) {
 
         if (!configuration.isEnabled()) {
@@ -348,6 +354,7 @@ public void afterCompletion(final int status) {
             log.debug("EntityChangeTrackerDefault.afterCompletion(status={}) xactn={} interactionId={} thread={}", decodeStatus(status), transactionCounter.get(), interactionId, Thread.currentThread().getName());
         }
 
+        invalidateSharedCache();
         clearAndReset();
     }
 
@@ -487,40 +494,36 @@ private boolean enlistForChangeKindPublishing(
 
         var bookmark = ManagedObjects.bookmarkElseFail(entity);
 
-        var previousChangeKind = changeKindByEnlistedAdapter.get(bookmark);
-        if(previousChangeKind == null) {
-            changeKindByEnlistedAdapter.put(bookmark, changeKind);
-            return true;
-        }
-        switch (previousChangeKind) {
-        case CREATE:
-            switch (changeKind) {
-            case DELETE:
-                changeKindByEnlistedAdapter.remove(bookmark);
-            case CREATE:
-            case UPDATE:
-                return false;
+        // atomically merges the change kind with any previously enlisted one
+        var enlisted = new AtomicBoolean();
+        changeKindByEnlistedAdapter.compute(bookmark, (__, previousChangeKind) -> {
+            if(previousChangeKind == null) {
+                enlisted.set(true);
+                return changeKind;
             }
-            break;
-        case UPDATE:
-            switch (changeKind) {
-            case DELETE:
-                changeKindByEnlistedAdapter.put(bookmark, changeKind);
-                return true;
+            switch (previousChangeKind) {
             case CREATE:
+                // a delete of an entity created earlier in the transaction cancels out
+                return changeKind == EntityChangeKind.DELETE
+                        ? null
+                        : previousChangeKind;
             case UPDATE:
-                return false;
+                if(changeKind == EntityChangeKind.DELETE) {
+                    enlisted.set(true);
+                    return changeKind;
+                }
+                return previousChangeKind;
+            case DELETE:
+            default:
+                return previousChangeKind;
             }
-            break;
-        case DELETE:
-            return false;
-        }
-        return false;
+        });
+        return enlisted.get();
     }
 
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
-        return enlistedPropertyChangeRecordsById.size();
+        return enlistedPropertyChangeRecords.size();
     }
 
     // -- ENTITY CHANGE TRACKING
@@ -529,6 +532,7 @@ long countPotentialPropertyChangeRecords() {
     public void enlistCreated(final ManagedObject entity) {
 
         _Xray.enlistCreated(entity, interactionProviderProvider);
+        enlistForSharedCacheInvalidation(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -539,8 +543,7 @@ public void enlistCreated(final ManagedObject entity) {
         suppressAutoFlushIfRequired(() -> {
             enlistForChangeKindPublishing(entity, EntityChangeKind.CREATE);
 
-            MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                .forEach(pcrId -> addPropertyChangeRecordIfAbsent(pcrId, PropertyChangeRecord.ofNew(pcrId)));
+            addPropertyChangeRecordsIfAbsent(entity, PropertyChangeRecord::ofNew);
         });
     }
 
@@ -550,6 +553,7 @@ public void enlistUpdating(
             final @Nullable Function<ManagedObject, Can<PropertyChangeRecord>> propertyChangeRecordSupplier) {
 
         _Xray.enlistUpdating(entity, interactionProviderProvider);
+        enlistForSharedCacheInvalidation(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -570,15 +574,12 @@ public void enlistUpdating(
 
             if(ormPropertyChangeRecords != null) {
                 // provided by ORM
+                var valueCapture = configuration.getValueCapture();
                 ormPropertyChangeRecords
-                    .stream()
-                    .forEach(pcr -> addPropertyChangeRecordIfAbsent(pcr.getId(), pcr));
+                    .forEach(pcr -> enlistedPropertyChangeRecords.addIfAbsent(pcr.withValueCapture(valueCapture)));
             } else {
-                // home-grown approach
-                MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                    .forEach(pcrId -> {
-                        addPropertyChangeRecordIfAbsent(pcrId, PropertyChangeRecord.ofCurrent(pcrId, deadlockRecognizer));
-                    });
+                // home-grown approach; pre-values are only captured for properties not yet enlisted
+                addPropertyChangeRecordsIfAbsent(entity, pcrId -> PropertyChangeRecord.ofCurrent(pcrId, deadlockRecognizer));
             }
         });
     }
@@ -587,6 +588,7 @@ public void enlistUpdating(
     public void enlistDeleting(final ManagedObject entity) {
 
         _Xray.enlistDeleting(entity, interactionProviderProvider);
+        enlistForSharedCacheInvalidation(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) return;
 
@@ -597,10 +599,7 @@ public void enlistDeleting(final ManagedObject entity) {
                     log.debug("enlist entity's property changes for publishing {}", entity);
                 }
 
-                MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                    .forEach(pcrId -> {
-                        addPropertyChangeRecordIfAbsent(pcrId, id -> PropertyChangeRecord.ofDeleting(id, deadlockRecognizer));
-                    });
+                addPropertyChangeRecordsIfAbsent(entity, pcrId -> PropertyChangeRecord.ofDeleting(pcrId, deadlockRecognizer));
             }
         });
     }
@@ -647,6 +646,13 @@ public interface Configuration {
         boolean isSuppressAutoFlush();
 
         boolean isEnabled();
+
+        /**
+         * How pre- and post-values of enlisted properties are held on to, for the duration of the transaction.
+         */
+        default PropertyValueCapture getValueCapture() {
+            return PropertyValueCapture.FULL;
+        }
     }
 
     @Component
@@ -655,6 +661,7 @@ public interface Configuration {
     @RequiredArgsConstructor(onConstructor_ = {@Inject})
     public static class ConfigurationDefault implements Configuration {
         private final CausewayConfiguration causewayConfiguration;
+        private final _Lazy<PropertyValueCapture> valueCapture = _Lazy.threadSafe(this::createValueCapture);
 
         @Override
         public boolean isSuppressAutoFlush() {
@@ -665,6 +672,19 @@ public boolean isSuppressAutoFlush() {
         public boolean isEnabled() {
             return causewayConfiguration.getPersistence().getCommons().getEntityChangeTracker().isEnabled();
         }
+
+        @Override
+        public PropertyValueCapture getValueCapture() {
+            return valueCapture.get();
+        }
+
+        private PropertyValueCapture createValueCapture() {
+            var config = causewayConfiguration.getPersistence().getCommons().getEntityChangeTracker().getValueCapture();
+            return config.getDigestThreshold() == null
+                    && config.getAlwaysDigest().isEmpty()
+                ? PropertyValueCapture.FULL
+                : new _SizeAwarePropertyValueCapture(config);
+        }
     }
 
     @Inject private Configuration configuration;
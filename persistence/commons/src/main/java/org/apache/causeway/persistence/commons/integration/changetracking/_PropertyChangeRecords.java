@@ -0,0 +1,123 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+/**
+ * Insertion ordered, thread-safe registry of {@link PropertyChangeRecord}s as enlisted within a single transaction.
+ *
+ * <p>
+ * Each entity (by {@link Bookmark}) and each property is assigned a sequential index on first sight,
+ * such that the <i>(entity-index, property-index)</i> pair, packed into a single {@code long},
+ * identifies a record. Whether a property was already enlisted is decided on that key alone,
+ * hence neither a {@link PropertyChangeRecordId} nor the pre-value snapshot is created for repeated enlistments.
+ * </p>
+ *
+ * @implNote records are kept in a {@link ConcurrentLinkedQueue}, whose iterators are weakly consistent,
+ *      so evaluating post-values (which might enlist further changes) never throws a
+ *      {@link java.util.ConcurrentModificationException}.
+ *
+ * @since 3.5
+ */
+final class _PropertyChangeRecords {
+
+    private final AtomicInteger entityCounter = new AtomicInteger();
+    private final AtomicInteger propertyCounter = new AtomicInteger();
+    private final Map<Bookmark, Integer> entityIndexes = new ConcurrentHashMap<>();
+    private final Map<OneToOneAssociation, Integer> propertyIndexes = new ConcurrentHashMap<>();
+
+    private final Set<Long> enlistedKeys = ConcurrentHashMap.newKeySet();
+    private final Queue<PropertyChangeRecord> records = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Adds the {@link PropertyChangeRecord} as created by given {@code factory},
+     * unless there is already one for given entity and property.
+     * <p>
+     * The {@code factory} is called at most once per entity and property,
+     * and not while holding any lock, as capturing the pre-value might trigger further enlistments.
+     */
+    void addIfAbsent(
+            final ManagedObject entity,
+            final Bookmark bookmark,
+            final OneToOneAssociation property,
+            final Function<PropertyChangeRecordId, PropertyChangeRecord> factory) {
+        var key = key(bookmark, property);
+        if(!enlistedKeys.add(key)) return;
+        try {
+            records.add(factory.apply(PropertyChangeRecordId.of(entity, bookmark, property)));
+        } catch (RuntimeException ex) {
+            enlistedKeys.remove(key);
+            throw ex;
+        }
+    }
+
+    /**
+     * Adds given {@link PropertyChangeRecord} (eg. as provided by the ORM),
+     * unless there is already one for the same entity and property.
+     */
+    void addIfAbsent(final PropertyChangeRecord pcr) {
+        if(enlistedKeys.add(key(pcr.getBookmark(), pcr.getProperty()))) {
+            records.add(pcr);
+        }
+    }
+
+    /**
+     * Live, unmodifiable view of the records in order of enlistment.
+     */
+    Collection<PropertyChangeRecord> records() {
+        return Collections.unmodifiableCollection(records);
+    }
+
+    int size() {
+        return enlistedKeys.size();
+    }
+
+    void clear() {
+        records.clear();
+        enlistedKeys.clear();
+        entityIndexes.clear();
+        propertyIndexes.clear();
+        entityCounter.set(0);
+        propertyCounter.set(0);
+    }
+
+    // -- HELPER
+
+    private long key(final Bookmark bookmark, final OneToOneAssociation property) {
+        int entityIndex = entityIndexes.computeIfAbsent(bookmark, __->entityCounter.getAndIncrement());
+        int propertyIndex = propertyIndexes.computeIfAbsent(property, __->propertyCounter.getAndIncrement());
+        return ((long)entityIndex << 32) | propertyIndex;
+    }
+
+}
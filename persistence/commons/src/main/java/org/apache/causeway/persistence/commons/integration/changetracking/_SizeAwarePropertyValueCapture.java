@@ -0,0 +1,95 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValueCapture;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValueDigest;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+/**
+ * Captures values exceeding a size threshold as {@link PropertyValueDigest}s,
+ * with per property (or per value type) overrides.
+ *
+ * @see CausewayConfiguration.Persistence.Commons.EntityChangeTracker.ValueCapture
+ */
+final class _SizeAwarePropertyValueCapture implements PropertyValueCapture {
+
+    private enum Policy {
+        SIZE_AWARE,
+        ALWAYS_DIGEST,
+        NEVER_DIGEST
+    }
+
+    /**
+     * {@code null} if values are not to be digested based on their size
+     */
+    private final @Nullable Integer digestThreshold;
+    private final Set<String> alwaysDigest;
+    private final Set<String> neverDigest;
+
+    /**
+     * Per property (metamodel) policies, as resolved on first use.
+     */
+    private final Map<OneToOneAssociation, Policy> policyByProperty = new ConcurrentHashMap<>();
+
+    _SizeAwarePropertyValueCapture(final CausewayConfiguration.Persistence.Commons.EntityChangeTracker.ValueCapture config) {
+        this.digestThreshold = config.getDigestThreshold();
+        this.alwaysDigest = Set.copyOf(config.getAlwaysDigest());
+        this.neverDigest = Set.copyOf(config.getNeverDigest());
+    }
+
+    @Override
+    public @Nullable Object capture(final OneToOneAssociation property, final @Nullable Object value) {
+        if(value == null) return null;
+        return switch(policyByProperty.computeIfAbsent(property, this::policyFor)) {
+            case NEVER_DIGEST -> value;
+            case ALWAYS_DIGEST -> PropertyValueDigest.of(value);
+            case SIZE_AWARE -> digestThreshold == null
+                ? value
+                : PropertyValueDigest.sizeOf(value)
+                    .filter(size -> size > digestThreshold)
+                    .<Object>map(__ -> PropertyValueDigest.of(value))
+                    .orElse(value);
+        };
+    }
+
+    // -- HELPER
+
+    private Policy policyFor(final OneToOneAssociation property) {
+        var memberId = property.getDeclaringType().logicalTypeName() + "#" + property.getId();
+        var valueType = property.getElementType().getCorrespondingClass().getName();
+        if(neverDigest.contains(memberId)
+                || neverDigest.contains(valueType)) {
+            return Policy.NEVER_DIGEST;
+        }
+        if(alwaysDigest.contains(memberId)
+                || alwaysDigest.contains(valueType)) {
+            return Policy.ALWAYS_DIGEST;
+        }
+        return Policy.SIZE_AWARE;
+    }
+
+}
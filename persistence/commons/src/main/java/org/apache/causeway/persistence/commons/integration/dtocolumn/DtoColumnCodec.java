@@ -0,0 +1,165 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.dtocolumn;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.commons.io.DtoMapper;
+import org.apache.causeway.core.config.CausewayConfiguration.Persistence.Commons.DtoColumn.Encoding;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Encodes and decodes schema DTOs (eg. {@code CommandDto} or {@code InteractionDto}) to and from
+ * the textual representation held by their (character large object) database column,
+ * as configured by {@code causeway.persistence.commons.dto-column.encoding}.
+ *
+ * <p>
+ *     Decoding does not depend on the configured encoding: compressed values are recognized
+ *     by their {@link #GZIP_PREFIX prefix}, anything else is taken as plain XML. Hence rows written
+ *     with either encoding remain readable.
+ * </p>
+ *
+ * <p>
+ *     Used by the JPA and JDO type converters, which are instantiated by the ORM rather than
+ *     by Spring, hence the configuration is looked up via {@link MetaModelContext#instance()}.
+ * </p>
+ *
+ * @since 3.5 {@index}
+ */
+@UtilityClass
+public class DtoColumnCodec {
+
+    /**
+     * Prefix of {@link Encoding#GZIP_XML} encoded values, followed by the Base64 encoded gzip stream.
+     * Cannot clash with XML, which always starts with either a {@code '<'} or whitespace.
+     */
+    public static final String GZIP_PREFIX = "gzip:";
+
+    @Nullable
+    public <T> String toColumn(final @NonNull DtoMapper<T> dtoMapper, final @Nullable T dto) {
+        return encode(dtoMapper.toString(dto), configuredEncoding());
+    }
+
+    @Nullable
+    public <T> T fromColumn(final @NonNull DtoMapper<T> dtoMapper, final @Nullable String columnValue) {
+        var dto = dtoMapper.read(decode(columnValue));
+        var encodingsRead = ENCODINGS_READ.get();
+        if(encodingsRead!=null
+                && dto!=null
+                && columnValue!=null) {
+            encodingsRead.put(dto, encodingOf(columnValue));
+        }
+        return dto;
+    }
+
+    @Nullable
+    public String encode(final @Nullable String xml, final @NonNull Encoding encoding) {
+        if(xml==null) return null;
+        return switch (encoding) {
+            case XML -> xml;
+            case GZIP_XML -> GZIP_PREFIX + Base64.getEncoder().encodeToString(gzip(xml));
+        };
+    }
+
+    @Nullable
+    public String decode(final @Nullable String columnValue) {
+        if(columnValue==null
+                || !columnValue.startsWith(GZIP_PREFIX)) {
+            return columnValue;
+        }
+        return gunzip(Base64.getDecoder().decode(columnValue.substring(GZIP_PREFIX.length())));
+    }
+
+    /**
+     * The encoding of given column value, as detected by {@link #decode(String)}.
+     */
+    public Encoding encodingOf(final @NonNull String columnValue) {
+        return columnValue.startsWith(GZIP_PREFIX)
+                ? Encoding.GZIP_XML
+                : Encoding.XML;
+    }
+
+    /**
+     * The configured encoding, else {@link Encoding#XML} if there is no {@link MetaModelContext} (yet).
+     */
+    public Encoding configuredEncoding() {
+        return MetaModelContext.instance()
+                .map(MetaModelContext::getConfiguration)
+                .map(conf->conf.getPersistence().getCommons().getDtoColumn().getEncoding())
+                .orElse(Encoding.XML);
+    }
+
+    // -- ENCODING TRACKING
+
+    /**
+     * Only populated while within {@link #trackingEncodingsRead(Function)}.
+     */
+    private final ThreadLocal<Map<Object, Encoding>> ENCODINGS_READ = new ThreadLocal<>();
+
+    /**
+     * Calls given block, providing it with the encoding of each DTO that is read (on the current thread)
+     * from its column, while the block runs. DTOs not contained were not read from their column
+     * (eg. because served from a cache), hence their encoding is unknown.
+     */
+    <R> R trackingEncodingsRead(final @NonNull Function<Map<Object, Encoding>, R> block) {
+        var encodingsRead = new IdentityHashMap<Object, Encoding>();
+        ENCODINGS_READ.set(encodingsRead);
+        try {
+            return block.apply(encodingsRead);
+        } finally {
+            ENCODINGS_READ.remove();
+        }
+    }
+
+    // -- HELPER
+
+    private byte[] gzip(final String xml) {
+        var bytes = new ByteArrayOutputStream();
+        try(var gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(xml.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private String gunzip(final byte[] compressed) {
+        try(var gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.dtocolumn;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.io.DtoMapper;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Persistence.Commons.DtoColumn.Encoding;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.persistence.commons.CausewayModulePersistenceCommons;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Rewrites the persisted {@link CommandDto} and {@link InteractionDto} properties of all entities
+ * (eg. of the command log, execution log and execution outbox), such that these are stored
+ * using the currently configured {@code causeway.persistence.commons.dto-column.encoding}.
+ *
+ * <p>
+ *     Intended to be run once, after having switched the encoding. Rows are read regardless of
+ *     their current encoding (see {@link DtoColumnCodec}), hence migrating is idempotent
+ *     and can safely be repeated (eg. if interrupted).
+ * </p>
+ *
+ * <p>
+ *     Entities are fetched in chunks (of {@code causeway.persistence.commons.repository-service.stream-chunk-size}),
+ *     each chunk migrated and committed within an interaction and transaction of its own.
+ *     Hence no transaction ever holds more than a chunk's worth of row updates, and an interrupted
+ *     migration only loses the chunk in progress. Rows already stored using the configured encoding
+ *     are not rewritten.
+ * </p>
+ *
+ * @since 3.5 {@index}
+ */
+@Service
+@Named(CausewayModulePersistenceCommons.NAMESPACE + ".DtoColumnMigrationService")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class DtoColumnMigrationService {
+
+    private static final Map<Class<?>, DtoMapper<?>> DTO_MAPPERS = Map.of(
+            CommandDto.class, CommandDtoUtils.dtoMapper(),
+            InteractionDto.class, InteractionDtoUtils.dtoMapper());
+
+    private final SpecificationLoader specificationLoader;
+    private final RepositoryService repositoryService;
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final CausewayConfiguration causewayConfiguration;
+
+    /**
+     * Migrates all entity types that have at least one {@link CommandDto} or {@link InteractionDto} property,
+     * returning the number of entities rewritten, keyed (and sorted) by logical type name.
+     */
+    public Map<String, Long> migrateAll() {
+        var migratedCountByLogicalTypeName = new TreeMap<String, Long>();
+        specificationLoader.snapshotSpecifications().stream()
+            .filter(ObjectSpecification::isEntity)
+            .filter(entitySpec->dtoPropertiesOf(entitySpec).isNotEmpty())
+            .forEach(entitySpec->
+                migratedCountByLogicalTypeName.put(entitySpec.logicalTypeName(), migrate(entitySpec)));
+        return migratedCountByLogicalTypeName;
+    }
+
+    /**
+     * Migrates all instances of given entity type, returning the number of entities rewritten.
+     *
+     * <p>
+     *     Runs anonymously, committing chunk by chunk.
+     * </p>
+     */
+    public long migrate(final ObjectSpecification entitySpec) {
+        var dtoProperties = dtoPropertiesOf(entitySpec);
+        if(dtoProperties.isEmpty()) return 0L;
+
+        var targetEncoding = DtoColumnCodec.configuredEncoding();
+        var chunkSize = causewayConfiguration.getPersistence().getCommons().getRepositoryService().getStreamChunkSize();
+
+        long migratedCount = 0L;
+        for(long start = 0L; ; start += chunkSize) {
+            var chunkStart = start;
+            var chunk = interactionService.callAnonymous(()->
+                transactionService.callTransactional(Propagation.REQUIRES_NEW, ()->
+                    migrateChunk(entitySpec, dtoProperties, targetEncoding, chunkStart, chunkSize))
+                .valueAsNonNullElseFail());
+            migratedCount += chunk.migratedCount();
+            if(chunk.fetchedCount() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("migrated {} entities of {} to encoding {}",
+                migratedCount, entitySpec.logicalTypeName(), targetEncoding);
+        return migratedCount;
+    }
+
+    // -- CHUNK
+
+    private record ChunkResult(int fetchedCount, long migratedCount) {}
+
+    private ChunkResult migrateChunk(
+            final ObjectSpecification entitySpec,
+            final Can<OneToOneAssociation> dtoProperties,
+            final Encoding targetEncoding,
+            final long start,
+            final int chunkSize) {
+        var entityClass = entitySpec.getCorrespondingClass();
+        return DtoColumnCodec.trackingEncodingsRead(encodingsRead->{
+            // ordered by primary key, hence paging is stable
+            var entities = repositoryService.allInstances(entityClass, start, chunkSize);
+            // DTOs not read from their column (eg. served from a cache) are of unknown encoding, hence rewritten
+            Predicate<Object> needsRewrite = dto->encodingsRead.get(dto) != targetEncoding;
+            var migratedCount = entities.stream()
+                    // instances of subtypes are migrated along with their own spec
+                    .filter(pojo->pojo.getClass().equals(entityClass))
+                    .map(pojo->ManagedObject.adaptSingular(entitySpec, pojo))
+                    .filter(entity->rewrite(entity, dtoProperties, needsRewrite))
+                    .count();
+            return new ChunkResult(entities.size(), migratedCount);
+        });
+    }
+
+    // -- HELPER
+
+    private static Can<OneToOneAssociation> dtoPropertiesOf(final ObjectSpecification entitySpec) {
+        return entitySpec.streamProperties(MixedIn.EXCLUDED)
+                .filter(prop->DTO_MAPPERS.containsKey(prop.getElementType().getCorrespondingClass()))
+                .collect(Can.toCan());
+    }
+
+    /**
+     * Sets each (non-null) DTO property, that needs to be rewritten, to a copy of itself,
+     * which marks the entity dirty, such that the DTO is written again (and thereby re-encoded) on flush.
+     */
+    private static boolean rewrite(
+            final ManagedObject entity,
+            final Can<OneToOneAssociation> dtoProperties,
+            final Predicate<Object> needsRewrite) {
+        var rewritten = false;
+        for(var prop : dtoProperties) {
+            var dto = prop.get(entity, InteractionInitiatedBy.PASS_THROUGH);
+            if(ManagedObjects.isNullOrUnspecifiedOrEmpty(dto)
+                    || !needsRewrite.test(dto.getPojo())) continue;
+            var copy = copyOf(DTO_MAPPERS.get(prop.getElementType().getCorrespondingClass()), dto.getPojo());
+            prop.set(entity, ManagedObject.adaptProperty(prop, copy), InteractionInitiatedBy.PASS_THROUGH);
+            rewritten = true;
+        }
+        return rewritten;
+    }
+
+    private static <T> T copyOf(final DtoMapper<T> dtoMapper, final Object dto) {
+        return dtoMapper.clone(_Casts.<T>uncheckedCast(dto));
+    }
+
+}
@@ -22,9 +22,11 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Priority;
@@ -49,10 +51,15 @@
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.callbacks.RemovingCallbackFacet;
+import org.apache.causeway.core.metamodel.facets.object.callbacks.RemovingLifecycleEventFacet;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.MmEntityUtils;
 import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager.BulkLoadRequest;
+import org.apache.causeway.core.metamodel.spec.Hierarchical.Depth;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
 import org.apache.causeway.persistence.commons.CausewayModulePersistenceCommons;
@@ -89,6 +96,7 @@
 
     private ThreadLocal<Boolean> suppressFlush = ThreadLocal.withInitial(() -> Boolean.FALSE);
     private boolean autoFlush;
+    private int streamChunkSize;
 
     @PostConstruct
     public void init() {
@@ -96,6 +104,7 @@ public void init() {
                 causewayConfiguration.getPersistence().getCommons().getRepositoryService().isDisableAutoFlush() ||
                 causewayConfiguration.getCore().getRuntimeServices().getRepositoryService().isDisableAutoFlush();
         this.autoFlush = !disableAutoFlush;
+        this.streamChunkSize = causewayConfiguration.getPersistence().getCommons().getRepositoryService().getStreamChunkSize();
     }
 
     @Override
@@ -194,17 +203,50 @@ public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T>
 
     @Override
     public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T> predicate, final long start, final long count) {
-        return _NullSafe.stream(allInstances(ofType, start, count))
+        return streamAllInstancesRetained(ofType, start, count)
                 .filter(predicate)
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
     @Override
     public <T> List<T> allMatches(final Query<T> query) {
+        flushIfAutoFlush();
+        return submitQuery(query);
+    }
+
+    @Override
+    public <T> List<T> allMatchesLazily(final Query<T> query) {
+        // a query with its own range is not further paged
+        return query.getRange().isUnconstrained()
+                ? new _LazyQueryList<>(query)
+                : allMatches(query);
+    }
+
+    @Override
+    public <T> Stream<T> streamAllMatches(final Query<T> query) {
+        return new _ChunkedQueryIterator<>(this, query, streamChunkSize, entityFacet(query.getResultType()))
+                .stream();
+    }
+
+    /**
+     * Variant of {@link #streamAllInstances(Class)} that does not release processed entities,
+     * as these might still be held on to by the caller.
+     */
+    private <T> Stream<T> streamAllInstancesRetained(final Class<T> ofType, final long start, final long count) {
+        var query = Query.<T>allInstances(ofType)
+                .withRange(QueryRange.of(start, count));
+        return new _ChunkedQueryIterator<>(this, query, streamChunkSize, Optional.empty())
+                .stream();
+    }
+
+    void flushIfAutoFlush() {
         if(autoFlush && !FlushMgmt.isAutoFlushSuppressed() && !suppressFlush.get()) {
             transactionService.flushTransaction();
         }
-        return submitQuery(query);
+    }
+
+    void flushTransaction() {
+        transactionService.flushTransaction();
     }
 
     <T> List<T> submitQuery(final Query<T> query) {
@@ -224,7 +266,11 @@ <T> List<T> submitQuery(final Query<T> query) {
 
     @Override
     public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predicate) {
-        final List<T> instances = allMatches(type, predicate);
+        // a single query, but no need to look any further than the second match
+        final List<T> instances = _NullSafe.stream(allInstances(type))
+                .filter(predicate)
+                .limit(2)
+                .toList();
         if (instances.size() > 1) {
             throw new RepositoryException("Found more than one instance of " + type + " matching filter " + predicate);
         }
@@ -233,7 +279,7 @@ public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predi
 
     @Override
     public <T> Optional<T> uniqueMatch(final Query<T> query) {
-        final List<T> instances = allMatches(query); // No need to fetch more than 2.
+        final List<T> instances = allMatches(withLimitAtMost(query, 2L)); // No need to fetch more than 2.
         if (instances.size() > 1) {
             throw new RepositoryException("Found more that one instance for query:" + query.getDescription());
         }
@@ -242,13 +288,14 @@ public <T> Optional<T> uniqueMatch(final Query<T> query) {
 
     @Override
     public <T> Optional<T> firstMatch(final Class<T> type, final Predicate<T> predicate) {
-        final List<T> instances = allMatches(type, predicate);
-        return firstInstanceElseEmpty(instances);
+        return _NullSafe.stream(allInstances(type))
+                .filter(predicate)
+                .findFirst();
     }
 
     @Override
     public <T> Optional<T> firstMatch(final Query<T> query) {
-        final List<T> instances = allMatches(query);
+        final List<T> instances = allMatches(withLimitAtMost(query, 1L));
         return firstInstanceElseEmpty(instances);
     }
 
@@ -280,12 +327,52 @@ public <T> T detach(final T entity) {
 
     @Override
     public <T> void removeAll(final Class<T> cls) {
+        var bulkDeleted = getSpecificationLoader()
+            .specForType(cls)
+            .filter(RepositoryServiceDefault::isBulkDeletable)
+            .flatMap(ObjectSpecification::entityFacet)
+            .map(entityFacet->{
+                flushTransaction();
+                return entityFacet.deleteAll();
+            })
+            .filter(OptionalLong::isPresent)
+            .isPresent();
+        if(bulkDeleted) {
+            return;
+        }
         allInstances(cls).forEach(this::remove);
-
     }
 
     // -- HELPER
 
+    /**
+     * Whether given entity type and all its subtypes neither take part in entity change publishing
+     * nor react to their removal, such that bypassing these with a bulk delete is not observable.
+     */
+    private static boolean isBulkDeletable(final ObjectSpecification entitySpec) {
+        return Stream.concat(Stream.of(entitySpec), entitySpec.subclasses(Depth.TRANSITIVE).stream())
+                .noneMatch(spec->EntityChangePublishingFacet.isPublishingEnabled(spec)
+                        || spec.containsFacet(RemovingCallbackFacet.class)
+                        || spec.containsFacet(RemovingLifecycleEventFacet.class));
+    }
+
+    private Optional<EntityFacet> entityFacet(final Class<?> type) {
+        return getSpecificationLoader()
+                .specForType(type)
+                .flatMap(ObjectSpecification::entityFacet);
+    }
+
+    /**
+     * Narrows the range of given query to at most {@code maxLimit} instances, honoring its offset.
+     */
+    private static <T> Query<T> withLimitAtMost(final Query<T> query, final long maxLimit) {
+        var range = query.getRange();
+        return range.hasLimit()
+                && range.getLimit() <= maxLimit
+                ? query
+                : query.withRange(range.withLimit(maxLimit));
+    }
+
     private static <T> Optional<T> firstInstanceElseEmpty(final List<T> instances) {
         return instances.size() == 0
                 ? Optional.empty()
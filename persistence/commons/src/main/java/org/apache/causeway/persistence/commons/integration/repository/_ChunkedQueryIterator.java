@@ -0,0 +1,132 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.repository;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.NonNull;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+
+/**
+ * Backs {@link RepositoryServiceDefault#streamAllMatches(Query)}.
+ * <p>
+ * Fetches the instances matching a {@link Query} chunk by chunk, using ranged queries,
+ * and (optionally) releases the entities of a chunk from the persistence context,
+ * once iteration has moved past that chunk.
+ * <p>
+ * Chunks are paged by offset (not by key), hence changes made while iterating must not affect which
+ * instances match the query (nor their order): any instance dropping out of the result (once flushed)
+ * would make the next chunk skip an instance not yet visited.
+ */
+final class _ChunkedQueryIterator<T> implements Iterator<T> {
+
+    private final RepositoryServiceDefault repositoryService;
+    private final Query<T> query;
+    private final int chunkSize;
+    private final Optional<EntityFacet> entityFacetToEvictWith;
+
+    private long nextStart;
+    private long remaining;
+    private boolean exhausted;
+    private List<T> chunk = Collections.emptyList();
+    private Iterator<T> chunkIterator = Collections.emptyIterator();
+
+    _ChunkedQueryIterator(
+            final @NonNull RepositoryServiceDefault repositoryService,
+            final @NonNull Query<T> query,
+            final int chunkSize,
+            final @NonNull Optional<EntityFacet> entityFacetToEvictWith) {
+        this.repositoryService = repositoryService;
+        this.query = query;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.entityFacetToEvictWith = entityFacetToEvictWith;
+
+        var range = query.getRange();
+        this.nextStart = range.getStart();
+        this.remaining = range.hasLimit()
+                ? range.getLimit()
+                : Long.MAX_VALUE;
+        this.exhausted = remaining == 0L;
+    }
+
+    Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(!chunkIterator.hasNext()) {
+            if(exhausted) {
+                return false;
+            }
+            fetchNextChunk();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return chunkIterator.next();
+    }
+
+    // -- HELPER
+
+    private void fetchNextChunk() {
+        releaseChunk();
+        var limit = Math.min(chunkSize, remaining);
+        chunk = repositoryService.allMatches(query.withRange(QueryRange.of(nextStart, limit)));
+        chunkIterator = chunk.iterator();
+        nextStart += chunk.size();
+        remaining -= chunk.size();
+        exhausted = chunk.size() < limit
+                || remaining == 0L;
+    }
+
+    /**
+     * Flushes any changes made to the entities of the current chunk, then evicts these
+     * from the persistence context.
+     */
+    private void releaseChunk() {
+        if(chunk.isEmpty()) {
+            return;
+        }
+        entityFacetToEvictWith.ifPresent(entityFacet->{
+            repositoryService.flushTransaction();
+            chunk.forEach(entityFacet::evict);
+        });
+        chunk = Collections.emptyList();
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.repository;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.query.LazyQueryListAbstract;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Backs {@link RepositoryServiceDefault#allMatchesLazily(Query)}.
+ * <p>
+ * Holds only the (serializable) {@link Query}, while services are looked up on demand.
+ */
+@RequiredArgsConstructor
+final class _LazyQueryList<T>
+extends LazyQueryListAbstract<T>
+implements HasMetaModelContext, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final @NonNull Query<T> query;
+
+    @Override
+    public OptionalLong count() {
+        return entityFacet()
+                .map(entityFacet->{
+                    repositoryService().flushIfAutoFlush();
+                    var countIfAny = entityFacet.countByQuery(query);
+                    return countIfAny.isPresent()
+                            ? OptionalLong.of(countWithinRange(query.getRange(), countIfAny.getAsLong()))
+                            : countIfAny;
+                })
+                .orElseGet(OptionalLong::empty);
+    }
+
+    @Override
+    public Optional<List<T>> fetch(final @NonNull QueryRange range, final @Nullable Sort sort) {
+        var rangeWithinQueryRange = pageWithinRange(query.getRange(), range).orElse(null);
+        if(rangeWithinQueryRange==null) {
+            return Optional.of(List.of());
+        }
+        var rangedQuery = query.withRange(rangeWithinQueryRange);
+        if(sort==null) {
+            return Optional.of(repositoryService().allMatches(rangedQuery));
+        }
+        return entityFacet()
+                .flatMap(entityFacet->{
+                    repositoryService().flushIfAutoFlush();
+                    return entityFacet.fetchByQuery(rangedQuery, sort);
+                })
+                .map(entities->_Casts.uncheckedCast(MmUnwrapUtils.multipleAsList(entities)));
+    }
+
+    @Override
+    protected List<T> fetchAll() {
+        return repositoryService().allMatches(query);
+    }
+
+    // -- HELPER
+
+    /**
+     * Given {@code page} (relative to the query's own {@code queryRange}) as a range of the query's
+     * unconstrained result, or empty if the page starts beyond the end of {@code queryRange}.
+     */
+    static Optional<QueryRange> pageWithinRange(final QueryRange queryRange, final QueryRange page) {
+        var start = queryRange.getStart() + page.getStart();
+        if(!queryRange.hasLimit()) {
+            return Optional.of(QueryRange.of(start, page.getLimit()));
+        }
+        var remaining = queryRange.getLimit() - page.getStart();
+        if(remaining <= 0L) {
+            return Optional.empty();
+        }
+        return Optional.of(QueryRange.of(start, page.hasLimit()
+                ? Math.min(page.getLimit(), remaining)
+                : remaining));
+    }
+
+    /**
+     * Given the {@code count} of the query's unconstrained result, the number of elements within its {@code queryRange}.
+     */
+    static long countWithinRange(final QueryRange queryRange, final long count) {
+        var countFromStart = Math.max(0L, count - queryRange.getStart());
+        return queryRange.hasLimit()
+                ? Math.min(countFromStart, queryRange.getLimit())
+                : countFromStart;
+    }
+
+    private Optional<EntityFacet> entityFacet() {
+        return getSpecificationLoader()
+                .specForType(query.getResultType())
+                .flatMap(ObjectSpecification::entityFacet);
+    }
+
+    private RepositoryServiceDefault repositoryService() {
+        return lookupServiceElseFail(RepositoryServiceDefault.class);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.core.internaltestsupport.annotations.DisabledIfRunningWithSurefire;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.Getter;
+
+class _PropertyChangeRecordsTest {
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Customer {
+        @Getter private String firstName;
+        @Getter private String lastName;
+        @Getter private String email;
+        @Getter private int visits;
+    }
+
+    private ObjectSpecification spec;
+    private List<OneToOneAssociation> properties;
+    private LongAdder factoryCalls;
+
+    @BeforeEach
+    void setUp() {
+        var mmc = MetaModelContext_forTesting.buildDefault();
+        spec = mmc.getSpecificationLoader().specForTypeElseFail(Customer.class);
+        properties = spec.streamProperties(MixedIn.EXCLUDED).toList();
+        factoryCalls = new LongAdder();
+    }
+
+    @Test
+    void shouldPreserveOrderOfEnlistment() {
+        assertEquals(4, properties.size());
+        var records = new _PropertyChangeRecords();
+        var entities = entities(3);
+
+        entities.forEach(entity->enlistAll(records, entity));
+
+        assertEquals(3 * properties.size(), records.size());
+        var expectedOrder = entities.stream()
+                .flatMap(entity->properties.stream()
+                        .map(prop->entity.getBookmark().orElseThrow() + "#" + prop.getId()))
+                .toList();
+        var actualOrder = records.records().stream()
+                .map(pcr->pcr.getBookmark() + "#" + pcr.getPropertyId())
+                .toList();
+        assertEquals(expectedOrder, actualOrder);
+    }
+
+    @Test
+    void shouldCreateRecordsOnlyOncePerEntityAndProperty() {
+        var records = new _PropertyChangeRecords();
+        var entities = entities(100);
+
+        // enlist each entity 10 times, concurrently
+        IntStream.range(0, 10 * entities.size())
+            .parallel()
+            .forEach(i->enlistAll(records, entities.get(i % entities.size())));
+
+        assertEquals(100 * properties.size(), records.size());
+        assertEquals(100 * properties.size(), records.records().size());
+        assertEquals(100 * properties.size(), factoryCalls.intValue());
+
+        // as supplied by the ORM
+        records.addIfAbsent(records.records().iterator().next());
+        assertEquals(100 * properties.size(), records.records().size());
+
+        records.clear();
+        assertEquals(0, records.size());
+        assertEquals(0, records.records().size());
+    }
+
+    //XXX not a real test, just for performance tuning
+    @Test @DisabledIfRunningWithSurefire
+    void enlistOneMillionPropertyChanges() {
+        final int propertyChangeCount = 1_000_000;
+        var entities = entities(propertyChangeCount / properties.size());
+
+        for(int run = 0; run < 5; run++) {
+            var records = new _PropertyChangeRecords();
+            var stopWatch = _Timing.now();
+            // each entity enlisted twice, as typical for updating
+            entities.forEach(entity->enlistAll(records, entity));
+            entities.forEach(entity->enlistAll(records, entity));
+            stopWatch.stop();
+            assertEquals(propertyChangeCount, records.size());
+            System.err.printf("run %d: enlisted %d property changes in %d ms%n",
+                    run, records.size(), stopWatch.getMillis());
+        }
+    }
+
+    // -- HELPER
+
+    private List<ManagedObject> entities(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i->ManagedObject.bookmarked(spec, new Customer(),
+                        Bookmark.forLogicalTypeNameAndIdentifier(spec.logicalTypeName(), "" + i)))
+                .toList();
+    }
+
+    private void enlistAll(final _PropertyChangeRecords records, final ManagedObject entity) {
+        var bookmark = entity.getBookmark().orElseThrow();
+        properties.forEach(prop->records.addIfAbsent(entity, bookmark, prop, pcrId->{
+            factoryCalls.increment();
+            return PropertyChangeRecord.ofNew(pcrId);
+        }));
+    }
+
+}
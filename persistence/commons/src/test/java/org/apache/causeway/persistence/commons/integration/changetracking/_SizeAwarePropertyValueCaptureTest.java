@@ -0,0 +1,128 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.value.Blob;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValueDigest;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.Getter;
+
+class _SizeAwarePropertyValueCaptureTest {
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Customer {
+        @Getter private String name;
+        @Getter private String notes;
+        @Getter private Blob photo;
+    }
+
+    private ObjectSpecification spec;
+    private CausewayConfiguration.Persistence.Commons.EntityChangeTracker.ValueCapture config;
+
+    @BeforeEach
+    void setUp() {
+        var mmc = MetaModelContext_forTesting.buildDefault();
+        spec = mmc.getSpecificationLoader().specForTypeElseFail(Customer.class);
+        config = new CausewayConfiguration.Persistence.Commons.EntityChangeTracker.ValueCapture();
+        config.setDigestThreshold(16);
+    }
+
+    @Test
+    void shouldDigestOnlyValuesAboveThreshold() {
+        var capture = new _SizeAwarePropertyValueCapture(config);
+
+        var small = "short";
+        assertSame(small, capture.capture(property("notes"), small));
+
+        var large = "x".repeat(1000);
+        var digest = assertInstanceOf(PropertyValueDigest.class, capture.capture(property("notes"), large));
+        assertEquals(1000, digest.length());
+        assertTrue(digest.toString().length() < 128);
+
+        var photo = new Blob("photo.png", "image/png", new byte[1000]);
+        var photoDigest = assertInstanceOf(PropertyValueDigest.class, capture.capture(property("photo"), photo));
+        assertEquals(1000, photoDigest.length());
+        assertTrue(photoDigest.summary().startsWith("photo.png"));
+    }
+
+    @Test
+    void shouldCaptureInFull_whenNoThresholdSet() {
+        config.setDigestThreshold(null);
+        config.getAlwaysDigest().add(spec.logicalTypeName() + "#name");
+        var capture = new _SizeAwarePropertyValueCapture(config);
+
+        var large = "x".repeat(100_000);
+        assertSame(large, capture.capture(property("notes"), large));
+        assertInstanceOf(PropertyValueDigest.class, capture.capture(property("name"), "Joe"));
+    }
+
+    @Test
+    void shouldDetectChangesByDigest() {
+        var capture = new _SizeAwarePropertyValueCapture(config);
+        var notes = property("notes");
+
+        var pre = capture.capture(notes, "x".repeat(1000));
+        var postUnchanged = capture.capture(notes, "x".repeat(1000));
+        var postChanged = capture.capture(notes, "x".repeat(999) + "y");
+
+        assertEquals(pre, postUnchanged);
+        assertNotEquals(pre, postChanged);
+        assertFalse(PreAndPostValue.pre(pre).withPost(postUnchanged).shouldPublish());
+        assertTrue(PreAndPostValue.pre(pre).withPost(postChanged).shouldPublish());
+    }
+
+    @Test
+    void shouldHonorPerPropertyAndPerTypeOverrides() {
+        config.getAlwaysDigest().add(spec.logicalTypeName() + "#name");
+        config.getNeverDigest().add(spec.logicalTypeName() + "#notes");
+        config.getAlwaysDigest().add(Blob.class.getName());
+        var capture = new _SizeAwarePropertyValueCapture(config);
+
+        assertInstanceOf(PropertyValueDigest.class, capture.capture(property("name"), "Joe"));
+        var large = "x".repeat(1000);
+        assertSame(large, capture.capture(property("notes"), large));
+        assertInstanceOf(PropertyValueDigest.class,
+                capture.capture(property("photo"), new Blob("photo.png", "image/png", new byte[1])));
+    }
+
+    // -- HELPER
+
+    private OneToOneAssociation property(final String id) {
+        return spec.getPropertyElseFail(id, MixedIn.EXCLUDED);
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.dtocolumn;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration.Persistence.Commons.DtoColumn.Encoding;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+class DtoColumnCodecTest {
+
+    private CommandDto dto;
+    private String xml;
+
+    @BeforeEach
+    void setUp() {
+        dto = new CommandDto();
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setUsername("sven");
+        for(int i = 0; i < 20; i++) {
+            CommandDtoUtils.setUserData(dto, "key" + i, "value" + i);
+        }
+        xml = CommandDtoUtils.dtoMapper().toString(dto);
+    }
+
+    @Test
+    void xml_isStoredAsIs() {
+        assertSame(xml, DtoColumnCodec.encode(xml, Encoding.XML));
+        assertEquals(Encoding.XML, DtoColumnCodec.encodingOf(xml));
+    }
+
+    @Test
+    void gzipXml_roundtrips_andIsSmaller() {
+        var columnValue = DtoColumnCodec.encode(xml, Encoding.GZIP_XML);
+
+        assertTrue(columnValue.startsWith(DtoColumnCodec.GZIP_PREFIX));
+        assertEquals(Encoding.GZIP_XML, DtoColumnCodec.encodingOf(columnValue));
+        assertTrue(columnValue.length() < xml.length());
+        assertEquals(xml, DtoColumnCodec.decode(columnValue));
+    }
+
+    @Test
+    void fromColumn_readsEitherEncoding() {
+        for(var encoding : Encoding.values()) {
+            var read = DtoColumnCodec.fromColumn(CommandDtoUtils.dtoMapper(),
+                    DtoColumnCodec.encode(xml, encoding));
+            assertEquals(dto.getInteractionId(), read.getInteractionId());
+            assertEquals("sven", read.getUsername());
+            assertEquals("value19", CommandDtoUtils.getUserData(read, "key19"));
+        }
+    }
+
+    @Test
+    void null_isPassedThrough() {
+        assertNull(DtoColumnCodec.encode(null, Encoding.GZIP_XML));
+        assertNull(DtoColumnCodec.decode(null));
+        assertNull(DtoColumnCodec.fromColumn(CommandDtoUtils.dtoMapper(), null));
+    }
+
+    @Test
+    void encodingsRead_areTracked_onlyWithinBlock() {
+        var mapper = CommandDtoUtils.dtoMapper();
+        var gzipColumnValue = DtoColumnCodec.encode(xml, Encoding.GZIP_XML);
+
+        var readBefore = DtoColumnCodec.fromColumn(mapper, gzipColumnValue);
+
+        DtoColumnCodec.trackingEncodingsRead(encodingsRead->{
+            var readAsXml = DtoColumnCodec.fromColumn(mapper, xml);
+            var readAsGzip = DtoColumnCodec.fromColumn(mapper, gzipColumnValue);
+
+            assertEquals(Encoding.XML, encodingsRead.get(readAsXml));
+            assertEquals(Encoding.GZIP_XML, encodingsRead.get(readAsGzip));
+            assertNull(encodingsRead.get(readBefore));
+            return null;
+        });
+    }
+
+}
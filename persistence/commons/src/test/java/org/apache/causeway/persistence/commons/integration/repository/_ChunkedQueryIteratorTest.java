@@ -0,0 +1,169 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+
+class _ChunkedQueryIteratorTest {
+
+    /**
+     * Simulates a table of {@code rowCount} rows, recording the range of each query submitted.
+     */
+    static class RepositoryServiceSimulated extends RepositoryServiceDefault {
+
+        final long rowCount;
+        final List<QueryRange> submittedRanges = new ArrayList<>();
+        int flushCount;
+
+        RepositoryServiceSimulated(final long rowCount) {
+            super(null, null, null, null, null);
+            this.rowCount = rowCount;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> List<T> allMatches(final Query<T> query) {
+            var range = query.getRange();
+            submittedRanges.add(range);
+            var end = range.hasLimit()
+                    ? Math.min(rowCount, range.getEnd())
+                    : rowCount;
+            return (List<T>) LongStream.range(range.getStart(), end).boxed().toList();
+        }
+
+        @Override
+        void flushTransaction() {
+            flushCount++;
+        }
+    }
+
+    private RepositoryServiceSimulated repositoryService;
+    private EntityFacet entityFacet;
+
+    @BeforeEach
+    void setUp() {
+        repositoryService = new RepositoryServiceSimulated(2500);
+        entityFacet = mock(EntityFacet.class);
+    }
+
+    @Test
+    void streamsAllRows_inChunks() {
+        var rows = new _ChunkedQueryIterator<>(repositoryService, Query.allInstances(Long.class), 1000, Optional.empty())
+                .stream()
+                .toList();
+
+        assertEquals(LongStream.range(0, 2500).boxed().toList(), rows);
+        assertEquals(List.of(
+                    QueryRange.of(0, 1000),
+                    QueryRange.of(1000, 1000),
+                    QueryRange.of(2000, 1000)),
+                repositoryService.submittedRanges);
+    }
+
+    @Test
+    void fetchesLazily() {
+        var firstRows = new _ChunkedQueryIterator<>(repositoryService, Query.allInstances(Long.class), 1000, Optional.empty())
+                .stream()
+                .limit(5)
+                .toList();
+
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), firstRows);
+        assertEquals(1, repositoryService.submittedRanges.size());
+    }
+
+    @Test
+    void honorsRangeOfQuery() {
+        var query = Query.allInstances(Long.class).withRange(10, 15);
+        var rows = new _ChunkedQueryIterator<>(repositoryService, query, 10, Optional.empty())
+                .stream()
+                .toList();
+
+        assertEquals(LongStream.range(10, 25).boxed().toList(), rows);
+        assertEquals(List.of(
+                    QueryRange.of(10, 10),
+                    QueryRange.of(20, 5)),
+                repositoryService.submittedRanges);
+    }
+
+    @Test
+    void releasesProcessedChunks_afterFlushing() {
+        var rows = new _ChunkedQueryIterator<>(repositoryService, Query.allInstances(Long.class), 1000, Optional.of(entityFacet))
+                .stream()
+                .toList();
+
+        assertEquals(2500, rows.size());
+        // the last chunk is not released, as the caller might still hold on to it
+        assertEquals(2, repositoryService.flushCount);
+        verify(entityFacet, times(1)).evict(0L);
+        verify(entityFacet, times(1)).evict(1999L);
+        verify(entityFacet, never()).evict(2000L);
+    }
+
+    /**
+     * Pins down why changes that affect query membership are not allowed while streaming: chunks are fetched
+     * by offset, so each row that drops out of the result once flushed shifts all subsequent rows one position
+     * to the front, and a whole chunk's worth of rows is never visited.
+     */
+    @Test
+    void changesAffectingQueryMembership_skipRows() {
+        var pending = new ArrayList<>(LongStream.range(0, 2500).boxed().toList());
+        var processed = new ArrayList<Long>();
+        var pendingRepositoryService = new RepositoryServiceSimulated(0) {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> List<T> allMatches(final Query<T> query) {
+                var range = query.getRange();
+                var end = (int) Math.min(pending.size(), range.getEnd());
+                return (List<T>) List.copyOf(pending.subList((int) Math.min(range.getStart(), end), end));
+            }
+            @Override
+            void flushTransaction() {
+                // "mark processed" takes effect, the rows no longer match the query
+                pending.removeAll(processed);
+            }
+        };
+
+        new _ChunkedQueryIterator<>(pendingRepositoryService, Query.allInstances(Long.class), 1000, Optional.of(entityFacet))
+                .stream()
+                .forEach(processed::add);
+
+        // rows 1000..1999 are skipped
+        assertEquals(1500, processed.size());
+        assertEquals(999L, processed.get(999));
+        assertEquals(2000L, processed.get(1000));
+    }
+
+}
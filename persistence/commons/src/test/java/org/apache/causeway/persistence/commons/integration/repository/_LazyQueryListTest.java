@@ -0,0 +1,66 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.repository;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.query.QueryRange;
+
+class _LazyQueryListTest {
+
+    @Test
+    void pageOfUnconstrainedQuery_isTakenAsIs() {
+        assertEquals(Optional.of(QueryRange.of(20, 10)),
+                _LazyQueryList.pageWithinRange(QueryRange.unconstrained(), QueryRange.of(20, 10)));
+    }
+
+    @Test
+    void pageOfRangedQuery_isOffsetByItsStart_andCappedByItsLimit() {
+        var queryRange = QueryRange.of(100, 25);
+
+        assertEquals(Optional.of(QueryRange.of(100, 10)),
+                _LazyQueryList.pageWithinRange(queryRange, QueryRange.of(0, 10)));
+        assertEquals(Optional.of(QueryRange.of(120, 5)),
+                _LazyQueryList.pageWithinRange(queryRange, QueryRange.of(20, 10)));
+        assertEquals(Optional.of(QueryRange.of(110, 15)),
+                _LazyQueryList.pageWithinRange(queryRange, QueryRange.start(10)));
+        assertEquals(Optional.empty(),
+                _LazyQueryList.pageWithinRange(queryRange, QueryRange.of(25, 10)));
+    }
+
+    @Test
+    void pageOfQueryWithStartOnly_isOffsetByItsStart() {
+        assertEquals(Optional.of(QueryRange.of(120, 10)),
+                _LazyQueryList.pageWithinRange(QueryRange.start(100), QueryRange.of(20, 10)));
+    }
+
+    @Test
+    void count_isCappedByRangeOfQuery() {
+        assertEquals(1000L, _LazyQueryList.countWithinRange(QueryRange.unconstrained(), 1000L));
+        assertEquals(25L, _LazyQueryList.countWithinRange(QueryRange.of(100, 25), 1000L));
+        assertEquals(10L, _LazyQueryList.countWithinRange(QueryRange.of(990, 25), 1000L));
+        assertEquals(0L, _LazyQueryList.countWithinRange(QueryRange.of(2000, 25), 1000L));
+        assertEquals(900L, _LazyQueryList.countWithinRange(QueryRange.start(100), 1000L));
+    }
+
+}
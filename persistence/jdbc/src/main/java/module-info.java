@@ -18,13 +18,19 @@
  */
 module org.apache.causeway.persistence.jdbc {
     exports org.apache.causeway.persistence.jdbc;
+    exports org.apache.causeway.persistence.jdbc.applib;
 
     requires static lombok;
     
+    requires java.sql;
+    requires spring.beans;
     requires spring.context;
+    requires spring.core;
     requires spring.data.commons;
     requires spring.data.jdbc;
     requires spring.data.relational;
+    requires spring.jdbc;
+    requires spring.tx;
     
     requires org.apache.causeway.core.runtime;
     requires org.apache.causeway.persistence.commons;
@@ -23,6 +23,8 @@
 
 import org.apache.causeway.core.runtime.CausewayModuleCoreRuntime;
 import org.apache.causeway.persistence.commons.CausewayModulePersistenceCommons;
+import org.apache.causeway.persistence.jdbc.metamodel.JdbcIdentityMap;
+import org.apache.causeway.persistence.jdbc.metamodel.JdbcIdentityMapSynchronizer;
 import org.apache.causeway.persistence.jdbc.metamodel.JdbcProgrammingModel;
 
 @Configuration
@@ -30,7 +32,9 @@
     CausewayModuleCoreRuntime.class,
     CausewayModulePersistenceCommons.class,
     
-    JdbcProgrammingModel.class
+    JdbcProgrammingModel.class,
+    JdbcIdentityMap.class,
+    JdbcIdentityMapSynchronizer.class
 })
 public class CausewayModulePersistenceJdbc {
     public static final String NAMESPACE = "causeway.persistence.jdbc";
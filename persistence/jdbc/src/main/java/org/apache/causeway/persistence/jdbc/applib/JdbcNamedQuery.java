@@ -0,0 +1,64 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jdbc.applib;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a named (native SQL) query on a Spring Data JDBC aggregate root,
+ * to be executed via {@code RepositoryService#allMatches(Query)},
+ * using a {@link org.apache.causeway.applib.query.NamedQuery} of the same {@link #name()}.
+ * <p>
+ * Alternatively, any {@code @Query} annotated method of the aggregate's Spring Data repository
+ * can be referred to by its method name.
+ *
+ * <pre>
+ * &#64;JdbcNamedQuery(
+ *     name = "findByLastName",
+ *     sql = "SELECT * FROM customer WHERE last_name = :lastName ORDER BY id")
+ * public class Customer { ... }
+ * </pre>
+ *
+ * @since 3.5 {@index}
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(JdbcNamedQueries.class)
+public @interface JdbcNamedQuery {
+
+    /**
+     * Name of the query, unique per aggregate root,
+     * as referenced by {@link org.apache.causeway.applib.query.NamedQuery#getName()}.
+     */
+    String name();
+
+    /**
+     * The SQL, selecting all columns of the aggregate root's table,
+     * with named parameters (eg. {@code :lastName}) bound from
+     * {@link org.apache.causeway.applib.query.NamedQuery#getParametersByName()}.
+     */
+    String sql();
+
+}
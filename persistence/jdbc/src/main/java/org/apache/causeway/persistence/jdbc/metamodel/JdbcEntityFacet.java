@@ -19,22 +19,41 @@
 package org.apache.causeway.persistence.jdbc.metamodel;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+
+import javax.sql.DataSource;
 
 import jakarta.inject.Inject;
 
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.core.convert.EntityRowMapper;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.repository.config.DialectResolver;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.LimitClause;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.jspecify.annotations.Nullable;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
+import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData.PersistenceStack;
@@ -58,6 +77,10 @@
     @Inject private RelationalMappingContext mappingContext;
     @Inject private IdStringifierLookupService idStringifierLookupService;
     @Inject private JdbcAggregateTemplate jdbcAggregateTemplate;
+    @Inject private JdbcIdentityMap identityMap;
+    @Inject private JdbcConverter jdbcConverter;
+    @Inject private DataSource dataSource;
+    @Inject private ListableBeanFactory beanFactory;
 
     private final Class<?> entityClass;
     private PrimaryKeyType<?> primaryKeyType;
@@ -66,6 +89,16 @@
     @Getter
     private final EntityOrmMetadata ormMetadata;
 
+    // lazily resolved, as Spring Data repositories might not yet be available during metamodel introspection
+    private final _Lazy<_JdbcNamedQueries> namedQueries =
+            _Lazy.threadSafe(this::createNamedQueries);
+
+    private final _Lazy<NamedParameterJdbcTemplate> namedParameterJdbcTemplate =
+            _Lazy.threadSafe(this::createNamedParameterJdbcTemplate);
+
+    private final _Lazy<LimitClause> limitClause =
+            _Lazy.threadSafe(this::createLimitClause);
+
     protected JdbcEntityFacet(
             final FacetHolder holder,
             final Class<?> entityClass) {
@@ -103,11 +136,57 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         log.debug("fetchEntity; bookmark={}", bookmark);
 
         var primaryKey = primaryKeyType.destring(bookmark.identifier());
+        var identityMap = identityMap();
+        if(identityMap.isPresent()) {
+            return identityMap.get().lookup(new JdbcIdentityMap.Key(entityClass, primaryKey),
+                    ()->jdbcAggregateTemplate.findById(primaryKey, entityClass));
+        }
         var entityPojo = jdbcAggregateTemplate.findById(primaryKey, entityClass);
 
         return Optional.ofNullable(entityPojo);
     }
 
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        var identityMap = identityMap();
+        if(identityMap.isEmpty()) {
+            return fetchByBookmarksFromDatabase(bookmarks);
+        }
+
+        // only those not yet known to the identity map are queried
+        var keyByBookmark = new LinkedHashMap<Bookmark, JdbcIdentityMap.Key>(bookmarks.size());
+        bookmarks.forEach(bookmark->
+            keyByBookmark.computeIfAbsent(bookmark, __->
+                new JdbcIdentityMap.Key(entityClass, primaryKeyType.destring(bookmark.identifier()))));
+        var pojoByKey = identityMap.get().lookupAll(keyByBookmark.values(), missedKeys->{
+            var missedKeySet = Set.copyOf(missedKeys);
+            var pojoByMissedKey = new HashMap<JdbcIdentityMap.Key, Object>(missedKeys.size());
+            fetchByBookmarksFromDatabase(bookmarks.filter(bookmark->missedKeySet.contains(keyByBookmark.get(bookmark))))
+                .forEach((bookmark, pojo)->pojoByMissedKey.put(keyByBookmark.get(bookmark), pojo));
+            return pojoByMissedKey;
+        });
+
+        // honor the order of given bookmarks
+        var pojoByBookmark = new LinkedHashMap<Bookmark, Object>(keyByBookmark.size());
+        keyByBookmark.forEach((bookmark, key)->{
+            var pojo = pojoByKey.get(key);
+            if(pojo!=null) {
+                pojoByBookmark.put(bookmark, pojo);
+            }
+        });
+        return pojoByBookmark;
+    }
+
+    private Map<Bookmark, Object> fetchByBookmarksFromDatabase(final Can<Bookmark> bookmarks) {
+        return ChunkedFetch.of(getConfiguration())
+                .fetch(bookmarks,
+                        primaryKeyType::destring,
+                        primaryKeys->jdbcAggregateTemplate.findAllById(primaryKeys, entityClass),
+                        pojo->primaryKey(pojo).orElse(null));
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
@@ -132,13 +211,39 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 springQuery = springQuery.limit(range.getLimitAsInt());
             }
 
-            var list = jdbcAggregateTemplate.findAll(springQuery, entityClass);
+            var list = remembered(jdbcAggregateTemplate.findAll(springQuery, entityClass));
 
             var entitySpec = getEntitySpecification();
             return _NullSafe.stream(list)
                             .map(entity -> ManagedObject.adaptSingular(entitySpec, entity))
                             .collect(Can.toCan());
 
+        } else if (query instanceof NamedQuery<?> applibNamedQuery) {
+
+            var queryResultType = applibNamedQuery.getResultType();
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(queryResultType, entityClass);
+
+            var sql = namedQueries.get().lookupSql(applibNamedQuery.getName())
+                    .orElseThrow(()->_Exceptions.unsupportedOperation(
+                            "No named query '%s' declared for %s (neither via @JdbcNamedQuery nor as @Query repository method).",
+                            applibNamedQuery.getName(), entityClass.getName()));
+
+            var parameters = new MapSqlParameterSource(applibNamedQuery.getParametersByName());
+            var rowMapper = new EntityRowMapper<Object>(_Casts.uncheckedCast(persistentEntity), jdbcConverter);
+
+            // the range is applied by the database, such that only the rows within range are transferred
+            var rangedSql = _JdbcNamedQueries.withRange(sql, range, limitClause.get());
+
+            var entitySpec = getEntitySpecification();
+
+            try(var resultStream = namedParameterJdbcTemplate.get().queryForStream(rangedSql, parameters, rowMapper)) {
+                return resultStream
+                        .map(this::remember)
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity))
+                        .collect(Can.toCan());
+            }
         }
 
         throw _Exceptions.unsupportedOperation(
@@ -156,6 +261,7 @@ public void persist(final Object pojo) {
 
         log.debug("about to persist entity {}", pojo);
 
+        // the identity map is updated by the JdbcIdentityMapSynchronizer
         jdbcAggregateTemplate.save(pojo);
     }
 
@@ -163,13 +269,14 @@ public void persist(final Object pojo) {
     @Override @Nullable
     public <T> T refresh(final @Nullable T pojo) {
         return primaryKey(pojo)
-            .<T>map(pkPojo->(T)jdbcAggregateTemplate.findById(pkPojo, entityClass))
+            .<T>map(pkPojo->(T)remember(jdbcAggregateTemplate.findById(pkPojo, entityClass)))
             .orElse(pojo);
     }
 
     @Override
     public void delete(final Object pojo) {
         if(!isEntityPojo(pojo)) return; // nothing to do
+        // the identity map is updated by the JdbcIdentityMapSynchronizer
         jdbcAggregateTemplate.delete(pojo);
     }
 
@@ -178,11 +285,16 @@ public EntityState getEntityState(final Object pojo) {
         if(!isEntityPojo(pojo)) return EntityState.NOT_PERSISTABLE;
         var primaryKey = primaryKey(pojo);
 
-        return !primaryKey.isPresent()
-            ? EntityState.SNAPSHOT_NO_OID
-            : jdbcAggregateTemplate.existsById(primaryKey.get(), entityClass)
-                ? EntityState.SNAPSHOT
-                : EntityState.TRANSIENT_OR_REMOVED;
+        if(!primaryKey.isPresent()) return EntityState.SNAPSHOT_NO_OID;
+
+        var identityMap = identityMap();
+        if(identityMap.isPresent()) {
+            return identityMap.get().entityState(new JdbcIdentityMap.Key(entityClass, primaryKey.get()),
+                    ()->jdbcAggregateTemplate.existsById(primaryKey.get(), entityClass));
+        }
+        return jdbcAggregateTemplate.existsById(primaryKey.get(), entityClass)
+            ? EntityState.SNAPSHOT
+            : EntityState.TRANSIENT_OR_REMOVED;
     }
 
     @Override
@@ -216,6 +328,53 @@ private boolean isEntityPojo(final Object pojo) {
                 && entityClass.isAssignableFrom(pojo.getClass());
     }
 
+    private _JdbcNamedQueries createNamedQueries() {
+        return _JdbcNamedQueries.of(entityClass, beanFactory);
+    }
+
+    private NamedParameterJdbcTemplate createNamedParameterJdbcTemplate() {
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        // allows the driver to stream the result set, rather than reading it into memory at once
+        jdbcTemplate.setFetchSize(getConfiguration().getPersistence().getCommons().getRepositoryService().getStreamChunkSize());
+        return new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Uses the {@link Dialect} configured with Spring Data JDBC, if any,
+     * else detects it from the {@link DataSource}.
+     */
+    private LimitClause createLimitClause() {
+        var dialect = beanFactory.getBeanProvider(Dialect.class)
+                .getIfAvailable(()->DialectResolver.getDialect(namedParameterJdbcTemplate.get().getJdbcOperations()));
+        return dialect.limit();
+    }
+
+    /**
+     * The identity map of the current transaction, if any.
+     * Outside of a transaction, there is nothing to invalidate it, hence is not used.
+     */
+    private Optional<JdbcIdentityMap> identityMap() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                ? Optional.ofNullable(identityMap)
+                : Optional.empty();
+    }
+
+    @Nullable
+    private Object remember(final @Nullable Object pojo) {
+        if(pojo==null) return null;
+        identityMap().ifPresent(identityMap->
+            primaryKey(pojo).ifPresent(primaryKey->
+                identityMap.loaded(new JdbcIdentityMap.Key(entityClass, primaryKey), pojo)));
+        return pojo;
+    }
+
+    private <T> Iterable<T> remembered(final Iterable<T> pojos) {
+        if(identityMap().isPresent()) {
+            pojos.forEach(this::remember);
+        }
+        return pojos;
+    }
+
     private Optional<Object> primaryKey(final @Nullable Object pojo) {
         if(!isEntityPojo(pojo)) return Optional.empty();
 
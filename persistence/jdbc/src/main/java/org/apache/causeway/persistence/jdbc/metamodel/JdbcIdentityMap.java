@@ -0,0 +1,153 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jdbc.metamodel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.inject.Named;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.TransactionScope;
+import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.persistence.jdbc.CausewayModulePersistenceJdbc;
+
+/**
+ * Spring Data JDBC has no session (persistence context), hence this transaction scoped
+ * identity map keeps track of the aggregates loaded, saved or deleted within the current transaction,
+ * such that {@link JdbcEntityFacet} can answer repeated lookups (by primary key) and
+ * entity state queries from memory, rather than issuing a query each time.
+ * <p>
+ * Writes issued via Spring Data JDBC (any {@link org.springframework.data.repository.Repository} or
+ * the {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate}) are tracked
+ * by {@link JdbcIdentityMapSynchronizer}; writes issued via plain SQL are not.
+ * <p>
+ * Is discarded on transaction completion (either commit or rollback).
+ *
+ * @since 3.5
+ */
+@Service
+@TransactionScope
+@Named(CausewayModulePersistenceJdbc.NAMESPACE + ".JdbcIdentityMap")
+public class JdbcIdentityMap {
+
+    public record Key(Class<?> entityClass, Object primaryKey) {}
+
+    private final Map<Key, Object> pojoByKey = new HashMap<>();
+    private final Map<Key, EntityState> entityStateByKey = new HashMap<>();
+
+    /**
+     * Optionally the aggregate identified by given key, either from memory or by given {@code loader}.
+     * Whether found or not is remembered for subsequent lookups.
+     */
+    public Optional<Object> lookup(final Key key, final Supplier<@Nullable Object> loader) {
+        var pojo = pojoByKey.get(key);
+        if(pojo!=null) {
+            return Optional.of(pojo);
+        }
+        if(entityStateByKey.get(key) == EntityState.TRANSIENT_OR_REMOVED) {
+            return Optional.empty();
+        }
+        pojo = loader.get();
+        if(pojo!=null) {
+            loaded(key, pojo);
+        } else {
+            entityStateByKey.put(key, EntityState.TRANSIENT_OR_REMOVED);
+        }
+        return Optional.ofNullable(pojo);
+    }
+
+    /**
+     * Bulk variant of {@link #lookup(Key, Supplier)}: the aggregates identified by given keys (as far as found),
+     * either from memory or, for those not yet known, by a single call to given {@code loader}.
+     * Whether found or not is remembered for subsequent lookups.
+     */
+    public Map<Key, Object> lookupAll(
+            final Collection<Key> keys,
+            final Function<List<Key>, Map<Key, Object>> loader) {
+        var found = new HashMap<Key, Object>(keys.size());
+        var misses = new ArrayList<Key>();
+        for(var key : keys) {
+            var pojo = pojoByKey.get(key);
+            if(pojo!=null) {
+                found.put(key, pojo);
+            } else if(entityStateByKey.get(key) != EntityState.TRANSIENT_OR_REMOVED) {
+                misses.add(key);
+            }
+        }
+        if(misses.isEmpty()) {
+            return found;
+        }
+        var loaded = loader.apply(misses);
+        for(var key : misses) {
+            var pojo = loaded.get(key);
+            if(pojo!=null) {
+                loaded(key, pojo);
+                found.put(key, pojo);
+            } else {
+                entityStateByKey.put(key, EntityState.TRANSIENT_OR_REMOVED);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * The entity state of the aggregate identified by given key,
+     * either from memory or by given {@code existenceCheck}.
+     */
+    public EntityState entityState(final Key key, final Supplier<Boolean> existenceCheck) {
+        return entityStateByKey.computeIfAbsent(key, __->
+            existenceCheck.get()
+                ? EntityState.SNAPSHOT
+                : EntityState.TRANSIENT_OR_REMOVED);
+    }
+
+    /**
+     * Remembers given aggregate as loaded from (or saved to) the database.
+     */
+    public void loaded(final Key key, final Object pojo) {
+        pojoByKey.put(key, pojo);
+        entityStateByKey.put(key, EntityState.SNAPSHOT);
+    }
+
+    /**
+     * Remembers the aggregate identified by given key as deleted.
+     */
+    public void deleted(final Key key) {
+        pojoByKey.remove(key);
+        entityStateByKey.put(key, EntityState.TRANSIENT_OR_REMOVED);
+    }
+
+    /**
+     * Forgets all aggregates of given type, such that subsequent lookups hit the database again.
+     */
+    public void evict(final Class<?> entityClass) {
+        pojoByKey.keySet().removeIf(key->key.entityClass().equals(entityClass));
+        entityStateByKey.keySet().removeIf(key->key.entityClass().equals(entityClass));
+    }
+
+}
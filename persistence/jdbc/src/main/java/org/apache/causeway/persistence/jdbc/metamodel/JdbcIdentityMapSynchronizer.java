@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jdbc.metamodel;
+
+import java.util.Optional;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.persistence.jdbc.CausewayModulePersistenceJdbc;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the {@link JdbcIdentityMap} of the current transaction in sync with the aggregates saved or deleted
+ * via Spring Data JDBC, that is via any Spring Data repository or directly via
+ * the {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate}, both of which publish
+ * {@link AfterSaveEvent}s and {@link AfterDeleteEvent}s.
+ *
+ * @since 3.5
+ */
+@Service
+@Named(CausewayModulePersistenceJdbc.NAMESPACE + ".JdbcIdentityMapSynchronizer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class JdbcIdentityMapSynchronizer {
+
+    private final RelationalMappingContext mappingContext;
+    private final JdbcIdentityMap identityMap;
+
+    @EventListener
+    public void onAfterSave(final AfterSaveEvent<?> event) {
+        identityMap().ifPresent(identityMap->{
+            var entity = event.getEntity();
+            primaryKey(entity).ifPresentOrElse(
+                    primaryKey->identityMap.loaded(new JdbcIdentityMap.Key(event.getType(), primaryKey), entity),
+                    ()->identityMap.evict(event.getType()));
+        });
+    }
+
+    @EventListener
+    public void onAfterDelete(final AfterDeleteEvent<?> event) {
+        identityMap().ifPresent(identityMap->
+            // when deleted by id only, the id might not be of the exact primary key type, hence evicts the entire type
+            primaryKey(event.getEntity()).ifPresentOrElse(
+                    primaryKey->identityMap.deleted(new JdbcIdentityMap.Key(event.getType(), primaryKey)),
+                    ()->identityMap.evict(event.getType())));
+    }
+
+    // -- HELPER
+
+    /**
+     * The identity map of the current transaction, if any.
+     */
+    private Optional<JdbcIdentityMap> identityMap() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                ? Optional.of(identityMap)
+                : Optional.empty();
+    }
+
+    private Optional<Object> primaryKey(final @Nullable Object entity) {
+        if(entity==null) return Optional.empty();
+        var persistentEntity = mappingContext.getPersistentEntity(entity.getClass());
+        return persistentEntity!=null
+                && persistentEntity.hasIdProperty()
+                ? Optional.ofNullable(persistentEntity.getIdentifierAccessor(entity).getIdentifier())
+                : Optional.empty();
+    }
+
+}
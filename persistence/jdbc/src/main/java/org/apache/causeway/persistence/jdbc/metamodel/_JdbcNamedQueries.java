@@ -0,0 +1,109 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jdbc.metamodel;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.relational.core.dialect.LimitClause;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.util.StringUtils;
+
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.persistence.jdbc.applib.JdbcNamedQuery;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The named (native SQL) queries of an aggregate root, keyed by name,
+ * as declared via {@link JdbcNamedQuery} on the aggregate root itself
+ * or else via {@link Query @Query} annotated methods of its Spring Data repository.
+ */
+@Log4j2
+record _JdbcNamedQueries(Map<String, String> sqlByName) {
+
+    static _JdbcNamedQueries of(final Class<?> entityClass, final ListableBeanFactory beanFactory) {
+        return of(entityClass, new Repositories(beanFactory)
+                .getRepositoryInformationFor(entityClass)
+                .map(repositoryInformation->repositoryInformation.getQueryMethods().toList())
+                .orElseGet(List::of));
+    }
+
+    static _JdbcNamedQueries of(final Class<?> entityClass, final Iterable<Method> repositoryQueryMethods) {
+        var sqlByName = new LinkedHashMap<String, String>();
+
+        repositoryQueryMethods.forEach(method->{
+            var queryAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+            if(queryAnnotation==null
+                    || !StringUtils.hasText(queryAnnotation.value())) {
+                return;
+            }
+            var previousSql = sqlByName.putIfAbsent(method.getName(), queryAnnotation.value());
+            if(previousSql!=null
+                    && !previousSql.equals(queryAnnotation.value())) {
+                log.warn("ambiguous named query {}#{}, using the first declared", entityClass.getName(), method.getName());
+            }
+        });
+
+        // explicit declarations on the aggregate root take precedence
+        for(var namedQuery : entityClass.getAnnotationsByType(JdbcNamedQuery.class)) {
+            sqlByName.put(namedQuery.name(), namedQuery.sql());
+        }
+
+        return new _JdbcNamedQueries(Collections.unmodifiableMap(sqlByName));
+    }
+
+    Optional<String> lookupSql(final String queryName) {
+        return Optional.ofNullable(sqlByName.get(queryName));
+    }
+
+    /**
+     * Appends the dialect specific OFFSET/LIMIT clause to given {@code sql}, if the range is constrained,
+     * such that the database only ever returns the rows within range.
+     */
+    static String withRange(final String sql, final QueryRange range, final LimitClause limitClause) {
+        if(range.isUnconstrained()) return sql;
+
+        var clause = range.hasOffset()
+                ? (range.hasLimit()
+                        ? limitClause.getLimitOffset(range.getLimit(), range.getStart())
+                        : limitClause.getOffset(range.getStart()))
+                : limitClause.getLimit(range.getLimit());
+
+        return stripTrailingSemicolon(sql) + " " + clause;
+    }
+
+    // -- HELPER
+
+    private static String stripTrailingSemicolon(final String sql) {
+        var stripped = sql.strip();
+        while(stripped.endsWith(";")) {
+            stripped = stripped.substring(0, stripped.length() - 1).strip();
+        }
+        return stripped;
+    }
+
+}
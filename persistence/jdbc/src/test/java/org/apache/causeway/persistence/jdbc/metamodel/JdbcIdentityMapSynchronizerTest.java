@@ -0,0 +1,123 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jdbc.metamodel;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.relational.core.mapping.event.Identifier;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.services.repository.EntityState;
+
+class JdbcIdentityMapSynchronizerTest {
+
+    static class Customer {
+        @Id Long id;
+        String name;
+        Customer(final Long id, final String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private JdbcIdentityMap identityMap;
+    private JdbcIdentityMapSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        identityMap = new JdbcIdentityMap();
+        synchronizer = new JdbcIdentityMapSynchronizer(new RelationalMappingContext(), identityMap);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void save_viaSpringData_replacesStaleAggregate() {
+        var key = new JdbcIdentityMap.Key(Customer.class, 1L);
+        identityMap.loaded(key, new Customer(1L, "stale"));
+
+        var saved = new Customer(1L, "saved");
+        synchronizer.onAfterSave(new AfterSaveEvent<>(saved, MutableAggregateChange.forSave(saved)));
+
+        assertSame(saved, identityMap.lookup(key, ()->fail()).orElseThrow());
+    }
+
+    @Test
+    void delete_viaSpringData_byEntity_marksAsRemoved() {
+        var customer = new Customer(1L, "fred");
+        var key = new JdbcIdentityMap.Key(Customer.class, 1L);
+        identityMap.loaded(key, customer);
+
+        synchronizer.onAfterDelete(new AfterDeleteEvent<>(Identifier.of(1L), customer, MutableAggregateChange.forDelete(customer)));
+
+        assertTrue(identityMap.lookup(key, ()->fail()).isEmpty());
+        assertEquals(EntityState.TRANSIENT_OR_REMOVED, identityMap.entityState(key, ()->fail()));
+    }
+
+    @Test
+    void delete_viaSpringData_byIdOnly_evictsEntireType() {
+        var key = new JdbcIdentityMap.Key(Customer.class, 1L);
+        identityMap.loaded(key, new Customer(1L, "fred"));
+
+        // eg. CrudRepository#deleteById(1), where the id might be an Integer rather than a Long
+        synchronizer.onAfterDelete(new AfterDeleteEvent<Customer>(Identifier.of(1), null, MutableAggregateChange.forDelete(Customer.class)));
+
+        // hits the database again
+        assertEquals(Optional.empty(), identityMap.lookup(key, ()->null));
+        assertEquals(EntityState.TRANSIENT_OR_REMOVED, identityMap.entityState(key, ()->false));
+    }
+
+    @Test
+    void outsideOfTransaction_isNoop() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+
+        var key = new JdbcIdentityMap.Key(Customer.class, 1L);
+        var customer = new Customer(1L, "fred");
+        identityMap.loaded(key, customer);
+
+        var saved = new Customer(1L, "saved");
+        synchronizer.onAfterSave(new AfterSaveEvent<>(saved, MutableAggregateChange.forSave(saved)));
+
+        assertSame(customer, identityMap.lookup(key, ()->fail()).orElseThrow());
+    }
+
+    // -- HELPER
+
+    private static <T> T fail() {
+        throw new AssertionError("should have been answered from memory");
+    }
+
+}
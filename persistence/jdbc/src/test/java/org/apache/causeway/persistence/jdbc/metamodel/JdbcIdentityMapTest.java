@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jdbc.metamodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.services.repository.EntityState;
+
+class JdbcIdentityMapTest {
+
+    private final JdbcIdentityMap identityMap = new JdbcIdentityMap();
+
+    @Test
+    void lookupAll_queriesMissesOnly_andRemembersWhetherFound() {
+        identityMap.loaded(key(1), "one");
+        identityMap.deleted(key(2));
+
+        var loadRequests = new ArrayList<List<JdbcIdentityMap.Key>>();
+        var found = identityMap.lookupAll(List.of(key(1), key(2), key(3), key(4)), misses->{
+            loadRequests.add(misses);
+            return Map.of(key(3), "three");
+        });
+
+        assertEquals(Map.of(key(1), "one", key(3), "three"), found);
+        assertEquals(List.of(List.of(key(3), key(4))), loadRequests);
+
+        // answered from memory from now on
+        assertEquals(found, identityMap.lookupAll(List.of(key(1), key(2), key(3), key(4)), misses->{
+            throw new AssertionError("should have been answered from memory");
+        }));
+        assertEquals(EntityState.TRANSIENT_OR_REMOVED, identityMap.entityState(key(4), ()->true));
+    }
+
+    // -- HELPER
+
+    private static JdbcIdentityMap.Key key(final long id) {
+        return new JdbcIdentityMap.Key(String.class, id);
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jdbc.metamodel;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.LimitClause;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.persistence.jdbc.applib.JdbcNamedQuery;
+
+class _JdbcNamedQueriesTest {
+
+    @JdbcNamedQuery(name = "findByLastName", sql = "SELECT * FROM CUSTOMER WHERE LAST_NAME = :lastName")
+    @JdbcNamedQuery(name = "findAllOrdered", sql = "SELECT * FROM CUSTOMER ORDER BY ID")
+    static class Customer {
+    }
+
+    interface CustomerRepository {
+        @Query("SELECT * FROM CUSTOMER WHERE FIRST_NAME = :firstName")
+        List<Customer> findByFirstName(String firstName);
+
+        @Query("SELECT * FROM CUSTOMER WHERE LAST_NAME LIKE :lastName")
+        List<Customer> findByLastName(String lastName);
+
+        // derived query, not a named query
+        List<Customer> findByEmail(String email);
+    }
+
+    // -- RESOLUTION
+
+    @Test
+    void namedQueries_areResolved_fromAggregateRootAndRepository() {
+        var namedQueries = _JdbcNamedQueries.of(Customer.class, List.of(CustomerRepository.class.getMethods()));
+
+        assertEquals(3, namedQueries.sqlByName().size());
+        assertEquals("SELECT * FROM CUSTOMER WHERE FIRST_NAME = :firstName",
+                namedQueries.lookupSql("findByFirstName").orElseThrow());
+        assertEquals("SELECT * FROM CUSTOMER ORDER BY ID",
+                namedQueries.lookupSql("findAllOrdered").orElseThrow());
+        assertTrue(namedQueries.lookupSql("findByEmail").isEmpty());
+    }
+
+    @Test
+    void aggregateRootDeclarations_takePrecedence_overRepositoryMethods() {
+        var namedQueries = _JdbcNamedQueries.of(Customer.class, List.of(CustomerRepository.class.getMethods()));
+
+        assertEquals("SELECT * FROM CUSTOMER WHERE LAST_NAME = :lastName",
+                namedQueries.lookupSql("findByLastName").orElseThrow());
+    }
+
+    @Test
+    void unknownQueryName_isNotResolved() {
+        var namedQueries = _JdbcNamedQueries.of(Customer.class, List.of());
+
+        assertTrue(namedQueries.lookupSql("findByFirstName").isEmpty());
+        assertTrue(namedQueries.lookupSql("findByLastName").isPresent());
+    }
+
+    // -- RANGE
+
+    private static final String SQL = "SELECT * FROM CUSTOMER ORDER BY ID";
+    private static final LimitClause H2_LIMIT = H2Dialect.INSTANCE.limit();
+
+    @Test
+    void unconstrainedRange_leavesSqlAsIs() {
+        assertEquals(SQL, _JdbcNamedQueries.withRange(SQL, QueryRange.unconstrained(), H2_LIMIT));
+    }
+
+    @Test
+    void limitOnly_appendsLimitClause() {
+        assertEquals(SQL + " " + H2_LIMIT.getLimit(10),
+                _JdbcNamedQueries.withRange(SQL, QueryRange.limit(10), H2_LIMIT));
+    }
+
+    @Test
+    void offsetOnly_appendsOffsetClause() {
+        assertEquals(SQL + " " + H2_LIMIT.getOffset(20),
+                _JdbcNamedQueries.withRange(SQL, QueryRange.start(20), H2_LIMIT));
+    }
+
+    @Test
+    void offsetAndLimit_appendsLimitOffsetClause() {
+        assertEquals(SQL + " OFFSET 20 ROWS FETCH FIRST 10 ROWS ONLY",
+                _JdbcNamedQueries.withRange(SQL, QueryRange.of(20, 10), H2_LIMIT));
+    }
+
+    @Test
+    void rangeClause_isDialectAware() {
+        var sqlServerLimit = SqlServerDialect.INSTANCE.limit();
+        assertEquals(SQL + " " + sqlServerLimit.getLimitOffset(10, 20),
+                _JdbcNamedQueries.withRange(SQL, QueryRange.of(20, 10), sqlServerLimit));
+    }
+
+    @Test
+    void trailingSemicolon_isStripped_beforeAppendingRangeClause() {
+        assertEquals(SQL + " OFFSET 20 ROWS FETCH FIRST 10 ROWS ONLY",
+                _JdbcNamedQueries.withRange(SQL + " ;\n", QueryRange.of(20, 10), H2_LIMIT));
+    }
+
+}
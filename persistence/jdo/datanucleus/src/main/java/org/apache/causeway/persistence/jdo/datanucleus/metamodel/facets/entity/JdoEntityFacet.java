@@ -19,18 +19,27 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.jdo.FetchGroup;
+import javax.jdo.FetchPlan;
 import javax.jdo.JDOHelper;
 import javax.jdo.PersistenceManager;
+import javax.jdo.metadata.TypeMetadata;
 
 import jakarta.inject.Inject;
 
+import org.datanucleus.api.jdo.JDODataStoreCache;
 import org.datanucleus.api.jdo.JDOQuery;
 import org.datanucleus.enhancement.Persistable;
 import org.datanucleus.store.rdbms.RDBMSPropertyNames;
@@ -38,12 +47,14 @@
 import org.jspecify.annotations.Nullable;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
+import org.apache.causeway.applib.query.LazyQueryList;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.exceprecog.Category;
 import org.apache.causeway.applib.services.exceprecog.ExceptionRecognizerService;
 import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.applib.services.tablecol.TableColumnVisibilityService;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.services.xactn.TransactionalProcessor;
 import org.apache.causeway.commons.collections.Can;
@@ -54,8 +65,10 @@
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData.PersistenceStack;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.object.caching.CachingFacet;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityOrmMetadata;
+import org.apache.causeway.core.metamodel.facets.object.entity.TableFetchPlan;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
@@ -106,6 +119,27 @@
     private final EntityOrmMetadata ormMetadata =
             _MetadataUtil.ormMetadataFor(getPersistenceManager(), entityClass);
 
+    // lazily derived from the ORM metadata, used to page through instances in a stable order
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final Optional<String> primaryKeyOrdering =
+            _MetadataUtil.primaryKeyOrderingFor((TypeMetadata) getOrmMetadata().vendorEntityMetadata());
+
+    // lazily derived from the ORM metadata, used as tiebreaker for keyset bounds (see OrderKey)
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final Can<String> primaryKeyMemberNames =
+            _MetadataUtil.primaryKeyMemberNamesFor((TypeMetadata) getOrmMetadata().vendorEntityMetadata());
+
+    // lazily computed, as it requires the entity's (fully introspected) specification
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final TableFetchPlan tableFetchPlan = TableFetchPlan.forEntity(getEntitySpecification());
+
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final Can<TableColumnVisibilityService> tableColumnVisibilityServices =
+            getServiceRegistry().select(TableColumnVisibilityService.class);
+
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final Optional<CachingFacet> cachingFacet = CachingFacet.lookup(getEntitySpecification());
+
     public JdoEntityFacet(
             final FacetHolder holder, final Class<?> entityClass) {
         super(EntityFacet.class, holder);
@@ -190,29 +224,71 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
 
         log.debug("fetchEntity; bookmark={}", bookmark);
 
-        Object entityPojo;
-        try {
+        var persistenceManager = getPersistenceManager();
+        var primaryKey = primaryKeyTypeForDecoding().destring(bookmark.identifier());
 
-            var persistenceManager = getPersistenceManager();
-            var primaryKey = primaryKeyTypeForDecoding().destring(bookmark.identifier());
+        var fetchPlan = persistenceManager.getFetchPlan();
+        fetchPlan.addGroup(FetchGroup.DEFAULT);
 
-            var fetchPlan = persistenceManager.getFetchPlan();
-            fetchPlan.addGroup(FetchGroup.DEFAULT);
-            entityPojo = persistenceManager.getObjectById(entityClass, primaryKey);
+        getCachingFacet()
+            .filter(cachingFacet->cachingFacet.caching().isCached())
+            .ifPresent(cachingFacet->
+                cachingFacet.recordLookup(isInSharedCache(persistenceManager, primaryKey)));
 
-        } catch (final RuntimeException e) {
+        return fetchByPrimaryKey(persistenceManager, primaryKey);
+    }
 
-            var recognition = exceptionRecognizerService.recognize(e);
-            if(recognition.isPresent()) {
-                if(recognition.get().category() == Category.NOT_FOUND) {
-                    return Optional.empty();
-                }
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        var persistenceManager = getPersistenceManager();
+
+        var fetchPlan = persistenceManager.getFetchPlan();
+        fetchPlan.addGroup(FetchGroup.DEFAULT);
+
+        return ChunkedFetch.of(getConfiguration())
+                .fetch(bookmarks,
+                        primaryKeyTypeForDecoding()::destring,
+                        primaryKeys->fetchByPrimaryKeys(persistenceManager, primaryKeys),
+                        persistenceManager::getObjectId);
+    }
+
+    private Optional<Object> fetchByPrimaryKey(
+            final PersistenceManager persistenceManager,
+            final Object primaryKey) {
+        try {
+            return Optional.ofNullable(persistenceManager.getObjectById(entityClass, primaryKey));
+        } catch (final RuntimeException e) {
+            if(isNotFound(e)) {
+                return Optional.empty();
             }
+            throw e;
+        }
+    }
 
+    private Collection<?> fetchByPrimaryKeys(
+            final PersistenceManager persistenceManager,
+            final Can<Object> primaryKeys) {
+        try {
+            return persistenceManager.getObjectsById(primaryKeys.toList(), true);
+        } catch (final RuntimeException e) {
+            if(isNotFound(e)) {
+                // at least one of the chunk does not exist, so fall back to one by one lookup
+                return primaryKeys.stream()
+                        .map(primaryKey->fetchByPrimaryKey(persistenceManager, primaryKey))
+                        .flatMap(Optional::stream)
+                        .toList();
+            }
             throw e;
         }
+    }
 
-        return Optional.ofNullable(entityPojo);
+    private boolean isNotFound(final RuntimeException e) {
+        return exceptionRecognizerService.recognize(e)
+                .map(recognition->recognition.category() == Category.NOT_FOUND)
+                .orElse(false);
     }
 
     @Override
@@ -234,15 +310,26 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
             var persistenceManager = getPersistenceManager();
 
-            var typedQuery = persistenceManager.newJDOQLTypedQuery(queryEntityType);
-            typedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
-
-            if(!range.isUnconstrained()) {
-                typedQuery.range(range.getStart(), range.getEnd());
+            final Can<ManagedObject> resultList;
+            if(range.isUnconstrained()) {
+                var typedQuery = persistenceManager.newJDOQLTypedQuery(queryEntityType);
+                typedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+                applyTableFetchGroup(persistenceManager, typedQuery.getFetchPlan());
+                applyCachingExtensions(typedQuery::extension);
+
+                resultList = fetchWithinTransaction(typedQuery::executeList);
+            } else {
+                // paging (eg. chunked streaming) requires a stable order
+                var rangedQuery = persistenceManager.newQuery(queryEntityType);
+                rangedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+                applyTableFetchGroup(persistenceManager, rangedQuery.getFetchPlan());
+                applyCachingExtensions(rangedQuery::extension);
+                getPrimaryKeyOrdering().ifPresent(rangedQuery::setOrdering);
+                rangedQuery.range(range.getStart(), range.getEnd());
+
+                resultList = fetchWithinTransaction(rangedQuery::executeList);
             }
 
-            var resultList = fetchWithinTransaction(typedQuery::executeList);
-
             if(range.hasLimit()) {
                 _Assert.assertTrue(resultList.size()<=range.getLimit());
             }
@@ -252,34 +339,20 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
         } else if(query instanceof NamedQuery) {
 
             var applibNamedQuery = (NamedQuery<?>) query;
-            var queryResultType = applibNamedQuery.getResultType();
 
             var persistenceManager = getPersistenceManager();
 
-            var namedParams = _Maps.<String, Object>newHashMap();
-            var namedQuery = persistenceManager.newNamedQuery(queryResultType, applibNamedQuery.getName())
-                    .setNamedParameters(namedParams);
-
-            namedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+            var namedQuery = newNamedQuery(persistenceManager, applibNamedQuery);
 
             if(!range.isUnconstrained()) {
                 namedQuery.range(range.getStart(), range.getEnd());
             }
-
-            // inject services into query params; not sure if required (might be redundant)
-            {
-                var injector = getServiceInjector();
-
-                applibNamedQuery
-                .getParametersByName()
-                .values()
-                .forEach(injector::injectServicesInto);
+            if(!hasResultPhrase(namedQuery)
+                    && entityClass.equals(applibNamedQuery.getResultType())) {
+                applyTableFetchGroup(persistenceManager, namedQuery.getFetchPlan());
+                applyCachingExtensions(namedQuery::extension);
             }
 
-            applibNamedQuery
-                .getParametersByName()
-                .forEach(namedParams::put);
-
             Supplier<List<?>> executeMethod = hasResultPhrase(namedQuery)
                     ? namedQuery::executeResultList     // eg SELECT DISTINCT this.paymentMethod FROM IncomingInvoice WHERE ...
                     : namedQuery::executeList;          // eg SELECT FROM IncomingInvoice WHERE ...
@@ -297,6 +370,156 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 query.getDescription());
     }
 
+    @Override
+    public OptionalLong countByQuery(final Query<?> query) {
+
+        var persistenceManager = getPersistenceManager();
+
+        final javax.jdo.Query<?> countQuery;
+        if(query instanceof AllInstancesQuery<?> queryFindAllInstances) {
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(queryFindAllInstances.getResultType(), entityClass);
+            countQuery = persistenceManager.newQuery(queryFindAllInstances.getResultType());
+        } else if(query instanceof NamedQuery<?> applibNamedQuery) {
+            countQuery = newNamedQuery(persistenceManager, applibNamedQuery);
+            if(hasResultPhrase(countQuery)) {
+                return OptionalLong.empty(); // projections are not counted
+            }
+        } else {
+            return OptionalLong.empty();
+        }
+
+        countQuery.setOrdering(null);
+        countQuery.setResult("count(this)");
+
+        var count = getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->(Number) countQuery.executeResultUnique())
+                .ifFailureFail()
+                .getValue().orElseThrow();
+        return OptionalLong.of(count.longValue());
+    }
+
+    @Override
+    public Optional<Can<ManagedObject>> fetchByQuery(final Query<?> query, final LazyQueryList.@NonNull Sort sort) {
+
+        if(!isPersistentMember(sort.propertyName())) {
+            return Optional.empty();
+        }
+
+        var persistenceManager = getPersistenceManager();
+
+        final javax.jdo.Query<?> sortedQuery;
+        if(query instanceof AllInstancesQuery<?> queryFindAllInstances) {
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(queryFindAllInstances.getResultType(), entityClass);
+            sortedQuery = persistenceManager.newQuery(queryFindAllInstances.getResultType());
+            sortedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+        } else if(query instanceof NamedQuery<?> applibNamedQuery) {
+            sortedQuery = newNamedQuery(persistenceManager, applibNamedQuery);
+            if(hasResultPhrase(sortedQuery)) {
+                return Optional.empty(); // projections are not sorted
+            }
+        } else {
+            return Optional.empty();
+        }
+
+        // replaces any ordering of the named query
+        // (with the primary key as tie-breaker, such that paging is stable)
+        var ordering = sort.propertyName() + (sort.ascending() ? " ascending" : " descending");
+        sortedQuery.setOrdering(entityClass.equals(query.getResultType())
+                ? getPrimaryKeyOrdering()
+                    .map(primaryKeyOrdering->ordering + ", " + primaryKeyOrdering)
+                    .orElse(ordering)
+                : ordering);
+        if(entityClass.equals(query.getResultType())) {
+            applyTableFetchGroup(persistenceManager, sortedQuery.getFetchPlan());
+            applyCachingExtensions(sortedQuery::extension);
+        }
+
+        var range = query.getRange();
+        if(!range.isUnconstrained()) {
+            sortedQuery.range(range.getStart(), range.getEnd());
+        }
+
+        return Optional.of(fetchWithinTransaction(sortedQuery::executeList));
+    }
+
+    private javax.jdo.Query<?> newNamedQuery(
+            final PersistenceManager persistenceManager,
+            final NamedQuery<?> applibNamedQuery) {
+
+        var namedParams = _Maps.<String, Object>newHashMap();
+        var namedQuery = persistenceManager.newNamedQuery(applibNamedQuery.getResultType(), applibNamedQuery.getName())
+                .setNamedParameters(namedParams);
+
+        namedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+        // inject services into query params; not sure if required (might be redundant)
+        {
+            var injector = getServiceInjector();
+
+            applibNamedQuery
+            .getParametersByName()
+            .values()
+            .forEach(injector::injectServicesInto);
+        }
+
+        applibNamedQuery
+            .getParametersByName()
+            .forEach(namedParams::put);
+
+        return namedQuery;
+    }
+
+    private static final String TABLE_FETCH_GROUP = "causeway-table-columns";
+
+    /**
+     * Eagerly fetches those references, that would be rendered as table columns,
+     * in addition to the default fetch group.
+     * @see TableFetchPlan
+     */
+    private void applyTableFetchGroup(final PersistenceManager persistenceManager, final FetchPlan fetchPlan) {
+        var memberNames = getTableFetchPlan()
+                .withoutColumnsHiddenBy(entityClass, getTableColumnVisibilityServices())
+                .referencePropertyIds()
+                .filter(this::isPersistentMember);
+        if(memberNames.isEmpty()) {
+            return;
+        }
+        // scoped to the PersistenceManager, hence (re-)populated on demand
+        var fetchGroup = persistenceManager.getFetchGroup(entityClass, TABLE_FETCH_GROUP);
+        fetchGroup.addCategory(FetchGroup.DEFAULT);
+        memberNames.forEach(fetchGroup::addMember);
+        fetchPlan.addGroup(TABLE_FETCH_GROUP);
+    }
+
+    private static final String QUERY_RESULTS_CACHED = "datanucleus.query.results.cached";
+
+    /**
+     * Enables the query results cache for types declared {@code @DomainObject(caching=CACHED)}.
+     * <p>
+     * Whether instances are held in the L2 cache in the first place is governed by DataNucleus'
+     * own {@code datanucleus.cache.level2.mode} and (per type) {@code @Cacheable}.
+     * @see CachingFacet
+     */
+    private void applyCachingExtensions(final BiConsumer<String, Object> extensionConsumer) {
+        getCachingFacet()
+            .filter(cachingFacet->cachingFacet.caching().isCached())
+            .ifPresent(cachingFacet->extensionConsumer.accept(QUERY_RESULTS_CACHED, "true"));
+    }
+
+    private boolean isInSharedCache(final PersistenceManager persistenceManager, final Object primaryKey) {
+        return persistenceManager.getPersistenceManagerFactory().getDataStoreCache()
+                    instanceof JDODataStoreCache jdoDataStoreCache
+                && jdoDataStoreCache.getLevel2Cache()
+                    .containsOid(persistenceManager.newObjectIdInstance(entityClass, primaryKey));
+    }
+
+    private boolean isPersistentMember(final String memberName) {
+        return getOrmMetadata().columns().stream()
+                .anyMatch(column->column.memberId().equals(memberName));
+    }
+
     private static boolean hasResultPhrase(final javax.jdo.Query<?> namedQuery) {
         if (namedQuery instanceof JDOQuery) {
             JDOQuery<?> jdoQuery = (JDOQuery<?>) namedQuery;
@@ -382,6 +605,171 @@ public <T> T detach(final T pojo) {
         return getPersistenceManager().detachCopy(pojo);
     }
 
+    @Override
+    public void invalidateSharedCache(final @Nullable Object pojo) {
+        if(pojo==null) {
+            return; // nothing to do
+        }
+        var oid = JDOHelper.getObjectId(pojo);
+        if(oid!=null) {
+            pmf.getPersistenceManagerFactory().getDataStoreCache().evict(oid);
+        }
+    }
+
+    @Override
+    public void evict(final @Nullable Object pojo) {
+        if(pojo==null
+                || !JDOHelper.isPersistent(pojo)
+                || JDOHelper.isDirty(pojo)) {
+            return; // nothing to do
+        }
+        // transitions to hollow state, releasing the field values
+        getPersistenceManager().evict(pojo);
+    }
+
+    @Override
+    public OptionalLong deleteAll() {
+
+        var pm = getPersistenceManager();
+
+        log.debug("about to bulk delete all entities of type {}", entityClass);
+
+        var deletedCount = getTransactionalProcessor()
+            .callWithinCurrentTransactionElseCreateNew(()->pm.newQuery(entityClass).deletePersistentAll())
+            .valueAsNonNullElseFail();
+
+        return OptionalLong.of(deletedCount);
+    }
+
+    @Override
+    public Optional<Object> propertyValueAt(
+            final String propertyName,
+            final long position,
+            final @Nullable Object lessThan) {
+
+        if(!isPersistentMember(propertyName)) {
+            return Optional.empty();
+        }
+
+        var valueQuery = getPersistenceManager().newQuery(entityClass);
+        if(lessThan!=null) {
+            valueQuery.setFilter(propertyName + " < :lessThan");
+            valueQuery.setNamedParameters(Map.of("lessThan", lessThan));
+        }
+        valueQuery.setResult(propertyName);
+        valueQuery.setOrdering(propertyName + " ascending");
+        valueQuery.range(position, position + 1);
+
+        return getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->valueQuery.executeResultList().stream().findFirst())
+                .valueAsNonNullElseFail();
+    }
+
+    @Override
+    public Optional<OrderKey> orderKeyAt(
+            final String propertyName,
+            final long position,
+            final Object lessThan) {
+
+        if(!isPersistentMember(propertyName)
+                || getPrimaryKeyMemberNames().isEmpty()) {
+            return Optional.empty();
+        }
+
+        var orderKeyQuery = belowQuery(getPersistenceManager(), propertyName, lessThan, null);
+        orderKeyQuery.setResult(orderKeyMemberNames(propertyName).stream().collect(Collectors.joining(", ")));
+        orderKeyQuery.range(position, position + 1);
+
+        return getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->_NullSafe.stream(orderKeyQuery.executeResultList())
+                    .findFirst()
+                    .map(values->new OrderKey(List.of((Object[]) values))))
+                .valueAsNonNullElseFail();
+    }
+
+    @Override
+    public Optional<Can<Object>> fetchBelow(
+            final String propertyName,
+            final Object lessThan,
+            final @Nullable OrderKey upTo) {
+
+        if(!isPersistentMember(propertyName)
+                || getPrimaryKeyMemberNames().isEmpty()) {
+            return Optional.empty();
+        }
+
+        var belowQuery = belowQuery(getPersistenceManager(), propertyName, lessThan, upTo);
+
+        return Optional.of(getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->Can.ofStream(_NullSafe.stream(belowQuery.executeList()).map(Object.class::cast)))
+                .valueAsNonNullElseFail());
+    }
+
+    @Override
+    public OptionalLong deleteBelow(
+            final String propertyName,
+            final Object lessThan,
+            final @Nullable OrderKey upTo) {
+
+        if(!isPersistentMember(propertyName)
+                || getPrimaryKeyMemberNames().isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        log.debug("about to bulk delete entities of type {} with {} < {} up to {}",
+                entityClass, propertyName, lessThan, upTo);
+
+        var deletedCount = getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->belowQuery(getPersistenceManager(), propertyName, lessThan, upTo).deletePersistentAll())
+            .valueAsNonNullElseFail();
+        pmf.getPersistenceManagerFactory().getDataStoreCache().evictAll(true, entityClass);
+
+        return OptionalLong.of(deletedCount);
+    }
+
+    /**
+     * Given property, followed by the primary key members, as the components of an {@link OrderKey}.
+     */
+    private List<String> orderKeyMemberNames(final String propertyName) {
+        return Stream.concat(Stream.of(propertyName), getPrimaryKeyMemberNames().stream())
+                .toList();
+    }
+
+    /**
+     * Entities with given property less than {@code lessThan} and, if {@code upTo} is not {@code null},
+     * whose {@link OrderKey} is less than or equal to {@code upTo}, ordered by {@link OrderKey}.
+     */
+    private javax.jdo.Query<?> belowQuery(
+            final PersistenceManager persistenceManager,
+            final String propertyName,
+            final Object lessThan,
+            final @Nullable OrderKey upTo) {
+        var memberNames = orderKeyMemberNames(propertyName);
+        var parameters = new HashMap<String, Object>();
+        parameters.put("lessThan", lessThan);
+        var filter = new StringBuilder(propertyName + " < :lessThan");
+        if(upTo!=null) {
+            _Assert.assertEquals(memberNames.size(), upTo.values().size(), ()->"order key mismatch");
+            // (m0, m1, ..., mn) <= (k0, k1, ..., kn) expands to m0 < k0 || (m0 == k0 && ((m1, ..., mn) <= (k1, ..., kn)))
+            var lastIndex = memberNames.size() - 1;
+            var upToFilter = memberNames.get(lastIndex) + " <= :k" + lastIndex;
+            for(int i = lastIndex - 1; i >= 0; i--) {
+                var memberName = memberNames.get(i);
+                upToFilter = String.format("(%1$s < :k%2$d || (%1$s == :k%2$d && %3$s))", memberName, i, upToFilter);
+            }
+            filter.append(" && ").append(upToFilter);
+            for(int i = 0; i <= lastIndex; i++) {
+                parameters.put("k" + i, upTo.values().get(i));
+            }
+        }
+        var belowQuery = persistenceManager.newQuery(entityClass, filter.toString());
+        belowQuery.setNamedParameters(parameters);
+        belowQuery.setOrdering(memberNames.stream()
+                .map(memberName->memberName + " ascending")
+                .collect(Collectors.joining(", ")));
+        return belowQuery;
+    }
+
     // -- HELPER
 
     private static boolean isPersistableType(final Class<?> type) {
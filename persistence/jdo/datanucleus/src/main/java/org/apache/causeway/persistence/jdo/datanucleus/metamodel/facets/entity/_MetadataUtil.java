@@ -19,8 +19,10 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.jdo.PersistenceManager;
+import javax.jdo.annotations.IdentityType;
 import javax.jdo.metadata.MemberMetadata;
 import javax.jdo.metadata.TypeMetadata;
 
@@ -57,8 +59,51 @@ EntityOrmMetadata ormMetadataFor(
                 typeMetadata);
     }
 
+    /**
+     * JDOQL ordering by primary key (or datastore identity), as required for paging to be stable,
+     * or empty if the entity has no durable identity.
+     */
+    Optional<String> primaryKeyOrderingFor(final @NonNull TypeMetadata typeMetadata) {
+        var identityType = typeMetadata.getIdentityType();
+        if(identityType==null) {
+            return Optional.empty();
+        }
+        switch (identityType) {
+            case APPLICATION: {
+                var primaryKeyOrdering = _NullSafe.stream(typeMetadata.getMembers())
+                        .filter(member->Boolean.TRUE.equals(member.getPrimaryKey()))
+                        .map(member->member.getName() + " ascending")
+                        .collect(Collectors.joining(", "));
+                return Optional.of(primaryKeyOrdering.isEmpty()
+                        ? OBJECT_ID_ORDERING
+                        : primaryKeyOrdering);
+            }
+            case DATASTORE:
+                return Optional.of(OBJECT_ID_ORDERING);
+            case NONDURABLE:
+            case UNSPECIFIED:
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /**
+     * Names of the primary key members (in order of their names), if the entity has application identity.
+     */
+    Can<String> primaryKeyMemberNamesFor(final @NonNull TypeMetadata typeMetadata) {
+        return typeMetadata.getIdentityType() == IdentityType.APPLICATION
+                ? _NullSafe.stream(typeMetadata.getMembers())
+                    .filter(member->Boolean.TRUE.equals(member.getPrimaryKey()))
+                    .map(MemberMetadata::getName)
+                    .sorted()
+                    .collect(Can.toCan())
+                : Can.empty();
+    }
+
     // -- HELPER
 
+    private static final String OBJECT_ID_ORDERING = "JDOHelper.getObjectId(this) ascending";
+
     private Can<ColumnOrmMetadata> columns(final TypeMetadata typeMetadata) {
         return _NullSafe.stream(typeMetadata.getMembers())
                 .map(_MetadataUtil::column)
@@ -21,9 +21,12 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.persistence.commons.integration.dtocolumn.DtoColumnCodec;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
+ * Stores the DTO as per {@link DtoColumnCodec}, that is, using the configured encoding.
+ *
  * @since 2.0 {@index}
  */
 public class CausewayCommandDtoConverter implements TypeConverter<CommandDto, String>{
@@ -32,12 +35,12 @@ public class CausewayCommandDtoConverter implements TypeConverter<CommandDto, St
 
     @Override
     public String toDatastoreType(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return DtoColumnCodec.toColumn(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoColumnCodec.fromColumn(CommandDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
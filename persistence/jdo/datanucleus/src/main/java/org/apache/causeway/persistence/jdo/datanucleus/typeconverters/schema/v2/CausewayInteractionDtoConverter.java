@@ -21,9 +21,12 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.persistence.commons.integration.dtocolumn.DtoColumnCodec;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
+ * Stores the DTO as per {@link DtoColumnCodec}, that is, using the configured encoding.
+ *
  * @since 2.0 {@index}
  */
 public class CausewayInteractionDtoConverter implements TypeConverter<InteractionDto, String>{
@@ -32,12 +35,12 @@ public class CausewayInteractionDtoConverter implements TypeConverter<Interactio
 
     @Override
     public String toDatastoreType(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return DtoColumnCodec.toColumn(InteractionDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public InteractionDto toMemberType(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoColumnCodec.fromColumn(InteractionDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
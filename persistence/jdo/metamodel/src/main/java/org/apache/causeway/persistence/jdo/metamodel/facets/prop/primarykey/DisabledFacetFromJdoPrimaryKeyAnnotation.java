@@ -22,12 +22,14 @@
 import org.apache.causeway.core.metamodel.consent.Consent.VetoReason;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.members.disabled.DisabledFacetAbstract;
+import org.apache.causeway.core.metamodel.interactions.ObjectIndependentInteractionAdvisor;
 
 /**
  * Derived by the presence of the primary key.
  */
 public class DisabledFacetFromJdoPrimaryKeyAnnotation
-extends DisabledFacetAbstract {
+extends DisabledFacetAbstract
+implements ObjectIndependentInteractionAdvisor {
 
     public DisabledFacetFromJdoPrimaryKeyAnnotation(final FacetHolder holder) {
         super(Where.ANYWHERE, VetoReason.immutablePrimaryKey(), holder);
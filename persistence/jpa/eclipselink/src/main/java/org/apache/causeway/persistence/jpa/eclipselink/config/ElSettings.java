@@ -75,6 +75,7 @@ protected Map<String, Object> createMap() {
         //jpaProps.put(PersistenceUnitProperties.LOGGING_LEVEL, SessionLog.FINER_LABEL); //debug logging
         jpaProps.put(PersistenceUnitProperties.DDL_GENERATION, PersistenceUnitProperties.CREATE_OR_EXTEND);
         jpaProps.put(PersistenceUnitProperties.CDI_BEANMANAGER, new BeanManagerForEntityListeners(serviceInjectorProvider));
+        jpaProps.put(PersistenceUnitProperties.SESSION_CUSTOMIZER, ElSharedCacheCustomizer.class.getName());
 
         // potentially overrides defaults from above
         getEclipselink().forEach((k, v)->jpaProps.put("eclipselink." + k, v));
@@ -0,0 +1,69 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.eclipselink.config;
+
+import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.config.SessionCustomizer;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.sessions.Session;
+
+import org.apache.causeway.applib.annotation.Caching;
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.commons.internal.reflection._Annotations;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Translates {@link DomainObject#caching()} into the shared (L2) cache isolation of the
+ * corresponding EclipseLink class descriptors.
+ * <p>
+ * Registered by {@link ElSettings} as the default {@code eclipselink.session.customizer},
+ * unless overridden by configuration.
+ *
+ * @since 3.5
+ */
+@Log4j2
+public class ElSharedCacheCustomizer implements SessionCustomizer {
+
+    @Override
+    public void customize(final Session session) throws Exception {
+        session.getDescriptors().values()
+            .forEach(this::customize);
+    }
+
+    // -- HELPER
+
+    private void customize(final ClassDescriptor descriptor) {
+        var javaClass = descriptor.getJavaClass();
+        if(javaClass==null) {
+            return;
+        }
+        var caching = _Annotations.synthesize(javaClass, DomainObject.class)
+                .map(DomainObject::caching)
+                .orElse(Caching.NOT_SPECIFIED);
+        if(caching.isCached()) {
+            log.debug("shared cache enabled for {}", javaClass);
+            descriptor.setCacheIsolation(CacheIsolationType.SHARED);
+        } else if(caching.isUncached()) {
+            log.debug("shared cache disabled for {}", javaClass);
+            descriptor.setCacheIsolation(CacheIsolationType.ISOLATED);
+        }
+    }
+
+}
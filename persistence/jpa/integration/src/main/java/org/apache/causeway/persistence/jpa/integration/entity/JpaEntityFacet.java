@@ -19,11 +19,28 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
 
 import jakarta.inject.Inject;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.EmbeddableType;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -31,10 +48,12 @@
 import org.springframework.data.jpa.repository.JpaContext;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
+import org.apache.causeway.applib.query.LazyQueryList;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.applib.services.tablecol.TableColumnVisibilityService;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.base._Casts;
@@ -42,12 +61,15 @@
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData.PersistenceStack;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.object.caching.CachingFacet;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityOrmMetadata;
+import org.apache.causeway.core.metamodel.facets.object.entity.TableFetchPlan;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
 import org.apache.causeway.persistence.jpa.applib.integration.HasVersion;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
@@ -112,10 +134,57 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         var primaryKey = primaryKeyType.destring(bookmark.identifier());
 
         var entityManager = getEntityManager();
+        var cachingFacet = getCachingFacet();
+        if(cachingFacet.isPresent()) {
+            var caching = cachingFacet.get().caching();
+            if(caching.isCached()) {
+                cachingFacet.get().recordLookup(
+                        entityManager.getEntityManagerFactory().getCache().contains(entityClass, primaryKey));
+            } else if(caching.isUncached()) {
+                return Optional.ofNullable(entityManager.find(entityClass, primaryKey, Map.of(
+                        RETRIEVE_MODE_HINT, CacheRetrieveMode.BYPASS,
+                        STORE_MODE_HINT, CacheStoreMode.BYPASS)));
+            }
+        }
         var entityPojo = entityManager.find(entityClass, primaryKey);
         return Optional.ofNullable(entityPojo);
     }
 
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        var entityManager = getEntityManager();
+        var entityType = entityManager.getMetamodel().entity(entityClass);
+        if(!entityType.hasSingleIdAttribute()) {
+            // composite primary keys (IdClass) are not supported by IN queries
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        var idAttributeName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        var persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+
+        return ChunkedFetch.of(getConfiguration())
+                .fetch(bookmarks,
+                        primaryKeyType::destring,
+                        primaryKeys->fetchByPrimaryKeys(entityManager, entityClass, idAttributeName, primaryKeys),
+                        persistenceUnitUtil::getIdentifier);
+    }
+
+    private static <E> List<E> fetchByPrimaryKeys(
+            final EntityManager entityManager,
+            final Class<E> entityClass,
+            final String idAttributeName,
+            final Can<Object> primaryKeys) {
+        var cb = entityManager.getCriteriaBuilder();
+        var cr = cb.createQuery(entityClass);
+        var root = cr.from(entityClass);
+        cr.select(root)
+            .where(root.get(idAttributeName).in(primaryKeys.toList()));
+        return entityManager.createQuery(cr).getResultList();
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
@@ -138,10 +207,19 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             var cb = entityManager.getCriteriaBuilder();
             var cr = cb.createQuery(entityClass);
 
-            cr.select(_Casts.uncheckedCast(cr.from(entityClass)));
+            var root = cr.from(entityClass);
+            cr.select(_Casts.uncheckedCast(root));
+
+            if (!range.isUnconstrained()) {
+                // paging (eg. chunked streaming) requires a stable order
+                idAttributeName(entityManager)
+                    .ifPresent(idAttributeName->cr.orderBy(cb.asc(root.get(idAttributeName))));
+            }
 
             var typedQuery = entityManager
                     .createQuery(cr);
+            applyTableFetchGraph(entityManager, typedQuery);
+            applyCachingHints(typedQuery);
 
             if (range.hasOffset()) {
                 typedQuery.setFirstResult(range.getStartAsInt());
@@ -164,6 +242,10 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
             var namedQuery = entityManager
                     .createNamedQuery(applibNamedQuery.getName(), queryResultType);
+            if (entityClass.equals(queryResultType)) {
+                applyTableFetchGraph(entityManager, namedQuery);
+                applyCachingHints(namedQuery);
+            }
 
             if (range.hasOffset()) {
                 namedQuery.setFirstResult(range.getStartAsInt());
@@ -188,6 +270,155 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 "Support for Query of type %s not implemented.", query.getClass());
     }
 
+    @Override
+    public OptionalLong countByQuery(final Query<?> query) {
+
+        if (!(query instanceof AllInstancesQuery<?> queryFindAllInstances)) {
+            // named (JPQL) queries cannot be rewritten into a count query in a vendor neutral way
+            return OptionalLong.empty();
+        }
+
+        // guard against misuse
+        _Assert.assertTypeIsInstanceOf(queryFindAllInstances.getResultType(), entityClass);
+
+        var entityManager = getEntityManager();
+
+        var cb = entityManager.getCriteriaBuilder();
+        var cr = cb.createQuery(Long.class);
+        cr.select(cb.count(cr.from(entityClass)));
+
+        return OptionalLong.of(entityManager.createQuery(cr).getSingleResult());
+    }
+
+    @Override
+    public Optional<Can<ManagedObject>> fetchByQuery(final Query<?> query, final LazyQueryList.@NonNull Sort sort) {
+
+        if (!(query instanceof AllInstancesQuery<?> queryFindAllInstances)) {
+            // named (JPQL) queries cannot be re-ordered in a vendor neutral way
+            return Optional.empty();
+        }
+
+        // guard against misuse
+        _Assert.assertTypeIsInstanceOf(queryFindAllInstances.getResultType(), entityClass);
+
+        var entityManager = getEntityManager();
+        if(!isBasicAttribute(entityManager, sort.propertyName())) {
+            return Optional.empty();
+        }
+
+        var typedQuery = entityManager
+                .createQuery(sortedCriteria(entityManager, entityClass, sort));
+        applyTableFetchGraph(entityManager, typedQuery);
+        applyCachingHints(typedQuery);
+
+        var range = query.getRange();
+        if (range.hasOffset()) {
+            typedQuery.setFirstResult(range.getStartAsInt());
+        }
+        if (range.hasLimit()) {
+            typedQuery.setMaxResults(range.getLimitAsInt());
+        }
+
+        var entitySpec = getEntitySpecification();
+        return Optional.of(Can.ofStream(
+                typedQuery.getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity))));
+    }
+
+    private static final String RETRIEVE_MODE_HINT = "jakarta.persistence.cache.retrieveMode";
+    private static final String STORE_MODE_HINT = "jakarta.persistence.cache.storeMode";
+    // vendor specific, ignored by JPA providers other than EclipseLink
+    private static final String QUERY_RESULTS_CACHE_HINT = "eclipselink.query-results-cache";
+
+    /**
+     * Translates {@code @DomainObject(caching=...)} into shared cache and query results cache hints.
+     * @see CachingFacet
+     */
+    private void applyCachingHints(final TypedQuery<?> typedQuery) {
+        getCachingFacet()
+            .map(CachingFacet::caching)
+            .ifPresent(caching->{
+                if(caching.isCached()) {
+                    typedQuery.setHint(RETRIEVE_MODE_HINT, CacheRetrieveMode.USE);
+                    typedQuery.setHint(STORE_MODE_HINT, CacheStoreMode.USE);
+                    typedQuery.setHint(QUERY_RESULTS_CACHE_HINT, "true");
+                } else if(caching.isUncached()) {
+                    typedQuery.setHint(RETRIEVE_MODE_HINT, CacheRetrieveMode.BYPASS);
+                    typedQuery.setHint(STORE_MODE_HINT, CacheStoreMode.BYPASS);
+                }
+            });
+    }
+
+    /**
+     * Eagerly fetches those references, that would be rendered as table columns,
+     * unless there are none such references.
+     * <p>
+     * Uses load graph semantics, such that any attributes not contained in the graph keep their
+     * declared (or default) fetch type.
+     * @see TableFetchPlan
+     */
+    private void applyTableFetchGraph(final EntityManager entityManager, final TypedQuery<?> typedQuery) {
+        tableFetchGraph(entityManager)
+            .ifPresent(entityGraph->typedQuery.setHint("jakarta.persistence.loadgraph", entityGraph));
+    }
+
+    private Optional<EntityGraph<?>> tableFetchGraph(final EntityManager entityManager) {
+        var tableFetchPlan = getTableFetchPlan()
+                .withoutColumnsHiddenBy(entityClass, getTableColumnVisibilityServices());
+        if(tableFetchPlan.isEmpty()) {
+            return Optional.empty();
+        }
+        var referenceAttributeNames = entityManager.getMetamodel().entity(entityClass).getAttributes().stream()
+                .filter(attribute->attribute.getPersistentAttributeType() == PersistentAttributeType.MANY_TO_ONE
+                        || attribute.getPersistentAttributeType() == PersistentAttributeType.ONE_TO_ONE)
+                .map(Attribute::getName)
+                .filter(tableFetchPlan.referencePropertyIds()::contains)
+                .toList();
+        if(referenceAttributeNames.isEmpty()) {
+            return Optional.empty();
+        }
+        EntityGraph<?> entityGraph = entityManager.createEntityGraph(entityClass);
+        referenceAttributeNames.forEach(entityGraph::addAttributeNodes);
+        return Optional.of(entityGraph);
+    }
+
+    private Optional<String> idAttributeName(final EntityManager entityManager) {
+        return idAttributeName(entityManager, entityClass);
+    }
+
+    private static Optional<String> idAttributeName(final EntityManager entityManager, final Class<?> entityClass) {
+        var entityType = entityManager.getMetamodel().entity(entityClass);
+        return entityType.hasSingleIdAttribute()
+                ? Optional.of(entityType.getId(entityType.getIdType().getJavaType()).getName())
+                : Optional.empty();
+    }
+
+    private boolean isBasicAttribute(final EntityManager entityManager, final String attributeName) {
+        return entityManager.getMetamodel().entity(entityClass)
+                .getSingularAttributes().stream()
+                .anyMatch(attribute->attribute.getName().equals(attributeName)
+                        && attribute.getPersistentAttributeType() == PersistentAttributeType.BASIC);
+    }
+
+    private static <E> CriteriaQuery<E> sortedCriteria(
+            final EntityManager entityManager,
+            final Class<E> entityClass,
+            final LazyQueryList.Sort sort) {
+        var cb = entityManager.getCriteriaBuilder();
+        var cr = cb.createQuery(entityClass);
+        var root = cr.from(entityClass);
+        var sortPath = root.get(sort.propertyName());
+        var sortOrder = sort.ascending()
+                ? cb.asc(sortPath)
+                : cb.desc(sortPath);
+        // paging over non-unique sort keys requires the primary key as tiebreaker, for a stable order
+        return cr.select(root)
+                .orderBy(idAttributeName(entityManager, entityClass)
+                        .filter(idAttributeName->!idAttributeName.equals(sort.propertyName()))
+                        .map(idAttributeName->List.of(sortOrder, cb.asc(root.get(idAttributeName))))
+                        .orElseGet(()->List.of(sortOrder)));
+    }
+
     @Override
     public void persist(final Object pojo) {
         if (pojo == null) {
@@ -264,8 +495,258 @@ public <T> T detach(final T pojo) {
         return pojo;
     }
 
+    @Override
+    public void invalidateSharedCache(final @Nullable Object pojo) {
+        if (!entityClass.isInstance(pojo)) {
+            return; // nothing to do
+        }
+        var entityManager = getEntityManager();
+        var primaryKey = getPersistenceUnitUtil(entityManager).getIdentifier(pojo);
+        if (primaryKey != null) {
+            entityManager.getEntityManagerFactory().getCache().evict(entityClass, primaryKey);
+        }
+    }
+
+    @Override
+    public void evict(final @Nullable Object pojo) {
+        if (pojo == null) {
+            return; // nothing to do
+        }
+        var entityManager = getEntityManager();
+        if(entityManager.contains(pojo)) {
+            entityManager.detach(pojo);
+        }
+    }
+
+    @Override
+    public OptionalLong deleteAll() {
+
+        var entityManager = getEntityManager();
+        if(!isBulkDeletable(entityManager)) {
+            // a bulk delete would not honor cascades, collection tables or join tables
+            return OptionalLong.empty();
+        }
+
+        log.debug("about to bulk delete all entities of type {}", entityClass);
+
+        var deletedCount = entityManager
+                .createQuery(deleteAllCriteria(entityManager, entityClass))
+                .executeUpdate();
+        entityManager.getEntityManagerFactory().getCache().evict(entityClass);
+        return OptionalLong.of(deletedCount);
+    }
+
+    @Override
+    public Optional<Object> propertyValueAt(
+            final String propertyName,
+            final long position,
+            final @Nullable Object lessThan) {
+
+        var entityManager = getEntityManager();
+        if(!isBasicAttribute(entityManager, propertyName)) {
+            return Optional.empty();
+        }
+
+        var cb = entityManager.getCriteriaBuilder();
+        var cr = cb.createQuery(Object.class);
+        var root = cr.from(entityClass);
+        Path<Comparable<Object>> path = root.get(propertyName);
+        cr.select(path).orderBy(cb.asc(path));
+        if(lessThan!=null) {
+            cr.where(below(cb, path, lessThan, false));
+        }
+
+        return entityManager.createQuery(cr)
+                .setFirstResult(Math.toIntExact(position))
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<OrderKey> orderKeyAt(
+            final String propertyName,
+            final long position,
+            final Object lessThan) {
+
+        var entityManager = getEntityManager();
+        if(!isBasicAttribute(entityManager, propertyName)) {
+            return Optional.empty();
+        }
+
+        var cb = entityManager.getCriteriaBuilder();
+        var cr = cb.createQuery(Object[].class);
+        var orderKeyPaths = orderKeyPaths(entityManager, cr.from(entityClass), propertyName);
+        cr.multiselect(List.copyOf(orderKeyPaths))
+            .where(below(cb, orderKeyPaths, lessThan, null))
+            .orderBy(orderKeyPaths.stream().map(cb::asc).toList());
+
+        return entityManager.createQuery(cr)
+                .setFirstResult(Math.toIntExact(position))
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .map(values->new OrderKey(List.of(values)));
+    }
+
+    @Override
+    public Optional<Can<Object>> fetchBelow(
+            final String propertyName,
+            final Object lessThan,
+            final @Nullable OrderKey upTo) {
+
+        var entityManager = getEntityManager();
+        if(!isBasicAttribute(entityManager, propertyName)) {
+            return Optional.empty();
+        }
+
+        var cb = entityManager.getCriteriaBuilder();
+        var cr = cb.createQuery(entityClass);
+        var root = cr.from(entityClass);
+        var orderKeyPaths = orderKeyPaths(entityManager, root, propertyName);
+        cr.select(_Casts.uncheckedCast(root))
+            .where(below(cb, orderKeyPaths, lessThan, upTo))
+            .orderBy(orderKeyPaths.stream().map(cb::asc).toList());
+
+        return Optional.of(Can.ofStream(
+                entityManager
+                    .createQuery(cr)
+                    .getResultStream()
+                    .map(Object.class::cast)));
+    }
+
+    @Override
+    public OptionalLong deleteBelow(
+            final String propertyName,
+            final Object lessThan,
+            final @Nullable OrderKey upTo) {
+
+        var entityManager = getEntityManager();
+        if(!isBulkDeletable(entityManager)
+                || !isBasicAttribute(entityManager, propertyName)) {
+            return OptionalLong.empty();
+        }
+
+        log.debug("about to bulk delete entities of type {} with {} < {} up to {}",
+                entityClass, propertyName, lessThan, upTo);
+
+        var cb = entityManager.getCriteriaBuilder();
+        Class<Object> entityType = _Casts.uncheckedCast(entityClass);
+        var cd = cb.createCriteriaDelete(entityType);
+        var orderKeyPaths = orderKeyPaths(entityManager, cd.from(entityType), propertyName);
+        cd.where(below(cb, orderKeyPaths, lessThan, upTo));
+
+        var deletedCount = entityManager
+                .createQuery(cd)
+                .executeUpdate();
+        entityManager.getEntityManagerFactory().getCache().evict(entityClass);
+        return OptionalLong.of(deletedCount);
+    }
+
+    /**
+     * Paths of the {@link OrderKey} components, that is, of given property, followed by the primary key's
+     * (basic) attributes, the latter in order of their names.
+     */
+    private List<Path<Comparable<Object>>> orderKeyPaths(
+            final EntityManager entityManager,
+            final From<?, ?> root,
+            final String propertyName) {
+        var entityType = entityManager.getMetamodel().entity(entityClass);
+        Stream<Path<Comparable<Object>>> primaryKeyPaths;
+        if(!entityType.hasSingleIdAttribute()) {
+            // @IdClass
+            primaryKeyPaths = entityType.getIdClassAttributes().stream()
+                    .map(Attribute::getName)
+                    .sorted()
+                    .map(root::get);
+        } else {
+            var idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+            Path<Object> idPath = root.get(idAttribute.getName());
+            primaryKeyPaths = idAttribute.getType() instanceof EmbeddableType<?> embeddableType
+                    ? embeddableType.getSingularAttributes().stream()
+                        .map(Attribute::getName)
+                        .sorted()
+                        .map(idPath::get)
+                    : Stream.of(_Casts.uncheckedCast(idPath));
+        }
+        return Stream.concat(Stream.of(root.<Comparable<Object>>get(propertyName)), primaryKeyPaths)
+                .toList();
+    }
+
+    /**
+     * Property value (first path) less than {@code lessThan} and,
+     * if {@code upTo} is not {@code null}, paths lexicographically less than or equal to {@code upTo}.
+     */
+    private static Predicate below(
+            final CriteriaBuilder cb,
+            final List<Path<Comparable<Object>>> orderKeyPaths,
+            final Object lessThan,
+            final @Nullable OrderKey upTo) {
+        var propertyPath = orderKeyPaths.get(0);
+        var belowLessThan = below(cb, propertyPath, lessThan, false);
+        if(upTo==null) {
+            return belowLessThan;
+        }
+        _Assert.assertEquals(orderKeyPaths.size(), upTo.values().size(), ()->"order key mismatch");
+        // (p0, p1, ..., pn) <= (v0, v1, ..., vn) expands to p0 < v0 or (p0 = v0 and ((p1, ..., pn) <= (v1, ..., vn)))
+        var lastIndex = orderKeyPaths.size() - 1;
+        var upToPredicate = below(cb, orderKeyPaths.get(lastIndex), upTo.values().get(lastIndex), true);
+        for(int i = lastIndex - 1; i >= 0; i--) {
+            var path = orderKeyPaths.get(i);
+            var value = upTo.values().get(i);
+            upToPredicate = cb.or(
+                    below(cb, path, value, false),
+                    cb.and(cb.equal(path, value), upToPredicate));
+        }
+        return cb.and(belowLessThan, upToPredicate);
+    }
+
+    private static Predicate below(
+            final CriteriaBuilder cb,
+            final Path<Comparable<Object>> path,
+            final Object upperBound,
+            final boolean inclusive) {
+        Comparable<Object> bound = _Casts.uncheckedCast(upperBound);
+        return inclusive
+                ? cb.lessThanOrEqualTo(path, bound)
+                : cb.lessThan(path, bound);
+    }
+
+    private static <E> CriteriaDelete<E> deleteAllCriteria(
+            final EntityManager entityManager,
+            final Class<E> entityClass) {
+        var cd = entityManager.getCriteriaBuilder().createCriteriaDelete(entityClass);
+        cd.from(entityClass);
+        return cd;
+    }
+
+    /**
+     * Whether this entity type and all its subtypes only declare attributes,
+     * that are stored within their own table(s) and do not cascade.
+     */
+    private boolean isBulkDeletable(final EntityManager entityManager) {
+        return entityManager.getMetamodel().getEntities().stream()
+                .filter(entityType->entityClass.isAssignableFrom(entityType.getJavaType()))
+                .flatMap(entityType->entityType.getAttributes().stream())
+                .allMatch(attribute->switch(attribute.getPersistentAttributeType()) {
+                    case BASIC, EMBEDDED, MANY_TO_ONE -> true;
+                    default -> false;
+                });
+    }
+
     // -- JPA METAMODEL
 
+    // lazily computed, as it requires the entity's (fully introspected) specification
+    @Getter(lazy=true, value=AccessLevel.PRIVATE)
+    private final TableFetchPlan tableFetchPlan = TableFetchPlan.forEntity(getEntitySpecification());
+
+    @Getter(lazy=true, value=AccessLevel.PRIVATE)
+    private final Can<TableColumnVisibilityService> tableColumnVisibilityServices =
+            getServiceRegistry().select(TableColumnVisibilityService.class);
+
+    @Getter(lazy=true, value=AccessLevel.PRIVATE)
+    private final Optional<CachingFacet> cachingFacet = CachingFacet.lookup(getEntitySpecification());
+
     // lazily looks up the ORM metadata (needs an EntityManager)
     @Getter(lazy=true)
     private final EntityOrmMetadata ormMetadata =
@@ -22,9 +22,12 @@
 import jakarta.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.persistence.commons.integration.dtocolumn.DtoColumnCodec;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
+ * Stores the DTO as per {@link DtoColumnCodec}, that is, using the configured encoding.
+ *
  * @since 2.0 {@index}
  */
 @Converter(autoApply = true)
@@ -33,12 +36,12 @@
 
     @Override
     public String convertToDatabaseColumn(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return DtoColumnCodec.toColumn(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto convertToEntityAttribute(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoColumnCodec.fromColumn(CommandDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
@@ -22,9 +22,12 @@
 import jakarta.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.persistence.commons.integration.dtocolumn.DtoColumnCodec;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
+ * Stores the DTO as per {@link DtoColumnCodec}, that is, using the configured encoding.
+ *
  * @since 2.0 {@index}
  */
 @Converter(autoApply = true)
@@ -33,12 +36,12 @@
 
     @Override
     public String convertToDatabaseColumn(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return DtoColumnCodec.toColumn(InteractionDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public InteractionDto convertToEntityAttribute(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoColumnCodec.fromColumn(InteractionDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
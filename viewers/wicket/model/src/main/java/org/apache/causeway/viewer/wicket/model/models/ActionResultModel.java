@@ -97,7 +97,8 @@ public static ActionResultModel determineFor(
             // non-scalar ...
 
             var packedAdapter = (PackedManagedObject) resultAdapter;
-            var unpacked = packedAdapter.unpack();
+            // no need to fetch more than 2 elements, to tell whether singular
+            var unpacked = packedAdapter.unpackAtMost(2);
 
             final int cardinality = unpacked.size();
             switch (cardinality) {